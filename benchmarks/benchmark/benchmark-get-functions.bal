@@ -1,6 +1,11 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkobserve;
+import benchmarkquery;
+import benchmarkscheduler;
+import benchmarktable;
+import benchmarkworker;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +22,11 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addSchedulerFunctions();
+    addTableFunctions();
+    addWorkerFunctions();
+    addObserveFunctions();
+    addQueryFunctions();
 }
 
 function addJSONFunctions() {
@@ -113,12 +123,18 @@ function addIoFunctions() {
     functions["benchmarkInitFileChannelAppendMode"] = benchmarkio:benchmarkInitFileChannelAppendMode;
     functions["benchmarkReadBytes"] = benchmarkio:benchmarkReadBytes;
     functions["benchmarkWriteBytes"] = benchmarkio:benchmarkWriteBytes;
+    functions["benchmarkParseJsonFromBytes"] = benchmarkio:benchmarkParseJsonFromBytes;
+    functions["benchmarkParseJsonFromString"] = benchmarkio:benchmarkParseJsonFromString;
+    functions["benchmarkJsonToJsonString"] = benchmarkio:benchmarkJsonToJsonString;
+    functions["benchmarkCsvToStream"] = benchmarkio:benchmarkCsvToStream;
+    functions["benchmarkCsvToTable"] = benchmarkio:benchmarkCsvToTable;
 }
 
 function addStringFunctions() {
     functions["benchmarkStringContains"] = benchmarktypes:benchmarkStringContains;
     functions["benchmarkStringEqualsIgnoreCase"] = benchmarktypes:benchmarkStringEqualsIgnoreCase;
     functions["benchmarkStringConcat"] = benchmarktypes:benchmarkStringConcat;
+    functions["benchmarkStringConcatChain"] = benchmarktypes:benchmarkStringConcatChain;
     functions["benchmarkStringHasPrefix"] = benchmarktypes:benchmarkStringHasPrefix;
     functions["benchmarkStringHasSuffix"] = benchmarktypes:benchmarkStringHasSuffix;
     functions["benchmarkStringIndexOf"] = benchmarktypes:benchmarkStringIndexOf;
@@ -140,3 +156,42 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addSchedulerFunctions() {
+    functions["benchmarkSchedulerBlockingStrands"] = benchmarkscheduler:benchmarkSchedulerBlockingStrands;
+    functions["benchmarkSchedulerCpuBoundStrands"] = benchmarkscheduler:benchmarkSchedulerCpuBoundStrands;
+    functions["benchmarkSchedulerShortStrands"] = benchmarkscheduler:benchmarkSchedulerShortStrands;
+    functions["benchmarkSchedulerStrandCreation"] = benchmarkscheduler:benchmarkSchedulerStrandCreation;
+}
+
+function addTableFunctions() {
+    functions["benchmarkTableInsert"] = benchmarktable:benchmarkTableInsert;
+    functions["benchmarkTableKeylessInsert"] = benchmarktable:benchmarkTableKeylessInsert;
+    functions["benchmarkTableGetByKey"] = benchmarktable:benchmarkTableGetByKey;
+    functions["benchmarkTableRemove"] = benchmarktable:benchmarkTableRemove;
+    functions["benchmarkTableIteration"] = benchmarktable:benchmarkTableIteration;
+}
+
+function addWorkerFunctions() {
+    functions["benchmarkWorkerAsyncSend"] = benchmarkworker:benchmarkWorkerAsyncSend;
+    functions["benchmarkWorkerSyncSend"] = benchmarkworker:benchmarkWorkerSyncSend;
+    functions["benchmarkWorkerFlush"] = benchmarkworker:benchmarkWorkerFlush;
+    functions["benchmarkWorkerFanIn"] = benchmarkworker:benchmarkWorkerFanIn;
+}
+
+function addObserveFunctions() {
+    functions["benchmarkObservedFunctionCalls"] = benchmarkobserve:benchmarkObservedFunctionCalls;
+    functions["benchmarkObservedObjectCalls"] = benchmarkobserve:benchmarkObservedObjectCalls;
+}
+
+function addQueryFunctions() {
+    functions["benchmarkQueryWhereSelect"] = benchmarkquery:benchmarkQueryWhereSelect;
+    functions["benchmarkHandWrittenWhereSelect"] = benchmarkquery:benchmarkHandWrittenWhereSelect;
+    functions["benchmarkQueryWhereSelectWithFunctionCall"] = benchmarkquery:benchmarkQueryWhereSelectWithFunctionCall;
+    functions["benchmarkQueryLetSelect"] = benchmarkquery:benchmarkQueryLetSelect;
+    functions["benchmarkQueryToTable"] = benchmarkquery:benchmarkQueryToTable;
+    functions["benchmarkQueryOrderBy"] = benchmarkquery:benchmarkQueryOrderBy;
+    functions["benchmarkQueryOrderByLimit"] = benchmarkquery:benchmarkQueryOrderByLimit;
+    functions["benchmarkQueryJoin"] = benchmarkquery:benchmarkQueryJoin;
+    functions["benchmarkQueryAction"] = benchmarkquery:benchmarkQueryAction;
+}
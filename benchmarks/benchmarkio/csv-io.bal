@@ -0,0 +1,49 @@
+import ballerina/io;
+
+const int CSV_RECORD_COUNT = 10000;
+const string CSV_FILE_PATH = "benchmarkio/resources/records.csv";
+
+type CsvRecord record {
+    int id;
+    string name;
+    float price;
+    boolean active;
+};
+
+// Write the file once, so that the benchmarks only measure reading.
+boolean csvFileCreated = createCsvFile();
+
+// Streams the records of the file, converting one record at a time.
+public function benchmarkCsvToStream() {
+    var csvChannel = io:openReadableCsvFile(CSV_FILE_PATH);
+    if (csvChannel is io:ReadableCSVChannel) {
+        stream<record {}, io:Error> records = csvChannel.toStream(CsvRecord);
+        error? result = records.forEach(function (record {} rec) {
+        });
+        var closeResult = csvChannel.close();
+    }
+}
+
+// Loads the records of the file to a table, to compare with benchmarkCsvToStream.
+public function benchmarkCsvToTable() {
+    var csvChannel = io:openReadableCsvFile(CSV_FILE_PATH);
+    if (csvChannel is io:ReadableCSVChannel) {
+        var result = csvChannel.getTable(CsvRecord);
+        var closeResult = csvChannel.close();
+    }
+}
+
+function createCsvFile() returns boolean {
+    var csvChannel = io:openWritableCsvFile(CSV_FILE_PATH);
+    if (csvChannel is io:Error) {
+        return false;
+    }
+    io:WritableCSVChannel writableChannel = <io:WritableCSVChannel> csvChannel;
+    int i = 0;
+    while (i < CSV_RECORD_COUNT) {
+        var result = writableChannel.write([i.toString(), "name" + i.toString(), "10.5", "true"]);
+        i = i + 1;
+    }
+    var closeResult = writableChannel.close();
+    return true;
+}
@@ -0,0 +1,36 @@
+import ballerina/lang.'value;
+import ballerina/mime;
+
+const int JSON_RECORD_COUNT = 1000;
+
+// Build the payload once, so that the benchmarks only measure parsing.
+string jsonPayload = createJsonPayload();
+byte[] jsonPayloadBytes = jsonPayload.toBytes();
+json jsonValue = checkpanic 'value:fromJsonString(jsonPayload);
+
+// Parses a JSON payload from bytes, which the runtime decodes directly from UTF-8.
+public function benchmarkParseJsonFromBytes() {
+    mime:Entity entity = new;
+    entity.setByteArray(jsonPayloadBytes, "application/json");
+    var result = entity.getJson();
+}
+
+// Parses the same payload from a string, to compare with benchmarkParseJsonFromBytes.
+public function benchmarkParseJsonFromString() {
+    var result = 'value:fromJsonString(jsonPayload);
+}
+
+// Serializes the parsed payload back to a string.
+public function benchmarkJsonToJsonString() {
+    string result = jsonValue.toJsonString();
+}
+
+function createJsonPayload() returns string {
+    json[] records = [];
+    int i = 0;
+    while (i < JSON_RECORD_COUNT) {
+        records[i] = {id: i, name: "name" + i.toString(), price: 10.5, active: true, tags: ["a", "b", "c"]};
+        i = i + 1;
+    }
+    return records.toJsonString();
+}
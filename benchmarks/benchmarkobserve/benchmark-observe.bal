@@ -0,0 +1,34 @@
+// Each benchmark makes CALL_COUNT observed calls, so the metrics overhead per call is the difference between the time
+// taken with and without metrics enabled, divided by CALL_COUNT.
+
+const int CALL_COUNT = 1000;
+
+public function benchmarkObservedFunctionCalls() {
+    int sum = 0;
+    int i = 0;
+    while (i < CALL_COUNT) {
+        sum = add(sum, i);
+        i = i + 1;
+    }
+}
+
+public function benchmarkObservedObjectCalls() {
+    Accumulator accumulator = new;
+    int i = 0;
+    while (i < CALL_COUNT) {
+        accumulator.add(i);
+        i = i + 1;
+    }
+}
+
+function add(int a, int b) returns int {
+    return a + b;
+}
+
+class Accumulator {
+    int sum = 0;
+
+    function add(int value) {
+        self.sum = self.sum + value;
+    }
+}
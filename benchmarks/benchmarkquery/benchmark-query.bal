@@ -0,0 +1,105 @@
+// The query benchmarks run over ROW_COUNT rows, except the ones which order or join rows, which run over
+// JOIN_ROW_COUNT rows. Queries whose clauses can not yield are executed by the native query pipeline, the others by
+// the Ballerina one, so `benchmarkQueryWhereSelectWithFunctionCall` shows the cost of the latter.
+
+const int ROW_COUNT = 1000000;
+const int JOIN_ROW_COUNT = 100000;
+
+type Person record {|
+    int id;
+    string name;
+    int age;
+|};
+
+type Department record {|
+    int id;
+    string name;
+|};
+
+Person[] persons = createPersons(ROW_COUNT);
+Person[] joinPersons = createPersons(JOIN_ROW_COUNT);
+Department[] departments = createDepartments();
+
+public function benchmarkQueryWhereSelect() {
+    int[] ids = from var person in persons
+                where person.age > 30
+                select person.id;
+}
+
+public function benchmarkHandWrittenWhereSelect() {
+    int[] ids = [];
+    foreach var person in persons {
+        if (person.age > 30) {
+            ids.push(person.id);
+        }
+    }
+}
+
+public function benchmarkQueryWhereSelectWithFunctionCall() {
+    int[] ids = from var person in persons
+                where isOlderThan(person, 30)
+                select person.id;
+}
+
+public function benchmarkQueryLetSelect() {
+    int[] ages = from var person in persons
+                 let int ageInMonths = person.age * 12
+                 select ageInMonths;
+}
+
+public function benchmarkQueryToTable() {
+    table<Person> key(id) personTable = table key(id) from var person in joinPersons
+                                                       select person;
+}
+
+public function benchmarkQueryOrderBy() {
+    string[] names = from var person in joinPersons
+                     order by person.age descending, person.name
+                     select person.name;
+}
+
+public function benchmarkQueryOrderByLimit() {
+    string[] names = from var person in joinPersons
+                     order by person.age descending, person.name
+                     limit 10
+                     select person.name;
+}
+
+public function benchmarkQueryJoin() {
+    string[] names = from var person in joinPersons
+                     join var department in departments on person.id % 100 equals department.id
+                     select department.name;
+}
+
+public function benchmarkQueryAction() {
+    int total = 0;
+    error? result = from var person in persons
+                    where person.age > 30
+                    do {
+                        total += person.age;
+                    };
+}
+
+function isOlderThan(Person person, int age) returns boolean {
+    return person.age > age;
+}
+
+function createPersons(int count) returns Person[] {
+    Person[] result = [];
+    int i = 0;
+    while (i < count) {
+        result.push({id: i, name: "Person " + (i % 1000).toString(), age: i % 80});
+        i = i + 1;
+    }
+    return result;
+}
+
+function createDepartments() returns Department[] {
+    Department[] result = [];
+    int i = 0;
+    while (i < 100) {
+        result.push({id: i, name: "Department " + i.toString()});
+        i = i + 1;
+    }
+    return result;
+}
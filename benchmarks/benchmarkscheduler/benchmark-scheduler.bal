@@ -0,0 +1,74 @@
+import ballerina/io;
+
+// Run these with BALLERINA_SCHEDULER_MODE set to default, work-stealing and virtual-threads to compare the modes.
+
+const int STRAND_COUNT = 1000;
+
+public function benchmarkSchedulerBlockingStrands() {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < STRAND_COUNT) {
+        futures[i] = start readFile();
+        i = i + 1;
+    }
+    foreach var f in futures {
+        int result = wait f;
+    }
+}
+
+public function benchmarkSchedulerCpuBoundStrands() {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < STRAND_COUNT) {
+        futures[i] = start compute(1000);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        int result = wait f;
+    }
+}
+
+public function benchmarkSchedulerShortStrands() {
+    int i = 0;
+    while (i < STRAND_COUNT) {
+        future<int> f = start compute(1);
+        int result = wait f;
+        i = i + 1;
+    }
+}
+
+public function benchmarkSchedulerStrandCreation() {
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < STRAND_COUNT) {
+        futures[i] = start noop();
+        i = i + 1;
+    }
+    foreach var f in futures {
+        () result = wait f;
+    }
+}
+
+function noop() {
+}
+
+function readFile() returns int {
+    io:ReadableByteChannel|error byteChannel = io:openReadableFile("benchmarkio/resources/test.txt");
+    if (byteChannel is error) {
+        return -1;
+    }
+    io:ReadableByteChannel channel = <io:ReadableByteChannel> byteChannel;
+    byte[]|error content = channel.read(100);
+    var closeResult = channel.close();
+    return content is byte[] ? content.length() : -1;
+}
+
+function compute(int iterations) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < iterations) {
+        sum = sum + (i * i) % 7;
+        i = i + 1;
+    }
+    return sum;
+}
@@ -0,0 +1,63 @@
+type Employee record {
+    readonly int id;
+    string name;
+    float salary;
+};
+
+type EmployeeTable table<Employee> key(id);
+
+const int TABLE_SIZE = 100000;
+
+EmployeeTable employees = createTable();
+
+public function benchmarkTableInsert() {
+    EmployeeTable tab = table [];
+    int i = 0;
+    while (i < TABLE_SIZE) {
+        tab.add({id: i, name: "Employee", salary: 1000.0});
+        i = i + 1;
+    }
+}
+
+public function benchmarkTableKeylessInsert() {
+    table<Employee> tab = table [];
+    int i = 0;
+    while (i < TABLE_SIZE) {
+        tab.add({id: i, name: "Employee", salary: 1000.0});
+        i = i + 1;
+    }
+}
+
+public function benchmarkTableGetByKey() {
+    int i = 0;
+    while (i < TABLE_SIZE) {
+        Employee employee = employees.get(i);
+        i = i + 1;
+    }
+}
+
+public function benchmarkTableRemove() {
+    EmployeeTable tab = createTable();
+    int i = 0;
+    while (i < TABLE_SIZE) {
+        Employee employee = tab.remove(i);
+        i = i + 1;
+    }
+}
+
+public function benchmarkTableIteration() {
+    float total = 0.0;
+    foreach var employee in employees {
+        total = total + employee.salary;
+    }
+}
+
+function createTable() returns EmployeeTable {
+    EmployeeTable tab = table [];
+    int i = 0;
+    while (i < TABLE_SIZE) {
+        tab.add({id: i, name: "Employee", salary: 1000.0});
+        i = i + 1;
+    }
+    return tab;
+}
@@ -16,6 +16,17 @@ public function benchmarkStringConcat() {
     string s3 = s2 + s2;
 }
 
+public function benchmarkStringConcatChain() {
+    string line = "";
+    int i = 0;
+    while (i < 1000) {
+        line = line + "field" + ",";
+        i = i + 1;
+    }
+    int length = line.length();
+    string first = line.substring(0, 5);
+}
+
 public function benchmarkStringHasPrefix() {
     string name = "randomPerson";
     string prefix = "Mr";
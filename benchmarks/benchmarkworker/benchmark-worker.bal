@@ -0,0 +1,103 @@
+// Each benchmark sends MESSAGE_COUNT messages, so messages per second is MESSAGE_COUNT divided by the time taken.
+
+const int MESSAGE_COUNT = 1000;
+
+public function benchmarkWorkerAsyncSend() {
+    worker sender {
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            i -> receiver;
+            i = i + 1;
+        }
+    }
+
+    worker receiver {
+        int sum = 0;
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            int value = <- sender;
+            sum = sum + value;
+            i = i + 1;
+        }
+    }
+
+    wait receiver;
+}
+
+public function benchmarkWorkerSyncSend() {
+    worker sender returns error? {
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            check i ->> receiver;
+            i = i + 1;
+        }
+    }
+
+    worker receiver {
+        int sum = 0;
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            int value = <- sender;
+            sum = sum + value;
+            i = i + 1;
+        }
+    }
+
+    error? result = wait sender;
+}
+
+public function benchmarkWorkerFlush() {
+    worker sender returns error? {
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            i -> receiver;
+            i = i + 1;
+            if (i % 100 == 0) {
+                check flush receiver;
+            }
+        }
+    }
+
+    worker receiver {
+        int sum = 0;
+        int i = 0;
+        while (i < MESSAGE_COUNT) {
+            int value = <- sender;
+            sum = sum + value;
+            i = i + 1;
+        }
+    }
+
+    error? result = wait sender;
+}
+
+public function benchmarkWorkerFanIn() {
+    worker first {
+        int i = 0;
+        while (i < MESSAGE_COUNT / 2) {
+            i -> collector;
+            i = i + 1;
+        }
+    }
+
+    worker second {
+        int i = 0;
+        while (i < MESSAGE_COUNT / 2) {
+            i -> collector;
+            i = i + 1;
+        }
+    }
+
+    worker collector {
+        int sum = 0;
+        int i = 0;
+        while (i < MESSAGE_COUNT / 2) {
+            int a = <- first;
+            int b = <- second;
+            sum = sum + a + b;
+            i = i + 1;
+        }
+    }
+
+    wait collector;
+}
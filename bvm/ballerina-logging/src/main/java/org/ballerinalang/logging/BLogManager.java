@@ -21,6 +21,7 @@ import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.logging.formatters.HttpAccessLogFormatter;
 import org.ballerinalang.logging.formatters.HttpTraceLogFormatter;
 import org.ballerinalang.logging.formatters.JsonLogFormatter;
+import org.ballerinalang.logging.handlers.AsyncLogHandler;
 import org.ballerinalang.logging.util.BLogLevel;
 import org.ballerinalang.logging.util.BLogLevelMapper;
 
@@ -29,12 +30,16 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -42,8 +47,17 @@ import java.util.logging.SocketHandler;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import static org.ballerinalang.logging.util.Constants.ASYNC_LOG_BATCH_SIZE;
+import static org.ballerinalang.logging.util.Constants.ASYNC_LOG_ENABLED;
+import static org.ballerinalang.logging.util.Constants.ASYNC_LOG_OVERFLOW_POLICY;
+import static org.ballerinalang.logging.util.Constants.ASYNC_LOG_QUEUE_SIZE;
+import static org.ballerinalang.logging.util.Constants.ASYNC_LOG_SAMPLE_RATE;
 import static org.ballerinalang.logging.util.Constants.BALLERINA_USER_LOG_LEVEL;
 import static org.ballerinalang.logging.util.Constants.CONSOLE_LOGGER;
+import static org.ballerinalang.logging.util.Constants.DEFAULT_ASYNC_LOG_BATCH_SIZE;
+import static org.ballerinalang.logging.util.Constants.DEFAULT_ASYNC_LOG_OVERFLOW_POLICY;
+import static org.ballerinalang.logging.util.Constants.DEFAULT_ASYNC_LOG_QUEUE_SIZE;
+import static org.ballerinalang.logging.util.Constants.DEFAULT_ASYNC_LOG_SAMPLE_RATE;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG_CONSOLE;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG_FILE;
@@ -66,10 +80,13 @@ public class BLogManager extends LogManager {
     public static final int LOGGER_PREFIX_LENGTH = BALLERINA_ROOT_LOGGER_NAME.length() + 1; // +1 to account for the .
     private static final Pattern varPattern = Pattern.compile("\\$\\{([^}]*)}");
 
-    private Map<String, BLogLevel> loggerLevels = new HashMap<>();
+    private Map<String, BLogLevel> loggerLevels = new ConcurrentHashMap<>();
     private BLogLevel ballerinaUserLogLevel = BLogLevel.INFO; // default to INFO
+    // The most verbose level configured for any module, so that a disabled level is ruled out without a lookup
+    private volatile int minimumLogLevel = BLogLevel.INFO.value();
     private Logger httpTraceLogger;
     private Logger httpAccessLogger;
+    private final List<AsyncLogHandler> asyncLogHandlers = new CopyOnWriteArrayList<>();
 
     @Override
     public void readConfiguration(InputStream ins) throws IOException, SecurityException {
@@ -101,10 +118,15 @@ public class BLogManager extends LogManager {
             ballerinaUserLogLevel = BLogLevel.toBLogLevel(userLogLevel);
         }
         loggerLevels.put(BALLERINA_USER_LOG_LEVEL, ballerinaUserLogLevel);
+        updateMinimumLogLevel();
 
         setHttpTraceLogHandler();
         setHttpAccessLogHandler();
 
+        if (configRegistry.getAsBoolean(ASYNC_LOG_ENABLED)) {
+            setAsyncLogHandlers(configRegistry);
+        }
+
         // have to set default console logger level here since ballerina config is not initialized at the time of the
         // logger initialization
         if (loggerLevels.get(CONSOLE_LOGGER) != null) {
@@ -118,6 +140,25 @@ public class BLogManager extends LogManager {
         return loggerLevels.containsKey(pkg) ? loggerLevels.get(pkg) : ballerinaUserLogLevel;
     }
 
+    /**
+     * Checks if the given log level is enabled for at least one module. If not, the level is disabled for all
+     * modules, hence there is no need to find out the module which logs.
+     *
+     * @param logLevel log level to check.
+     * @return true if the log level is enabled for any module, false if not.
+     */
+    public boolean isLogLevelEnabledForAnyModule(BLogLevel logLevel) {
+        return minimumLogLevel <= logLevel.value();
+    }
+
+    private synchronized void updateMinimumLogLevel() {
+        int minimum = ballerinaUserLogLevel.value();
+        for (BLogLevel level : loggerLevels.values()) {
+            minimum = Math.min(minimum, level.value());
+        }
+        minimumLogLevel = minimum;
+    }
+
     /**
      * Checks if module log level has been enabled.
      *
@@ -224,6 +265,78 @@ public class BLogManager extends LogManager {
         }
     }
 
+    /**
+     * Replaces the handlers of the Ballerina user level, HTTP trace and HTTP access loggers with handlers, which
+     * write the records from a dedicated thread.
+     *
+     * @param configRegistry config registry to read the async log configuration from
+     */
+    private void setAsyncLogHandlers(ConfigRegistry configRegistry) {
+        int queueSize = Integer.parseInt(configRegistry.getConfigOrDefault(ASYNC_LOG_QUEUE_SIZE,
+                                                                           DEFAULT_ASYNC_LOG_QUEUE_SIZE));
+        int batchSize = Integer.parseInt(configRegistry.getConfigOrDefault(ASYNC_LOG_BATCH_SIZE,
+                                                                           DEFAULT_ASYNC_LOG_BATCH_SIZE));
+        int sampleRate = Integer.parseInt(configRegistry.getConfigOrDefault(ASYNC_LOG_SAMPLE_RATE,
+                                                                            DEFAULT_ASYNC_LOG_SAMPLE_RATE));
+        String policy = configRegistry.getConfigOrDefault(ASYNC_LOG_OVERFLOW_POLICY,
+                                                          DEFAULT_ASYNC_LOG_OVERFLOW_POLICY);
+        AsyncLogHandler.OverflowPolicy overflowPolicy;
+        try {
+            overflowPolicy = AsyncLogHandler.OverflowPolicy.valueOf(policy.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("invalid async log overflow policy: " + policy);
+        }
+
+        for (String loggerName : new String[]{BALLERINA_ROOT_LOGGER_NAME, HTTP_TRACE_LOG, HTTP_ACCESS_LOG}) {
+            Logger logger = Logger.getLogger(loggerName);
+            for (Handler handler : logger.getHandlers()) {
+                if (handler instanceof AsyncLogHandler) {
+                    continue;
+                }
+                AsyncLogHandler asyncHandler = new AsyncLogHandler(handler, queueSize, batchSize, overflowPolicy,
+                                                                   sampleRate);
+                logger.removeHandler(handler);
+                logger.addHandler(asyncHandler);
+                asyncLogHandlers.add(asyncHandler);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of log records waiting to be written by the async log handlers.
+     *
+     * @return number of queued log records
+     */
+    public long getQueuedLogRecordCount() {
+        long count = 0;
+        for (AsyncLogHandler handler : asyncLogHandlers) {
+            count += handler.getQueuedCount();
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of log records dropped by the async log handlers, since their queues were full.
+     *
+     * @return number of dropped log records
+     */
+    public long getDroppedLogRecordCount() {
+        long count = 0;
+        for (AsyncLogHandler handler : asyncLogHandlers) {
+            count += handler.getDroppedCount();
+        }
+        return count;
+    }
+
+    /**
+     * Checks if log records are written by async log handlers.
+     *
+     * @return true if async logging is enabled
+     */
+    public boolean isAsyncLogEnabled() {
+        return !asyncLogHandlers.isEmpty();
+    }
+
     private String substituteVariables(String value) {
         Matcher matcher = varPattern.matcher(value);
         boolean found = matcher.find();
@@ -276,5 +389,6 @@ public class BLogManager extends LogManager {
      */
     public void setModuleLogLevel(BLogLevel logLevel, String moduleName) {
         loggerLevels.put(moduleName, logLevel);
+        updateMinimumLogLevel();
     }
 }
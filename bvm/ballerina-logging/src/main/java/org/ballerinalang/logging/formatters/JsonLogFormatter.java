@@ -30,8 +30,31 @@ import java.util.logging.LogRecord;
  */
 public class JsonLogFormatter extends Formatter {
 
+    private static final Gson GSON = new Gson();
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 16;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
     @Override
     public String format(LogRecord record) {
-        return new Gson().toJson(record) + System.getProperty("line.separator");
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        format(record, buffer);
+        String formatted = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            BUFFER.remove();
+        }
+        return formatted;
+    }
+
+    /**
+     * Appends the JSON representation of a record to the given buffer, which the caller could reuse across records.
+     *
+     * @param record log record
+     * @param buffer buffer to append to
+     */
+    public void format(LogRecord record, StringBuilder buffer) {
+        GSON.toJson(record, buffer);
+        buffer.append(LINE_SEPARATOR);
     }
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import org.ballerinalang.logging.formatters.JsonLogFormatter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * A handler which hands log records over to a dedicated writer thread, which publishes them to another handler in
+ * batches. The thread logging only pays for enqueuing the record, hence a slow console or disk does not stall it.
+ * <p>
+ * Records are queued in a bounded queue. When the queue is full, the {@link OverflowPolicy} decides whether the
+ * logging thread waits for the writer or the record is dropped. Since records are formatted on the writer thread,
+ * formatters must not depend on the thread which logged the record.
+ *
+ * @since 2.0.0
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * Specifies what happens to a record logged while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait until the writer makes room for the record.
+         */
+        BLOCK,
+        /**
+         * Drop the record.
+         */
+        DROP,
+        /**
+         * Wait for one record out of every sample rate records and drop the others.
+         */
+        SAMPLE
+    }
+
+    private static final long BLOCK_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long WRITER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+
+    private final Handler delegate;
+    private final LogRecordQueue queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final LongAdder droppedCount = new LongAdder();
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final Thread writer;
+    // Console output is written by this handler, so that it is flushed once per batch rather than once per record
+    private final Writer consoleWriter;
+    private StringBuilder buffer = new StringBuilder();
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+
+    /**
+     * Creates a handler, which publishes records to the given handler from a writer thread.
+     *
+     * @param delegate       handler to publish records to
+     * @param queueSize      maximum number of records waiting to be written
+     * @param batchSize      maximum number of records written before the delegate is flushed
+     * @param overflowPolicy what to do with records logged while the queue is full
+     * @param sampleRate     one out of this many records is kept while the queue is full, with the sample policy
+     */
+    public AsyncLogHandler(Handler delegate, int queueSize, int batchSize, OverflowPolicy overflowPolicy,
+                           int sampleRate) {
+        this.delegate = delegate;
+        this.queue = new LogRecordQueue(queueSize);
+        this.batchSize = Math.max(batchSize, 1);
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = Math.max(sampleRate, 1);
+        this.consoleWriter = delegate instanceof ConsoleHandler ? createConsoleWriter(delegate) : null;
+        setLevel(delegate.getLevel());
+        setFilter(delegate.getFilter());
+        if (delegate.getFormatter() != null) {
+            setFormatter(delegate.getFormatter());
+        }
+        this.writer = new Thread(this::write, "ballerina-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    private static Writer createConsoleWriter(Handler delegate) {
+        String encoding = delegate.getEncoding();
+        if (encoding != null) {
+            try {
+                return new OutputStreamWriter(System.err, encoding);
+            } catch (UnsupportedEncodingException e) {
+                // Fall back to the default charset, as the console handler would
+            }
+        }
+        return new OutputStreamWriter(System.err, Charset.defaultCharset());
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        if (!queue.offer(record) && !handleOverflow(record)) {
+            droppedCount.increment();
+            return;
+        }
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private boolean handleOverflow(LogRecord record) {
+        switch (overflowPolicy) {
+            case BLOCK:
+                return waitAndOffer(record);
+            case SAMPLE:
+                return overflowCount.incrementAndGet() % sampleRate == 0 && waitAndOffer(record);
+            default:
+                return false;
+        }
+    }
+
+    private boolean waitAndOffer(LogRecord record) {
+        do {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, BLOCK_WAIT_NANOS);
+            if (closed) {
+                return false;
+            }
+        } while (!queue.offer(record));
+        return true;
+    }
+
+    private void write() {
+        LogRecord[] batch = new LogRecord[batchSize];
+        while (true) {
+            int count = 0;
+            LogRecord record;
+            while (count < batchSize && (record = queue.poll()) != null) {
+                batch[count++] = record;
+            }
+            if (count > 0) {
+                writeBatch(batch, count);
+                Arrays.fill(batch, 0, count, null);
+                continue;
+            }
+            if (closed) {
+                return;
+            }
+            writerParked = true;
+            if (queue.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, WRITER_PARK_NANOS);
+            }
+            writerParked = false;
+        }
+    }
+
+    private void writeBatch(LogRecord[] batch, int count) {
+        try {
+            if (consoleWriter == null) {
+                for (int i = 0; i < count; i++) {
+                    delegate.publish(batch[i]);
+                }
+                delegate.flush();
+                return;
+            }
+            Formatter formatter = getFormatter();
+            buffer.setLength(0);
+            for (int i = 0; i < count; i++) {
+                if (formatter instanceof JsonLogFormatter) {
+                    ((JsonLogFormatter) formatter).format(batch[i], buffer);
+                } else {
+                    buffer.append(formatter.format(batch[i]));
+                }
+            }
+            consoleWriter.append(buffer);
+            consoleWriter.flush();
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                buffer = new StringBuilder();
+            }
+        } catch (IOException | RuntimeException e) {
+            reportError("failed to write log records", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    /**
+     * Gets the number of records waiting to be written.
+     *
+     * @return number of queued records
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of records dropped since the queue was full.
+     *
+     * @return number of dropped records
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    @Override
+    public void flush() {
+        // Records are flushed by the writer after each batch
+    }
+
+    /**
+     * Writes the records already queued, then closes the delegate.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+}
@@ -32,6 +32,16 @@ public class Constants {
 
     public static final String CONSOLE_LOGGER = "b7a.log.console";
 
+    public static final String ASYNC_LOG_ENABLED = "b7a.log.async.enabled";
+    public static final String ASYNC_LOG_QUEUE_SIZE = "b7a.log.async.queuesize";
+    public static final String ASYNC_LOG_BATCH_SIZE = "b7a.log.async.batchsize";
+    public static final String ASYNC_LOG_OVERFLOW_POLICY = "b7a.log.async.overflow";
+    public static final String ASYNC_LOG_SAMPLE_RATE = "b7a.log.async.samplerate";
+    public static final String DEFAULT_ASYNC_LOG_QUEUE_SIZE = "8192";
+    public static final String DEFAULT_ASYNC_LOG_BATCH_SIZE = "256";
+    public static final String DEFAULT_ASYNC_LOG_OVERFLOW_POLICY = "BLOCK";
+    public static final String DEFAULT_ASYNC_LOG_SAMPLE_RATE = "100";
+
     public static final String HTTP_TRACE_LOG = "http.tracelog";
     public static final String HTTP_TRACE_LOG_ENABLED = "http.tracelog.enabled";
     public static final String HTTP_TRACE_LOG_CONSOLE = "b7a.http.tracelog.console";
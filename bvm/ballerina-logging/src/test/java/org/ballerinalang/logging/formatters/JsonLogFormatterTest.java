@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.logging.formatters;
+
+import com.google.gson.Gson;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Test cases for {@link JsonLogFormatter}.
+ */
+public class JsonLogFormatterTest {
+
+    private static final Gson GSON = new Gson();
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    @Test
+    public void testFormat() {
+        LogRecord record = record("payload \"quoted\"");
+        Assert.assertEquals(new JsonLogFormatter().format(record), GSON.toJson(record) + LINE_SEPARATOR);
+    }
+
+    @Test
+    public void testFormatAppendsToBuffer() {
+        JsonLogFormatter formatter = new JsonLogFormatter();
+        LogRecord first = record("first");
+        LogRecord second = record("second");
+        StringBuilder buffer = new StringBuilder("prefix|");
+        formatter.format(first, buffer);
+        formatter.format(second, buffer);
+        Assert.assertEquals(buffer.toString(),
+                "prefix|" + GSON.toJson(first) + LINE_SEPARATOR + GSON.toJson(second) + LINE_SEPARATOR);
+    }
+
+    @Test
+    public void testBufferReuse() throws ReflectiveOperationException {
+        JsonLogFormatter formatter = new JsonLogFormatter();
+        ThreadLocal<StringBuilder> threadBuffer = getThreadBuffer();
+        LogRecord first = record("first");
+        formatter.format(first);
+        StringBuilder buffer = threadBuffer.get();
+
+        // the builder of the thread is cleared and reused for the next record
+        LogRecord second = record("second");
+        Assert.assertEquals(formatter.format(second), GSON.toJson(second) + LINE_SEPARATOR);
+        Assert.assertSame(threadBuffer.get(), buffer);
+
+        // a builder grown by a large record is not kept
+        LogRecord large = record("x".repeat(1 << 17));
+        Assert.assertEquals(formatter.format(large), GSON.toJson(large) + LINE_SEPARATOR);
+        StringBuilder newBuffer = threadBuffer.get();
+        Assert.assertNotSame(newBuffer, buffer);
+        Assert.assertTrue(newBuffer.capacity() < 1 << 17);
+        Assert.assertEquals(formatter.format(second), GSON.toJson(second) + LINE_SEPARATOR);
+    }
+
+    @Test
+    public void testConcurrentFormat() throws InterruptedException {
+        JsonLogFormatter formatter = new JsonLogFormatter();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<String> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            String prefix = "thread-" + t + "-";
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 2000; i++) {
+                    // vary the size so that builders both grow and get dropped
+                    LogRecord record = record(prefix + i + (i % 500 == 0 ? "y".repeat(1 << 16) : ""));
+                    String expected = GSON.toJson(record) + LINE_SEPARATOR;
+                    if (!expected.equals(formatter.format(record))) {
+                        failure.compareAndSet(null, "unexpected output for '" + prefix + i + "'");
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertNull(failure.get(), failure.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ThreadLocal<StringBuilder> getThreadBuffer() throws ReflectiveOperationException {
+        Field field = JsonLogFormatter.class.getDeclaredField("BUFFER");
+        field.setAccessible(true);
+        return (ThreadLocal<StringBuilder>) field.get(null);
+    }
+
+    private static LogRecord record(String message) {
+        LogRecord record = new LogRecord(Level.INFO, message);
+        record.setLoggerName("http.tracelog");
+        record.setMillis(1600000000000L);
+        record.setSequenceNumber(1);
+        record.setThreadID(1);
+        return record;
+    }
+}
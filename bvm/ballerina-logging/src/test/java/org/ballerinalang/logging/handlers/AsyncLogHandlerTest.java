@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.logging.handlers;
+
+import org.ballerinalang.logging.handlers.AsyncLogHandler.OverflowPolicy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import static org.ballerinalang.logging.handlers.LogRecordQueueTest.record;
+
+/**
+ * Test cases for {@link AsyncLogHandler}.
+ */
+public class AsyncLogHandlerTest {
+
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        int producerCount = 4;
+        int recordsPerProducer = 20000;
+        RecordingHandler delegate = new RecordingHandler(Integer.MAX_VALUE);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 16, 8, OverflowPolicy.BLOCK, 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < recordsPerProducer; i++) {
+                    handler.publish(record((long) producer * recordsPerProducer + i));
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        handler.close();
+
+        // no record is lost or written twice, and the records of each producer are written in order
+        Assert.assertEquals(handler.getDroppedCount(), 0);
+        Assert.assertEquals(delegate.records.size(), producerCount * recordsPerProducer);
+        long[] nextByProducer = new long[producerCount];
+        for (LogRecord record : delegate.records) {
+            int producer = (int) (record.getSequenceNumber() / recordsPerProducer);
+            Assert.assertEquals(record.getSequenceNumber() % recordsPerProducer, nextByProducer[producer]);
+            nextByProducer[producer]++;
+        }
+    }
+
+    @Test
+    public void testDropPolicy() {
+        RecordingHandler delegate = new RecordingHandler(0);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 4, 1, OverflowPolicy.DROP, 1);
+        fillQueue(handler, delegate);
+        for (int i = 5; i < 11; i++) {
+            handler.publish(record(i));
+        }
+        Assert.assertEquals(handler.getDroppedCount(), 6);
+        Assert.assertEquals(handler.getQueuedCount(), 4);
+
+        delegate.permits.release(Integer.MAX_VALUE / 2);
+        handler.close();
+        Assert.assertEquals(delegate.getSequenceNumbers(), List.of(0L, 1L, 2L, 3L, 4L));
+    }
+
+    @Test
+    public void testBlockPolicy() throws InterruptedException {
+        RecordingHandler delegate = new RecordingHandler(0);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 4, 1, OverflowPolicy.BLOCK, 1);
+        fillQueue(handler, delegate);
+        Thread publisher = new Thread(() -> {
+            handler.publish(record(5));
+            handler.publish(record(6));
+        });
+        publisher.start();
+        waitUntil(() -> publisher.getState() == Thread.State.TIMED_WAITING);
+        Thread.sleep(100);
+        // the publisher waits for the writer, which is still stuck on the first record
+        Assert.assertTrue(publisher.isAlive());
+        Assert.assertEquals(handler.getQueuedCount(), 4);
+
+        delegate.permits.release(Integer.MAX_VALUE / 2);
+        publisher.join(TIMEOUT_MILLIS);
+        Assert.assertFalse(publisher.isAlive());
+        handler.close();
+        Assert.assertEquals(handler.getDroppedCount(), 0);
+        Assert.assertEquals(delegate.getSequenceNumbers(), List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L));
+    }
+
+    @Test
+    public void testSamplePolicy() throws InterruptedException {
+        RecordingHandler delegate = new RecordingHandler(0);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 4, 1, OverflowPolicy.SAMPLE, 3);
+        fillQueue(handler, delegate);
+        Thread publisher = new Thread(() -> {
+            for (int i = 5; i < 11; i++) {
+                handler.publish(record(i));
+            }
+        });
+        publisher.start();
+
+        // out of the records logged while the queue is full, the third one waits and the two before it are dropped
+        waitUntil(() -> handler.getDroppedCount() == 2 && publisher.getState() == Thread.State.TIMED_WAITING);
+        // let the writer take one record, which makes room for the waiting one
+        delegate.permits.release();
+        waitUntil(() -> handler.getDroppedCount() == 4 && publisher.getState() == Thread.State.TIMED_WAITING);
+        delegate.permits.release();
+        publisher.join(TIMEOUT_MILLIS);
+        Assert.assertFalse(publisher.isAlive());
+
+        delegate.permits.release(Integer.MAX_VALUE / 2);
+        handler.close();
+        Assert.assertEquals(handler.getDroppedCount(), 4);
+        Assert.assertEquals(delegate.getSequenceNumbers(), List.of(0L, 1L, 2L, 3L, 4L, 7L, 10L));
+    }
+
+    @Test
+    public void testCloseWritesQueuedRecords() {
+        RecordingHandler delegate = new RecordingHandler(0);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 1024, 16, OverflowPolicy.DROP, 1);
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(record(i));
+        }
+        delegate.permits.release(Integer.MAX_VALUE / 2);
+        handler.close();
+
+        // the writer writes all the queued records before the delegate is closed
+        Assert.assertEquals(delegate.records.size(), 1000);
+        Assert.assertEquals(handler.getQueuedCount(), 0);
+        Assert.assertEquals(handler.getDroppedCount(), 0);
+        Assert.assertTrue(delegate.closed);
+        Assert.assertTrue(delegate.flushCount.get() > 0);
+        Assert.assertTrue(delegate.closedAfterLastRecord);
+
+        // records logged after closing are ignored
+        handler.publish(record(1000));
+        Assert.assertEquals(delegate.records.size(), 1000);
+        handler.close();
+    }
+
+    /**
+     * Makes the writer take one record and wait on the delegate, then fills the queue with four more records.
+     */
+    private static void fillQueue(AsyncLogHandler handler, RecordingHandler delegate) {
+        handler.publish(record(0));
+        waitUntil(delegate.permits::hasQueuedThreads);
+        for (int i = 1; i < 5; i++) {
+            handler.publish(record(i));
+        }
+        Assert.assertEquals(handler.getQueuedCount(), 4);
+        Assert.assertEquals(handler.getDroppedCount(), 0);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("timed out waiting for the handler");
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Handler which keeps the records published to it. Each record takes a permit, so that a test can hold the
+     * writer of the async handler.
+     */
+    private static class RecordingHandler extends Handler {
+
+        private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        private final Semaphore permits;
+        private final AtomicInteger flushCount = new AtomicInteger();
+        private volatile boolean closed;
+        private volatile boolean closedAfterLastRecord = true;
+
+        RecordingHandler(int permits) {
+            this.permits = new Semaphore(permits);
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            permits.acquireUninterruptibly();
+            if (closed) {
+                closedAfterLastRecord = false;
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            flushCount.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        List<Long> getSequenceNumbers() {
+            List<Long> sequenceNumbers = new ArrayList<>();
+            synchronized (records) {
+                for (LogRecord record : records) {
+                    sequenceNumbers.add(record.getSequenceNumber());
+                }
+            }
+            return sequenceNumbers;
+        }
+    }
+}
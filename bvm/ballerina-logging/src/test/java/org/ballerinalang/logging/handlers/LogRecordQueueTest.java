@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.logging.handlers;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Test cases for {@link LogRecordQueue}.
+ */
+public class LogRecordQueueTest {
+
+    @Test
+    public void testCapacity() {
+        // the capacity is rounded up to a power of two
+        LogRecordQueue queue = new LogRecordQueue(5);
+        for (int i = 0; i < 8; i++) {
+            Assert.assertTrue(queue.offer(record(i)));
+        }
+        Assert.assertFalse(queue.offer(record(8)));
+        Assert.assertEquals(queue.size(), 8);
+
+        Assert.assertEquals(queue.poll().getSequenceNumber(), 0);
+        Assert.assertTrue(queue.offer(record(8)));
+        Assert.assertFalse(queue.offer(record(9)));
+    }
+
+    @Test
+    public void testPollInOrderAcrossLaps() {
+        LogRecordQueue queue = new LogRecordQueue(4);
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.poll());
+        long next = 0;
+        for (int lap = 0; lap < 10; lap++) {
+            for (int i = 0; i < 3; i++) {
+                Assert.assertTrue(queue.offer(record(lap * 3 + i)));
+            }
+            Assert.assertEquals(queue.size(), 3);
+            for (int i = 0; i < 3; i++) {
+                Assert.assertFalse(queue.isEmpty());
+                Assert.assertEquals(queue.poll().getSequenceNumber(), next++);
+            }
+            Assert.assertTrue(queue.isEmpty());
+            Assert.assertNull(queue.poll());
+        }
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        int producerCount = 4;
+        int recordsPerProducer = 50000;
+        LogRecordQueue queue = new LogRecordQueue(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < recordsPerProducer; i++) {
+                    LogRecord record = record((long) producer * recordsPerProducer + i);
+                    while (!queue.offer(record)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+
+        // each record is polled exactly once, in the order its producer offered it
+        long[] nextByProducer = new long[producerCount];
+        int total = producerCount * recordsPerProducer;
+        start.countDown();
+        for (int polled = 0; polled < total; ) {
+            LogRecord record = queue.poll();
+            if (record == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = (int) (record.getSequenceNumber() / recordsPerProducer);
+            Assert.assertEquals(record.getSequenceNumber() % recordsPerProducer, nextByProducer[producer]);
+            nextByProducer[producer]++;
+            polled++;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        Assert.assertNull(queue.poll());
+        for (long count : nextByProducer) {
+            Assert.assertEquals(count, recordsPerProducer);
+        }
+    }
+
+    static LogRecord record(long sequenceNumber) {
+        LogRecord record = new LogRecord(Level.INFO, "record " + sequenceNumber);
+        record.setSequenceNumber(sequenceNumber);
+        return record;
+    }
+}
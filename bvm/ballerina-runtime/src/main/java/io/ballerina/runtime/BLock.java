@@ -20,52 +20,131 @@ package io.ballerina.runtime;
 import io.ballerina.runtime.scheduling.State;
 import io.ballerina.runtime.scheduling.Strand;
 
-import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock is acquired with a CAS on the owner. A strand that can not acquire the lock is queued and yields with
+ * {@link State#BLOCK_AND_YIELD}, so no thread is blocked. When the owner releases the lock, the first queued strand
+ * is unblocked through the scheduler and tries to acquire the lock again. Waiting strands queue themselves before
+ * checking the owner once more, and the owner is cleared before the queue is checked, so a release is never missed.
+ * Since a lock is created for each field of each object, the queue is only created on first contention.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private static final AtomicReferenceFieldUpdater<BLock, Strand> OWNER =
+            AtomicReferenceFieldUpdater.newUpdater(BLock.class, Strand.class, "owner");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<BLock, ConcurrentLinkedQueue> WAITING_FOR_LOCK =
+            AtomicReferenceFieldUpdater.newUpdater(BLock.class, ConcurrentLinkedQueue.class, "waitingForLock");
+    private static final AtomicLongFieldUpdater<BLock> CONTENTION_COUNT =
+            AtomicLongFieldUpdater.newUpdater(BLock.class, "contentionCount");
 
-    private ArrayDeque<Strand> waitingForLock;
+    private final String name;
+
+    private volatile Strand owner;
+
+    // Number of times the owner has acquired the lock, only accessed by the owner.
+    private int holdCount;
+
+    private volatile ConcurrentLinkedQueue<Strand> waitingForLock;
+
+    private volatile long contentionCount;
 
     public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+        this(null);
+    }
+
+    public BLock(String name) {
+        this.name = name;
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+    public boolean lock(Strand strand) {
+        if (this.owner == strand) {
+            this.holdCount++;
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        if (OWNER.compareAndSet(this, null, strand)) {
+            this.holdCount = 1;
+            return true;
+        }
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
-        return false;
+        CONTENTION_COUNT.incrementAndGet(this);
+        ConcurrentLinkedQueue<Strand> waiting = getWaitingQueue();
+        while (true) {
+            // Strand state change
+            strand.setState(State.BLOCK_AND_YIELD);
+            strand.blockedOnExtern = false;
+            waiting.offer(strand);
+
+            // If the lock was released before this strand was queued and this strand is still in the queue, nobody
+            // is going to unblock it, so try again.
+            if (this.owner != null || !waiting.remove(strand)) {
+                return false;
+            }
+            strand.setState(State.RUNNABLE);
+            if (OWNER.compareAndSet(this, null, strand)) {
+                this.holdCount = 1;
+                return true;
+            }
+        }
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+    public void unlock() {
+        //unlock cannot be called without lock being called first.
+        if (--this.holdCount > 0) {
+            return;
+        }
+
+        this.owner = null;
+        ConcurrentLinkedQueue<Strand> waiting = this.waitingForLock;
+        if (waiting != null) {
+            Strand strand = waiting.poll();
+            if (strand != null) {
+                strand.scheduler.unblockStrand(strand);
+            }
         }
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.owner == null;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return this.owner == ctx;
+    }
+
+    /**
+     * Get the name of the lock statement this lock is used for.
+     *
+     * @return name of the lock, or null if this is not the lock of a lock statement
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the number of times a strand had to wait since the lock was held by another strand.
+     *
+     * @return number of contended lock attempts
+     */
+    public long getContentionCount() {
+        return contentionCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConcurrentLinkedQueue<Strand> getWaitingQueue() {
+        ConcurrentLinkedQueue<Strand> waiting = this.waitingForLock;
+        if (waiting == null) {
+            WAITING_FOR_LOCK.compareAndSet(this, null, new ConcurrentLinkedQueue<Strand>());
+            waiting = this.waitingForLock;
+        }
+        return waiting;
     }
 }
@@ -19,35 +19,49 @@
 package io.ballerina.runtime;
 
 import io.ballerina.runtime.api.ErrorCreator;
+import io.ballerina.runtime.observability.metrics.LockMetrics;
 import io.ballerina.runtime.scheduling.Strand;
 import io.ballerina.runtime.util.exceptions.BallerinaErrorReasons;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
+ * Holds the locks of the lock statements of a module. Generated code resolves each lock once, when the module is
+ * initialized, and keeps it in a static field.
  *
  * @since 1.2.0
  */
 public class BLockStore {
 
+    private static final Queue<BLockStore> LOCK_STORES = new ConcurrentLinkedQueue<>();
+
+    private final String moduleName;
+
     /**
      * The map of locks inferred.
      */
     private  Map<String, BLock> globalLockMap;
 
     public BLockStore() {
+        this(null);
+    }
+
+    public BLockStore(String moduleName) {
+        this.moduleName = moduleName;
         globalLockMap = new ConcurrentHashMap<>();
+        LOCK_STORES.add(this);
     }
 
     public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
+        globalLockMap.put(lockName, createLock(lockName));
     }
 
     public BLock getLockFromMap(String lockName) {
-        return globalLockMap.computeIfAbsent(lockName, (k) -> {
-            return new BLock();
-        });
+        return globalLockMap.computeIfAbsent(lockName, this::createLock);
     }
 
     public void panicIfInLock(String lockName, Strand strand) {
@@ -60,4 +74,27 @@ public class BLockStore {
             }
         }
     }
+
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    public Collection<BLock> getLocks() {
+        return globalLockMap.values();
+    }
+
+    /**
+     * Get the lock stores of all the modules initialized so far.
+     *
+     * @return lock stores
+     */
+    public static Collection<BLockStore> getLockStores() {
+        return LOCK_STORES;
+    }
+
+    private BLock createLock(String lockName) {
+        BLock lock = new BLock(lockName);
+        LockMetrics.register(this, lock);
+        return lock;
+    }
 }
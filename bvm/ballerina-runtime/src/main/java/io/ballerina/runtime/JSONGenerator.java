@@ -20,10 +20,12 @@ package io.ballerina.runtime;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.values.ArrayValue;
+import io.ballerina.runtime.values.ArrayValueImpl;
 import io.ballerina.runtime.values.DecimalValue;
 import io.ballerina.runtime.values.MapValueImpl;
 import io.ballerina.runtime.values.RefValue;
 import io.ballerina.runtime.values.StreamingJsonValue;
+import io.ballerina.runtime.values.TableValueImpl;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -32,11 +34,13 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map.Entry;
 
 /**
  * This class represents the functionality to generate the JSON constructs to be written out
- * to a given {@link OutputStream}.
+ * to a given {@link OutputStream}. UTF-8 output is encoded straight into a byte buffer, without creating strings of
+ * the values being written.
  * 
  * @since 0.995.0
  */
@@ -52,6 +56,9 @@ public class JSONGenerator {
 
     private boolean fieldActive;
 
+    // digits of a long are written through this buffer, instead of creating a string
+    private final char[] numberBuff = new char[20];
+
     private static boolean[] escChars = new boolean[93];
 
     static {
@@ -68,7 +75,8 @@ public class JSONGenerator {
     }
 
     public JSONGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        this(StandardCharsets.UTF_8.equals(charset) ? new UTF8Writer(out) :
+                     new BufferedWriter(new OutputStreamWriter(out, charset)));
     }
 
     public JSONGenerator(Writer writer) {
@@ -150,24 +158,23 @@ public class JSONGenerator {
     }
 
     private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");
+        this.writer.write('"');
         int count = value.length();
         char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            ch = value.charAt(i);
             if (ch < escChars.length && escChars[ch]) {
                 escaped = true;
                 break;
             }
         }
         if (escaped) {
-            this.writeStringEsc(chs);
+            this.writeStringEsc(value);
         } else {
-            this.writer.write(chs);
+            this.writer.write(value);
         }
-        this.writer.write("\"");
+        this.writer.write('"');
     }
 
     public void writeString(String value) throws IOException {
@@ -176,11 +183,15 @@ public class JSONGenerator {
     }
 
     public void writeStringEsc(char[] chs) throws IOException {
-        int count = chs.length;
+        this.writeStringEsc(String.valueOf(chs));
+    }
+
+    private void writeStringEsc(String chs) throws IOException {
+        int count = chs.length();
         int index = 0;
         char ch;
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            ch = chs.charAt(i);
             switch (ch) {
                 case '"':
                     this.writer.write(chs, index, i - index);
@@ -235,7 +246,17 @@ public class JSONGenerator {
 
     public void writeNumber(long value) throws IOException {
         this.processValueInit();
-        this.writer.write(Long.toString(value));
+        // digits are computed on the negated value, since Long.MIN_VALUE can not be negated
+        int index = this.numberBuff.length;
+        long remaining = value > 0 ? -value : value;
+        do {
+            this.numberBuff[--index] = (char) ('0' - (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            this.numberBuff[--index] = '-';
+        }
+        this.writer.write(this.numberBuff, index, this.numberBuff.length - index);
     }
 
     public void writeNumber(double value) throws IOException {
@@ -250,7 +271,7 @@ public class JSONGenerator {
 
     public void writeBoolean(boolean value) throws IOException {
         this.processValueInit();
-        this.writer.write(Boolean.toString(value));
+        this.writer.write(value ? "true" : "false");
     }
 
     public void writeNull() throws IOException {
@@ -260,11 +281,11 @@ public class JSONGenerator {
 
     public void writeStartArray() throws IOException {
         this.processStartLevel();
-        this.writer.write("[");
+        this.writer.write('[');
     }
 
     public void writeEndArray() throws IOException {
-        this.writer.write("]");
+        this.writer.write(']');
         this.processEndLevel();
     }
 
@@ -281,14 +302,26 @@ public class JSONGenerator {
 
         switch (TypeChecker.getType(json).getTag()) {
             case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
                 if (json instanceof StreamingJsonValue) {
                     ((StreamingJsonValue) json).serialize(this);
                     break;
                 }
                 this.writeStartArray();
-                ArrayValue jsonArray = (ArrayValue) json;
-                for (int i = 0; i < jsonArray.size(); i++) {
-                    this.serialize(jsonArray.get(i));
+                if (json instanceof ArrayValueImpl) {
+                    this.serializeArray((ArrayValueImpl) json);
+                } else {
+                    ArrayValue jsonArray = (ArrayValue) json;
+                    for (int i = 0; i < jsonArray.size(); i++) {
+                        this.serialize(jsonArray.get(i));
+                    }
+                }
+                this.writeEndArray();
+                break;
+            case TypeTags.TABLE_TAG:
+                this.writeStartArray();
+                for (Object row : ((TableValueImpl<?, ?>) json).values()) {
+                    this.serialize(row);
                 }
                 this.writeEndArray();
                 break;
@@ -309,6 +342,7 @@ public class JSONGenerator {
                 break;
             case TypeTags.MAP_TAG:
             case TypeTags.JSON_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
                 this.startObject();
                 for (Entry<BString, RefValue> entry : ((MapValueImpl<BString, RefValue>) json).entrySet()) {
                     this.writeFieldName(entry.getKey().getValue());
@@ -323,4 +357,158 @@ public class JSONGenerator {
                 break;
         }
     }
+
+    /**
+     * Serializes the members of an array. Members of int, float, boolean, byte and string arrays are read from the
+     * underlying primitive arrays, without boxing them.
+     */
+    private void serializeArray(ArrayValueImpl array) throws IOException {
+        int size = array.size();
+        switch (array.getElementType().getTag()) {
+            case TypeTags.INT_TAG:
+                for (int i = 0; i < size; i++) {
+                    this.writeNumber(array.getInt(i));
+                }
+                break;
+            case TypeTags.FLOAT_TAG:
+                for (int i = 0; i < size; i++) {
+                    this.writeNumber(array.getFloat(i));
+                }
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                for (int i = 0; i < size; i++) {
+                    this.writeBoolean(array.getBoolean(i));
+                }
+                break;
+            case TypeTags.BYTE_TAG:
+                for (int i = 0; i < size; i++) {
+                    this.writeNumber(Byte.toUnsignedInt(array.getByte(i)));
+                }
+                break;
+            case TypeTags.STRING_TAG:
+                for (int i = 0; i < size; i++) {
+                    this.writeString(array.getBString(i).getValue());
+                }
+                break;
+            default:
+                for (int i = 0; i < size; i++) {
+                    this.serialize(array.get(i));
+                }
+                break;
+        }
+    }
+
+    /**
+     * Encodes characters as UTF-8 straight into a byte buffer, which is written to the output stream once it is full
+     * or flushed. Buffers are pooled per thread and returned to the pool on flush, so serializing a value does not
+     * allocate a new buffer.
+     */
+    private static class UTF8Writer extends Writer {
+
+        private static final int BUFFER_SIZE = 8192;
+        private static final ThreadLocal<byte[]> BUFFER_POOL = new ThreadLocal<>();
+
+        private final OutputStream out;
+        private byte[] buff;
+        private int pos;
+        private char pendingHighSurrogate;
+
+        UTF8Writer(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            if (c < 0x80 && this.pendingHighSurrogate == 0) {
+                ensureCapacity(1);
+                this.buff[this.pos++] = (byte) c;
+                return;
+            }
+            writeChar((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                writeChar(chars[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                writeChar(str.charAt(i));
+            }
+        }
+
+        private void writeChar(char ch) throws IOException {
+            // a char takes at most 4 bytes, when it completes a surrogate pair
+            ensureCapacity(4);
+            if (this.pendingHighSurrogate != 0) {
+                char high = this.pendingHighSurrogate;
+                this.pendingHighSurrogate = 0;
+                if (Character.isLowSurrogate(ch)) {
+                    int codePoint = Character.toCodePoint(high, ch);
+                    this.buff[this.pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    this.buff[this.pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    this.buff[this.pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    this.buff[this.pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                    return;
+                }
+                // unpaired surrogates are replaced, the way the UTF-8 encoder of the JDK replaces them
+                this.buff[this.pos++] = '?';
+                ensureCapacity(4);
+            }
+            if (ch < 0x80) {
+                this.buff[this.pos++] = (byte) ch;
+            } else if (ch < 0x800) {
+                this.buff[this.pos++] = (byte) (0xC0 | (ch >> 6));
+                this.buff[this.pos++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch)) {
+                this.pendingHighSurrogate = ch;
+            } else if (Character.isLowSurrogate(ch)) {
+                this.buff[this.pos++] = '?';
+            } else {
+                this.buff[this.pos++] = (byte) (0xE0 | (ch >> 12));
+                this.buff[this.pos++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                this.buff[this.pos++] = (byte) (0x80 | (ch & 0x3F));
+            }
+        }
+
+        private void ensureCapacity(int length) throws IOException {
+            if (this.buff == null) {
+                this.buff = BUFFER_POOL.get();
+                if (this.buff == null) {
+                    this.buff = new byte[BUFFER_SIZE];
+                } else {
+                    BUFFER_POOL.set(null);
+                }
+            } else if (this.pos + length > this.buff.length) {
+                this.out.write(this.buff, 0, this.pos);
+                this.pos = 0;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (this.pendingHighSurrogate != 0) {
+                this.pendingHighSurrogate = 0;
+                ensureCapacity(1);
+                this.buff[this.pos++] = '?';
+            }
+            if (this.buff != null) {
+                this.out.write(this.buff, 0, this.pos);
+                this.pos = 0;
+                BUFFER_POOL.set(this.buff);
+                this.buff = null;
+            }
+            this.out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+            this.out.close();
+        }
+    }
 }
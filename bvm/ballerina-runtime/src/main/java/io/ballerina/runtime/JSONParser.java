@@ -38,6 +38,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
@@ -49,6 +50,10 @@ import java.util.Deque;
 @SuppressWarnings("unchecked")
 public class JSONParser {
 
+    private static final String NULL = "null";
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+
     private static ThreadLocal<StateMachine> tlStateMachine = new ThreadLocal<StateMachine>() {
         @Override
         public StateMachine initialValue() {
@@ -101,10 +106,13 @@ public class JSONParser {
      */
     public static Object parse(InputStream in, String charsetName) throws BallerinaException {
         try {
+            if (Charset.forName(charsetName).equals(StandardCharsets.UTF_8)) {
+                return UTF8JSONParser.parse(in, NonStringValueProcessingMode.FROM_JSON_STRING);
+            }
             Object jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), charsetName),
                     NonStringValueProcessingMode.FROM_JSON_STRING);
             return changeForBString(jsonObj);
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
             throw ErrorCreator.createError(StringUtils
                                                     .fromString(("Error in parsing JSON data: " + e.getMessage())));
         }
@@ -160,10 +168,65 @@ public class JSONParser {
         }
     }
 
+    /**
+     * Converts a JSON token which is not a string, object or array to its value.
+     *
+     * @param str  the token
+     * @param mode the mode to use when processing numeric values
+     * @return the boolean, null or numeric value of the token
+     * @throws JsonParserException if the token is not a valid JSON value
+     */
+    static Object toNonStringValue(String str, NonStringValueProcessingMode mode) throws JsonParserException {
+        if (str.indexOf('.') >= 0) {
+            try {
+                switch (mode) {
+                    case FROM_JSON_FLOAT_STRING:
+                        return Double.parseDouble(str);
+                    case FROM_JSON_DECIMAL_STRING:
+                        return new DecimalValue(str);
+                    default:
+                        if (isNegativeZero(str)) {
+                            return Double.parseDouble(str);
+                        }
+                        return new DecimalValue(str);
+                }
+            } catch (NumberFormatException ignore) {
+                throw new JsonParserException("unrecognized token '" + str + "'");
+            }
+        }
+        char ch = str.charAt(0);
+        if (ch == 't' && TRUE.equals(str)) {
+            return Boolean.TRUE;
+        } else if (ch == 'f' && FALSE.equals(str)) {
+            return Boolean.FALSE;
+        } else if (ch == 'n' && NULL.equals(str)) {
+            return null;
+        }
+        try {
+            switch (mode) {
+                case FROM_JSON_FLOAT_STRING:
+                    return Double.parseDouble(str);
+                case FROM_JSON_DECIMAL_STRING:
+                    return new DecimalValue(str);
+                default:
+                    if (isNegativeZero(str)) {
+                        return Double.parseDouble(str);
+                    }
+                    return Long.parseLong(str);
+            }
+        } catch (NumberFormatException ignore) {
+            throw new JsonParserException("unrecognized token '" + str + "'");
+        }
+    }
+
+    private static boolean isNegativeZero(String str) {
+        return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
-    private static class JsonParserException extends Exception {
+    static class JsonParserException extends Exception {
 
         private static final long serialVersionUID = 6359022327525293320L;
 
@@ -189,9 +252,6 @@ public class JSONParser {
         private static final char REV_SOL = '\\';
         private static final char SOL = '/';
         private static final char EOF = (char) -1;
-        private static final String NULL = "null";
-        private static final String TRUE = "true";
-        private static final String FALSE = "false";
 
         private static final State DOC_START_STATE = new DocumentStartState();
         private static final State DOC_END_STATE = new DocumentEndState();
@@ -848,96 +908,7 @@ public class JSONParser {
         }
 
         private void processNonStringValue(ValueType type) throws JsonParserException {
-            String str = value();
-            if (str.indexOf('.') >= 0) {
-                try {
-                    switch (mode) {
-                        case FROM_JSON_FLOAT_STRING:
-                            setValueToJsonType(type, Double.parseDouble(str));
-                            break;
-                        case FROM_JSON_DECIMAL_STRING:
-                            setValueToJsonType(type, new DecimalValue(str));
-                            break;
-                        default:
-                            if (isNegativeZero(str)) {
-                                setValueToJsonType(type, Double.parseDouble(str));
-                            } else {
-                                setValueToJsonType(type, new DecimalValue(str));
-                            }
-                            break;
-                    }
-                } catch (NumberFormatException ignore) {
-                    throw new JsonParserException("unrecognized token '" + str + "'");
-                }
-            } else {
-                char ch = str.charAt(0);
-                if (ch == 't' && TRUE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.TRUE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.TRUE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.TRUE;
-                            break;
-                        default:
-                            break;
-                    }
-                } else if (ch == 'f' && FALSE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.FALSE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.FALSE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.FALSE;
-                            break;
-                        default:
-                            break;
-                    }
-                } else if (ch == 'n' && NULL.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(null);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), null);
-                            break;
-                        case VALUE:
-                            currentJsonNode = null;
-                            break;
-                        default:
-                            break;
-                    }
-                } else {
-                    try {
-                        switch (mode) {
-                            case FROM_JSON_FLOAT_STRING:
-                                setValueToJsonType(type, Double.parseDouble(str));
-                                break;
-                            case FROM_JSON_DECIMAL_STRING:
-                                setValueToJsonType(type, new DecimalValue(str));
-                                break;
-                            default:
-                                if (isNegativeZero(str)) {
-                                    setValueToJsonType(type, Double.parseDouble(str));
-                                } else {
-                                    setValueToJsonType(type, Long.parseLong(str));
-                                }
-                                break;
-                        }
-                    } catch (NumberFormatException ignore) {
-                        throw new JsonParserException("unrecognized token '" + str + "'");
-                    }
-                }
-            }
+            setValueToJsonType(type, toNonStringValue(value(), this.mode));
         }
 
         private void setValueToJsonType(ValueType type, Object value) {
@@ -955,10 +926,6 @@ public class JSONParser {
             }
         }
 
-        private boolean isNegativeZero(String str) {
-            return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
-        }
-
         /**
          * Represents the state during a non-string value is defined.
          */
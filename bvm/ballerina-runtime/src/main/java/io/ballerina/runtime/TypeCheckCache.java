@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the subtype relations computed by {@link TypeChecker}, keyed on the identity of the source and
+ * target types.
+ * <p>
+ * The cache is a direct mapped table of immutable entries, where a new entry simply replaces whatever was in its
+ * slot. Since entries only have final fields, they can be read and replaced from any thread without locking.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCache {
+
+    private static final int CACHE_SIZE = 4096;
+    private static final int INDEX_MASK = CACHE_SIZE - 1;
+
+    private static final Entry[] entries = new Entry[CACHE_SIZE];
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Get the cached relation between the given types.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return whether the source type is a subtype of the target type, or null if the relation is not cached
+     */
+    static Boolean get(Type sourceType, Type targetType) {
+        Entry entry = entries[indexOf(sourceType, targetType)];
+        if (entry != null && entry.sourceType == sourceType && entry.targetType == targetType) {
+            hits.increment();
+            return entry.result;
+        }
+        misses.increment();
+        return null;
+    }
+
+    static void put(Type sourceType, Type targetType, boolean result) {
+        entries[indexOf(sourceType, targetType)] = new Entry(sourceType, targetType, result);
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    private static int indexOf(Type sourceType, Type targetType) {
+        int hash = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & INDEX_MASK;
+    }
+
+    private static class Entry {
+        final Type sourceType;
+        final Type targetType;
+        final Boolean result;
+
+        Entry(Type sourceType, Type targetType, boolean result) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+        }
+    }
+}
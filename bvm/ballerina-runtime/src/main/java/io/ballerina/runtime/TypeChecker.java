@@ -666,11 +666,27 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes == null || unresolvedTypes.isEmpty()) {
+                    return checkIsRecursiveTypeCached(sourceType, targetType);
+                }
+                return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
         }
     }
 
+    /**
+     * Check the relation between two types using the {@link TypeCheckCache}. This is only used when there are no
+     * unresolved type pairs, since a relation computed while assuming unresolved pairs hold may not be final.
+     */
+    private static boolean checkIsRecursiveTypeCached(Type sourceType, Type targetType) {
+        Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+        TypeCheckCache.put(sourceType, targetType, result);
+        return result;
+    }
+
     private static boolean checkIsType(Object sourceVal, Type sourceType, Type targetType,
                                       List<TypePair> unresolvedTypes) {
         int sourceTypeTag = sourceType.getTag();
@@ -0,0 +1,903 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime;
+
+import io.ballerina.runtime.JSONParser.JsonParserException;
+import io.ballerina.runtime.JSONParser.NonStringValueProcessingMode;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.types.BArrayType;
+import io.ballerina.runtime.types.BMapType;
+import io.ballerina.runtime.types.BRecordType;
+import io.ballerina.runtime.types.BUnionType;
+import io.ballerina.runtime.util.Flags;
+import io.ballerina.runtime.util.exceptions.BLangExceptionHelper;
+import io.ballerina.runtime.util.exceptions.BallerinaException;
+import io.ballerina.runtime.util.exceptions.RuntimeErrors;
+import io.ballerina.runtime.values.BmpStringValue;
+import io.ballerina.runtime.values.DecimalValue;
+import io.ballerina.runtime.values.MapValueImpl;
+import io.ballerina.runtime.values.NonBmpStringValue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON parser which reads UTF-8 encoded bytes directly, instead of decoding them to characters first. Strings are
+ * decoded straight into {@link BString} values and integers are parsed without creating intermediate strings. Parses
+ * the same documents as {@link JSONParser} and creates the same values.
+ * <p>
+ * Given a target type, the parser binds the document straight to values of that type, instead of creating a json
+ * value to be converted with {@code cloneWithType} afterwards. Fields which are not in a closed record are skipped
+ * without creating their values. See {@link #isBindable(Type)} for the types that can be bound.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class UTF8JSONParser {
+
+    private static final BMapType JSON_MAP_TYPE = new BMapType(PredefinedTypes.TYPE_JSON);
+    private static final BArrayType JSON_ARRAY_TYPE = new BArrayType(PredefinedTypes.TYPE_JSON);
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    // Field names repeat across the objects of a document, hence short ones are cached by their hash
+    private static final int FIELD_NAME_CACHE_SIZE = 256;
+    private static final int MAX_CACHED_FIELD_NAME_LENGTH = 32;
+
+    // Integers with up to this many digits can not overflow a long
+    private static final int MAX_SAFE_INT_DIGITS = 18;
+
+    private final InputStream in;
+    private final NonStringValueProcessingMode mode;
+    private final Type targetType;
+    private Map<Type, BString[]> requiredFields;
+
+    private byte[] buff;
+    private int pos;
+    private int limit;
+
+    private char[] charBuff = new char[256];
+    private int charBuffIndex;
+    private int[] surrogates = new int[8];
+    private int surrogateCount;
+    private final BString[] fieldNameCache = new BString[FIELD_NAME_CACHE_SIZE];
+
+    private Frame[] frames = new Frame[16];
+    private BitSet skippedBrackets;
+    private int depth;
+
+    private int line = 1;
+    private int lineStart;
+    // continuation bytes of the multi-byte characters read in the current line, which are not counted as columns
+    private int lineContinuationBytes;
+    private int consumed;
+
+    private UTF8JSONParser(InputStream in, NonStringValueProcessingMode mode, Type targetType) {
+        this.in = in;
+        this.mode = mode;
+        this.targetType = targetType;
+        this.buff = new byte[BUFFER_SIZE];
+    }
+
+    private UTF8JSONParser(byte[] buff, int offset, int length, NonStringValueProcessingMode mode,
+                           Type targetType) {
+        this.in = null;
+        this.mode = mode;
+        this.targetType = targetType;
+        this.buff = buff;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.consumed = -offset;
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content of the given {@link InputStream}.
+     *
+     * @param in   input stream which contains the JSON content
+     * @param mode the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(InputStream in, NonStringValueProcessingMode mode) throws BallerinaException {
+        return new UTF8JSONParser(in, mode, PredefinedTypes.TYPE_JSON).parse();
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content of the given {@link InputStream} into a value of the given type.
+     *
+     * @param in         input stream which contains the JSON content
+     * @param targetType type of the value, which must be bindable
+     * @return value of the target type
+     * @throws BallerinaException for any parsing error, or if the content does not match the target type
+     */
+    public static Object parse(InputStream in, Type targetType) throws BallerinaException {
+        return new UTF8JSONParser(in, NonStringValueProcessingMode.FROM_JSON_STRING, targetType).parse();
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content remaining in the given {@link ByteBuffer}. The position of the buffer is
+     * moved to its limit.
+     *
+     * @param buffer buffer which contains the JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, NonStringValueProcessingMode mode) throws BallerinaException {
+        return parse(buffer, mode, PredefinedTypes.TYPE_JSON);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content remaining in the given {@link ByteBuffer} into a value of the given type.
+     * The position of the buffer is moved to its limit.
+     *
+     * @param buffer     buffer which contains the JSON content
+     * @param targetType type of the value, which must be bindable
+     * @return value of the target type
+     * @throws BallerinaException for any parsing error, or if the content does not match the target type
+     */
+    public static Object parse(ByteBuffer buffer, Type targetType) throws BallerinaException {
+        return parse(buffer, NonStringValueProcessingMode.FROM_JSON_STRING, targetType);
+    }
+
+    private static Object parse(ByteBuffer buffer, NonStringValueProcessingMode mode, Type targetType) {
+        UTF8JSONParser parser;
+        if (buffer.hasArray()) {
+            parser = new UTF8JSONParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(),
+                                        mode, targetType);
+        } else {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            parser = new UTF8JSONParser(bytes, 0, bytes.length, mode, targetType);
+        }
+        buffer.position(buffer.limit());
+        return parser.parse();
+    }
+
+    /**
+     * Checks whether JSON content can be bound to the given type. Bindable types are json, anydata, int, float,
+     * decimal, string, boolean, nil, records, maps and arrays of bindable types, and optional bindable types. Other
+     * types must be converted from json with {@code cloneWithType}.
+     *
+     * @param type type to check
+     * @return true if the content can be parsed into a value of the type
+     */
+    public static boolean isBindable(Type type) {
+        return isBindable(type, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static boolean isBindable(Type type, Set<Type> visited) {
+        switch (type.getTag()) {
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.NULL_TAG:
+                return true;
+            case TypeTags.UNION_TAG:
+                BUnionType unionType = (BUnionType) type;
+                return unionType.getMemberTypes().size() == 2 && unionType.isNullable() &&
+                        isBindable(getNonNilType(unionType), visited);
+            case TypeTags.MAP_TAG:
+                return !type.isReadOnly() && isBindable(((BMapType) type).getConstrainedType(), visited);
+            case TypeTags.ARRAY_TAG:
+                return !type.isReadOnly() && isBindable(((BArrayType) type).getElementType(), visited);
+            case TypeTags.RECORD_TYPE_TAG:
+                if (type.isReadOnly()) {
+                    return false;
+                }
+                if (!visited.add(type)) {
+                    return true;
+                }
+                BRecordType recordType = (BRecordType) type;
+                for (Field field : recordType.getFields().values()) {
+                    if (!isBindable(field.getFieldType(), visited)) {
+                        return false;
+                    }
+                }
+                return recordType.isSealed() || isBindable(recordType.getRestFieldType(), visited);
+            default:
+                return false;
+        }
+    }
+
+    private Object parse() throws BallerinaException {
+        try {
+            int ch = nextNonWhitespace();
+            if (ch == EOF) {
+                throw new JsonParserException("empty JSON document");
+            }
+            Object result = readDocument(ch);
+            if (nextNonWhitespace() != EOF) {
+                throw new JsonParserException("JSON document has already ended");
+            }
+            return result;
+        } catch (IOException e) {
+            throw new BallerinaException("Error reading JSON: " + e.getMessage());
+        } catch (JsonParserException e) {
+            throw new BallerinaException(e.getMessage() + " at line: " + this.line + " column: " + getColumn());
+        }
+    }
+
+    /**
+     * Reads a value and all the values nested in it. Nested objects and arrays are kept in a stack of frames
+     * instead of recursing, so deeply nested documents can not overflow the call stack.
+     */
+    private Object readDocument(int ch) throws IOException, JsonParserException {
+        // expected type of the value being read, null if the value is skipped
+        Type type = this.targetType;
+        while (true) {
+            Object value;
+            if (type == null) {
+                skipValue(ch);
+                value = null;
+            } else {
+                switch (ch) {
+                    case '{':
+                        Type objectType = getContainerType(type, true);
+                        ch = nextNonWhitespace();
+                        if (ch == '}') {
+                            value = objectType == null ? new MapValueImpl<>(JSON_MAP_TYPE) :
+                                    completeObject(createObject(objectType), objectType);
+                            break;
+                        }
+                        Frame frame = pushFrame(objectType, true);
+                        frame.fieldName = readFieldName(ch, "\"", "}");
+                        type = getMemberType(frame);
+                        ch = nextNonWhitespace();
+                        continue;
+                    case '[':
+                        Type arrayType = getContainerType(type, false);
+                        ch = nextNonWhitespace();
+                        if (ch == ']') {
+                            value = ValueCreator.createArrayValue(arrayType == null ? JSON_ARRAY_TYPE :
+                                                                          (BArrayType) arrayType);
+                            break;
+                        }
+                        type = getMemberType(pushFrame(arrayType, false));
+                        continue;
+                    case '"':
+                    case '\'':
+                        value = readString(ch);
+                        if (type != PredefinedTypes.TYPE_JSON) {
+                            value = convert(value, type);
+                        }
+                        break;
+                    case EOF:
+                        throw new JsonParserException("unexpected end of JSON document");
+                    default:
+                        if (type == PredefinedTypes.TYPE_JSON) {
+                            value = readNonStringValue(ch, this.mode);
+                        } else {
+                            value = convert(readNonStringValue(ch, getNumericMode(type)), type);
+                        }
+                        break;
+                }
+            }
+
+            // the value is complete, add it to its parent and close all the parents it completes
+            boolean skipped = type == null;
+            while (true) {
+                if (this.depth == 0) {
+                    return value;
+                }
+                Frame frame = this.frames[this.depth - 1];
+                ch = nextNonWhitespace();
+                if (frame.map != null) {
+                    if (!skipped) {
+                        frame.map.put(frame.fieldName, value);
+                    }
+                    if (ch == ',') {
+                        frame.fieldName = readFieldName(nextNonWhitespace(), "\"");
+                        type = getMemberType(frame);
+                        ch = nextNonWhitespace();
+                        break;
+                    } else if (ch != '}') {
+                        throw expected(ch, ",", "}");
+                    }
+                    value = frame.type == null ? frame.map : completeObject(frame.map, frame.type);
+                } else {
+                    if (frame.array != null) {
+                        frame.array.append(value);
+                    } else {
+                        frame.add(value);
+                    }
+                    if (ch == ',') {
+                        type = getMemberType(frame);
+                        ch = nextNonWhitespace();
+                        break;
+                    } else if (ch != ']') {
+                        throw expected(ch, ",", "]");
+                    }
+                    value = frame.array != null ? frame.array :
+                            ValueCreator.createArrayValue(Arrays.copyOf(frame.elements, frame.size), JSON_ARRAY_TYPE);
+                }
+                popFrame();
+                skipped = false;
+            }
+        }
+    }
+
+    /**
+     * Pushes a frame for an object or array.
+     *
+     * @param type     record, map or array type of the value, null if it is a json value
+     * @param isObject true for an object, false for an array
+     * @return the frame
+     */
+    private Frame pushFrame(Type type, boolean isObject) {
+        if (this.depth == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.depth * 2);
+        }
+        Frame frame = this.frames[this.depth];
+        if (frame == null) {
+            frame = new Frame();
+            this.frames[this.depth] = frame;
+        }
+        this.depth++;
+        frame.type = type;
+        if (isObject) {
+            frame.map = type == null ? new MapValueImpl<>(JSON_MAP_TYPE) : createObject(type);
+        } else if (type != null) {
+            frame.array = ValueCreator.createArrayValue((BArrayType) type);
+        }
+        return frame;
+    }
+
+    private void popFrame() {
+        Frame frame = this.frames[--this.depth];
+        frame.type = null;
+        frame.map = null;
+        frame.array = null;
+        frame.fieldName = null;
+        Arrays.fill(frame.elements, 0, frame.size, null);
+        frame.size = 0;
+    }
+
+    /**
+     * Gets the type of the next member of an object or array.
+     *
+     * @param frame frame of the object or array
+     * @return type of the member, null if the member is not a field of a closed record and should be skipped
+     */
+    private static Type getMemberType(Frame frame) {
+        Type type = frame.type;
+        if (type == null) {
+            return PredefinedTypes.TYPE_JSON;
+        }
+        switch (type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                BRecordType recordType = (BRecordType) type;
+                Field field = recordType.getFields().get(frame.fieldName.getValue());
+                if (field != null) {
+                    return field.getFieldType();
+                }
+                return recordType.isSealed() ? null : recordType.getRestFieldType();
+            case TypeTags.MAP_TAG:
+                return ((BMapType) type).getConstrainedType();
+            default:
+                return ((BArrayType) type).getElementType();
+        }
+    }
+
+    /**
+     * Gets the type of an object or array to be bound to the given type.
+     *
+     * @param type     expected type
+     * @param isObject true for an object, false for an array
+     * @return record, map or array type of the value, null if it is a json value
+     */
+    private static Type getContainerType(Type type, boolean isObject) throws JsonParserException {
+        switch (type.getTag()) {
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                return null;
+            case TypeTags.UNION_TAG:
+                return getContainerType(getNonNilType((BUnionType) type), isObject);
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+                if (isObject) {
+                    return type;
+                }
+                break;
+            case TypeTags.ARRAY_TAG:
+                if (!isObject) {
+                    return type;
+                }
+                break;
+            default:
+                break;
+        }
+        throw incompatible(type, isObject ? JSON_MAP_TYPE : JSON_ARRAY_TYPE);
+    }
+
+    private static BMap<BString, Object> createObject(Type type) {
+        if (type.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            // created through the value creator of the module, so that default values of fields are set
+            return ValueCreator.createRecordValue(type.getPackage(), type.getName());
+        }
+        return new MapValueImpl<>(type);
+    }
+
+    private BMap<BString, Object> completeObject(BMap<BString, Object> object, Type type) throws JsonParserException {
+        if (type.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return object;
+        }
+        for (BString fieldName : getRequiredFields((BRecordType) type)) {
+            if (!object.containsKey(fieldName)) {
+                throw new JsonParserException("missing required field '" + fieldName.getValue() + "' of type '" +
+                                                      type + "'");
+            }
+        }
+        return object;
+    }
+
+    private BString[] getRequiredFields(BRecordType type) {
+        if (this.requiredFields == null) {
+            this.requiredFields = new IdentityHashMap<>();
+        }
+        BString[] fieldNames = this.requiredFields.get(type);
+        if (fieldNames == null) {
+            fieldNames = type.getFields().values().stream()
+                    .filter(field -> Flags.isFlagOn(field.getFlags(), Flags.REQUIRED))
+                    .map(field -> StringUtils.fromString(field.getFieldName()))
+                    .toArray(BString[]::new);
+            this.requiredFields.put(type, fieldNames);
+        }
+        return fieldNames;
+    }
+
+    /**
+     * Converts a string, number, boolean or null value to the given type, the way {@code cloneWithType} converts it.
+     */
+    private static Object convert(Object value, Type type) throws JsonParserException {
+        switch (type.getTag()) {
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                return value;
+            case TypeTags.INT_TAG:
+                if (value instanceof Long) {
+                    return value;
+                }
+                return convertNumber(value, type);
+            case TypeTags.FLOAT_TAG:
+                if (value instanceof Double) {
+                    return value;
+                }
+                return convertNumber(value, type);
+            case TypeTags.DECIMAL_TAG:
+                if (value instanceof DecimalValue) {
+                    return value;
+                }
+                return convertNumber(value, type);
+            case TypeTags.STRING_TAG:
+                if (value instanceof BString) {
+                    return value;
+                }
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                if (value instanceof Boolean) {
+                    return value;
+                }
+                break;
+            case TypeTags.NULL_TAG:
+                if (value == null) {
+                    return null;
+                }
+                break;
+            case TypeTags.UNION_TAG:
+                return value == null ? null : convert(value, getNonNilType((BUnionType) type));
+            default:
+                break;
+        }
+        throw incompatible(type, TypeChecker.getType(value));
+    }
+
+    private static Object convertNumber(Object value, Type type) throws JsonParserException {
+        if (value instanceof Long || value instanceof Double || value instanceof DecimalValue) {
+            return TypeConverter.convertValues(type, value);
+        }
+        throw incompatible(type, TypeChecker.getType(value));
+    }
+
+    /**
+     * Gets the mode to parse a number in, so that numbers bound to float or decimal are parsed as such.
+     */
+    private static NonStringValueProcessingMode getNumericMode(Type type) {
+        switch (type.getTag()) {
+            case TypeTags.FLOAT_TAG:
+                return NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
+            case TypeTags.DECIMAL_TAG:
+                return NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
+            case TypeTags.UNION_TAG:
+                return getNumericMode(getNonNilType((BUnionType) type));
+            default:
+                return NonStringValueProcessingMode.FROM_JSON_STRING;
+        }
+    }
+
+    private static Type getNonNilType(BUnionType type) {
+        for (Type memberType : type.getMemberTypes()) {
+            if (memberType.getTag() != TypeTags.NULL_TAG) {
+                return memberType;
+            }
+        }
+        return PredefinedTypes.TYPE_NULL;
+    }
+
+    private static JsonParserException incompatible(Type expectedType, Type foundType) {
+        return new JsonParserException(BLangExceptionHelper.getErrorMessage(RuntimeErrors.INCOMPATIBLE_TYPE,
+                                                                            expectedType, foundType).getValue());
+    }
+
+    /**
+     * Skips a value without creating it, including all the values nested in it. Values nested in a skipped value are
+     * only checked for matching brackets and complete strings.
+     */
+    private void skipValue(int ch) throws IOException, JsonParserException {
+        int nesting = 0;
+        while (true) {
+            switch (ch) {
+                case '{':
+                case '[':
+                    if (this.skippedBrackets == null) {
+                        this.skippedBrackets = new BitSet();
+                    }
+                    // set for arrays and cleared for objects, by nesting level
+                    this.skippedBrackets.set(nesting, ch == '[');
+                    nesting++;
+                    break;
+                case '}':
+                case ']':
+                    if (nesting == 0 || this.skippedBrackets.get(nesting - 1) != (ch == ']')) {
+                        throw new JsonParserException("unrecognized token '" + (char) ch + "'");
+                    }
+                    nesting--;
+                    break;
+                case '"':
+                case '\'':
+                    readChars(ch);
+                    break;
+                case EOF:
+                    throw new JsonParserException("unexpected end of JSON document");
+                default:
+                    if (nesting == 0) {
+                        // validated the same way as the values which are not skipped
+                        readNonStringValue(ch, NonStringValueProcessingMode.FROM_JSON_STRING);
+                    }
+                    break;
+            }
+            if (nesting == 0) {
+                return;
+            }
+            ch = nextNonWhitespace();
+        }
+    }
+
+    private BString readFieldName(int ch, String... expected) throws IOException, JsonParserException {
+        if (ch != '"' && ch != '\'') {
+            throw expected(ch, expected);
+        }
+        int hash = readChars(ch);
+        BString fieldName;
+        if (this.surrogateCount == 0 && this.charBuffIndex <= MAX_CACHED_FIELD_NAME_LENGTH) {
+            int slot = hash & (FIELD_NAME_CACHE_SIZE - 1);
+            fieldName = this.fieldNameCache[slot];
+            if (fieldName == null || !matchesCharBuff(fieldName.getValue())) {
+                fieldName = new BmpStringValue(new String(this.charBuff, 0, this.charBuffIndex));
+                this.fieldNameCache[slot] = fieldName;
+            }
+        } else {
+            fieldName = toBString();
+        }
+        int separator = nextNonWhitespace();
+        if (separator != ':') {
+            throw expected(separator, ":");
+        }
+        return fieldName;
+    }
+
+    private boolean matchesCharBuff(String str) {
+        if (str.length() != this.charBuffIndex) {
+            return false;
+        }
+        for (int i = 0; i < this.charBuffIndex; i++) {
+            if (str.charAt(i) != this.charBuff[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private BString readString(int quote) throws IOException, JsonParserException {
+        readChars(quote);
+        return toBString();
+    }
+
+    private BString toBString() {
+        String str = new String(this.charBuff, 0, this.charBuffIndex);
+        if (this.surrogateCount == 0) {
+            return new BmpStringValue(str);
+        }
+        return new NonBmpStringValue(str, Arrays.copyOf(this.surrogates, this.surrogateCount));
+    }
+
+    /**
+     * Decodes the characters of a string into the char buffer, until the closing quote.
+     *
+     * @param quote the opening quote
+     * @return hash code of the decoded string
+     */
+    private int readChars(int quote) throws IOException, JsonParserException {
+        this.charBuffIndex = 0;
+        this.surrogateCount = 0;
+        int hash = 0;
+        while (true) {
+            if (this.pos == this.limit && !fill()) {
+                throw new JsonParserException("unexpected end of JSON document");
+            }
+            int b = this.buff[this.pos++];
+            if (b == quote) {
+                return hash;
+            }
+            char ch;
+            if (b >= 0) {
+                if (b == '\\') {
+                    ch = readEscapedChar();
+                } else {
+                    if (b == '\n') {
+                        newLine();
+                    }
+                    ch = (char) b;
+                }
+            } else {
+                int codePoint = readMultiByteChar(b);
+                if (codePoint > Character.MAX_VALUE) {
+                    char high = Character.highSurrogate(codePoint);
+                    appendChar(high);
+                    hash = 31 * hash + high;
+                    ch = Character.lowSurrogate(codePoint);
+                } else {
+                    ch = (char) codePoint;
+                }
+            }
+            appendChar(ch);
+            hash = 31 * hash + ch;
+        }
+    }
+
+    private void appendChar(char ch) {
+        if (this.charBuffIndex == this.charBuff.length) {
+            this.charBuff = Arrays.copyOf(this.charBuff, this.charBuff.length * 2);
+        }
+        if (Character.isHighSurrogate(ch)) {
+            if (this.surrogateCount == this.surrogates.length) {
+                this.surrogates = Arrays.copyOf(this.surrogates, this.surrogates.length * 2);
+            }
+            // surrogate pairs are recorded by their code point index, as in StringUtils.fromString()
+            this.surrogates[this.surrogateCount] = this.charBuffIndex - this.surrogateCount;
+            this.surrogateCount++;
+        }
+        this.charBuff[this.charBuffIndex++] = ch;
+    }
+
+    /**
+     * Decodes a character encoded in two to four bytes. Malformed sequences are decoded as the unicode replacement
+     * character, the way {@link java.io.InputStreamReader} decodes them.
+     */
+    private int readMultiByteChar(int lead) throws IOException {
+        int length;
+        int codePoint;
+        if ((lead & 0xE0) == 0xC0) {
+            length = 1;
+            codePoint = lead & 0x1F;
+        } else if ((lead & 0xF0) == 0xE0) {
+            length = 2;
+            codePoint = lead & 0x0F;
+        } else if ((lead & 0xF8) == 0xF0) {
+            length = 3;
+            codePoint = lead & 0x07;
+        } else {
+            return REPLACEMENT_CHAR;
+        }
+        for (int i = 0; i < length; i++) {
+            if (this.pos == this.limit && !fill()) {
+                return REPLACEMENT_CHAR;
+            }
+            int b = this.buff[this.pos];
+            if ((b & 0xC0) != 0x80) {
+                return REPLACEMENT_CHAR;
+            }
+            this.pos++;
+            this.lineContinuationBytes++;
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        return codePoint > Character.MAX_CODE_POINT ? REPLACEMENT_CHAR : codePoint;
+    }
+
+    private char readEscapedChar() throws IOException, JsonParserException {
+        int ch = next();
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) ch;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int hex = next();
+                    int digit = Character.digit(hex, 16);
+                    if (digit < 0) {
+                        throw expected(hex, "hexadecimal value of an unicode character");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw expected(ch, "escaped characters");
+        }
+    }
+
+    /**
+     * Reads a token which is not a string, object or array, up to the next delimiter. Integers are parsed straight
+     * from the bytes, all the other tokens are converted by {@link JSONParser#toNonStringValue}.
+     */
+    private Object readNonStringValue(int first, NonStringValueProcessingMode mode)
+            throws IOException, JsonParserException {
+        this.charBuffIndex = 0;
+        int ch = first;
+        boolean negative = ch == '-';
+        boolean isInt = mode == NonStringValueProcessingMode.FROM_JSON_STRING;
+        long intValue = 0;
+        while (true) {
+            if (ch < 0) {
+                // not a valid token, decode the rest of it as is to report it
+                ch = readMultiByteChar(ch);
+            }
+            if (isInt) {
+                if (ch >= '0' && ch <= '9') {
+                    intValue = intValue * 10 + (ch - '0');
+                } else if (!(negative && this.charBuffIndex == 0)) {
+                    isInt = false;
+                }
+            }
+            this.charBuff[this.charBuffIndex++] = (char) ch;
+            if (this.charBuffIndex == this.charBuff.length) {
+                this.charBuff = Arrays.copyOf(this.charBuff, this.charBuff.length * 2);
+            }
+            if (this.pos == this.limit && !fill()) {
+                break;
+            }
+            ch = this.buff[this.pos];
+            if (ch == ',' || ch == '}' || ch == ']' || isWhitespace(ch)) {
+                break;
+            }
+            this.pos++;
+        }
+
+        int digits = negative ? this.charBuffIndex - 1 : this.charBuffIndex;
+        if (isInt && digits > 0 && digits <= MAX_SAFE_INT_DIGITS && !(negative && intValue == 0)) {
+            return negative ? -intValue : intValue;
+        }
+        return JSONParser.toNonStringValue(new String(this.charBuff, 0, this.charBuffIndex), mode);
+    }
+
+    private static boolean isWhitespace(int ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private int next() throws IOException {
+        if (this.pos == this.limit && !fill()) {
+            return EOF;
+        }
+        int ch = this.buff[this.pos++];
+        if (ch == '\n') {
+            newLine();
+        }
+        return ch;
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        int ch;
+        do {
+            ch = next();
+        } while (isWhitespace(ch));
+        return ch;
+    }
+
+    private boolean fill() throws IOException {
+        if (this.in == null) {
+            return false;
+        }
+        int count = this.in.read(this.buff, 0, this.buff.length);
+        if (count <= 0) {
+            return false;
+        }
+        this.consumed += this.limit;
+        this.pos = 0;
+        this.limit = count;
+        return true;
+    }
+
+    private void newLine() {
+        this.line++;
+        this.lineStart = this.consumed + this.pos;
+        this.lineContinuationBytes = 0;
+    }
+
+    private int getColumn() {
+        return this.consumed + this.pos - this.lineStart - this.lineContinuationBytes;
+    }
+
+    private static JsonParserException expected(int ch, String... chars) {
+        if (ch == EOF) {
+            return new JsonParserException("unexpected end of JSON document");
+        }
+        return new JsonParserException("expected " + String.join(" or ", chars));
+    }
+
+    /**
+     * An object or array which is being parsed.
+     */
+    private static class Frame {
+
+        private Type type;
+        private BMap<BString, Object> map;
+        private BArray array;
+        private BString fieldName;
+        private Object[] elements = new Object[16];
+        private int size;
+
+        private void add(Object value) {
+            if (this.size == this.elements.length) {
+                this.elements = Arrays.copyOf(this.elements, this.size * 2);
+            }
+            this.elements[this.size++] = value;
+        }
+    }
+}
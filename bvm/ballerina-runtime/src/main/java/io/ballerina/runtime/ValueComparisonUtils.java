@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.runtime;
+
+import io.ballerina.runtime.api.ErrorCreator;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BString;
+
+import static io.ballerina.runtime.util.BLangConstants.ARRAY_LANG_LIB;
+import static io.ballerina.runtime.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
+import static io.ballerina.runtime.util.exceptions.BallerinaErrorReasons.getModulePrefixedReason;
+
+/**
+ * The order of values of ordered types, as used by lang.array:sort() and the order by clause of queries.
+ *
+ * @since 2.0.0
+ */
+public class ValueComparisonUtils {
+
+    private ValueComparisonUtils() {
+    }
+
+    /**
+     * Compares two values of the same ordered type. Nil comes last and NaN comes before it, irrespective of the
+     * direction, -0.0 is equal to 0.0, strings are compared by their code points, and lists are compared member by
+     * member.
+     *
+     * @param value1      the first value
+     * @param value2      the second value
+     * @param isAscending whether the values are ordered in ascending order
+     * @return a negative value, zero or a positive value if the first value comes before, together with or after the
+     * second value
+     */
+    public static int compareValues(Object value1, Object value2, boolean isAscending) {
+        // () should come last irrespective of the sort direction.
+        if (value1 == null || value2 == null) {
+            if (value1 == value2) {
+                return 0;
+            }
+            return value1 == null ? 1 : -1;
+        }
+        int c;
+        if (isInt(value1) && isInt(value2)) {
+            c = Long.compare(((Number) value1).longValue(), ((Number) value2).longValue());
+        } else if (value1 instanceof BString && value2 instanceof BString) {
+            c = compareCodePoints(((BString) value1).getValue(), ((BString) value2).getValue());
+        } else if (value1 instanceof Double && value2 instanceof Double) {
+            double double1 = (double) value1;
+            double double2 = (double) value2;
+            // NaN should be placed last or one before the last when () is present irrespective of the sort direction.
+            if (Double.isNaN(double1) || Double.isNaN(double2)) {
+                if (Double.isNaN(double1) && Double.isNaN(double2)) {
+                    return 0;
+                }
+                return Double.isNaN(double1) ? 1 : -1;
+            }
+            // -0.0 = +0.0
+            c = double1 == double2 ? 0 : Double.compare(double1, double2);
+        } else if (value1 instanceof BDecimal && value2 instanceof BDecimal) {
+            c = ((BDecimal) value1).value().compareTo(((BDecimal) value2).value());
+        } else if (value1 instanceof Boolean && value2 instanceof Boolean) {
+            c = Boolean.compare((boolean) value1, (boolean) value2);
+        } else if (value1 instanceof BArray && value2 instanceof BArray) {
+            // Lists are compared member by member, so that their () and NaN members are placed last irrespective of
+            // the direction too.
+            return compareLists((BArray) value1, (BArray) value2, isAscending);
+        } else {
+            Type type1 = TypeChecker.getType(value1);
+            Type type2 = TypeChecker.getType(value2);
+            String type = type1.equals(type2) || !isOrdered(value1) ? type1.toString() :
+                    !isOrdered(value2) ? type2.toString() : type1 + "|" + type2;
+            throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                                           StringUtils.fromString("expected an ordered type, but found '" + type +
+                                                                          "'"));
+        }
+        return isAscending ? c : -c;
+    }
+
+    /**
+     * Compares strings by the code points they consist of, as opposed to {@link String#compareTo}, which compares
+     * their UTF-16 code units.
+     *
+     * @param value1 the first string
+     * @param value2 the second string
+     * @return a negative value, zero or a positive value if the first string is less than, equal to or greater than
+     * the second string
+     */
+    public static int compareCodePoints(String value1, String value2) {
+        int length = Math.min(value1.length(), value2.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = value1.charAt(i);
+            char c2 = value2.charAt(i);
+            if (c1 != c2) {
+                // Code units only compare differently from code points if both are surrogates or above them, since
+                // surrogates encode code points above all other code units.
+                if (c1 >= Character.MIN_SURROGATE && c2 >= Character.MIN_SURROGATE) {
+                    return toCodePointOrder(c1) - toCodePointOrder(c2);
+                }
+                return c1 - c2;
+            }
+        }
+        return value1.length() - value2.length();
+    }
+
+    private static int compareLists(BArray list1, BArray list2, boolean isAscending) {
+        int size1 = list1.size();
+        int size2 = list2.size();
+        int size = Math.min(size1, size2);
+        for (int i = 0; i < size; i++) {
+            int c = compareValues(list1.get(i), list2.get(i), isAscending);
+            if (c != 0) {
+                return c;
+            }
+        }
+        // A list comes before the lists it is a prefix of.
+        int c = Integer.compare(size1, size2);
+        return isAscending ? c : -c;
+    }
+
+    private static boolean isInt(Object value) {
+        // Bytes are stored as Java ints.
+        return value instanceof Long || value instanceof Integer;
+    }
+
+    private static boolean isOrdered(Object value) {
+        return value instanceof Double || value instanceof BArray || isInt(value) || value instanceof BString ||
+                value instanceof BDecimal || value instanceof Boolean;
+    }
+
+    private static int toCodePointOrder(char c) {
+        return c > Character.MAX_SURROGATE ? c - 0x800 : c + 0x2000;
+    }
+}
@@ -19,6 +19,7 @@ package io.ballerina.runtime.observability;
 
 import io.ballerina.runtime.observability.metrics.Tag;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -41,6 +42,17 @@ public class ObserverContext {
      */
     private final Map<String, Tag> tags;
 
+    /**
+     * Unmodifiable {@link Set} of the tags, which is shared until the tags change.
+     */
+    private Set<Tag> tagSet;
+
+    /**
+     * {@link Map} of properties derived from the tags, such as metrics resolved for the tags, which is cleared
+     * whenever the tags change.
+     */
+    private Map<String, Object> tagProperties;
+
     private String serviceName;
 
     private String resourceName;
@@ -72,6 +84,23 @@ public class ObserverContext {
         return properties.get(key);
     }
 
+    /**
+     * Add a property which is derived from the current tags. The property is removed when a tag is added or changed.
+     *
+     * @param key   key of the property
+     * @param value value derived from the tags
+     */
+    public void addTagProperty(String key, Object value) {
+        if (tagProperties == null) {
+            tagProperties = new HashMap<>();
+        }
+        tagProperties.put(key, value);
+    }
+
+    public Object getTagProperty(String key) {
+        return tagProperties != null ? tagProperties.get(key) : null;
+    }
+
     @Deprecated
     public void addMainTag(String key, String value) {
         // TODO: Remove this method once all the usages in the standard libraries had been updated.
@@ -81,7 +110,10 @@ public class ObserverContext {
     public void addTag(String key, String value) {
         String sanitizedValue = value != null ? value : "";
         Tag tag = Tag.of(key, sanitizedValue);
-        tags.put(key, tag);
+        if (!tag.equals(tags.put(key, tag))) {
+            tagSet = null;
+            tagProperties = null;
+        }
     }
 
     public Tag getTag(String key) {
@@ -92,6 +124,19 @@ public class ObserverContext {
         return new HashSet<>(tags.values());
     }
 
+    /**
+     * Get the tags as an unmodifiable {@link Set}. The same instance is returned until a tag is added or changed,
+     * hence it could be used to tell whether the tags changed since it was taken.
+     *
+     * @return the tags of the context
+     */
+    public Set<Tag> getTagSet() {
+        if (tagSet == null) {
+            tagSet = Collections.unmodifiableSet(new HashSet<>(tags.values()));
+        }
+        return tagSet;
+    }
+
     public String getServiceName() {
         return serviceName;
     }
@@ -31,6 +31,10 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private static final String PROPERTY_START_TIME = "_observation_start_time_";
     private static final String PROPERTY_IN_PROGRESS_COUNTER = "_observation_in_progress_counter_";
+    // Metrics resolved for the current tags of the context, so that they are not looked up in the registry again
+    // until the tags change
+    private static final String PROPERTY_IN_PROGRESS_GAUGE = "_observation_in_progress_gauge_";
+    private static final String PROPERTY_RESPONSE_METRICS = "_observation_response_metrics_";
 
     private static final PrintStream consoleError = System.err;
 
@@ -81,10 +85,14 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private void startObservation(ObserverContext observerContext) {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        Set<Tag> tags = observerContext.getAllTags();
+        Set<Tag> tags = observerContext.getTagSet();
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = (Gauge) observerContext.getTagProperty(PROPERTY_IN_PROGRESS_GAUGE);
+            if (inProgressGauge == null) {
+                inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
+                        tags));
+                observerContext.addTagProperty(PROPERTY_IN_PROGRESS_GAUGE, inProgressGauge);
+            }
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -98,17 +106,19 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = observerContext.getAllTags();
+        Set<Tag> tags = observerContext.getTagSet();
         try {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            ResponseMetrics metrics = (ResponseMetrics) observerContext.getTagProperty(PROPERTY_RESPONSE_METRICS);
+            if (metrics == null) {
+                metrics = new ResponseMetrics(tags);
+                observerContext.addTagProperty(PROPERTY_RESPONSE_METRICS, metrics);
+            }
+            metrics.responseTimeGauge.setValue(duration / 1E9);
+            metrics.responseTimeTotalCounter.increment(duration);
+            metrics.requestsTotalCounter.increment();
         } catch (RuntimeException e) {
             handleError("multiple metrics", tags, e);
         }
@@ -119,4 +129,23 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * Metrics updated at the end of an observation, resolved for the tags of its context.
+     */
+    private static class ResponseMetrics {
+
+        private final Gauge responseTimeGauge;
+        private final Counter responseTimeTotalCounter;
+        private final Counter requestsTotalCounter;
+
+        private ResponseMetrics(Set<Tag> tags) {
+            this.responseTimeGauge = metricRegistry.gauge(new MetricId("response_time_seconds",
+                    "Response time", tags), responseTimeStatisticConfigs);
+            this.responseTimeTotalCounter = metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                    "Total response response time for all requests", tags));
+            this.requestsTotalCounter = metricRegistry.counter(new MetricId("requests_total",
+                    "Total number of requests", tags));
+        }
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import io.ballerina.runtime.BLock;
+import io.ballerina.runtime.BLockStore;
+
+/**
+ * Publishes the contention count of each lock statement as a polled gauge.
+ *
+ * @since 2.0.0
+ */
+public class LockMetrics {
+
+    private static final String LOCK_CONTENTIONS_METRIC = "ballerina_lock_contentions_total";
+
+    private LockMetrics() {
+    }
+
+    /**
+     * Register the gauge of a lock. Locks created before metrics are initialized are registered by
+     * {@link #registerAll()}.
+     *
+     * @param lockStore lock store of the module
+     * @param lock      lock of a lock statement
+     */
+    public static void register(BLockStore lockStore, BLock lock) {
+        if (DefaultMetricRegistry.getInstance() == null || DefaultMetricRegistry.isNoOp) {
+            return;
+        }
+        PolledGauge.builder(LOCK_CONTENTIONS_METRIC, lock, BLock::getContentionCount)
+                .description("Number of times a strand waited for the lock of a lock statement")
+                .tag("module", String.valueOf(lockStore.getModuleName()))
+                .tag("lock", lock.getName())
+                .register();
+    }
+
+    static void registerAll() {
+        for (BLockStore lockStore : BLockStore.getLockStores()) {
+            for (BLock lock : lockStore.getLocks()) {
+                register(lockStore, lock);
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
  */
 package io.ballerina.runtime.observability.metrics;
 
+import io.ballerina.runtime.TypeCheckCache;
 import io.ballerina.runtime.launch.LaunchListener;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
@@ -25,11 +26,13 @@ import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
 import io.ballerina.runtime.observability.metrics.spi.MetricReporter;
 import io.ballerina.runtime.observability.tracer.InvalidConfigurationException;
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.logging.BLogManager;
 
 import java.io.PrintStream;
 import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.util.ServiceLoader;
+import java.util.logging.LogManager;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_METRICS_ENABLED;
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_OBSERVABILITY_PROVIDER;
@@ -110,6 +113,14 @@ public class MetricsLaunchListener implements LaunchListener {
     }
 
     private void registerBallerinaMetrics() {
+        PolledGauge.builder("ballerina_type_check_cache_hits_total", TypeCheckCache.class,
+                c -> TypeCheckCache.getHitCount())
+                .description("Number of type checks answered from the type check cache").register();
+        PolledGauge.builder("ballerina_type_check_cache_misses_total", TypeCheckCache.class,
+                c -> TypeCheckCache.getMissCount())
+                .description("Number of type checks not found in the type check cache").register();
+        LockMetrics.registerAll();
+        registerLogMetrics();
 //        final BLangScheduler.SchedulerStats schedulerStats = BLangScheduler.getStats();
 //        final String prefix = "ballerina_scheduler_";
 //        PolledGauge.builder(prefix + "ready_worker_count", schedulerStats,
@@ -126,6 +137,19 @@ public class MetricsLaunchListener implements LaunchListener {
 //                BLangScheduler.SchedulerStats::getWaitingForLockWorkerCount).register();
     }
 
+    private void registerLogMetrics() {
+        LogManager logManager = LogManager.getLogManager();
+        if (!(logManager instanceof BLogManager) || !((BLogManager) logManager).isAsyncLogEnabled()) {
+            return;
+        }
+        BLogManager bLogManager = (BLogManager) logManager;
+        PolledGauge.builder("ballerina_log_queued_records", bLogManager, BLogManager::getQueuedLogRecordCount)
+                .description("Number of log records waiting to be written").register();
+        PolledGauge.builder("ballerina_log_dropped_records_total", bLogManager,
+                            BLogManager::getDroppedLogRecordCount)
+                .description("Number of log records dropped since the log queue was full").register();
+    }
+
     @Override
     public void afterRunProgram(boolean service) {
         if (service) {
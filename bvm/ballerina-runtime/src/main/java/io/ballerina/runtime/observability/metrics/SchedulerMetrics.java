@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import io.ballerina.runtime.scheduling.Scheduler;
+import io.ballerina.runtime.scheduling.SchedulerStats;
+
+/**
+ * Publishes run queue depth, strand states, blocked time and thread utilization of the scheduler.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerMetrics {
+
+    private static final String PREFIX = "ballerina_scheduler_";
+
+    private SchedulerMetrics() {
+    }
+
+    /**
+     * Enable statistics of the scheduler and register its metrics. Since metric names are not tagged by scheduler,
+     * metrics are bound to the first scheduler started, which is the one running the program.
+     *
+     * @param scheduler scheduler being started
+     */
+    public static void register(Scheduler scheduler) {
+        if (DefaultMetricRegistry.getInstance() == null || DefaultMetricRegistry.isNoOp) {
+            return;
+        }
+        Gauge blockedTime = Gauge.builder(PREFIX + "strand_blocked_seconds")
+                .description("Time strands spent blocked until they were unblocked")
+                .summarize(StatisticConfig.DEFAULT).register();
+        Gauge waitTime = Gauge.builder(PREFIX + "strand_wait_seconds")
+                .description("Time strands spent waiting on futures")
+                .summarize(StatisticConfig.DEFAULT).register();
+        SchedulerStats stats = scheduler.enableStats(blockedTime, waitTime);
+
+        PolledGauge.builder(PREFIX + "runnable_queue_depth", stats, SchedulerStats::getRunnableQueueDepth)
+                .description("Number of strand groups waiting for a scheduler thread").register();
+        PolledGauge.builder(PREFIX + "live_strands", stats, SchedulerStats::getLiveStrandCount)
+                .description("Number of strands started but not completed").register();
+        PolledGauge.builder(PREFIX + "running_strands", stats, SchedulerStats::getRunningStrandCount)
+                .description("Number of strands executing on a scheduler thread").register();
+        PolledGauge.builder(PREFIX + "parked_strands", stats, SchedulerStats::getParkedStrandCount)
+                .description("Number of strands blocked until they are unblocked").register();
+        PolledGauge.builder(PREFIX + "waiting_strands", stats, SchedulerStats::getWaitingStrandCount)
+                .description("Number of strands waiting on futures").register();
+        // There are no threads to report on in virtual thread mode, where the thread count is zero.
+        for (int i = 0; i < stats.getThreadCount(); i++) {
+            PolledGauge.builder(PREFIX + "thread_busy_ratio", new ThreadUtilization(stats, i),
+                                ThreadUtilization::getBusyRatio)
+                    .description("Fraction of time a scheduler thread spent executing strands since last polled")
+                    .tag("thread", String.valueOf(i))
+                    .register();
+        }
+    }
+
+    /**
+     * Computes the busy ratio of a scheduler thread between two polls.
+     */
+    private static class ThreadUtilization {
+
+        private final SchedulerStats stats;
+        private final int threadIndex;
+        private long lastBusyNanos;
+        private long lastPollNanos;
+
+        ThreadUtilization(SchedulerStats stats, int threadIndex) {
+            this.stats = stats;
+            this.threadIndex = threadIndex;
+            this.lastBusyNanos = stats.getThreadBusyNanos(threadIndex);
+            this.lastPollNanos = System.nanoTime();
+        }
+
+        synchronized double getBusyRatio() {
+            long busyNanos = stats.getThreadBusyNanos(threadIndex);
+            long now = System.nanoTime();
+            long elapsed = now - lastPollNanos;
+            double ratio = elapsed > 0 ? Math.min(1.0, (double) (busyNanos - lastBusyNanos) / elapsed) : 0;
+            lastBusyNanos = busyNanos;
+            lastPollNanos = now;
+            return ratio;
+        }
+    }
+}
@@ -23,6 +23,8 @@ import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.SchedulerMetrics;
 import io.ballerina.runtime.util.BLangConstants;
 import io.ballerina.runtime.util.RuntimeUtils;
 import io.ballerina.runtime.util.exceptions.BallerinaErrorReasons;
@@ -30,14 +32,20 @@ import io.ballerina.runtime.values.ChannelDetails;
 import io.ballerina.runtime.values.FutureValue;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -60,12 +68,40 @@ public class Scheduler {
      */
     private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
 
+    /**
+     * Per thread run queues used in work stealing mode. Groups scheduled from a strand executor thread are added
+     * to that thread's queue, while groups scheduled from other threads still go through the runnable list.
+     */
+    private List<ConcurrentLinkedDeque<ItemGroup>> localQueues;
+
+    private final ThreadLocal<Deque<ItemGroup>> localQueue = new ThreadLocal<>();
+
+    /**
+     * Idle threads in work stealing mode wait on this condition until a group is added to any of the queues.
+     */
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition workAvailable = idleLock.newCondition();
+    private final AtomicInteger idleThreads = new AtomicInteger();
+
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
     private AtomicInteger totalStrands = new AtomicInteger();
 
     private static String poolSizeConf = System.getenv(BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String schedulerModeConf = System.getenv(BLangConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_MODE system variable.
+     * Default is to use a single runnable list shared by all the threads.
+     */
+    private final SchedulerMode mode;
+
+    /**
+     * Creates the threads groups are executed on, in {@link SchedulerMode#VIRTUAL_THREADS} mode.
+     */
+    private ThreadFactory virtualThreadFactory;
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -76,6 +112,11 @@ public class Scheduler {
 
     private Semaphore mainBlockSem;
 
+    /**
+     * Runtime statistics, null unless metrics are enabled.
+     */
+    private volatile SchedulerStats stats;
+
     public Scheduler(boolean immortal) {
         try {
             if (poolSizeConf != null) {
@@ -88,11 +129,30 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.mode = getConfiguredMode();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.mode = getConfiguredMode();
+    }
+
+    public Scheduler(int numThreads, boolean immortal, SchedulerMode mode) {
+        this.numThreads = numThreads;
+        this.immortal = immortal;
+        this.mode = mode;
+    }
+
+    private SchedulerMode getConfiguredMode() {
+        try {
+            return SchedulerMode.fromName(schedulerModeConf);
+        } catch (Throwable t) {
+            // Log and continue with default
+            err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                                BLangConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", " + t.getMessage());
+            return SchedulerMode.DEFAULT;
+        }
     }
 
     public static Strand getStrand() {
@@ -103,6 +163,20 @@ public class Scheduler {
         return strand;
     }
 
+    /**
+     * Sets the strand of the current thread, for threads outside the scheduler which run Ballerina code on behalf of
+     * a strand, such as the workers of a parallel query.
+     *
+     * @param strand the strand to run on the current thread, or {@code null} to clear it
+     * @return the strand previously set on the current thread
+     */
+    public static Strand setStrand(Strand strand) {
+        StrandHolder holder = strandHolder.get();
+        Strand prev = holder.strand;
+        holder.strand = strand;
+        return prev;
+    }
+
     /**
      * Schedules given function by creating a new strand group.
      *
@@ -143,8 +217,8 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
-        if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+        if (parent.strandGroup.trySchedule()) {
+            enqueue(future.strand.strandGroup);
         }
         return future;
     }
@@ -193,8 +267,7 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
-        group.scheduled.set(true);
-        runnableList.add(group);
+        enqueue(group);
         return future;
     }
 
@@ -219,17 +292,32 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
-        group.scheduled.set(true);
-        runnableList.add(group);
+        enqueue(group);
         return future;
     }
 
     public void start() {
+        if (mode == SchedulerMode.VIRTUAL_THREADS) {
+            this.virtualThreadFactory = createVirtualThreadFactory();
+        }
+        // Registered once the mode is known, since per thread metrics are not available with virtual threads.
+        SchedulerMetrics.register(this);
+        if (this.virtualThreadFactory != null) {
+            this.dispatchSafely();
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
+        if (mode == SchedulerMode.WORK_STEALING) {
+            this.localQueues = new ArrayList<>(numThreads);
+            for (int i = 0; i < numThreads; i++) {
+                this.localQueues.add(new ConcurrentLinkedDeque<>());
+            }
+        }
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            final int index = i;
+            new Thread(() -> this.runSafely(index), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -240,23 +328,27 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int index) {
         try {
-            run();
+            if (mode == SchedulerMode.WORK_STEALING) {
+                localQueue.set(localQueues.get(index));
+            }
+            run(index);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
+        } finally {
+            localQueue.remove();
         }
     }
 
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(int index) {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
-                group = runnableList.take();
+                group = mode == SchedulerMode.WORK_STEALING ? takeOrSteal(index) : runnableList.take();
             } catch (InterruptedException ignored) {
                 continue;
             }
@@ -266,36 +358,197 @@ public class Scheduler {
                 break;
             }
 
-            while (!group.items.empty()) {
-                Object result = null;
-                Throwable panic = null;
+            SchedulerStats stats = this.stats;
+            if (stats == null) {
+                runGroup(group);
+            } else {
+                long startTime = System.nanoTime();
+                runGroup(group);
+                stats.addBusyTime(index, System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    /**
+     * Takes groups from the runnable list and executes each of them on a new virtual thread. A blocking call made
+     * by a strand then only parks its virtual thread, instead of holding one of the limited pool threads.
+     */
+    private void dispatchSafely() {
+        try {
+            while (true) {
+                ItemGroup group;
+                try {
+                    group = runnableList.take();
+                } catch (InterruptedException ignored) {
+                    continue;
+                }
 
-                item = group.get();
+                if (group == POISON_PILL) {
+                    break;
+                }
+                virtualThreadFactory.newThread(() -> runGroupSafely(group)).start();
+            }
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
 
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
+
+    /**
+     * Creates a factory for virtual threads. Virtual threads are only available from Java 21 onwards, hence they
+     * are looked up reflectively and null is returned if the running JVM does not support them.
+     */
+    private ThreadFactory createVirtualThreadFactory() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class)
+                    .invoke(builder, "jbal-strand-exec-v-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            err.println("ballerina: virtual threads are not supported by the current JVM, scheduler mode '" +
+                                mode.getName() + "' is ignored");
+            return null;
+        }
+    }
+
+    /**
+     * Executes the items of the given group one after the other, until the group is empty.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item;
+        while (!group.isEmpty()) {
+            Object result = null;
+            Throwable panic = null;
+
+            item = group.get();
+
+            SchedulerStats stats = this.stats;
+            if (stats != null) {
+                stats.strandStarted();
+            }
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+            } finally {
+                strandHolder.get().strand = null;
+                if (stats != null) {
+                    stats.strandStopped();
+                }
+            }
+            postProcess(item, result, panic);
+            if (group.isEmpty()) {
+                group.clearScheduled();
+            }
+        }
+    }
+
+    /**
+     * Picks the next group for the thread at the given index in work stealing mode. Own queue is drained first, then
+     * the runnable list and finally the queues of the other threads are checked, starting from the neighbour so
+     * that idle threads do not all pick the same victim. If there is no group in any of them, the thread waits until
+     * {@link #signalWork(boolean)} is called.
+     */
+    private ItemGroup takeOrSteal(int index) throws InterruptedException {
+        while (true) {
+            ItemGroup group = pollOrSteal(index);
+            if (group != null) {
+                return group;
+            }
+            idleLock.lock();
+            try {
+                // The thread is counted as idle before checking the queues again, so that a group added after the
+                // check is signalled, while a group added before it is found by the check.
+                idleThreads.incrementAndGet();
                 try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
-
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
+                    group = pollOrSteal(index);
+                    if (group != null) {
+                        return group;
                     }
+                    workAvailable.await();
                 } finally {
-                    strandHolder.get().strand = null;
-                }
-                postProcess(item, result, panic);
-                if (group.items.empty()) {
-                    group.scheduled.set(false);
+                    idleThreads.decrementAndGet();
                 }
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    private ItemGroup pollOrSteal(int index) {
+        ItemGroup group = localQueues.get(index).pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = runnableList.poll();
+        if (group != null) {
+            return group;
+        }
+        for (int i = 1; i < numThreads; i++) {
+            group = localQueues.get((index + i) % numThreads).pollLast();
+            if (group != null) {
+                return group;
             }
         }
+        return null;
+    }
+
+    /**
+     * Wakes up idle threads in work stealing mode, after a group is added to one of the queues.
+     *
+     * @param all whether to wake up all the idle threads, instead of one of them
+     */
+    private void signalWork(boolean all) {
+        if (mode != SchedulerMode.WORK_STEALING || idleThreads.get() == 0) {
+            return;
+        }
+        idleLock.lock();
+        try {
+            if (all) {
+                workAvailable.signalAll();
+            } else {
+                workAvailable.signal();
+            }
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    /**
+     * Adds a group which is already marked as scheduled to a run queue. In work stealing mode, a group scheduled by
+     * a strand executor thread is kept in that thread's queue so that it gets executed there unless it is stolen by
+     * an idle thread. Since a group is only ever in one queue at a time, items of a group still run on one thread.
+     */
+    private void enqueue(ItemGroup group) {
+        if (mode == SchedulerMode.WORK_STEALING) {
+            Deque<ItemGroup> ownQueue = localQueue.get();
+            if (ownQueue != null) {
+                ownQueue.addLast(group);
+                signalWork(false);
+                return;
+            }
+        }
+        runnableList.add(group);
+        signalWork(false);
     }
 
     /**
@@ -312,6 +565,7 @@ public class Scheduler {
                     break;
                 }
                 item.parked = true;
+                recordBlocked(item, false);
                 item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
@@ -321,6 +575,8 @@ public class Scheduler {
                 if (waitContext.runnable) {
                     waitContext.completed = true;
                     reschedule(item);
+                } else {
+                    recordBlocked(item, true);
                 }
                 waitContext.unLock();
                 break;
@@ -349,7 +605,9 @@ public class Scheduler {
                 justCompleted.setState(State.DONE);
 
 
-                for (WaitContext ctx : justCompleted.waitingContexts) {
+                List<WaitContext> waitingContexts = justCompleted.waitingContexts;
+                for (int i = 0; waitingContexts != null && i < waitingContexts.size(); i++) {
+                    WaitContext ctx = waitingContexts.get(i);
                     ctx.lock();
                     if (!ctx.completed) {
                         if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
@@ -375,6 +633,7 @@ public class Scheduler {
                         for (int i = 0; i < numThreads; i++) {
                             runnableList.add(POISON_PILL);
                         }
+                        signalWork(true);
                     }
                 }
                 break;
@@ -414,6 +673,9 @@ public class Scheduler {
 
     private void notifyChannels(SchedulerItem item, Throwable panic) {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
+        if (channels == null) {
+            return;
+        }
 
         for (ChannelDetails details: channels) {
             WorkerDataChannel wdChannel;
@@ -432,8 +694,19 @@ public class Scheduler {
         }
     }
 
+    private void recordBlocked(SchedulerItem item, boolean onWait) {
+        SchedulerStats stats = this.stats;
+        if (stats != null) {
+            stats.strandBlocked(item, onWait);
+        }
+    }
+
     private void reschedule(SchedulerItem item) {
         if (!item.getState().equals(State.RUNNABLE)) {
+            SchedulerStats stats = this.stats;
+            if (stats != null && item.blockedSince != 0) {
+                stats.strandResumed(item);
+            }
             ItemGroup group = item.future.strand.strandGroup;
             item.setState(State.RUNNABLE);
             group.add(item);
@@ -442,8 +715,8 @@ public class Scheduler {
             //  1) All items are blocked.
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
-            if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+            if (group.trySchedule()) {
+                enqueue(group);
             }
         }
     }
@@ -463,59 +736,44 @@ public class Scheduler {
         return future;
     }
 
-    public void poison() {
-        for (int i = 0; i < numThreads; i++) {
-            runnableList.add(POISON_PILL);
+    /**
+     * Enables collecting runtime statistics of this scheduler.
+     *
+     * @param blockedTime gauge to record the time strands spend parked in {@link State#BLOCK_AND_YIELD}
+     * @param waitTime    gauge to record the time strands spend waiting on futures
+     * @return statistics of this scheduler
+     */
+    public synchronized SchedulerStats enableStats(Gauge blockedTime, Gauge waitTime) {
+        if (this.stats == null) {
+            this.stats = new SchedulerStats(this, numThreads, blockedTime, waitTime);
         }
-    }
-}
-
-/**
- * Represent an executable item in Scheduler.
- *
- * @since 0.995.0
- */
-class SchedulerItem {
-    private Function function;
-    private Object[] params;
-    final FutureValue future;
-    boolean parked;
-
-    public SchedulerItem(Function function, Object[] params, FutureValue future) {
-        this.future = future;
-        this.function = function;
-        this.params = params;
-    }
-
-    @Deprecated
-    public SchedulerItem(Consumer consumer, Object[] params, FutureValue future) {
-        this.future = future;
-        this.function = val -> {
-            consumer.accept(val);
-            return null;
-        };
-        this.params = params;
-    }
-
-    public Object execute() {
-        return this.function.apply(this.params);
+        return this.stats;
     }
 
-    public boolean isYielded() {
-        return this.future.strand.isYielded();
+    int getRunnableQueueDepth() {
+        int depth = runnableList.size();
+        List<ConcurrentLinkedDeque<ItemGroup>> queues = this.localQueues;
+        if (queues != null) {
+            for (ConcurrentLinkedDeque<ItemGroup> queue : queues) {
+                depth += queue.size();
+            }
+        }
+        return depth;
     }
 
-    public State getState() {
-        return this.future.strand.getState();
+    int getLiveStrandCount() {
+        return totalStrands.get();
     }
 
-    public void setState(State state) {
-        this.future.strand.setState(state);
+    boolean isVirtualThreadMode() {
+        return virtualThreadFactory != null;
     }
 
-    @Override
-    public String toString() {
-        return future == null ? "POISON_PILL" : String.valueOf(future.strand.hashCode());
+    public void poison() {
+        for (int i = 0; i < numThreads; i++) {
+            runnableList.add(POISON_PILL);
+        }
+        signalWork(true);
     }
 }
 
@@ -524,32 +782,57 @@ class SchedulerItem {
  */
 class ItemGroup {
 
+    private static final AtomicIntegerFieldUpdater<ItemGroup> SCHEDULED_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(ItemGroup.class, "scheduled");
+
     /**
-     * Keep the list of items that should run on same thread.
-     * Using a stack to get advantage of the locality.
+     * Top of the stack of items that should run on same thread. Items are linked through
+     * {@link SchedulerItem#nextInGroup}, so pushing an item does not allocate. Using a stack to get advantage of the
+     * locality.
      */
-    Stack<SchedulerItem> items = new Stack();
+    private SchedulerItem top;
 
     /**
      * Indicates this item is already in runnable list/executing or not.
      */
-    AtomicBoolean scheduled = new AtomicBoolean(false);
+    private volatile int scheduled;
 
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
-        items.push(item);
+        this.top = item;
+        this.scheduled = 1;
     }
 
     private ItemGroup() {
-        items = null;
     }
 
-    public void add(SchedulerItem item) {
-        items.push(item);
+    public synchronized void add(SchedulerItem item) {
+        item.nextInGroup = top;
+        top = item;
+    }
+
+    public synchronized SchedulerItem get() {
+        SchedulerItem item = top;
+        top = item.nextInGroup;
+        item.nextInGroup = null;
+        return item;
+    }
+
+    public synchronized boolean isEmpty() {
+        return top == null;
+    }
+
+    /**
+     * Marks the group as scheduled.
+     *
+     * @return true if the group was not scheduled before, in which case the caller should enqueue it
+     */
+    boolean trySchedule() {
+        return SCHEDULED_UPDATER.compareAndSet(this, 0, 1);
     }
 
-    public SchedulerItem get() {
-        return items.pop();
+    void clearScheduled() {
+        this.scheduled = 0;
     }
 }
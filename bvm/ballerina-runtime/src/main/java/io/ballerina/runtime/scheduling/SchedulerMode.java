@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.scheduling;
+
+/**
+ * Execution modes supported by the {@link Scheduler}. Can be selected at launch by setting the
+ * BALLERINA_SCHEDULER_MODE system variable to the name of the mode.
+ *
+ * @since 2.0.0
+ */
+public enum SchedulerMode {
+
+    /**
+     * All the threads share a single runnable list.
+     */
+    DEFAULT("default"),
+
+    /**
+     * Each thread has its own run queue and idle threads steal from the others.
+     */
+    WORK_STEALING("work-stealing"),
+
+    /**
+     * Each strand group is executed on its own virtual thread, so blocking calls do not hold a pool thread.
+     */
+    VIRTUAL_THREADS("virtual-threads");
+
+    private final String name;
+
+    SchedulerMode(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static SchedulerMode fromName(String name) {
+        if (name == null) {
+            return DEFAULT;
+        }
+        for (SchedulerMode mode : values()) {
+            if (mode.name.equalsIgnoreCase(name.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("unknown scheduler mode '" + name + "'");
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.scheduling;
+
+import io.ballerina.runtime.observability.metrics.Gauge;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime statistics of a {@link Scheduler}. Statistics are only collected once metrics are enabled, see
+ * {@link Scheduler#enableStats(Gauge, Gauge)}.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerStats {
+
+    private static final double NANOS_PER_SECOND = 1E9;
+
+    private final Scheduler scheduler;
+    private final LongAdder runningStrands = new LongAdder();
+    private final LongAdder parkedStrands = new LongAdder();
+    private final LongAdder waitingStrands = new LongAdder();
+    private final AtomicLongArray threadBusyNanos;
+    private final Gauge blockedTime;
+    private final Gauge waitTime;
+
+    SchedulerStats(Scheduler scheduler, int numThreads, Gauge blockedTime, Gauge waitTime) {
+        this.scheduler = scheduler;
+        this.threadBusyNanos = new AtomicLongArray(numThreads);
+        this.blockedTime = blockedTime;
+        this.waitTime = waitTime;
+    }
+
+    void strandStarted() {
+        runningStrands.increment();
+    }
+
+    void strandStopped() {
+        runningStrands.decrement();
+    }
+
+    /**
+     * Records that the strand of the item is blocked until it is rescheduled.
+     *
+     * @param item   blocked item
+     * @param onWait true if the strand waits on futures, false if it is parked in {@link State#BLOCK_AND_YIELD}
+     */
+    void strandBlocked(SchedulerItem item, boolean onWait) {
+        item.blockedOnWait = onWait;
+        item.blockedSince = System.nanoTime();
+        if (onWait) {
+            waitingStrands.increment();
+        } else {
+            parkedStrands.increment();
+        }
+    }
+
+    void strandResumed(SchedulerItem item) {
+        double blockedSeconds = (System.nanoTime() - item.blockedSince) / NANOS_PER_SECOND;
+        item.blockedSince = 0;
+        if (item.blockedOnWait) {
+            waitingStrands.decrement();
+            waitTime.setValue(blockedSeconds);
+        } else {
+            parkedStrands.decrement();
+            blockedTime.setValue(blockedSeconds);
+        }
+    }
+
+    void addBusyTime(int threadIndex, long nanos) {
+        threadBusyNanos.addAndGet(threadIndex, nanos);
+    }
+
+    /**
+     * Gets the number of strand groups waiting in the run queues for a thread.
+     *
+     * @return run queue depth
+     */
+    public int getRunnableQueueDepth() {
+        return scheduler.getRunnableQueueDepth();
+    }
+
+    /**
+     * Gets the number of strands that are started but not completed yet.
+     *
+     * @return number of live strands
+     */
+    public int getLiveStrandCount() {
+        return scheduler.getLiveStrandCount();
+    }
+
+    public long getRunningStrandCount() {
+        return runningStrands.sum();
+    }
+
+    public long getParkedStrandCount() {
+        return parkedStrands.sum();
+    }
+
+    public long getWaitingStrandCount() {
+        return waitingStrands.sum();
+    }
+
+    /**
+     * Gets the number of threads busy time is tracked for. Busy time is not tracked in
+     * {@link SchedulerMode#VIRTUAL_THREADS} mode, since strand groups do not run on a fixed set of threads.
+     *
+     * @return number of scheduler threads
+     */
+    public int getThreadCount() {
+        return scheduler.isVirtualThreadMode() ? 0 : threadBusyNanos.length();
+    }
+
+    /**
+     * Gets the total time the thread at the given index spent executing strands.
+     *
+     * @param threadIndex index of the scheduler thread
+     * @return busy time in nanoseconds
+     */
+    public long getThreadBusyNanos(int threadIndex) {
+        return threadBusyNanos.get(threadIndex);
+    }
+}
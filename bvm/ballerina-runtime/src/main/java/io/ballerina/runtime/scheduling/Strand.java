@@ -38,6 +38,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Stack;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -54,7 +55,18 @@ import static io.ballerina.runtime.scheduling.State.YIELD;
 
 public class Strand {
 
-    private static AtomicInteger nextStrandId = new AtomicInteger(0);
+    private static final int STRAND_ID_BLOCK_SIZE = 1024;
+
+    private static final AtomicInteger nextStrandIdBlock = new AtomicInteger(0);
+
+    /**
+     * Range of strand ids reserved by the current thread, as {last issued id, last id of the block}. Ids are taken
+     * from the global counter in blocks, so creating a strand does not contend on a shared atomic.
+     */
+    private static final ThreadLocal<int[]> strandIdRange = ThreadLocal.withInitial(() -> new int[2]);
+
+    private static final AtomicReferenceFieldUpdater<Strand, ReentrantLock> STRAND_LOCK_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(Strand.class, ReentrantLock.class, "strandLock");
 
     private int id;
     private String name;
@@ -83,24 +95,31 @@ public class Strand {
     public TransactionLocalContext currentTrxContext;
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
-    private final ReentrantLock strandLock;
+
+    // Created on first use, since most strands complete without another strand locking them.
+    private volatile ReentrantLock strandLock;
 
     public Strand(String name, StrandMetadata metadata, Scheduler scheduler, Strand parent,
                   Map<String, Object> properties) {
-        this.id = nextStrandId.incrementAndGet();
+        this.id = nextStrandId();
         this.scheduler = scheduler;
         this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
-        this.globalProps = new HashMap<>();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
-        this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
         this.name = name;
         this.metadata = metadata;
-        this.trxContexts = new Stack<>();
         this.parent = parent;
-        this.globalProps = properties != null ? properties : new HashMap<>();
+        // channel details, properties, transaction contexts and waiting contexts are created on first use
+        this.globalProps = properties;
+    }
+
+    private static int nextStrandId() {
+        int[] range = strandIdRange.get();
+        if (range[0] == range[1]) {
+            int blockStart = nextStrandIdBlock.getAndAdd(STRAND_ID_BLOCK_SIZE);
+            range[0] = blockStart;
+            range[1] = blockStart + STRAND_ID_BLOCK_SIZE;
+        }
+        return ++range[0];
     }
 
     public void handleChannelError(ChannelDetails[] channels, ErrorValue error) {
@@ -117,10 +136,16 @@ public class Strand {
     }
 
     public Object getProperty(String key) {
+        if (this.globalProps == null) {
+            return null;
+        }
         return this.globalProps.get(key);
     }
 
     public void setProperty(String key, Object value) {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        }
         this.globalProps.put(key, value);
     }
 
@@ -134,7 +159,7 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
             return;
         }
@@ -143,6 +168,9 @@ public class Strand {
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
+            if (this.trxContexts == null) {
+                this.trxContexts = new Stack<>();
+            }
             this.trxContexts.push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
@@ -218,7 +246,7 @@ public class Strand {
                 target.put(StringUtils.fromString(entry.getKey()), future.result);
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -258,7 +286,7 @@ public class Strand {
                     waitResult = new WaitResult(true, future.result);
                     break;
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -280,7 +308,23 @@ public class Strand {
         return waitResult;
     }
 
+    /**
+     * Registers a wait context to be notified when this strand completes. Should be called while holding the lock
+     * of this strand.
+     *
+     * @param ctx wait context of the waiting strand
+     */
+    void addWaitingContext(WaitContext ctx) {
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>(1);
+        }
+        this.waitingContexts.add(ctx);
+    }
+
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == null) {
+            this.channelDetails = new HashSet<>();
+        }
         for (ChannelDetails channel: channels) {
             this.channelDetails.add(channel);
         }
@@ -323,11 +367,22 @@ public class Strand {
     }
 
     public void lock() {
-        this.strandLock.lock();
+        getStrandLock().lock();
     }
 
     public void unlock() {
-        this.strandLock.unlock();
+        getStrandLock().unlock();
+    }
+
+    private ReentrantLock getStrandLock() {
+        ReentrantLock lock = this.strandLock;
+        if (lock == null) {
+            lock = new ReentrantLock();
+            if (!STRAND_LOCK_UPDATER.compareAndSet(this, null, lock)) {
+                lock = this.strandLock;
+            }
+        }
+        return lock;
     }
 
     public int getId() {
@@ -19,46 +19,51 @@ package io.ballerina.runtime.scheduling;
 
 import io.ballerina.runtime.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.runtime.scheduling.State.BLOCK_AND_YIELD;
+import static io.ballerina.runtime.scheduling.State.RUNNABLE;
 
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * A channel has a single sending worker and a single receiving worker. Async sends and receives of async sent
+ * values do not take the channel lock, they go through a single producer single consumer queue. The lock is only
+ * used for sync sends, flushes, errors and panics. A receiver parks itself before checking the queue for the last
+ * time and a sender checks for a parked receiver after adding to the queue, so one of them always sees the other.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
-    private WaitingSender waitingSender;
-    private WaitingSender flushSender;
+    // Represents the nil value in the queue, which does not accept null.
+    private static final Object NIL = new Object();
+
+    private final AtomicReference<Strand> receiver = new AtomicReference<>();
+    private volatile WaitingSender waitingSender;
+    private volatile WaitingSender flushSender;
     private ErrorValue error;
     private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    private final AtomicInteger senderCounter = new AtomicInteger();
+    private final AtomicInteger receiverCounter = new AtomicInteger();
     private boolean reschedule;
+    private boolean syncDataPending;
 
     private Lock channelLock;
 
     public String chnlName;
 
-    @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final WorkerDataQueue channel = new WorkerDataQueue();
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
-        this.receiverCounter = 0;
     }
     public WorkerDataChannel(String channelName) {
         this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
-        this.receiverCounter = 0;
         this.chnlName = channelName;
     }
 
@@ -70,18 +75,16 @@ public class WorkerDataChannel {
         this.channelLock.unlock();
     }
 
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
+        this.senderCounter.incrementAndGet();
+        this.channel.offer(data == null ? NIL : data);
+        unblockReceiver();
+    }
+
+    private void unblockReceiver() {
+        Strand parked = this.receiver.getAndSet(null);
+        if (parked != null) {
+            parked.scheduler.unblockStrand(parked);
         }
     }
 
@@ -97,14 +100,15 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
+                this.senderCounter.incrementAndGet();
                 this.waitingSender = new WaitingSender(strand, -1);
+                this.syncDataPending = true;
+                this.channel.offer(new WorkerResult(data, true));
 
-                if (this.receiver != null) {
+                Strand parked = this.receiver.getAndSet(null);
+                if (parked != null) {
                     // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
+                    parked.scheduler.unblockStrand(parked);
                 } else if (this.panic != null) {
                     Throwable panic = this.panic;
                     this.panic = null;
@@ -120,10 +124,10 @@ public class WorkerDataChannel {
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
+            if (this.panic != null && this.syncDataPending) {
                 Throwable e = this.panic;
                 throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
+            } else if (this.error != null && this.syncDataPending) {
                 ErrorValue ret = this.error;
                 return ret;
             }
@@ -135,50 +139,78 @@ public class WorkerDataChannel {
         }
     }
 
-    @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
+        Object data = this.channel.peek();
+        if (data != null && !(data instanceof WorkerResult)) {
+            // async sent value, only a pending flush needs the lock
+            this.channel.poll();
+            int received = this.receiverCounter.incrementAndGet();
+            if (this.flushSender != null) {
+                try {
+                    acquireChannelLock();
+                    notifyFlushSender(received);
+                } finally {
+                    releaseChannelLock();
+                }
+            }
+            return data == NIL ? null : data;
+        }
+
         try {
             acquireChannelLock();
-            WorkerResult result = this.channel.peek();
-            if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
-                    // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
+            while (true) {
+                data = this.channel.poll();
+                if (data != null) {
+                    int received = this.receiverCounter.incrementAndGet();
+                    if (data instanceof WorkerResult) {
+                        // sync sender will pick the this.error as result, which is null
+                        this.syncDataPending = false;
+                        Strand waiting = this.waitingSender.waitingStrand;
+                        waiting.scheduler.unblockStrand(waiting);
+                        this.waitingSender = null;
+                        return ((WorkerResult) data).value;
                     }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
+                    notifyFlushSender(received);
+                    return data == NIL ? null : data;
+                } else if (this.panic != null && this.senderCounter.get() == this.receiverCounter.get() + 1) {
+                    this.receiverCounter.incrementAndGet();
+                    throw this.panic;
+                } else if (this.error != null && this.senderCounter.get() == this.receiverCounter.get() + 1) {
+                    this.receiverCounter.incrementAndGet();
+                    return error;
                 }
-                return result.value;
-            } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
-                throw this.panic;
-            } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
-                return error;
-            } else {
-                this.receiver = strand;
+
                 strand.setState(BLOCK_AND_YIELD);
-                return null;
+                this.receiver.set(strand);
+                // an async send may have added data before the receiver was visible to the sender
+                if (this.channel.isEmpty() || !this.receiver.compareAndSet(strand, null)) {
+                    return null;
+                }
+                strand.setState(RUNNABLE);
             }
         } finally {
             releaseChannelLock();
         }
     }
 
+    private void notifyFlushSender(int received) {
+        WaitingSender flushSender = this.flushSender;
+        if (flushSender == null || flushSender.flushCount != received) {
+            return;
+        }
+        flushSender.waitingStrand.flushDetail.flushLock.lock();
+        flushSender.waitingStrand.flushDetail.flushedCount++;
+        if (flushSender.waitingStrand.flushDetail.flushedCount
+                == flushSender.waitingStrand.flushDetail.flushChannels.length &&
+                flushSender.waitingStrand.isBlocked()) {
+                //will continue if this is a sync wait, will try to flush again if blocked on flush
+                flushSender.waitingStrand.scheduler.unblockStrand(flushSender.waitingStrand);
+
+        }
+        flushSender.waitingStrand.flushDetail.flushLock.unlock();
+        this.flushSender = null;
+    }
+
     /**
      * Set the state as error if the receiving worker is in error state.
      * @param error the BError of the receiving worker
@@ -186,11 +218,8 @@ public class WorkerDataChannel {
     public void setSendError(ErrorValue error) {
         acquireChannelLock();
         this.error = error;
-        this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
+        this.senderCounter.incrementAndGet();
+        unblockReceiver();
         releaseChannelLock();
     }
 
@@ -202,7 +231,7 @@ public class WorkerDataChannel {
     public void setReceiveError(ErrorValue error) {
         acquireChannelLock();
         this.error = error;
-        this.receiverCounter++;
+        this.receiverCounter.incrementAndGet();
         if (this.flushSender != null) {
             this.flushSender.waitingStrand.flushDetail.flushLock.lock();
             Strand flushStrand = this.flushSender.waitingStrand;
@@ -234,13 +263,19 @@ public class WorkerDataChannel {
                 throw this.panic;
             } else if (this.error != null) {
                 return this.error;
-            } else if (this.receiverCounter == this.senderCounter) {
-                strand.flushDetail.flushLock.lock();
-                strand.flushDetail.flushedCount++;
-                strand.flushDetail.flushLock.unlock();
-                return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
+            int sent = this.senderCounter.get();
+            if (this.receiverCounter.get() != sent) {
+                this.flushSender = new WaitingSender(strand, sent);
+                // the receiver may have taken the last value before the flush sender was visible to it
+                if (this.receiverCounter.get() != sent) {
+                    return null;
+                }
+                this.flushSender = null;
+            }
+            strand.flushDetail.flushLock.lock();
+            strand.flushDetail.flushedCount++;
+            strand.flushDetail.flushLock.unlock();
             return null;
         } finally {
             releaseChannelLock();
@@ -262,11 +297,8 @@ public class WorkerDataChannel {
         try {
             acquireChannelLock();
             this.panic  = panic;
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
+            this.senderCounter.incrementAndGet();
+            unblockReceiver();
         } finally {
             releaseChannelLock();
         }
@@ -280,7 +312,7 @@ public class WorkerDataChannel {
     public void setReceiverPanic(Throwable panic) {
         acquireChannelLock();
         this.panic  = panic;
-        this.receiverCounter++;
+        this.receiverCounter.incrementAndGet();
         if (this.flushSender != null) {
             this.flushSender.waitingStrand.flushDetail.flushLock.lock();
             Strand flushStrand = this.flushSender.waitingStrand;
@@ -0,0 +1,117 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package io.ballerina.runtime.scheduling;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Single producer, single consumer queue used by {@link WorkerDataChannel}. Values are kept in a fixed size ring
+ * whose slots are reused as the consumer catches up with the producer. If the producer fills the ring, a new ring
+ * is linked after it, so an async send never blocks.
+ * <p>
+ * A slot is free when it holds null. The producer always leaves the slot after the last written one free, so that
+ * it can write a {@link #JUMP} marker there when it has to move to a new ring.
+ *
+ * @since 2.0.0
+ */
+class WorkerDataQueue {
+
+    private static final int RING_SIZE = 64;
+    private static final int MASK = RING_SIZE - 1;
+    private static final Object JUMP = new Object();
+
+    // Only accessed by the producer.
+    private Ring producerRing;
+    private int producerIndex;
+
+    // Only accessed by the consumer.
+    private Ring consumerRing;
+    private int consumerIndex;
+
+    WorkerDataQueue() {
+        Ring ring = new Ring();
+        this.producerRing = ring;
+        this.consumerRing = ring;
+    }
+
+    /**
+     * Add a value to the queue. Must only be called by the producer.
+     *
+     * @param value non null value
+     */
+    void offer(Object value) {
+        int offset = producerIndex & MASK;
+        if (producerRing.slots.get((offset + 1) & MASK) == null) {
+            producerRing.slots.set(offset, value);
+            producerIndex++;
+            return;
+        }
+
+        // The ring is full, continue in a new one.
+        Ring next = new Ring();
+        next.slots.set(0, value);
+        producerRing.next = next;
+        producerRing.slots.set(offset, JUMP);
+        producerRing = next;
+        producerIndex = 1;
+    }
+
+    /**
+     * Get the value at the head of the queue without removing it. Must only be called by the consumer.
+     *
+     * @return value at the head or null if the queue is empty
+     */
+    Object peek() {
+        Object value = consumerRing.slots.get(consumerIndex & MASK);
+        if (value == JUMP) {
+            nextRing();
+            value = consumerRing.slots.get(0);
+        }
+        return value;
+    }
+
+    /**
+     * Remove the value at the head of the queue. Must only be called by the consumer.
+     *
+     * @return removed value or null if the queue is empty
+     */
+    Object poll() {
+        Object value = peek();
+        if (value != null) {
+            consumerRing.slots.lazySet(consumerIndex & MASK, null);
+            consumerIndex++;
+        }
+        return value;
+    }
+
+    boolean isEmpty() {
+        return peek() == null;
+    }
+
+    private void nextRing() {
+        // The producer links the next ring before writing the marker, so it is visible here.
+        consumerRing = consumerRing.next;
+        consumerIndex = 0;
+    }
+
+    private static class Ring {
+
+        private final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(RING_SIZE);
+        private volatile Ring next;
+    }
+}
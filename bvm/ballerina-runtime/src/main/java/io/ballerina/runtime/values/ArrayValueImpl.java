@@ -840,6 +840,39 @@ public class ArrayValueImpl extends AbstractArrayValue {
         return Arrays.copyOf(intValues, size);
     }
 
+    /**
+     * Get the int array the members are stored in, for them to be reordered in place. Only the first {@link #size()}
+     * entries are members of the array.
+     *
+     * @return int array
+     */
+    public long[] getIntValuesForUpdate() {
+        handleImmutableArrayValue();
+        return intValues;
+    }
+
+    /**
+     * Get the float array the members are stored in, for them to be reordered in place. Only the first
+     * {@link #size()} entries are members of the array.
+     *
+     * @return float array
+     */
+    public double[] getFloatValuesForUpdate() {
+        handleImmutableArrayValue();
+        return floatValues;
+    }
+
+    /**
+     * Get the string array the members are stored in, for them to be reordered in place. Only the first
+     * {@link #size()} entries are members of the array.
+     *
+     * @return string array
+     */
+    public BString[] getBStringValuesForUpdate() {
+        handleImmutableArrayValue();
+        return bStringValues;
+    }
+
     @Override
     public void serialize(OutputStream outputStream) {
         if (this.elementType.getTag() == TypeTags.BYTE_TAG) {
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.values;
+
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent the result of concatenating two ballerina strings, without copying their characters. The characters are
+ * copied into a flat string only once, on first access to the content of the string, so a chain of concatenations
+ * costs time linear to the length of the result.
+ *
+ * @since 2.0.0
+ */
+public class ConcatStringValue implements StringValue {
+
+    /**
+     * Results shorter than this, in chars, are copied right away, as a node would cost more than the copy.
+     */
+    static final int MIN_CONCAT_LENGTH = 256;
+
+    private final int length;
+    private final int charLength;
+    private final boolean bmp;
+
+    // Children are cleared once the string is flattened. They are volatile so that a reader who sees a cleared
+    // child also sees the flattened string.
+    private volatile BString left;
+    private volatile BString right;
+    private volatile StringValue flat;
+
+    private ConcatStringValue(BString left, BString right) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = charLength(left) + charLength(right);
+        this.bmp = isBmp(left) && isBmp(right);
+    }
+
+    /**
+     * Concatenates two strings. Short results are copied right away, longer results are kept as a
+     * {@link ConcatStringValue} until their content is accessed.
+     *
+     * @param left  left operand
+     * @param right right operand
+     * @return concatenated string
+     */
+    static BString concat(BString left, BString right) {
+        if (charLength(left) + charLength(right) < MIN_CONCAT_LENGTH) {
+            left = flatten(left);
+            right = flatten(right);
+            if (left instanceof BmpStringValue && right instanceof BmpStringValue) {
+                return new BmpStringValue(left.getValue() + right.getValue());
+            }
+            return StringUtils.fromString(left.getValue() + right.getValue());
+        }
+        return new ConcatStringValue(left, right);
+    }
+
+    private static BString flatten(BString str) {
+        return str instanceof ConcatStringValue ? ((ConcatStringValue) str).flatten() : str;
+    }
+
+    private static int charLength(BString str) {
+        if (str instanceof ConcatStringValue) {
+            return ((ConcatStringValue) str).charLength;
+        }
+        if (str instanceof BmpStringValue) {
+            return str.length();
+        }
+        return str.getValue().length();
+    }
+
+    private static boolean isBmp(BString str) {
+        if (str instanceof ConcatStringValue) {
+            return ((ConcatStringValue) str).bmp;
+        }
+        return str instanceof BmpStringValue;
+    }
+
+    private StringValue flatten() {
+        StringValue result = this.flat;
+        if (result != null) {
+            return result;
+        }
+        StringBuilder builder = new StringBuilder(charLength);
+        Deque<BString> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            BString str = pending.pop();
+            if (!(str instanceof ConcatStringValue)) {
+                builder.append(str.getValue());
+                continue;
+            }
+            ConcatStringValue node = (ConcatStringValue) str;
+            StringValue nodeFlat = node.flat;
+            BString nodeLeft = node.left;
+            BString nodeRight = node.right;
+            if (nodeFlat == null && nodeLeft != null && nodeRight != null) {
+                pending.push(nodeRight);
+                pending.push(nodeLeft);
+            } else {
+                builder.append((nodeFlat != null ? nodeFlat : node.flat).getValue());
+            }
+        }
+        String value = builder.toString();
+        result = bmp ? new BmpStringValue(value) : (StringValue) StringUtils.fromString(value);
+        this.flat = result;
+        this.left = null;
+        this.right = null;
+        return result;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return concat(this, str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + toString() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
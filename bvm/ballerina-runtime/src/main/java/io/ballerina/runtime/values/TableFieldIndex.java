@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary index on a field of the rows of a {@link TableValueImpl}, which maps each value of the field to the
+ * positions of the rows having that value.
+ * <p>
+ * Int, float and decimal values are kept in a sorted index, so that both equality and range lookups are supported.
+ * String and boolean values are kept in a hash index, which only supports equality lookups. If the field has a value
+ * that can not be indexed, the index becomes invalid and the table falls back to scanning the rows.
+ * <p>
+ * An index on a field which can be updated in place only indexes the rows which are immutable values. The positions of
+ * the other rows are kept aside and their fields are checked on each lookup, since the index would not notice an
+ * update of their fields.
+ *
+ * @since 2.0.0
+ */
+class TableFieldIndex {
+
+    private static final Comparator<Object> NUMERIC_COMPARATOR = (lhs, rhs) -> {
+        if (lhs instanceof Long) {
+            return Long.compare((Long) lhs, (Long) rhs);
+        } else if (lhs instanceof Double) {
+            return Double.compare((Double) lhs, (Double) rhs);
+        }
+        return ((DecimalValue) lhs).value().compareTo(((DecimalValue) rhs).value());
+    };
+
+    private final BString fieldName;
+    private final boolean mutableField;
+    private final RowPositions mutableRows = new RowPositions();
+    private final Map<Object, RowPositions> hashIndex = new HashMap<>();
+    private final NavigableMap<Object, RowPositions> sortedIndex = new TreeMap<>(NUMERIC_COMPARATOR);
+    private Class<?> valueClass;
+    private boolean valid = true;
+
+    TableFieldIndex(BString fieldName, boolean mutableField) {
+        this.fieldName = fieldName;
+        this.mutableField = mutableField;
+    }
+
+    boolean isValid() {
+        return valid;
+    }
+
+    void add(Object row, int position) {
+        if (mutableField && !((MapValue) row).isFrozen()) {
+            mutableRows.add(position);
+            return;
+        }
+        Object key = getIndexKey(row);
+        if (!valid) {
+            return;
+        }
+        getIndex().computeIfAbsent(key, k -> new RowPositions()).add(position);
+    }
+
+    void remove(Object row, int position) {
+        if (mutableField && mutableRows.remove(position)) {
+            return;
+        }
+        Object key = getIndexKey(row);
+        if (!valid) {
+            return;
+        }
+        Map<Object, RowPositions> index = getIndex();
+        RowPositions positions = index.get(key);
+        if (positions != null && positions.remove(position) && positions.size == 0) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Get the positions of the rows whose field is equal to the given value.
+     *
+     * @param value value to look up
+     * @param rows  rows of the table
+     * @return positions in ascending order, or null if the index can not be used for the given value
+     */
+    int[] lookup(Object value, Object[] rows) {
+        Object key = toIndexKey(value);
+        if (key == null) {
+            return null;
+        }
+        RowPositions positions = null;
+        // A value of another type can not be equal to any of the indexed values.
+        if (valueClass != null && valueClass == kindOf(key)) {
+            positions = getIndex().get(key);
+        }
+        if (mutableRows.size == 0) {
+            return positions == null ? new int[0] : Arrays.copyOf(positions.positions, positions.size);
+        }
+
+        RowPositions result = new RowPositions();
+        if (positions != null) {
+            for (int i = 0; i < positions.size; i++) {
+                result.append(positions.positions[i]);
+            }
+        }
+        for (int i = 0; i < mutableRows.size; i++) {
+            int position = mutableRows.positions[i];
+            Object rowKey = toIndexKey(((MapValue) rows[position]).get(fieldName));
+            if (rowKey != null && kindOf(rowKey) == kindOf(key) &&
+                    (isSortable(key) ? NUMERIC_COMPARATOR.compare(rowKey, key) == 0 : rowKey.equals(key))) {
+                result.append(position);
+            }
+        }
+        return toSortedPositions(result);
+    }
+
+    /**
+     * Get the positions of the rows whose field is within the given bounds. A null bound is treated as unbounded.
+     *
+     * @return positions in ascending order, or null if the index can not be used for the given bounds
+     */
+    int[] lookupRange(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive, Object[] rows) {
+        Object lowerKey = toIndexKey(lower);
+        Object upperKey = toIndexKey(upper);
+        if ((lower != null && !isSortable(lowerKey)) || (upper != null && !isSortable(upperKey)) ||
+                (valueClass != null && !isSortable(valueClass))) {
+            return null;
+        }
+        Class<?> kind = lowerKey != null ? kindOf(lowerKey) : upperKey != null ? kindOf(upperKey) : valueClass;
+        if (valueClass != null && kind != valueClass) {
+            return null;
+        }
+
+        RowPositions result = new RowPositions();
+        if (valueClass != null) {
+            NavigableMap<Object, RowPositions> range = sortedIndex;
+            if (lowerKey != null) {
+                range = range.tailMap(lowerKey, lowerInclusive);
+            }
+            if (upperKey != null) {
+                range = range.headMap(upperKey, upperInclusive);
+            }
+            for (RowPositions positions : range.values()) {
+                for (int i = 0; i < positions.size; i++) {
+                    result.append(positions.positions[i]);
+                }
+            }
+        }
+        for (int i = 0; i < mutableRows.size; i++) {
+            int position = mutableRows.positions[i];
+            Object rowKey = toIndexKey(((MapValue) rows[position]).get(fieldName));
+            if (!isSortable(rowKey) || (kind != null && kindOf(rowKey) != kind)) {
+                // Compared the same way as the indexed values, which invalidate the index in this case.
+                return null;
+            }
+            kind = kindOf(rowKey);
+            if (isWithin(rowKey, lowerKey, lowerInclusive, upperKey, upperInclusive)) {
+                result.append(position);
+            }
+        }
+        return toSortedPositions(result);
+    }
+
+    private static boolean isWithin(Object key, Object lower, boolean lowerInclusive, Object upper,
+                                    boolean upperInclusive) {
+        if (lower != null) {
+            int cmp = NUMERIC_COMPARATOR.compare(key, lower);
+            if (cmp < 0 || (cmp == 0 && !lowerInclusive)) {
+                return false;
+            }
+        }
+        if (upper != null) {
+            int cmp = NUMERIC_COMPARATOR.compare(key, upper);
+            return cmp < 0 || (cmp == 0 && upperInclusive);
+        }
+        return true;
+    }
+
+    private static int[] toSortedPositions(RowPositions positions) {
+        int[] sorted = Arrays.copyOf(positions.positions, positions.size);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private Object getIndexKey(Object row) {
+        Object key = toIndexKey(((MapValue) row).get(fieldName));
+        if (key == null || (valueClass != null && valueClass != kindOf(key))) {
+            valid = false;
+            return null;
+        }
+        valueClass = kindOf(key);
+        return key;
+    }
+
+    private Map<Object, RowPositions> getIndex() {
+        return isSortable(valueClass) ? sortedIndex : hashIndex;
+    }
+
+    private static Object toIndexKey(Object value) {
+        if (value instanceof BString || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Double) {
+            double doubleValue = (Double) value;
+            if (Double.isNaN(doubleValue)) {
+                return null;
+            }
+            // -0.0 and 0.0 are equal.
+            return doubleValue == 0.0 ? 0.0 : value;
+        }
+        if (value instanceof Long || value instanceof DecimalValue) {
+            return value;
+        }
+        return null;
+    }
+
+    private static Class<?> kindOf(Object key) {
+        // Both string representations are equal to each other, hence they are indexed as one kind.
+        return key instanceof BString ? BString.class : key.getClass();
+    }
+
+    private static boolean isSortable(Object key) {
+        return key instanceof Long || key instanceof Double || key instanceof DecimalValue;
+    }
+
+    private static boolean isSortable(Class<?> kind) {
+        return kind == Long.class || kind == Double.class || kind == DecimalValue.class;
+    }
+
+    /**
+     * Positions of rows, kept in ascending order.
+     */
+    private static class RowPositions {
+        int[] positions = new int[2];
+        int size = 0;
+
+        void add(int position) {
+            int index = size == 0 || positions[size - 1] < position ? size :
+                    -(Arrays.binarySearch(positions, 0, size, position) + 1);
+            if (index < 0) {
+                // Already in the list.
+                return;
+            }
+            ensureCapacity();
+            System.arraycopy(positions, index, positions, index + 1, size - index);
+            positions[index] = position;
+            size++;
+        }
+
+        void append(int position) {
+            ensureCapacity();
+            positions[size++] = position;
+        }
+
+        boolean remove(int position) {
+            int index = Arrays.binarySearch(positions, 0, size, position);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        private void ensureCapacity() {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+        }
+    }
+}
@@ -38,6 +38,7 @@ import io.ballerina.runtime.types.BMapType;
 import io.ballerina.runtime.types.BRecordType;
 import io.ballerina.runtime.types.BTableType;
 import io.ballerina.runtime.types.BTupleType;
+import io.ballerina.runtime.util.Flags;
 import io.ballerina.runtime.util.exceptions.BLangFreezeException;
 
 import java.util.AbstractMap;
@@ -45,14 +46,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.util.BLangConstants.TABLE_LANG_LIB;
@@ -64,6 +63,11 @@ import static io.ballerina.runtime.util.exceptions.BallerinaErrorReasons.getModu
 
 /**
  * The runtime representation of table.
+ * <p>
+ * Rows are kept in insertion order in parallel key and value arrays. A removed row leaves an empty slot behind,
+ * which is reclaimed when the arrays are compacted. Tables with a key also keep an open addressing index from the
+ * hash of the key to the position of the row. Secondary indexes on other fields are created on the first lookup on
+ * such a field, see {@link #lookupByField(BString, Object)}.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
@@ -72,19 +76,41 @@ import static io.ballerina.runtime.util.exceptions.BallerinaErrorReasons.getModu
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    private static final int INITIAL_CAPACITY = 8;
+
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
+    // Rows in insertion order. The value of a removed row is set to null.
+    private Object[] rowKeys;
+    private Object[] rowValues;
+    private long[] rowHashes;
+    private int rowCount = 0;
+    private int size = 0;
+
+    // Sequence number of each row, in the order rows were added. Rows are always stored in the order of their
+    // sequence numbers, so that an iterator can find its position again after rows are moved.
+    private long[] rowSeqs;
+    private long nextRowSeq = 0;
+    // Incremented whenever rows are moved or row positions are reused.
+    private int rowMoves = 0;
+
+    // Position of the row plus one for each key hash, zero marks an empty slot. Null for key-less tables.
+    private int[] index;
+
+    // Marks fields which can not be indexed, since the map of indexes can not hold nulls.
+    private static final TableFieldIndex NO_FIELD_INDEX = new TableFieldIndex(null, false);
+
+    // Secondary indexes by field name. An index is built on the first lookup of the field, or when the field is
+    // declared to be indexed, and is only published once it is complete, so that concurrent lookups may share it. The
+    // indexes are maintained on updates and built again whenever row positions change.
+    private final Map<String, TableFieldIndex> fieldIndexes = new ConcurrentHashMap<>();
+
+    // Fields declared to be indexed using addFieldIndex(), in addition to the immutable fields.
+    private Set<String> indexedFields;
 
     private boolean nextKeySupported;
 
@@ -93,13 +119,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
+        this.rowKeys = new Object[INITIAL_CAPACITY];
+        this.rowValues = new Object[INITIAL_CAPACITY];
+        this.rowHashes = new long[INITIAL_CAPACITY];
+        this.rowSeqs = new long[INITIAL_CAPACITY];
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
+            this.index = new int[INITIAL_CAPACITY * 2];
             this.valueHolder = new KeyHashValueHolder();
         } else {
             this.valueHolder = new ValueHolder();
@@ -212,23 +238,38 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>(size);
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                entrySet.add(new AbstractMap.SimpleEntry<>((K) rowKeys[i], (V) rowValues[i]));
+            }
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        List<V> values = new ArrayList<>(size);
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                values.add((V) rowValues[i]);
+            }
+        }
+        return values;
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        Arrays.fill(rowKeys, 0, rowCount, null);
+        Arrays.fill(rowValues, 0, rowCount, null);
+        if (index != null) {
+            Arrays.fill(index, 0);
+        }
+        rowCount = 0;
+        size = 0;
+        rowMoves++;
+        rebuildFieldIndexes();
     }
 
     @Override
@@ -257,7 +298,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -285,17 +326,27 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (index == null) {
+            return (K[]) new Object[]{};
+        }
+        Object[] keys = new Object[size];
+        int keyIndex = 0;
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                keys[keyIndex++] = rowKeys[i];
+            }
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -320,8 +371,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(parent);
     }
 
     @Override
@@ -331,21 +381,20 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getStringValue(struct.getValue(),
-                                              new CycleUtils.Node(this, parent)));
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                sj.add(StringUtils.getStringValue(rowValues[i], new CycleUtils.Node(this, parent)));
+            }
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -354,10 +403,10 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                 keyJoiner.add(keysList[i]);
             }
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getExpressionStringValue(struct.getValue(),
-                                                        new CycleUtils.Node(this, parent)));
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                sj.add(StringUtils.getExpressionStringValue(rowValues[i], new CycleUtils.Node(this, parent)));
+            }
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
     }
@@ -386,39 +435,50 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private int cursor;
+        // Sequence number of the next row to visit, used to find the position of that row once rows are moved
+        private long nextSeq;
+        private int moves;
 
         TableIterator() {
             this.cursor = 0;
+            this.nextSeq = 0;
+            this.moves = rowMoves;
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
-            }
+            skipRemovedRows();
+            K key = (K) rowKeys[cursor];
+            V value = (V) rowValues[cursor];
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            nextSeq = rowSeqs[cursor] + 1;
+            cursor++;
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            skipRemovedRows();
+            return cursor < rowCount;
+        }
+
+        private void skipRemovedRows() {
+            if (moves != rowMoves) {
+                cursor = findRowBySeq(nextSeq);
+                moves = rowMoves;
+            }
+            while (cursor < rowCount && rowValues[cursor] == null) {
+                cursor++;
+            }
         }
     }
 
@@ -440,11 +500,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            appendRow(data, data, 0);
+            return null;
         }
 
         public V remove(K key) {
@@ -485,63 +542,58 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                StringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (size == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            putData(key, data, TableUtils.hash(key, null));
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            int row = findRow(key, TableUtils.hash(key, null));
+            return row < 0 ? null : (V) rowValues[row];
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
+            long hash = TableUtils.hash(key, null);
 
-            if (!hash.equals(actualHash)) {
+            if (hash != TableUtils.hash(actualKey, null) || !TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, StringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
+            return putData(key, data, hash);
         }
 
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+        private V putData(K key, V data, long hash) {
+            int row = findRow(key, hash);
+            if (row < 0) {
+                appendRow(key, data, hash);
+                return null;
+            }
+            V oldValue = (V) rowValues[row];
+            removeFromFieldIndexes(oldValue, row);
+            rowKeys[row] = key;
+            rowValues[row] = data;
+            addToFieldIndexes(data, row);
+            return oldValue;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            return values.remove(hash);
+            int row = findRow(key, TableUtils.hash(key, null));
+            return row < 0 ? null : removeRow(row);
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return findRow(key, TableUtils.hash(key, null)) >= 0;
         }
 
         public Type getKeyType() {
@@ -592,13 +644,284 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
+    // Finds the position of the row with the given key, or -1 if there is no such row
+    private int findRow(Object key, long hash) {
+        int mask = index.length - 1;
+        for (int slot = homeSlot(hash, mask); index[slot] != 0; slot = (slot + 1) & mask) {
+            int row = index[slot] - 1;
+            if (rowHashes[row] == hash && TypeChecker.isEqual(rowKeys[row], key)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private void appendRow(Object key, Object value, long hash) {
+        if (rowCount == rowValues.length) {
+            if (size <= rowCount / 2) {
+                compactRows();
+            } else {
+                int newCapacity = rowValues.length * 2;
+                rowKeys = Arrays.copyOf(rowKeys, newCapacity);
+                rowValues = Arrays.copyOf(rowValues, newCapacity);
+                rowHashes = Arrays.copyOf(rowHashes, newCapacity);
+                rowSeqs = Arrays.copyOf(rowSeqs, newCapacity);
+            }
+        }
+
+        int row = rowCount++;
+        rowKeys[row] = key;
+        rowValues[row] = value;
+        rowHashes[row] = hash;
+        rowSeqs[row] = nextRowSeq++;
+        size++;
+
+        if (index != null) {
+            if (size * 2 > index.length) {
+                rebuildIndex(index.length * 2);
+            } else {
+                addToIndex(row);
+            }
+        }
+        addToFieldIndexes(value, row);
+    }
+
+    private V removeRow(int row) {
+        V oldValue = (V) rowValues[row];
+        removeFromIndex(row);
+        removeFromFieldIndexes(oldValue, row);
+        rowKeys[row] = null;
+        rowValues[row] = null;
+        size--;
+        // Trailing removed rows can be reused right away
+        if (row == rowCount - 1) {
+            while (rowCount > 0 && rowValues[rowCount - 1] == null) {
+                rowCount--;
+            }
+            rowMoves++;
         }
+        return oldValue;
+    }
+
+    // Finds the position of the first row with a sequence number not less than the given one
+    private int findRowBySeq(long seq) {
+        int lo = 0;
+        int hi = rowCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (rowSeqs[mid] < seq) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // Moves the remaining rows to the front, keeping their order
+    private void compactRows() {
+        int newRowCount = 0;
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                rowKeys[newRowCount] = rowKeys[i];
+                rowValues[newRowCount] = rowValues[i];
+                rowHashes[newRowCount] = rowHashes[i];
+                rowSeqs[newRowCount] = rowSeqs[i];
+                newRowCount++;
+            }
+        }
+        Arrays.fill(rowKeys, newRowCount, rowCount, null);
+        Arrays.fill(rowValues, newRowCount, rowCount, null);
+        rowCount = newRowCount;
+        rowMoves++;
+        if (index != null) {
+            rebuildIndex(index.length);
+        }
+        rebuildFieldIndexes();
+    }
+
+    private void rebuildIndex(int indexSize) {
+        index = new int[indexSize];
+        for (int i = 0; i < rowCount; i++) {
+            if (rowValues[i] != null) {
+                addToIndex(i);
+            }
+        }
+    }
+
+    private void addToIndex(int row) {
+        int mask = index.length - 1;
+        int slot = homeSlot(rowHashes[row], mask);
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = row + 1;
+    }
+
+    // Removes the row from the index and shifts back the following entries of the probe sequence, so that lookups
+    // never have to skip deleted slots
+    private void removeFromIndex(int row) {
+        if (index == null) {
+            return;
+        }
+        int mask = index.length - 1;
+        int slot = homeSlot(rowHashes[row], mask);
+        while (index[slot] != row + 1) {
+            slot = (slot + 1) & mask;
+        }
+
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (index[next] == 0) {
+                break;
+            }
+            int home = homeSlot(rowHashes[index[next] - 1], mask);
+            boolean inPlace = slot <= next ? (slot < home && home <= next) : (slot < home || home <= next);
+            if (!inPlace) {
+                index[slot] = index[next];
+                slot = next;
+            }
+        }
+        index[slot] = 0;
+    }
+
+    /**
+     * Get the rows whose given field is equal to the given value, in table order. If the field is the key of the
+     * table, the key index is used. Otherwise a secondary index on the field is created on first use and maintained
+     * on later updates. Since rows are not aware of the table, only fields that can not be updated once the row is
+     * added are indexed, unless the field is declared to be indexed using {@link #addFieldIndex(BString)}.
+     * <p>
+     * Lookups may be called concurrently with each other, but not with updates of the table.
+     *
+     * @param fieldName field to look up
+     * @param value     value of the field
+     * @return matching rows, or null if the field can not be looked up using an index
+     */
+    public Object[] lookupByField(BString fieldName, Object value) {
+        if (index != null && fieldNames.length == 1 && fieldNames[0].equals(fieldName.getValue())) {
+            int row = findRow(value, TableUtils.hash(value, null));
+            return row < 0 ? new Object[0] : new Object[]{rowValues[row]};
+        }
+
+        TableFieldIndex fieldIndex = getFieldIndex(fieldName);
+        return fieldIndex == null ? null : getRows(fieldIndex.lookup(value, rowValues));
+    }
+
+    /**
+     * Get the rows whose given int, float or decimal field is within the given bounds, in table order. A null bound
+     * is treated as unbounded.
+     *
+     * @param fieldName      field to look up
+     * @param lower          lower bound
+     * @param lowerInclusive whether the lower bound is inclusive
+     * @param upper          upper bound
+     * @param upperInclusive whether the upper bound is inclusive
+     * @return matching rows, or null if the field can not be looked up using an index
+     */
+    public Object[] lookupByFieldRange(BString fieldName, Object lower, boolean lowerInclusive, Object upper,
+                                       boolean upperInclusive) {
+        TableFieldIndex fieldIndex = getFieldIndex(fieldName);
+        return fieldIndex == null ? null :
+                getRows(fieldIndex.lookupRange(lower, lowerInclusive, upper, upperInclusive, rowValues));
+    }
+
+    /**
+     * Declare a secondary index on the given field, which is used by {@link #lookupByField} and
+     * {@link #lookupByFieldRange}. Fields that can not be updated once the row is added are indexed without being
+     * declared. If the field can be updated, only the rows which are immutable values are indexed and the other rows
+     * are checked on each lookup.
+     *
+     * @param fieldName field to index
+     */
+    public void addFieldIndex(BString fieldName) {
+        String name = fieldName.getValue();
+        Type constraintType = type.getConstrainedType();
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG ||
+                !((BRecordType) constraintType).getFields().containsKey(name)) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR,
+                                           StringUtils.fromString("cannot index field '" + name + "' of table with " +
+                                                                          "constraint type '" + constraintType + "'"));
+        }
+        if (indexedFields == null) {
+            indexedFields = new HashSet<>();
+        }
+        if (indexedFields.add(name)) {
+            // Replaces the field if it was found not to be indexable before it was declared.
+            fieldIndexes.put(name, buildFieldIndex(name));
+        }
+    }
+
+    private Object[] getRows(int[] positions) {
+        if (positions == null) {
+            return null;
+        }
+        Object[] rows = new Object[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            rows[i] = rowValues[positions[i]];
+        }
+        return rows;
+    }
+
+    private TableFieldIndex getFieldIndex(BString fieldName) {
+        // Fields which can not be indexed are remembered as well, to avoid checking them again.
+        TableFieldIndex fieldIndex = fieldIndexes.computeIfAbsent(fieldName.getValue(), this::buildFieldIndex);
+        return fieldIndex == NO_FIELD_INDEX ? null : fieldIndex;
+    }
+
+    private TableFieldIndex buildFieldIndex(String name) {
+        boolean immutableField = isImmutableField(name);
+        if (!immutableField && (indexedFields == null || !indexedFields.contains(name))) {
+            return NO_FIELD_INDEX;
+        }
+        TableFieldIndex fieldIndex = new TableFieldIndex(StringUtils.fromString(name), !immutableField);
+        for (int i = 0; i < rowCount && fieldIndex.isValid(); i++) {
+            if (rowValues[i] != null) {
+                fieldIndex.add(rowValues[i], i);
+            }
+        }
+        return fieldIndex.isValid() ? fieldIndex : NO_FIELD_INDEX;
+    }
+
+    private void rebuildFieldIndexes() {
+        fieldIndexes.replaceAll((name, fieldIndex) -> buildFieldIndex(name));
+    }
+
+    private boolean isImmutableField(String name) {
+        Type constraintType = type.getConstrainedType();
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        Field field = ((BRecordType) constraintType).getFields().get(name);
+        return field != null && (constraintType.isReadOnly() || Flags.isFlagOn(field.getFlags(), Flags.READONLY));
+    }
+
+    private void addToFieldIndexes(Object value, int row) {
+        for (Map.Entry<String, TableFieldIndex> entry : fieldIndexes.entrySet()) {
+            TableFieldIndex fieldIndex = entry.getValue();
+            if (fieldIndex != NO_FIELD_INDEX) {
+                fieldIndex.add(value, row);
+                if (!fieldIndex.isValid()) {
+                    entry.setValue(NO_FIELD_INDEX);
+                }
+            }
+        }
+    }
+
+    private void removeFromFieldIndexes(Object value, int row) {
+        for (TableFieldIndex fieldIndex : fieldIndexes.values()) {
+            if (fieldIndex != NO_FIELD_INDEX) {
+                fieldIndex.remove(value, row);
+            }
+        }
+        // The removed row may have been the one which prevented indexing a field, hence such fields are checked
+        // again on their next lookup.
+        fieldIndexes.values().removeIf(fieldIndex -> fieldIndex == NO_FIELD_INDEX);
+    }
+
+    private static int homeSlot(long hash, int mask) {
+        int h = (int) (hash ^ (hash >>> 32));
+        return (h ^ (h >>> 16)) & mask;
     }
 
     // This method checks for inherent table type violation
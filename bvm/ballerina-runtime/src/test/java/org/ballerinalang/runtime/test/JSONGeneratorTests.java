@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.JSONGenerator;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.TypeCreator;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.util.Flags;
+import io.ballerina.runtime.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link JSONGenerator}.
+ */
+public class JSONGeneratorTests {
+
+    @DataProvider(name = "strings")
+    public Object[][] strings() {
+        return new Object[][]{
+                {"ascii"},
+                {"caf\u00E9 \u00A9 \u07FF"},
+                {"\u0800 \u20AC \u4E2D \uFFFD \uFFFF"},
+                {"\uD83D\uDE00 \uD800\uDC00 \uDBFF\uDFFF"},
+                {"quote \" backslash \\ newline \n tab \t \uD83D\uDE00"},
+                // unpaired surrogates are replaced with '?' as the JDK encoder does
+                {"high \uD83D low \uDE00 reversed \uDE00\uD83D end \uD83D"},
+                {"\uD83D\"\uDE00"},
+        };
+    }
+
+    @Test(dataProvider = "strings")
+    void testWriteUTF8String(String value) throws IOException {
+        byte[] expected = ("\"" + escape(value) + "\"").getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(toUTF8(StringUtils.fromString(value)), expected);
+    }
+
+    @Test
+    void testWriteUTF8AcrossBufferBoundaries() throws IOException {
+        // every multi-byte character is placed at the end of the 8KB buffer, as it fills up
+        String[] chars = {"\u00E9", "\u20AC", "\uD83D\uDE00"};
+        for (String ch : chars) {
+            for (int prefix = 8180; prefix < 8195; prefix++) {
+                char[] padding = new char[prefix];
+                Arrays.fill(padding, 'a');
+                String value = new String(padding) + ch + ch + "b";
+                byte[] expected = ("\"" + value + "\"").getBytes(StandardCharsets.UTF_8);
+                Assert.assertEquals(toUTF8(StringUtils.fromString(value)), expected, "prefix: " + prefix);
+            }
+        }
+    }
+
+    @Test
+    void testWriteUTF8LargeValue() throws IOException {
+        BMap<BString, Object> map = ValueCreator.createMapValue();
+        for (int i = 0; i < 5000; i++) {
+            map.put(StringUtils.fromString("key\u00E9" + i), StringUtils.fromString("\uD83D\uDE00 value " + i));
+        }
+        Assert.assertEquals(new String(toUTF8(map), StandardCharsets.UTF_8), toJsonString(map));
+    }
+
+    @Test
+    void testBufferReuseAcrossGenerators() throws IOException {
+        // the buffer of a flushed generator is reused by the next one on the thread, so nothing may leak across
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        JSONGenerator firstGenerator = new JSONGenerator(first, StandardCharsets.UTF_8);
+        firstGenerator.serialize(StringUtils.fromString("first \u20AC"));
+        firstGenerator.flush();
+        JSONGenerator secondGenerator = new JSONGenerator(second, StandardCharsets.UTF_8);
+        secondGenerator.serialize(StringUtils.fromString("second"));
+        secondGenerator.flush();
+        Assert.assertEquals(first.toString(StandardCharsets.UTF_8), "\"first \u20AC\"");
+        Assert.assertEquals(second.toString(StandardCharsets.UTF_8), "\"second\"");
+    }
+
+    @Test
+    void testWriteNumber() throws IOException {
+        long[] values = {0, 1, -1, 9, 10, -10, 1234567890123456789L, Long.MAX_VALUE, Long.MIN_VALUE,
+                Long.MIN_VALUE + 1};
+        for (long value : values) {
+            Assert.assertEquals(new String(toUTF8(value), StandardCharsets.UTF_8), Long.toString(value));
+            Assert.assertEquals(toJsonString(value), Long.toString(value));
+        }
+        Assert.assertEquals(toJsonString(ValueCreator.createArrayValue(new long[]{Long.MIN_VALUE, 0, -7})),
+                            "[-9223372036854775808, 0, -7]");
+    }
+
+    @Test
+    void testSerializeArrays() throws IOException {
+        Assert.assertEquals(toJsonString(ValueCreator.createArrayValue(new byte[]{0, 127, -1})), "[0, 127, 255]");
+        Assert.assertEquals(toJsonString(ValueCreator.createArrayValue(new double[]{1.5, -0.0})), "[1.5, -0.0]");
+        Assert.assertEquals(toJsonString(ValueCreator.createArrayValue(new boolean[]{true, false})),
+                            "[true, false]");
+        Assert.assertEquals(toJsonString(ValueCreator.createArrayValue(
+                new BString[]{StringUtils.fromString("a\"b"), StringUtils.fromString("\uD83D\uDE00")})),
+                            "[\"a\\\"b\", \"\uD83D\uDE00\"]");
+    }
+
+    @Test
+    void testSerializeRecord() throws IOException {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", Flags.REQUIRED));
+        fields.put("salary", TypeCreator.createField(PredefinedTypes.TYPE_DECIMAL, "salary", Flags.REQUIRED));
+        fields.put("tags", TypeCreator.createField(TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING),
+                                                   "tags", Flags.OPTIONAL));
+        RecordType recordType = TypeCreator.createRecordType("Employee", new Module("testorg", "test", "1.0.0"), 0,
+                                                             fields, PredefinedTypes.TYPE_JSON, false, 0);
+        BMap<BString, Object> employee = ValueCreator.createMapValue(recordType);
+        employee.put(StringUtils.fromString("name"), StringUtils.fromString("Anne"));
+        employee.put(StringUtils.fromString("salary"), new DecimalValue("1000.50"));
+        employee.put(StringUtils.fromString("tags"),
+                     ValueCreator.createArrayValue(new BString[]{StringUtils.fromString("a")}));
+        employee.put(StringUtils.fromString("extra"), null);
+        Assert.assertEquals(toJsonString(employee),
+                            "{\"name\":\"Anne\", \"salary\":1000.50, \"tags\":[\"a\"], \"extra\":null}");
+    }
+
+    @Test
+    void testSerializeTuple() throws IOException {
+        BArray tuple = ValueCreator.createTupleValue(TypeCreator.createTupleType(Arrays.asList(
+                PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_FLOAT,
+                PredefinedTypes.TYPE_BOOLEAN, PredefinedTypes.TYPE_JSON)));
+        tuple.add(0, 1L);
+        tuple.add(1, StringUtils.fromString("two"));
+        tuple.add(2, 3.5);
+        tuple.add(3, true);
+        tuple.add(4, (Object) null);
+        Assert.assertEquals(toJsonString(tuple), "[1, \"two\", 3.5, true, null]");
+    }
+
+    @Test
+    void testSerializeTable() throws IOException {
+        MapType rowType = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+        BTable<Object, Object> table = ValueCreator.createTableValue(
+                TypeCreator.createTableType(rowType, new String[]{"id"}, false));
+        Assert.assertEquals(toJsonString(table), "[]");
+        for (long id = 1; id <= 3; id++) {
+            BMap<BString, Object> row = ValueCreator.createMapValue(rowType);
+            row.put(StringUtils.fromString("id"), id);
+            row.put(StringUtils.fromString("name"), StringUtils.fromString("row" + id));
+            table.add(row);
+        }
+        table.remove(2L);
+        Assert.assertEquals(toJsonString(table), "[{\"id\":1, \"name\":\"row1\"}, {\"id\":3, \"name\":\"row3\"}]");
+        Assert.assertEquals(new String(toUTF8(table), StandardCharsets.UTF_8), toJsonString(table));
+    }
+
+    private static byte[] toUTF8(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONGenerator generator = new JSONGenerator(out, StandardCharsets.UTF_8);
+        generator.serialize(value);
+        generator.flush();
+        return out.toByteArray();
+    }
+
+    private static String toJsonString(Object value) throws IOException {
+        StringWriter writer = new StringWriter();
+        JSONGenerator generator = new JSONGenerator(writer);
+        generator.serialize(value);
+        generator.flush();
+        return writer.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\t", "\\t");
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.observability.ObserverContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link ObserverContext}.
+ */
+public class ObserverContextTests {
+
+    @Test
+    void testTagPropertiesClearedOnTagChange() {
+        ObserverContext context = new ObserverContext();
+        context.addTag("service", "hello");
+        Object metric = new Object();
+        context.addTagProperty("metric", metric);
+
+        // Setting a tag to the value it already has does not change the tags.
+        context.addTag("service", "hello");
+        Assert.assertSame(context.getTagProperty("metric"), metric);
+
+        context.addTag("resource", "sayHello");
+        Assert.assertNull(context.getTagProperty("metric"));
+    }
+
+    @Test
+    void testTagSetSharedUntilTagChange() {
+        ObserverContext context = new ObserverContext();
+        context.addTag("service", "hello");
+        Assert.assertSame(context.getTagSet(), context.getTagSet());
+
+        context.addTag("service", "bye");
+        Assert.assertEquals(context.getTagSet().size(), 1);
+        Assert.assertEquals(context.getTagSet().iterator().next().getValue(), "bye");
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.TypeCreator;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.util.Flags;
+import io.ballerina.runtime.values.TableValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Test cases for {@link io.ballerina.runtime.values.TableValueImpl}.
+ */
+public class TableValueTests {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final MapType ROW_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+    private static final BString SCORE = StringUtils.fromString("score");
+    private static final RecordType RECORD_ROW_TYPE = createRecordRowType();
+
+    @Test
+    void testAddAfterRemovingTrailingRowsDuringIteration() {
+        BTable<Object, Object> table = createTable(5);
+        BIterator<?> iterator = table.getIterator();
+        List<Long> visited = new ArrayList<>();
+        visited.add(nextId(iterator));
+        visited.add(nextId(iterator));
+        visited.add(nextId(iterator));
+        // The positions of the removed rows are reused by the added row.
+        table.remove(4L);
+        table.remove(3L);
+        table.add(row(10));
+        visited.addAll(remainingIds(iterator));
+        Assert.assertEquals(visited, List.of(0L, 1L, 2L, 10L));
+    }
+
+    @Test
+    void testAddAfterRemovingRowsAtEndDuringIteration() {
+        BTable<Object, Object> table = createTable(5);
+        BIterator<?> iterator = table.getIterator();
+        List<Long> visited = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            visited.add(nextId(iterator));
+        }
+        table.remove(4L);
+        table.add(row(10));
+        table.add(row(11));
+        visited.addAll(remainingIds(iterator));
+        Assert.assertEquals(visited, List.of(0L, 1L, 2L, 3L, 4L, 10L, 11L));
+    }
+
+    @Test
+    void testAddAfterCompactionDuringIteration() {
+        // Rows fill up the initial capacity, so that the added row moves the remaining rows to the front.
+        BTable<Object, Object> table = createTable(8);
+        BIterator<?> iterator = table.getIterator();
+        List<Long> visited = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            visited.add(nextId(iterator));
+        }
+        for (long id = 0; id < 5; id++) {
+            table.remove(id);
+        }
+        table.remove(6L);
+        table.add(row(100));
+        visited.addAll(remainingIds(iterator));
+        Assert.assertEquals(visited, List.of(0L, 1L, 2L, 3L, 4L, 5L, 7L, 100L));
+        Assert.assertEquals(remainingIds(table.getIterator()), List.of(5L, 7L, 100L));
+    }
+
+    @Test
+    void testDeclaredFieldIndex() {
+        BTable<Object, Object> table = ValueCreator.createTableValue(
+                TypeCreator.createTableType(RECORD_ROW_TYPE, new String[]{"id"}, false));
+        for (int i = 0; i < 10; i++) {
+            BMap<BString, Object> row = recordRow(i, i % 3);
+            if (i % 2 == 0) {
+                row.freezeDirect();
+            }
+            table.add(row);
+        }
+        TableValueImpl<?, ?> tableValue = (TableValueImpl<?, ?>) table;
+        // The field can be updated, hence it is not indexed unless it is declared.
+        Assert.assertNull(tableValue.lookupByField(SCORE, 1L));
+
+        tableValue.addFieldIndex(SCORE);
+        Assert.assertEquals(getIds(tableValue.lookupByField(SCORE, 1L)), List.of(1L, 4L, 7L));
+        Assert.assertEquals(getIds(tableValue.lookupByField(SCORE, 5L)), List.of());
+        Assert.assertEquals(getIds(tableValue.lookupByFieldRange(SCORE, 1L, true, null, false)),
+                            List.of(1L, 2L, 4L, 5L, 7L, 8L));
+
+        // Rows which are not immutable are checked on each lookup, so updates of their fields are not missed.
+        ((BMap<BString, Object>) table.get(7L)).put(SCORE, 2L);
+        ((BMap<BString, Object>) table.get(3L)).put(SCORE, 1L);
+        Assert.assertEquals(getIds(tableValue.lookupByField(SCORE, 1L)), List.of(1L, 3L, 4L));
+        Assert.assertEquals(getIds(tableValue.lookupByFieldRange(SCORE, 0L, false, 2L, false)), List.of(1L, 3L, 4L));
+
+        table.remove(4L);
+        table.remove(3L);
+        table.add(recordRow(10, 1));
+        Assert.assertEquals(getIds(tableValue.lookupByField(SCORE, 1L)), List.of(1L, 10L));
+        Assert.assertEquals(getIds(tableValue.lookupByField(SCORE, 2L)), List.of(2L, 5L, 7L, 8L));
+
+        // The index is built again after the rows are moved.
+        for (long id = 0; id < 7; id++) {
+            table.remove(id);
+        }
+        for (int i = 11; i < 16; i++) {
+            table.add(recordRow(i, 1));
+        }
+        Assert.assertEquals(getIds(tableValue.lookupByField(SCORE, 1L)), List.of(10L, 11L, 12L, 13L, 14L, 15L));
+    }
+
+    @Test
+    void testDeclaredFieldIndexOnMissingField() {
+        TableValueImpl<?, ?> table = (TableValueImpl<?, ?>) ValueCreator.createTableValue(
+                TypeCreator.createTableType(RECORD_ROW_TYPE, new String[]{"id"}, false));
+        try {
+            table.addFieldIndex(StringUtils.fromString("name"));
+            Assert.fail("expected an error");
+        } catch (BError e) {
+            Assert.assertTrue(e.getDetails().toString().contains("cannot index field 'name'"));
+        }
+    }
+
+    @Test
+    void testConcurrentFieldLookups() throws InterruptedException {
+        int threadCount = 8;
+        for (int round = 0; round < 20; round++) {
+            // The table has no key, hence lookups of the immutable field build a field index on first use.
+            BTable<Object, Object> table = ValueCreator.createTableValue(
+                    TypeCreator.createTableType(RECORD_ROW_TYPE, false));
+            for (int i = 0; i < 1000; i++) {
+                table.add(recordRow(i, i % 10));
+            }
+            TableValueImpl<?, ?> tableValue = (TableValueImpl<?, ?>) table;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                long id = t * 100L + round;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        Assert.assertEquals(getIds(tableValue.lookupByField(ID, id)), List.of(id));
+                        Assert.assertEquals(getIds(tableValue.lookupByFieldRange(ID, id, true, id + 2, false)),
+                                            List.of(id, id + 1));
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Assert.assertEquals(failures, List.of());
+        }
+    }
+
+    private static RecordType createRecordRowType() {
+        Map<String, Field> fields = new HashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id",
+                                                 Flags.REQUIRED + Flags.READONLY));
+        fields.put("score", TypeCreator.createField(PredefinedTypes.TYPE_INT, "score", Flags.REQUIRED));
+        return TypeCreator.createRecordType("Row", new Module("testorg", "test", "1.0.0"), 0, fields, null, true, 0);
+    }
+
+    private static BMap<BString, Object> recordRow(long id, long score) {
+        BMap<BString, Object> row = ValueCreator.createMapValue(RECORD_ROW_TYPE);
+        row.put(ID, id);
+        row.put(SCORE, score);
+        return row;
+    }
+
+    private static List<Long> getIds(Object[] rows) {
+        List<Long> ids = new ArrayList<>();
+        for (Object row : rows) {
+            ids.add((Long) ((BMap<?, ?>) row).get(ID));
+        }
+        return ids;
+    }
+
+    private static BTable<Object, Object> createTable(int rowCount) {
+        BTable<Object, Object> table = ValueCreator.createTableValue(
+                TypeCreator.createTableType(ROW_TYPE, new String[]{"id"}, false));
+        for (int i = 0; i < rowCount; i++) {
+            table.add(row(i));
+        }
+        return table;
+    }
+
+    private static BMap<BString, Object> row(long id) {
+        BMap<BString, Object> row = ValueCreator.createMapValue(ROW_TYPE);
+        row.put(ID, id);
+        return row;
+    }
+
+    private static long nextId(BIterator<?> iterator) {
+        Assert.assertTrue(iterator.hasNext());
+        BMap<?, ?> row = (BMap<?, ?>) ((BArray) iterator.next()).get(1);
+        return (long) row.get(ID);
+    }
+
+    private static List<Long> remainingIds(BIterator<?> iterator) {
+        List<Long> ids = new ArrayList<>();
+        while (iterator.hasNext()) {
+            ids.add(nextId(iterator));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.TypeCheckCache;
+import io.ballerina.runtime.TypeChecker;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.util.Flags;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Test cases for {@link io.ballerina.runtime.TypeCheckCache}.
+ */
+public class TypeCheckCacheTests {
+
+    private static final Module MODULE = new Module("testorg", "test", "1.0.0");
+    private static final Type INT_OR_STRING = TypeCreator.createUnionType(List.of(PredefinedTypes.TYPE_INT,
+                                                                                  PredefinedTypes.TYPE_STRING));
+
+    @Test
+    void testHitsAndMisses() {
+        Type sourceType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        Type targetType = TypeCreator.createMapType(INT_OR_STRING);
+
+        long misses = TypeCheckCache.getMissCount();
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertTrue(TypeCheckCache.getMissCount() > misses);
+
+        // The relation is found in the cache, without checking the constraints again.
+        long hits = TypeCheckCache.getHitCount();
+        misses = TypeCheckCache.getMissCount();
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+        Assert.assertEquals(TypeCheckCache.getMissCount(), misses);
+
+        // Types are cached by identity, hence an equivalent type is not found in the cache.
+        Type otherSourceType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        misses = TypeCheckCache.getMissCount();
+        Assert.assertTrue(TypeChecker.checkIsType(otherSourceType, targetType));
+        Assert.assertTrue(TypeCheckCache.getMissCount() > misses);
+    }
+
+    @Test
+    void testUnresolvedPairsNotCached() {
+        RecordType sourceType = createLinkedRecordType("SourceNode", PredefinedTypes.TYPE_INT);
+        RecordType targetType = createLinkedRecordType("TargetNode", INT_OR_STRING);
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+
+        // The `next` fields were related while assuming the records are related, hence they were not cached, while
+        // the records were.
+        Type sourceNextType = sourceType.getFields().get("next").getFieldType();
+        Type targetNextType = targetType.getFields().get("next").getFieldType();
+        long misses = TypeCheckCache.getMissCount();
+        Assert.assertTrue(TypeChecker.checkIsType(sourceNextType, targetNextType));
+        Assert.assertTrue(TypeCheckCache.getMissCount() > misses);
+
+        long hits = TypeCheckCache.getHitCount();
+        misses = TypeCheckCache.getMissCount();
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+        Assert.assertEquals(TypeCheckCache.getMissCount(), misses);
+    }
+
+    @Test(dataProvider = "typePairs")
+    void testCachedResultsMatchUncached(Supplier<Type[]> typePair, boolean expected) {
+        Type[] types = typePair.get();
+        Assert.assertEquals(TypeChecker.checkIsType(types[0], types[1]), expected);
+        long hits = TypeCheckCache.getHitCount();
+        Assert.assertEquals(TypeChecker.checkIsType(types[0], types[1]), expected);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+
+        // Newly created types are not in the cache, hence their relation is computed again.
+        Type[] uncachedTypes = typePair.get();
+        Assert.assertEquals(TypeChecker.checkIsType(uncachedTypes[0], uncachedTypes[1]), expected);
+    }
+
+    @DataProvider(name = "typePairs")
+    Object[][] typePairs() {
+        return new Object[][]{
+                {pair(() -> TypeCreator.createMapType(PredefinedTypes.TYPE_INT),
+                      () -> TypeCreator.createMapType(INT_OR_STRING)), true},
+                {pair(() -> TypeCreator.createMapType(INT_OR_STRING),
+                      () -> TypeCreator.createMapType(PredefinedTypes.TYPE_INT)), false},
+                {pair(() -> TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE),
+                      () -> TypeCreator.createArrayType(PredefinedTypes.TYPE_INT)), true},
+                {pair(() -> TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING)),
+                      () -> TypeCreator.createArrayType(INT_OR_STRING)), true},
+                {pair(() -> TypeCreator.createArrayType(INT_OR_STRING),
+                      () -> TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_INT,
+                                                                PredefinedTypes.TYPE_STRING))), false},
+                {pair(() -> createLinkedRecordType("IntNode", PredefinedTypes.TYPE_INT),
+                      () -> createLinkedRecordType("ValueNode", INT_OR_STRING)), true},
+                {pair(() -> createLinkedRecordType("ValueNode", INT_OR_STRING),
+                      () -> createLinkedRecordType("IntNode", PredefinedTypes.TYPE_INT)), false}
+        };
+    }
+
+    private static Supplier<Type[]> pair(Supplier<Type> sourceType, Supplier<Type> targetType) {
+        return () -> new Type[]{sourceType.get(), targetType.get()};
+    }
+
+    // Creates `record {| <name>? next; <valueType> value; |}`
+    private static RecordType createLinkedRecordType(String name, Type valueType) {
+        RecordType recordType = TypeCreator.createRecordType(name, MODULE, 0, true, 0);
+        Type nextType = TypeCreator.createUnionType(List.of(recordType, PredefinedTypes.TYPE_NULL));
+        Map<String, Field> fields = new HashMap<>();
+        fields.put("next", TypeCreator.createField(nextType, "next", Flags.REQUIRED));
+        fields.put("value", TypeCreator.createField(valueType, "value", Flags.REQUIRED));
+        recordType.setFields(fields);
+        return recordType;
+    }
+}
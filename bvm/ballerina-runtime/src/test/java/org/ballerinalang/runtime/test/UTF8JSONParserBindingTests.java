@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.JSONParser.NonStringValueProcessingMode;
+import io.ballerina.runtime.UTF8JSONParser;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.TypeCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.scheduling.Scheduler;
+import io.ballerina.runtime.scheduling.Strand;
+import io.ballerina.runtime.util.Flags;
+import io.ballerina.runtime.util.exceptions.BallerinaException;
+import io.ballerina.runtime.values.DecimalValue;
+import io.ballerina.runtime.values.MapValue;
+import io.ballerina.runtime.values.MapValueImpl;
+import io.ballerina.runtime.values.ValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for binding JSON content to records, maps and arrays using {@link UTF8JSONParser}.
+ */
+public class UTF8JSONParserBindingTests {
+
+    private static final Module MODULE = new Module("testorg", "binding", "1.0.0");
+
+    private static final RecordType ADDRESS_TYPE = TypeCreator.createRecordType(
+            "Address", MODULE, 0, fields(field("city", PredefinedTypes.TYPE_STRING, Flags.REQUIRED),
+                                         field("zip", PredefinedTypes.TYPE_STRING, Flags.OPTIONAL)),
+            null, true, 0);
+    private static final RecordType PERSON_TYPE = TypeCreator.createRecordType(
+            "Person", MODULE, 0, fields(field("name", PredefinedTypes.TYPE_STRING, Flags.REQUIRED),
+                                        // defaulted field, which is set by the value creator
+                                        field("age", PredefinedTypes.TYPE_INT, 0),
+                                        field("address", TypeCreator.createUnionType(
+                                                Arrays.asList(ADDRESS_TYPE, PredefinedTypes.TYPE_NULL)),
+                                              Flags.REQUIRED),
+                                        field("tags", TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING),
+                                              Flags.OPTIONAL)),
+            null, true, 0);
+    private static final ArrayType PERSON_ARRAY_TYPE = TypeCreator.createArrayType(PERSON_TYPE);
+    private static final RecordType TEAM_TYPE = TypeCreator.createRecordType(
+            "Team", MODULE, 0, fields(field("name", PredefinedTypes.TYPE_STRING, Flags.REQUIRED),
+                                      field("members", PERSON_ARRAY_TYPE, Flags.REQUIRED)),
+            PredefinedTypes.TYPE_JSON, false, 0);
+    private static final RecordType NUMBERS_TYPE = TypeCreator.createRecordType(
+            "Numbers", MODULE, 0, fields(field("i", PredefinedTypes.TYPE_INT, Flags.REQUIRED),
+                                         field("f", PredefinedTypes.TYPE_FLOAT, Flags.REQUIRED),
+                                         field("d", PredefinedTypes.TYPE_DECIMAL, Flags.REQUIRED),
+                                         field("optionalFloat", TypeCreator.createUnionType(
+                                                 Arrays.asList(PredefinedTypes.TYPE_FLOAT, PredefinedTypes.TYPE_NULL)),
+                                               Flags.OPTIONAL)),
+            null, true, 0);
+
+    @BeforeClass
+    public void setup() {
+        ValueCreator.addValueCreator(MODULE.getOrg(), MODULE.getName(), MODULE.getVersion(), new TestValueCreator());
+    }
+
+    @Test
+    void testNestedRecords() {
+        BMap<BString, Object> team = (BMap<BString, Object>) parse(
+                "{\"name\": \"runtime\", \"members\": [" +
+                        "{\"name\": \"Anne\", \"age\": 30, " +
+                        "\"address\": {\"city\": \"Colombo\", \"zip\": \"00300\"}}, " +
+                        "{\"name\": \"Bob\", \"age\": 25, \"address\": null, \"tags\": [\"a\", \"b\"]}]}", TEAM_TYPE);
+        Assert.assertEquals(team.getType(), TEAM_TYPE);
+        BArray members = (BArray) team.get(key("members"));
+        Assert.assertEquals(members.getType(), PERSON_ARRAY_TYPE);
+        Assert.assertEquals(members.size(), 2);
+
+        BMap<BString, Object> anne = (BMap<BString, Object>) members.get(0);
+        Assert.assertEquals(anne.getType(), PERSON_TYPE);
+        Assert.assertEquals(anne.get(key("age")), 30L);
+        BMap<BString, Object> address = (BMap<BString, Object>) anne.get(key("address"));
+        Assert.assertEquals(address.getType(), ADDRESS_TYPE);
+        Assert.assertEquals(address.get(key("city")).toString(), "Colombo");
+        Assert.assertEquals(address.get(key("zip")).toString(), "00300");
+
+        BMap<BString, Object> bob = (BMap<BString, Object>) members.get(1);
+        Assert.assertNull(bob.get(key("address")));
+        Assert.assertTrue(bob.containsKey(key("address")));
+        Assert.assertEquals(((BArray) bob.get(key("tags"))).getStringArray(), new String[]{"a", "b"});
+    }
+
+    @Test
+    void testArrayOfRecords() {
+        BArray people = (BArray) parse("[{\"name\": \"Anne\", \"address\": {\"city\": \"Kandy\"}}, " +
+                                               "{\"name\": \"Bob\", \"address\": null}, " +
+                                               "{\"name\": \"Carol\", \"age\": 40, \"address\": null}]",
+                                       PERSON_ARRAY_TYPE);
+        Assert.assertEquals(people.getType(), PERSON_ARRAY_TYPE);
+        Assert.assertEquals(people.size(), 3);
+        for (int i = 0; i < people.size(); i++) {
+            Assert.assertEquals(((BMap<?, ?>) people.get(i)).getType(), PERSON_TYPE);
+        }
+        Assert.assertEquals(((BMap<BString, Object>) people.get(2)).get(key("age")), 40L);
+        Assert.assertEquals(((BArray) parse("[]", PERSON_ARRAY_TYPE)).size(), 0);
+    }
+
+    @Test
+    void testNumericConversion() {
+        BMap<BString, Object> numbers = (BMap<BString, Object>) parse(
+                "{\"i\": 1, \"f\": 2, \"d\": 3}", NUMBERS_TYPE);
+        Assert.assertEquals(numbers.get(key("i")), 1L);
+        Assert.assertEquals(numbers.get(key("f")), 2.0);
+        Assert.assertEquals(numbers.get(key("d")), new DecimalValue("3"));
+
+        // numbers are parsed as the type they are bound to, so that no precision is lost on the way
+        numbers = (BMap<BString, Object>) parse(
+                "{\"i\": 10.0, \"f\": 0.1, \"d\": 0.1, \"optionalFloat\": 2.5e1}", NUMBERS_TYPE);
+        Assert.assertEquals(numbers.get(key("i")), 10L);
+        Assert.assertEquals(numbers.get(key("f")), 0.1);
+        Assert.assertEquals(numbers.get(key("d")), new DecimalValue("0.1"));
+        Assert.assertEquals(numbers.get(key("optionalFloat")), 25.0);
+
+        numbers = (BMap<BString, Object>) parse(
+                "{\"i\": -9223372036854775808, \"f\": -0, \"d\": 12345678901234567890.5, \"optionalFloat\": null}",
+                NUMBERS_TYPE);
+        Assert.assertEquals(numbers.get(key("i")), Long.MIN_VALUE);
+        Assert.assertEquals(1 / (Double) numbers.get(key("f")), Double.NEGATIVE_INFINITY);
+        Assert.assertEquals(numbers.get(key("d")), new DecimalValue("12345678901234567890.5"));
+        Assert.assertNull(numbers.get(key("optionalFloat")));
+        Assert.assertTrue(numbers.containsKey(key("optionalFloat")));
+
+        assertError("{\"i\": \"1\", \"f\": 2, \"d\": 3}", NUMBERS_TYPE,
+                    "incompatible types: expected 'int', found 'string' at line: 1 column: 9");
+        assertError("{\"i\": 1, \"f\": true, \"d\": 3}", NUMBERS_TYPE,
+                    "incompatible types: expected 'float', found 'boolean' at line: 1 column: 18");
+    }
+
+    @Test
+    void testMissingRequiredField() {
+        assertError("{\"age\": 30, \"address\": null}", PERSON_TYPE,
+                    "missing required field 'name' of type 'binding:Person' at line: 1 column: 28");
+        // a record nested in another one is checked when it ends, before its parent is complete
+        assertError("{\"name\": \"Anne\", \"address\": {\"zip\": \"00300\"}}", PERSON_TYPE,
+                    "missing required field 'city' of type 'binding:Address' at line: 1 column: 44");
+        assertError("[{\"name\": \"Anne\", \"address\": null}, {\"name\": \"Bob\"}]", PERSON_ARRAY_TYPE,
+                    "missing required field 'address' of type 'binding:Person' at line: 1 column: 51");
+    }
+
+    @Test
+    void testOptionalAndDefaultedFields() {
+        BMap<BString, Object> person = (BMap<BString, Object>) parse("{\"name\": \"Anne\", \"address\": null}",
+                                                                     PERSON_TYPE);
+        Assert.assertEquals(person.get(key("age")), 18L);
+        Assert.assertFalse(person.containsKey(key("tags")));
+        Assert.assertEquals(person.size(), 3);
+
+        person = (BMap<BString, Object>) parse("{\"age\": 21, \"name\": \"Anne\", \"address\": {\"city\": \"Galle\"}}",
+                                               PERSON_TYPE);
+        Assert.assertEquals(person.get(key("age")), 21L);
+        Assert.assertFalse(((BMap<?, ?>) person.get(key("address"))).containsKey(key("zip")));
+    }
+
+    @Test
+    void testOpenRecordKeepsUnknownFields() {
+        BMap<BString, Object> team = (BMap<BString, Object>) parse(
+                "{\"name\": \"runtime\", \"members\": [], \"founded\": 2016, \"meta\": {\"labels\": [\"x\", 1.5]}}",
+                TEAM_TYPE);
+        Assert.assertEquals(team.size(), 4);
+        Assert.assertEquals(team.get(key("founded")), 2016L);
+        Assert.assertEquals(StringUtils.getJsonString(team.get(key("meta"))), "{\"labels\":[\"x\", 1.5]}");
+    }
+
+    @Test
+    void testClosedRecordSkipsUnknownFields() {
+        BMap<BString, Object> person = (BMap<BString, Object>) parse(
+                "{\"id\": 7, \"name\": \"Anne\", \"extra\": {\"nested\": [1, {\"a\": \"}]\"}, []]}, " +
+                        "\"address\": {\"city\": \"Galle\", \"country\": \"LK\"}, \"flag\": true}", PERSON_TYPE);
+        Assert.assertEquals(person.size(), 3);
+        Assert.assertFalse(person.containsKey(key("id")));
+        Assert.assertFalse(person.containsKey(key("extra")));
+        Assert.assertEquals(((BMap<?, ?>) person.get(key("address"))).size(), 1);
+
+        // skipped values are still checked to be well formed
+        assertError("{\"name\": \"Anne\", \"address\": null, \"extra\": [1, }", PERSON_TYPE,
+                    "unrecognized token '}' at line: 1 column: 48");
+        assertError("{\"name\": \"Anne\", \"address\": null, \"extra\": tru}", PERSON_TYPE,
+                    "unrecognized token 'tru' at line: 1 column: 46");
+    }
+
+    @Test
+    void testMapsOfRecords() {
+        Type mapType = TypeCreator.createMapType(ADDRESS_TYPE);
+        BMap<BString, Object> addresses = (BMap<BString, Object>) parse(
+                "{\"home\": {\"city\": \"Kandy\"}, \"work\": {\"city\": \"Colombo\", \"zip\": \"00300\"}}", mapType);
+        Assert.assertEquals(addresses.getType(), mapType);
+        Assert.assertEquals(((BMap<?, ?>) addresses.get(key("work"))).getType(), ADDRESS_TYPE);
+        assertError("{\"home\": [\"Kandy\"]}", mapType,
+                    "incompatible types: expected 'binding:Address', found 'json[]' at line: 1 column: 10");
+    }
+
+    @Test
+    void testIsBindable() {
+        Assert.assertTrue(UTF8JSONParser.isBindable(TEAM_TYPE));
+        Assert.assertTrue(UTF8JSONParser.isBindable(PERSON_ARRAY_TYPE));
+        Assert.assertTrue(UTF8JSONParser.isBindable(TypeCreator.createMapType(NUMBERS_TYPE)));
+        // values of these types are converted from json with cloneWithType
+        Assert.assertFalse(UTF8JSONParser.isBindable(TypeCreator.createUnionType(
+                Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING))));
+        Assert.assertFalse(UTF8JSONParser.isBindable(TypeCreator.createArrayType(PERSON_TYPE, -1, true)));
+        Assert.assertFalse(UTF8JSONParser.isBindable(TypeCreator.createRecordType(
+                "Any", MODULE, 0, fields(field("value", PredefinedTypes.TYPE_ANY, Flags.REQUIRED)), null, true, 0)));
+    }
+
+    private static Object parse(String json, Type type) {
+        return UTF8JSONParser.parse(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)), type);
+    }
+
+    private static void assertError(String json, Type type, String message) {
+        try {
+            parse(json, type);
+            Assert.fail("expected an error");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(), message);
+        }
+    }
+
+    private static BString key(String name) {
+        return StringUtils.fromString(name);
+    }
+
+    private static Field field(String name, Type type, int flags) {
+        return TypeCreator.createField(type, name, flags);
+    }
+
+    private static Map<String, Field> fields(Field... fields) {
+        Map<String, Field> fieldMap = new LinkedHashMap<>();
+        for (Field field : fields) {
+            fieldMap.put(field.getFieldName(), field);
+        }
+        return fieldMap;
+    }
+
+    /**
+     * Creates the records of the test module, the way the value creator of a module created by the compiler does.
+     */
+    private static class TestValueCreator extends ValueCreator {
+
+        @Override
+        public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+            switch (recordTypeName) {
+                case "Address":
+                    return new MapValueImpl<>(ADDRESS_TYPE);
+                case "Person":
+                    MapValue<BString, Object> person = new MapValueImpl<>(PERSON_TYPE);
+                    person.put(key("age"), 18L);
+                    return person;
+                case "Team":
+                    return new MapValueImpl<>(TEAM_TYPE);
+                case "Numbers":
+                    return new MapValueImpl<>(NUMBERS_TYPE);
+                default:
+                    throw new BallerinaException("record type '" + recordTypeName + "' not found");
+            }
+        }
+
+        @Override
+        public BObject createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                         Map<String, Object> properties, Object[] args) {
+            throw new BallerinaException("object type '" + objectTypeName + "' not found");
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.JSONParser;
+import io.ballerina.runtime.JSONParser.NonStringValueProcessingMode;
+import io.ballerina.runtime.TypeChecker;
+import io.ballerina.runtime.UTF8JSONParser;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.util.exceptions.BallerinaException;
+import io.ballerina.runtime.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Test cases for {@link UTF8JSONParser}.
+ */
+public class UTF8JSONParserTests {
+
+    @DataProvider(name = "jsonDocuments")
+    public Object[][] jsonDocuments() {
+        return new Object[][]{
+                {"{\"name\": \"John\", \"age\": 30, \"tags\": [\"a\", \"b\"], \"address\": null}"},
+                {"[true, false, null, 1, -1, 0.5, \"\"]"},
+                {"\"a\\\"b\\\\c\\/d\\be\\ff\\ng\\rh\\ti\\u0041\""},
+                {"{\"\\u00e9t\\u00e9\": \"caf\\u00e9\", \"emoji\": \"\\uD83D\\uDE00\"}"},
+                {"{}"},
+                {"[]"},
+                {"{\"a\": {}, \"b\": [], \"c\": [{}, []]}"},
+                {"-0"},
+                {"-0.0"},
+                {"999999999999999999"},
+                {"-999999999999999999"},
+                {"9223372036854775807"},
+                {"-9223372036854775808"},
+                {"[1.5, -2.25, 100.0, 1.0E10, 2.5e-3]"},
+                {"  \n\t {\"a\" : [ 1 , 2 ] } \r\n "},
+        };
+    }
+
+    @Test(dataProvider = "jsonDocuments")
+    void testParseMatchesJSONParser(String json) {
+        for (NonStringValueProcessingMode mode : NonStringValueProcessingMode.values()) {
+            Object expected = JSONParser.parse(json, mode);
+            Object actual = parse(json, mode);
+            Assert.assertTrue(TypeChecker.isEqual(expected, actual),
+                              mode + ": expected " + StringUtils.getJsonString(expected) + ", but found " +
+                                      StringUtils.getJsonString(actual));
+            Assert.assertEquals(getTypeNames(actual), getTypeNames(expected), mode.toString());
+        }
+    }
+
+    @Test
+    void testEscapedCharacters() {
+        BString str = (BString) parse("\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u0041\\u00E9\"");
+        Assert.assertEquals(str.getValue(), "\"\\/\b\f\n\r\tA\u00E9");
+    }
+
+    @Test
+    void testEscapedSurrogatePair() {
+        BString str = (BString) parse("\"a\\uD83D\\uDE00b\"");
+        Assert.assertEquals(str.getValue(), "a\uD83D\uDE00b");
+        Assert.assertEquals(str.length(), 3);
+        Assert.assertEquals(str.getCodePoint(1), 0x1F600);
+        Assert.assertEquals(str.getCodePoint(2), (int) 'b');
+    }
+
+    @Test
+    void testMultiByteCharacters() {
+        String value = "\u00E9\u20AC\uD83D\uDE00\u4E2D";
+        BMap<BString, Object> map = (BMap<BString, Object>) parse("{\"" + value + "\": \"" + value + "\"}");
+        BString key = StringUtils.fromString(value);
+        BString str = (BString) map.get(key);
+        Assert.assertEquals(str.getValue(), value);
+        Assert.assertEquals(str.length(), 4);
+        Assert.assertEquals(map.getKeys()[0].length(), 4);
+    }
+
+    @Test
+    void testMultiByteCharactersAcrossBufferBoundaries() {
+        // strings and field names longer than the 8KB read buffer, so characters are split across two reads
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            sb.append("\u00E9\uD83D\uDE00");
+        }
+        String value = sb.toString();
+        String json = "{\"" + value + "\": [\"" + value + "\"]}";
+        Object expected = JSONParser.parse(json);
+        Object actual = UTF8JSONParser.parse(toStream(json), NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertTrue(TypeChecker.isEqual(expected, actual));
+        BArray array = (BArray) ((BMap<BString, Object>) actual).get(StringUtils.fromString(value));
+        Assert.assertEquals(((BString) array.get(0)).length(), 6000);
+    }
+
+    @Test
+    void testInvalidUTF8() {
+        // a truncated sequence, a stray continuation byte and an invalid lead byte, each decoded as U+FFFD
+        byte[] bytes = {'"', 'a', (byte) 0xC3, 'b', (byte) 0x80, 'c', (byte) 0xFF, '"'};
+        BString str = (BString) UTF8JSONParser.parse(ByteBuffer.wrap(bytes),
+                                                     NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertEquals(str.getValue(), "a\uFFFDb\uFFFDc\uFFFD");
+        Assert.assertEquals(str.getValue(), new String(bytes, 1, bytes.length - 2, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testTruncatedMultiByteCharacter() {
+        byte[] bytes = {'"', 'a', (byte) 0xE2, (byte) 0x82};
+        assertError(bytes, "unexpected end of JSON document at line: 1 column: 3");
+    }
+
+    @Test
+    void testTruncatedDocuments() {
+        assertError("{\"a\": [1, 2", "unexpected end of JSON document at line: 1 column: 11");
+        assertError("{\"a\": ", "unexpected end of JSON document at line: 1 column: 6");
+        assertError("{\"a\"", "unexpected end of JSON document at line: 1 column: 4");
+        assertError("{\"a\": 1,", "unexpected end of JSON document at line: 1 column: 8");
+        assertError("\"\\u00", "unexpected end of JSON document at line: 1 column: 5");
+        assertError("\"abc", "unexpected end of JSON document at line: 1 column: 4");
+        assertError("[", "unexpected end of JSON document at line: 1 column: 1");
+        assertError("", "empty JSON document at line: 1 column: 0");
+        assertError("  \n ", "empty JSON document at line: 2 column: 1");
+    }
+
+    @Test
+    void testNegativeZero() {
+        Object value = parse("-0");
+        Assert.assertTrue(value instanceof Double);
+        Assert.assertEquals(1 / (Double) value, Double.NEGATIVE_INFINITY);
+        Assert.assertEquals(parse("0"), 0L);
+        Assert.assertEquals(UTF8JSONParser.parse(toBuffer("-0"), NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING),
+                            new DecimalValue("-0"));
+    }
+
+    @Test
+    void testLongIntegers() {
+        // up to 18 digits are accumulated as a long, longer ones are checked for overflow
+        Assert.assertEquals(parse("123456789012345678"), 123456789012345678L);
+        Assert.assertEquals(parse("-123456789012345678"), -123456789012345678L);
+        Assert.assertEquals(parse("1234567890123456789"), 1234567890123456789L);
+        Assert.assertEquals(parse("9223372036854775807"), Long.MAX_VALUE);
+        Assert.assertEquals(parse("-9223372036854775808"), Long.MIN_VALUE);
+        Assert.assertEquals(parse("[0001]"), parse("[1]"));
+        assertError("9223372036854775808", "unrecognized token '9223372036854775808' at line: 1 column: 19");
+        assertError("-9223372036854775809", "unrecognized token '-9223372036854775809' at line: 1 column: 20");
+    }
+
+    @Test
+    void testFloatsAndExponents() {
+        Assert.assertEquals(parse("1.5"), new DecimalValue("1.5"));
+        Assert.assertEquals(parse("-2.5E-3"), new DecimalValue("-2.5E-3"));
+        Assert.assertEquals(parse("1.0e2", NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING), 100.0);
+        Assert.assertEquals(parse("1e2", NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING), 100.0);
+        Assert.assertEquals(parse("12", NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING), 12.0);
+        Assert.assertEquals(parse("-4E+2", NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING),
+                            new DecimalValue("-4E+2"));
+        Assert.assertEquals(parse("12", NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING),
+                            new DecimalValue("12"));
+        assertError("1.2.3", "unrecognized token '1.2.3' at line: 1 column: 5");
+    }
+
+    @Test
+    void testDeepNesting() {
+        int depth = 100000;
+        char[] chars = new char[depth * 2];
+        Arrays.fill(chars, 0, depth, '[');
+        Arrays.fill(chars, depth, depth * 2, ']');
+        Object value = parse(new String(chars));
+        for (int i = 1; i < depth; i++) {
+            value = ((BArray) value).get(0);
+        }
+        Assert.assertEquals(((BArray) value).size(), 0);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            sb.append("{\"a\":");
+        }
+        sb.append("{}");
+        for (int i = 0; i < depth; i++) {
+            sb.append('}');
+        }
+        value = parse(sb.toString());
+        BString key = StringUtils.fromString("a");
+        for (int i = 0; i < depth; i++) {
+            value = ((BMap<BString, Object>) value).get(key);
+        }
+        Assert.assertEquals(((BMap<?, ?>) value).size(), 0);
+    }
+
+    @Test
+    void testEmptyContainers() {
+        BMap<BString, Object> map = (BMap<BString, Object>) parse("{ \"a\" : { } , \"b\" : [ ] }");
+        Assert.assertEquals(map.size(), 2);
+        Assert.assertEquals(((BMap<?, ?>) map.get(StringUtils.fromString("a"))).size(), 0);
+        Assert.assertEquals(((BArray) map.get(StringUtils.fromString("b"))).size(), 0);
+        Assert.assertEquals(StringUtils.getJsonString(parse("[{},[],[{}]]")), "[{}, [], [{}]]");
+    }
+
+    @Test
+    void testErrorPositions() {
+        assertError("{\"a\": 1,\n  \"b\" 2}", "expected : at line: 2 column: 7");
+        assertError("{\"a\": 1\n\n  \"b\": 2}", "expected , or } at line: 3 column: 3");
+        assertError("[1, 2\n 3]", "expected , or ] at line: 2 column: 2");
+        assertError("{\"a\": tru}", "unrecognized token 'tru' at line: 1 column: 9");
+        assertError("{\"a\": 1} x", "JSON document has already ended at line: 1 column: 10");
+        // columns are counted in characters, not in bytes
+        assertError("\"\u00E9\u00E9\\q\"", "expected escaped characters at line: 1 column: 5");
+        assertError("{\"a\": \"\uD83D\uDE00\",\n \"b\": \"\u20AC\" 1}", "expected , or } at line: 2 column: 11");
+    }
+
+    @Test
+    void testErrorPositionsAcrossBufferBoundaries() {
+        char[] spaces = new char[10000];
+        Arrays.fill(spaces, ' ');
+        String padding = new String(spaces);
+        assertError("[" + padding + "1 2]", "expected , or ] at line: 1 column: 10004");
+        try {
+            UTF8JSONParser.parse(toStream("[" + padding + "1 2]"), NonStringValueProcessingMode.FROM_JSON_STRING);
+            Assert.fail("expected an error");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(), "expected , or ] at line: 1 column: 10004");
+        }
+    }
+
+    @Test
+    void testByteBufferOffset() {
+        byte[] bytes = "xx[1, {\"a\": \"b\"}]yy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+        Object value = UTF8JSONParser.parse(buffer, NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertEquals(StringUtils.getJsonString(value), "[1, {\"a\":\"b\"}]");
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    private static Object parse(String json) {
+        return parse(json, NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    private static Object parse(String json, NonStringValueProcessingMode mode) {
+        return UTF8JSONParser.parse(toBuffer(json), mode);
+    }
+
+    private static void assertError(String json, String message) {
+        assertError(json.getBytes(StandardCharsets.UTF_8), message);
+    }
+
+    private static void assertError(byte[] bytes, String message) {
+        try {
+            UTF8JSONParser.parse(ByteBuffer.wrap(bytes), NonStringValueProcessingMode.FROM_JSON_STRING);
+            Assert.fail("expected an error");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(), message);
+        }
+    }
+
+    private static ByteBuffer toBuffer(String json) {
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String getTypeNames(Object value) {
+        if (value instanceof BArray) {
+            StringBuilder sb = new StringBuilder("[");
+            BArray array = (BArray) value;
+            for (int i = 0; i < array.size(); i++) {
+                sb.append(getTypeNames(array.get(i))).append(',');
+            }
+            return sb.append(']').toString();
+        }
+        if (value instanceof BMap) {
+            StringBuilder sb = new StringBuilder("{");
+            BMap<BString, Object> map = (BMap<BString, Object>) value;
+            for (BString key : map.getKeys()) {
+                sb.append(key).append(':').append(getTypeNames(map.get(key))).append(',');
+            }
+            return sb.append('}').toString();
+        }
+        return value == null ? "()" : value.getClass().getSimpleName();
+    }
+}
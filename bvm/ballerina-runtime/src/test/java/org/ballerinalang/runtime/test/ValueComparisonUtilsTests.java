@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.ValueComparisonUtils;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.TypeCreator;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static io.ballerina.runtime.ValueComparisonUtils.compareValues;
+
+/**
+ * Test cases for {@link ValueComparisonUtils}.
+ */
+public class ValueComparisonUtilsTests {
+
+    @Test(dataProvider = "orderedValues")
+    void testCompareValues(Object smaller, Object larger) {
+        Assert.assertTrue(compareValues(smaller, larger, true) < 0);
+        Assert.assertTrue(compareValues(larger, smaller, true) > 0);
+        Assert.assertTrue(compareValues(smaller, larger, false) > 0);
+        Assert.assertTrue(compareValues(larger, smaller, false) < 0);
+        Assert.assertEquals(compareValues(smaller, smaller, true), 0);
+        Assert.assertEquals(compareValues(larger, larger, false), 0);
+    }
+
+    @DataProvider(name = "orderedValues")
+    Object[][] orderedValues() {
+        return new Object[][]{
+                {-5L, 3L},
+                {Long.MIN_VALUE, Long.MAX_VALUE},
+                {1, 200},
+                {2, 3L},
+                {-1.5, 0.0},
+                {Double.NEGATIVE_INFINITY, Double.MAX_VALUE},
+                {ValueCreator.createDecimalValue("1.05"), ValueCreator.createDecimalValue("1.5")},
+                {false, true},
+                {StringUtils.fromString(""), StringUtils.fromString("a")},
+                {StringUtils.fromString("ab"), StringUtils.fromString("b")},
+                // U+FFFD is a single UTF-16 code unit above the surrogates, but comes before U+1F600
+                {StringUtils.fromString("\uFFFD"), StringUtils.fromString("\uD83D\uDE00")},
+                {list(1L, 2L), list(1L, 3L)},
+                {list(1L), list(1L, 0L)},
+                {list(), list(-1L)},
+        };
+    }
+
+    @Test
+    void testNilAndNaNComeLast() {
+        for (boolean isAscending : new boolean[]{true, false}) {
+            Assert.assertTrue(compareValues(5L, null, isAscending) < 0);
+            Assert.assertTrue(compareValues(null, 5L, isAscending) > 0);
+            Assert.assertEquals(compareValues(null, null, isAscending), 0);
+            Assert.assertTrue(compareValues(1.0, Double.NaN, isAscending) < 0);
+            Assert.assertTrue(compareValues(Double.NaN, Double.POSITIVE_INFINITY, isAscending) > 0);
+            Assert.assertTrue(compareValues(Double.NaN, null, isAscending) < 0);
+            Assert.assertEquals(compareValues(Double.NaN, Double.NaN, isAscending), 0);
+            // members of lists are placed the same way
+            Assert.assertTrue(compareValues(list(1L, 2L), list(1L, null), isAscending) < 0);
+            Assert.assertTrue(compareValues(list(null, 2L), list(1L, 2L), isAscending) > 0);
+        }
+    }
+
+    @Test
+    void testEqualValues() {
+        Assert.assertEquals(compareValues(-0.0, 0.0, true), 0);
+        Assert.assertEquals(compareValues(0.0, -0.0, false), 0);
+        Assert.assertEquals(compareValues(ValueCreator.createDecimalValue("1.0"),
+                                          ValueCreator.createDecimalValue("1.00"), true), 0);
+        Assert.assertEquals(compareValues(list(1L, StringUtils.fromString("a")), list(1L, StringUtils.fromString("a")),
+                                          true), 0);
+    }
+
+    @Test
+    void testCompareCodePoints() {
+        String[] ordered = {"", "A", "Z", "a", "ab", "\u00E9", "\uE000", "\uFFFD", "\uD800\uDC00", "\uD83D\uDE00",
+                "\uD83D\uDE00a", "\uDBFF\uDFFF"};
+        for (int i = 0; i < ordered.length; i++) {
+            for (int j = 0; j < ordered.length; j++) {
+                int c = ValueComparisonUtils.compareCodePoints(ordered[i], ordered[j]);
+                Assert.assertEquals(Integer.signum(c), Integer.compare(i, j), ordered[i] + " vs " + ordered[j]);
+            }
+        }
+    }
+
+    @Test
+    void testMismatchedTypes() {
+        assertUnordered(5L, 5.0, "expected an ordered type, but found 'int|float'");
+        assertUnordered(StringUtils.fromString("1"), 1L, "expected an ordered type, but found 'string|int'");
+        assertUnordered(list(1L), list(StringUtils.fromString("a")),
+                        "expected an ordered type, but found 'int|string'");
+        assertUnordered(ValueCreator.createMapValue(), 1L, "expected an ordered type, but found 'map'");
+    }
+
+    private static void assertUnordered(Object value1, Object value2, String message) {
+        try {
+            compareValues(value1, value2, true);
+            Assert.fail("expected an error");
+        } catch (BError e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), "{ballerina/lang.array}InvalidTypeToSort");
+            Assert.assertTrue(e.getDetails().toString().contains(message), e.getDetails().toString());
+        }
+    }
+
+    private static BArray list(Object... members) {
+        return ValueCreator.createArrayValue(members, TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+    }
+}
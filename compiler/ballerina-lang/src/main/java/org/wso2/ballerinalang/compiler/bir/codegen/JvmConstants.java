@@ -256,6 +256,7 @@ public class JvmConstants {
     public static final String GLOBAL_LOCK_NAME = "lock";
     public static final String SERVICE_EP_AVAILABLE = "$serviceEPAvailable";
     public static final String LOCK_STORE_VAR_NAME = "$LOCK_STORE";
+    public static final String LOCK_VAR_NAME_PREFIX = "$LOCK_";
     public static final String RECORD_INIT_WRAPPER_NAME = "$init";
 
 
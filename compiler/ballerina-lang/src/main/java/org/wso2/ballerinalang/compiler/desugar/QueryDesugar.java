@@ -19,8 +19,10 @@ package org.wso2.ballerinalang.compiler.desugar;
 import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -36,9 +38,11 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTypedescType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
@@ -178,6 +182,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.runtime.util.BLangConstants.UNDERSCORE;
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -196,6 +201,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
+    private static final Name QUERY_CREATE_TOP_K_ORDER_BY_FUNCTION = new Name("createTopKOrderByFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
     private static final Name QUERY_CREATE_LIMIT_FUNCTION = new Name("createLimitFunction");
@@ -206,13 +212,25 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_LOOKUP_TABLE_BY_FIELD_FUNCTION = new Name("lookupTableByField");
+    private static final Name QUERY_LOOKUP_TABLE_BY_FIELD_RANGE_FUNCTION = new Name("lookupTableByFieldRange");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
+    private static final Map<PackageID, Set<String>> MUTATING_LANG_LIB_FUNCTIONS = Map.of(
+            PackageID.ARRAY, Set.of("push", "pop", "shift", "unshift", "remove", "removeAll", "setLength", "sort"),
+            PackageID.MAP, Set.of("remove", "removeIfHasKey", "removeAll"),
+            PackageID.TABLE, Set.of("put", "add", "remove", "removeIfHasKey", "removeAll"),
+            PackageID.XML, Set.of("setName", "setChildren"),
+            PackageID.VALUE, Set.of("mergeJson"));
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
     private BVarSymbol currentFrameSymbol;
     private BLangBlockFunctionBody currentLambdaBody;
     private Map<String, BSymbol> identifiers;
     private int streamElementCount = 0;
+    private boolean isNativeQuery;
+    private List<BLangLiteral> nativePipelineFlags;
+    private boolean isParallelQuery;
+    private List<BLangLiteral> parallelPipelineFlags;
     private final Desugar desugar;
     private final SymbolTable symTable;
     private final SymbolResolver symResolver;
@@ -248,7 +266,8 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
-        BLangVariableReference streamRef = buildStream(clauses, queryExpr.type, env, queryBlock);
+        BLangVariableReference streamRef = buildStream(clauses, queryExpr.type, env, queryBlock,
+                !queryExpr.isStream, !queryExpr.isStream && queryExpr.hasIsolatedClauses);
         BLangStatementExpression streamStmtExpr;
         if (queryExpr.isStream) {
             streamStmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock, streamRef);
@@ -299,7 +318,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryAction.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
-        BLangVariableReference streamRef = buildStream(clauses, queryAction.type, env, queryBlock);
+        BLangVariableReference streamRef = buildStream(clauses, queryAction.type, env, queryBlock, false, false);
         BLangVariableReference result = getStreamFunctionVariableRef(queryBlock,
                 QUERY_CONSUME_STREAM_FUNCTION, symTable.errorOrNilType, Lists.of(streamRef), pos);
         BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock, result);
@@ -314,16 +333,28 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @param resultType result type of the query output.
      * @param env symbol env.
      * @param block parent block to write to.
+     * @param useTableIndex whether the input table can be narrowed using a field index.
+     * @param isolatedClauses whether the clauses are isolated and the result of the query is not a stream, so that
+     *                        the query can be evaluated in parallel for large inputs.
      * @return variableReference to created _StreamPipeline.
      */
-    BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
+    BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block,
+                                       boolean useTableIndex, boolean isolatedClauses) {
         this.env = env;
+        this.isNativeQuery = true;
+        this.nativePipelineFlags = new ArrayList<>();
+        this.isParallelQuery = isolatedClauses && hasParallelizableClauses(clauses);
+        this.parallelPipelineFlags = new ArrayList<>();
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
-        final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+        BLangExpression collection = initFromClause.collection;
+        if (useTableIndex && clauses.size() > 1 && clauses.get(1).getKind() == NodeKind.WHERE) {
+            collection = addTableIndexLookup(block, initFromClause, (BLangWhereClause) clauses.get(1));
+        }
+        final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos, collection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
-        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+        for (int i = 1; i < clauses.size(); i++) {
+            BLangNode clause = clauses.get(i);
             switch (clause.getKind()) {
                 case FROM:
                     BLangFromClause fromClause = (BLangFromClause) clause;
@@ -350,8 +381,20 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
-                    BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause);
-                    addStreamFunction(block, initPipeline, orderFunc);
+                    BLangOrderByClause orderByClause = (BLangOrderByClause) clause;
+                    if (i + 1 < clauses.size() && clauses.get(i + 1).getKind() == NodeKind.LIMIT) {
+                        // Only the first `limit` frames need to be kept while ordering, hence the limit function
+                        // is passed to the order by function as well.
+                        BLangVariableReference topKLimitFunc = addLimitFunction(block,
+                                (BLangLimitClause) clauses.get(++i));
+                        BLangVariableReference topKOrderFunc = addOrderByFunction(block, orderByClause,
+                                topKLimitFunc);
+                        addStreamFunction(block, initPipeline, topKOrderFunc);
+                        addStreamFunction(block, initPipeline, topKLimitFunc);
+                    } else {
+                        BLangVariableReference orderFunc = addOrderByFunction(block, orderByClause, null);
+                        addStreamFunction(block, initPipeline, orderFunc);
+                    }
                     break;
                 case SELECT:
                     BLangVariableReference selectFunc = addSelectFunction(block, (BLangSelectClause) clause);
@@ -371,13 +414,25 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
             }
         }
+        // All the clause lambdas are visited by now, so whether any of them can yield is known.
+        for (BLangLiteral nativePipelineFlag : nativePipelineFlags) {
+            nativePipelineFlag.value = isNativeQuery;
+        }
+        for (BLangLiteral parallelPipelineFlag : parallelPipelineFlags) {
+            parallelPipelineFlag.value = isNativeQuery && isParallelQuery;
+        }
+        nativePipelineFlags = null;
+        parallelPipelineFlags = null;
         return addGetStreamFromPipeline(block, initPipeline);
     }
 
     // ---- Util methods to create the stream pipeline. ---- //
     /**
      * Desugar fromClause/joinClause to below and return a reference to created join _StreamPipeline.
-     * _StreamPipeline pipeline = createPipeline(collection);
+     * _StreamPipeline pipeline = createPipeline(collection, resType, isNative, isParallel);
+     * The pipeline is executed natively if none of the clauses of the query can yield, and may be executed in
+     * parallel if the clauses also do not mutate any value, which is only known once all the clauses are desugared.
+     * Hence `isNative` and `isParallel` are set at the end of {@link #buildStream}.
      *
      * @param blockStmt  parent block to write to.
      * @param pos diagnostic pos of the collection.
@@ -404,8 +459,164 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangTypedescExpr typedescExpr = new BLangTypedescExpr();
         typedescExpr.resolvedType = resultType;
         typedescExpr.type = typedescType;
+        if (!isNativelyIterable(collection.type)) {
+            isNativeQuery = false;
+        }
+        BLangLiteral isNative = ASTBuilderUtil.createLiteral(pos, symTable.booleanType, false);
+        nativePipelineFlags.add(isNative);
+        BLangLiteral isParallel = ASTBuilderUtil.createLiteral(pos, symTable.booleanType, false);
+        parallelPipelineFlags.add(isParallel);
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_PIPELINE_FUNCTION,
-                Lists.of(valueVarRef, typedescExpr), pos);
+                Lists.of(valueVarRef, typedescExpr, isNative, isParallel), pos);
+    }
+
+    /**
+     * Narrow the input table of the query using a field index of the table, if the where clause following the from
+     * clause compares a field of the row with a value that does not depend on the query. The where clause is still
+     * applied to the rows returned by the lookup. Returns the collection as it is if there is no such comparison.
+     * (Type)[]|table<map<Type>> collection = lookupTableByField(tbl, "id", id);
+     * (Type)[]|table<map<Type>> collection = lookupTableByFieldRange(tbl, "age", 18, true, (), false);
+     *
+     * @param blockStmt   parent block to write to.
+     * @param fromClause  first from clause of the query.
+     * @param whereClause where clause which follows the from clause.
+     * @return expression to be used as the collection of the query.
+     */
+    private BLangExpression addTableIndexLookup(BLangBlockStmt blockStmt, BLangFromClause fromClause,
+                                                BLangWhereClause whereClause) {
+        BLangExpression collection = fromClause.collection;
+        BLangVariable variable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        if (collection.type.tag != TypeTags.TABLE || variable.getKind() != NodeKind.VARIABLE
+                || variable.symbol == null) {
+            return collection;
+        }
+        BLangBinaryExpr condition = findIndexableCondition(whereClause.expression, variable.symbol);
+        if (condition == null) {
+            return collection;
+        }
+
+        Location pos = whereClause.pos;
+        boolean fieldOnLhs = isRowFieldAccess(condition.lhsExpr, variable.symbol);
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) (fieldOnLhs ? condition.lhsExpr :
+                condition.rhsExpr);
+        BLangExpression value = desugar.addConversionExprIfRequired(
+                copyQueryInvariantExpr(pos, fieldOnLhs ? condition.rhsExpr : condition.lhsExpr),
+                symTable.anydataType);
+        BLangLiteral fieldName = ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldAccess.field.value);
+        BType lookupType = BUnionType.create(null, new BArrayType(((BTableType) collection.type).constraint),
+                collection.type);
+
+        OperatorKind opKind = condition.opKind;
+        if (!fieldOnLhs) {
+            // `k < x.f` is the same as `x.f > k`.
+            switch (opKind) {
+                case LESS_THAN:
+                    opKind = OperatorKind.GREATER_THAN;
+                    break;
+                case LESS_EQUAL:
+                    opKind = OperatorKind.GREATER_EQUAL;
+                    break;
+                case GREATER_THAN:
+                    opKind = OperatorKind.LESS_THAN;
+                    break;
+                case GREATER_EQUAL:
+                    opKind = OperatorKind.LESS_EQUAL;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (opKind == OperatorKind.EQUAL) {
+            return getStreamFunctionVariableRef(blockStmt, QUERY_LOOKUP_TABLE_BY_FIELD_FUNCTION, lookupType,
+                    Lists.of(collection, fieldName, value), pos);
+        }
+        boolean lowerBound = opKind == OperatorKind.GREATER_THAN || opKind == OperatorKind.GREATER_EQUAL;
+        boolean inclusive = opKind == OperatorKind.GREATER_EQUAL || opKind == OperatorKind.LESS_EQUAL;
+        BLangExpression unbounded = ASTBuilderUtil.createLiteral(pos, symTable.nilType, Names.NIL_VALUE);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_LOOKUP_TABLE_BY_FIELD_RANGE_FUNCTION, lookupType,
+                Lists.of(collection, fieldName,
+                        lowerBound ? value : unbounded,
+                        ASTBuilderUtil.createLiteral(pos, symTable.booleanType, lowerBound && inclusive),
+                        lowerBound ? unbounded : value,
+                        ASTBuilderUtil.createLiteral(pos, symTable.booleanType, !lowerBound && inclusive)),
+                pos);
+    }
+
+    private BLangBinaryExpr findIndexableCondition(BLangExpression expr, BSymbol rowSymbol) {
+        if (expr.getKind() == NodeKind.GROUP_EXPR) {
+            return findIndexableCondition(((BLangGroupExpr) expr).expression, rowSymbol);
+        }
+        if (expr.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+        switch (binaryExpr.opKind) {
+            case AND:
+                BLangBinaryExpr condition = findIndexableCondition(binaryExpr.lhsExpr, rowSymbol);
+                return condition != null ? condition : findIndexableCondition(binaryExpr.rhsExpr, rowSymbol);
+            case EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+                return isIndexableCondition(binaryExpr, rowSymbol) ? binaryExpr : null;
+            default:
+                return null;
+        }
+    }
+
+    private boolean isIndexableCondition(BLangBinaryExpr binaryExpr, BSymbol rowSymbol) {
+        BLangExpression fieldExpr;
+        BLangExpression valueExpr;
+        if (isRowFieldAccess(binaryExpr.lhsExpr, rowSymbol)) {
+            fieldExpr = binaryExpr.lhsExpr;
+            valueExpr = binaryExpr.rhsExpr;
+        } else if (isRowFieldAccess(binaryExpr.rhsExpr, rowSymbol)) {
+            fieldExpr = binaryExpr.rhsExpr;
+            valueExpr = binaryExpr.lhsExpr;
+        } else {
+            return false;
+        }
+
+        int tag = fieldExpr.type.tag;
+        boolean numeric = tag == TypeTags.INT || tag == TypeTags.FLOAT || tag == TypeTags.DECIMAL;
+        boolean indexable = binaryExpr.opKind == OperatorKind.EQUAL ?
+                numeric || tag == TypeTags.STRING || tag == TypeTags.BOOLEAN : numeric;
+        return indexable && valueExpr.type.tag == tag && isQueryInvariant(valueExpr);
+    }
+
+    private boolean isRowFieldAccess(BLangExpression expr, BSymbol rowSymbol) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return false;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        return !fieldAccess.optionalFieldAccess && fieldAccess.expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF
+                && ((BLangSimpleVarRef) fieldAccess.expr).symbol == rowSymbol
+                && fieldAccess.expr.type.tag == TypeTags.RECORD;
+    }
+
+    private boolean isQueryInvariant(BLangExpression expr) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                int tag = expr.type.tag;
+                return tag == TypeTags.INT || tag == TypeTags.STRING || tag == TypeTags.BOOLEAN;
+            case SIMPLE_VARIABLE_REF:
+                // Only variables visible outside the query, the ones introduced by the query live in the frame.
+                BLangSimpleVarRef varRef = (BLangSimpleVarRef) expr;
+                return varRef.symbol instanceof BVarSymbol && varRef.symbol == symResolver.lookupClosureVarSymbol(env,
+                        names.fromIdNode(varRef.variableName), SymTag.VARIABLE);
+            default:
+                return false;
+        }
+    }
+
+    private BLangExpression copyQueryInvariantExpr(Location pos, BLangExpression expr) {
+        if (expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF) {
+            return ASTBuilderUtil.createVariableRef(pos, ((BLangSimpleVarRef) expr).symbol);
+        }
+        return ASTBuilderUtil.createLiteral(pos, expr.type, ((BLangLiteral) expr).value);
     }
 
     /**
@@ -468,6 +679,9 @@ public class QueryDesugar extends BLangNodeVisitor {
         Location pos = fromClause.pos;
         // function(_Frame frame) returns any|error? { return collection; }
         BLangUnionTypeNode returnType = getAnyErrorNilTypeNode();
+        if (!isNativelyIterable(fromClause.collection.type)) {
+            isNativeQuery = false;
+        }
         BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
         returnNode.expr = fromClause.collection;
         returnNode.pos = pos;
@@ -566,12 +780,16 @@ public class QueryDesugar extends BLangNodeVisitor {
      * _StreamFunction orderByFunc = createOrderByFunction(function(_Frame frame) {
      * _Frame frame = {"orderKey": frame["x2"] + frame["y2"], $orderDirection$: true + false"};
      * });
+     * If the orderByClause is followed by a limit clause, createTopKOrderByFunction is called with the limit
+     * _StreamFunction instead, so that only the first `limit` frames are kept while ordering.
      *
      * @param blockStmt parent block to write to.
      * @param orderByClause  to be desugared.
+     * @param limitFunc variableReference to the limit _StreamFunction following the orderByClause, or null.
      * @return variableReference to created orderBy _StreamFunction.
      */
-    BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause) {
+    BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
+                                              BLangVariableReference limitFunc) {
         Location pos = orderByClause.pos;
         BLangLambdaFunction lambda = createActionLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -603,6 +821,10 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement orderDirectionStmt = getAddToFrameStmt(pos, frame, "$orderDirection$", sortModesArrayExpr);
         body.stmts.add(orderDirectionStmt);
         lambda.accept(this);
+        if (limitFunc != null) {
+            return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_TOP_K_ORDER_BY_FUNCTION,
+                    Lists.of(lambda, limitFunc), pos);
+        }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda), pos);
     }
 
@@ -1231,6 +1453,110 @@ public class QueryDesugar extends BLangNodeVisitor {
                 .scope.lookup(names.fromString("_Frame")).symbol;
     }
 
+    /**
+     * Returns whether the native query pipeline can iterate a collection of the given type. Streams and iterable
+     * objects other than integer ranges are iterated by calling Ballerina code, which may yield.
+     *
+     * @param type type of the collection.
+     * @return true if the collection can be iterated natively.
+     */
+    private boolean isNativelyIterable(BType type) {
+        switch (type.tag) {
+            case TypeTags.ARRAY:
+            case TypeTags.TUPLE:
+            case TypeTags.MAP:
+            case TypeTags.RECORD:
+            case TypeTags.TABLE:
+                return true;
+            case TypeTags.UNION:
+                return ((BUnionType) type).getMemberTypes().stream().allMatch(this::isNativelyIterable);
+            case TypeTags.INTERSECTION:
+                return isNativelyIterable(((BIntersectionType) type).effectiveType);
+            default:
+                return type == symTable.intRangeType || TypeTags.isStringTypeTag(type.tag)
+                        || TypeTags.isXMLTypeTag(type.tag);
+        }
+    }
+
+    /**
+     * Returns whether an invocation within a query clause may yield the strand, in which case the clause lambdas can
+     * not be called synchronously by the native query pipeline. Lang library functions only yield if they call back a
+     * function value passed to them, or if they work with streams, futures or transactions.
+     *
+     * @param invocation invocation within a query clause.
+     * @return true if the invocation may yield.
+     */
+    private boolean mayYield(BLangInvocation invocation) {
+        if (invocation.async || invocation.functionPointerInvocation || invocation.symbol == null) {
+            return true;
+        }
+        PackageID pkgID = invocation.symbol.pkgID;
+        if (!PackageID.isLangLibPackageID(pkgID) || pkgID.equals(PackageID.STREAM)
+                || pkgID.equals(PackageID.FUTURE) || pkgID.equals(PackageID.TRANSACTION)) {
+            return true;
+        }
+        for (BLangExpression arg : invocation.requiredArgs) {
+            if (isFunctionType(arg.type)) {
+                return true;
+            }
+        }
+        for (BLangExpression arg : invocation.restArgs) {
+            if (isFunctionType(arg.type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a query can be evaluated in parallel for the members of its input, as per its clauses. That is
+     * the case if each member is filtered, extended and projected independently of the others, by where, let and
+     * select clauses.
+     *
+     * @param clauses list of query clauses.
+     * @return true if the clauses can be evaluated in parallel.
+     */
+    private boolean hasParallelizableClauses(List<BLangNode> clauses) {
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case WHERE:
+                case LET_CLAUSE:
+                case SELECT:
+                case ON_CONFLICT:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether a lang library invocation within a query clause may mutate one of its arguments, in which case
+     * the clauses can not be evaluated in parallel. Other invocations do not reach a parallel query, since they may
+     * yield.
+     *
+     * @param invocation invocation within a query clause.
+     * @return true if the invocation may mutate a value.
+     */
+    private boolean mayMutate(BLangInvocation invocation) {
+        if (invocation.symbol == null) {
+            return true;
+        }
+        Set<String> mutatingFunctions = MUTATING_LANG_LIB_FUNCTIONS.get(invocation.symbol.pkgID);
+        return mutatingFunctions != null && mutatingFunctions.contains(invocation.name.value);
+    }
+
+    private boolean isFunctionType(BType type) {
+        if (type == null) {
+            return false;
+        }
+        if (type.tag == TypeTags.UNION) {
+            return ((BUnionType) type).getMemberTypes().stream().anyMatch(this::isFunctionType);
+        }
+        return type.tag == TypeTags.INVOKABLE;
+    }
+
     // ---- Visitor methods to replace frame access and mark closure variables ---- //
     @Override
     public void visit(BLangLambdaFunction lambda) {
@@ -1293,6 +1619,12 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangInvocation invocationExpr) {
+        if (mayYield(invocationExpr)) {
+            isNativeQuery = false;
+        }
+        if (mayMutate(invocationExpr)) {
+            isParallelQuery = false;
+        }
         List<BLangExpression> requiredArgs = invocationExpr.requiredArgs;
         if (invocationExpr.langLibInvocation && !requiredArgs.isEmpty()) {
             requiredArgs = requiredArgs.subList(1, requiredArgs.size());
@@ -1428,6 +1760,7 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangInvocation.BLangActionInvocation actionInvocationExpr) {
+        isNativeQuery = false;
         actionInvocationExpr.argExprs.forEach(arg -> arg.accept(this));
     }
 
@@ -1440,6 +1773,7 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangWaitExpr awaitExpr) {
+        isNativeQuery = false;
         awaitExpr.exprList.forEach(expression -> expression.accept(this));
     }
 
@@ -1714,14 +2048,17 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangWorkerFlushExpr workerFlushExpr) {
+        isNativeQuery = false;
     }
 
     @Override
     public void visit(BLangWorkerSyncSendExpr syncSendExpr) {
+        isNativeQuery = false;
     }
 
     @Override
     public void visit(BLangWaitForAllExpr waitForAllExpr) {
+        isNativeQuery = false;
         waitForAllExpr.keyValuePairs.forEach(pair -> pair.accept(this));
     }
 
@@ -1767,6 +2104,7 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangLock.BLangLockStmt lockStmtNode) {
+        isNativeQuery = false;
         lockStmtNode.body.accept(this);
     }
 
@@ -1790,6 +2128,7 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangRetry retryNode) {
+        isNativeQuery = false;
     }
 
     @Override
@@ -1826,6 +2165,7 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangQueryAction queryAction) {
+        isNativeQuery = false;
     }
 
     @Override
@@ -1878,11 +2218,13 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangLock lockNode) {
+        isNativeQuery = false;
         lockNode.body.accept(this);
     }
 
     @Override
     public void visit(BLangTransaction transactionNode) {
+        isNativeQuery = false;
         transactionNode.transactionBody.accept(this);
     }
 
@@ -1921,11 +2263,13 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangForkJoin forkJoin) {
+        isNativeQuery = false;
         forkJoin.workers.forEach(worker -> worker.accept(this));
     }
 
     @Override
     public void visit(BLangWorkerSend workerSendNode) {
+        isNativeQuery = false;
         workerSendNode.expr.accept(this);
         if (workerSendNode.keyExpr != null) {
             workerSendNode.keyExpr.accept(this);
@@ -1934,6 +2278,7 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangWorkerReceive workerReceiveNode) {
+        isNativeQuery = false;
         workerReceiveNode.sendExpression.accept(this);
         if (workerReceiveNode.keyExpr != null) {
             workerReceiveNode.keyExpr.accept(this);
@@ -1325,9 +1325,18 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangQueryExpr queryExpr) {
-        for (BLangNode clause : queryExpr.getQueryClauses()) {
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        analyzeNode(clauses.get(0), env);
+
+        // The isolatedness of the clauses that are evaluated for each member of the input is recorded, since the
+        // query desugar evaluates them in parallel only if they are isolated.
+        boolean prevInferredIsolated = this.inferredIsolated;
+        this.inferredIsolated = true;
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
             analyzeNode(clause, env);
         }
+        queryExpr.hasIsolatedClauses = this.inferredIsolated;
+        this.inferredIsolated = prevInferredIsolated && this.inferredIsolated;
     }
 
     @Override
@@ -38,6 +38,8 @@ public class BLangQueryExpr extends BLangExpression implements QueryExpressionNo
     public List<IdentifierNode> fieldNameIdentifierList = new ArrayList<>();
     public boolean isStream = false;
     public boolean isTable = false;
+    // Whether the clauses other than the initial from clause are inferred to be isolated.
+    public boolean hasIsolatedClauses = false;
 
     @Override
     public BLangSelectClause getSelectClause() {
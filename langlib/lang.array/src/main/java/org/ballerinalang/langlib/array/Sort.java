@@ -19,8 +19,6 @@
 package org.ballerinalang.langlib.array;
 
 import io.ballerina.runtime.TypeChecker;
-import io.ballerina.runtime.api.ErrorCreator;
-import io.ballerina.runtime.api.StringUtils;
 import io.ballerina.runtime.api.TypeCreator;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.types.ArrayType;
@@ -30,14 +28,11 @@ import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.scheduling.Scheduler;
+import org.ballerinalang.langlib.array.utils.SortUtils;
 
-import java.math.BigDecimal;
 import java.util.List;
-import java.util.PrimitiveIterator;
 
-import static io.ballerina.runtime.util.BLangConstants.ARRAY_LANG_LIB;
-import static io.ballerina.runtime.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
-import static io.ballerina.runtime.util.exceptions.BallerinaErrorReasons.getModulePrefixedReason;
+import static io.ballerina.runtime.ValueComparisonUtils.compareValues;
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyOperation;
 
 /**
@@ -56,27 +51,31 @@ public class Sort {
             isAscending = false;
         }
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        // Arrays of ints, floats, strings, bytes and booleans are sorted in place, on the arrays they are stored in.
+        if (function == null && arr.size() > 0 && SortUtils.sortInPlace(arr, isAscending)) {
+            return arr;
+        }
+
+        // Keys are computed once, before sorting the array.
+        Object[] keys = new Object[arr.size()];
         if (function != null) {
             boolean elementTypeIdentified = false;
             elemType = ((FunctionType) function.getType()).getReturnType();
             for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
+                keys[i] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
                 // Get the type of the sortArr elements when there is an arrow expression as the key function
                 if (!elementTypeIdentified && elemType.getTag() == TypeTags.UNION_TAG &&
                         ((UnionType) elemType).getMemberTypes().size() > 2) {
-                    Type sortArrElemType = TypeChecker.getType(sortArr[i][0]);
+                    Type sortArrElemType = TypeChecker.getType(keys[i]);
                     if (sortArrElemType.getTag() != TypeTags.NULL_TAG) {
                         elemType = sortArrElemType;
                         elementTypeIdentified = true;
                     }
                 }
-                sortArr[i][1] = arr.get(i);
             }
         } else {
             for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+                keys[i] = arr.get(i);
             }
         }
 
@@ -91,7 +90,18 @@ public class Sort {
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, isAscending, elemType);
+        if (SortUtils.sortByKeys(arr, keys, elemType, isAscending)) {
+            return arr;
+        }
+
+        Object[][] sortArr = new Object[arr.size()][2];
+        Object[][] sortArrClone = new Object[arr.size()][2];
+        for (int i = 0; i < arr.size(); i++) {
+            sortArr[i][0] = keys[i];
+            sortArr[i][1] = arr.get(i);
+        }
+
+        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, isAscending);
 
         for (int k = 0; k < sortArr.length; k++) {
             arr.add(k, sortArr[k][1]);
@@ -111,21 +121,20 @@ public class Sort {
     }
 
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, boolean isAscending, Type type) {
+    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, boolean isAscending) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, isAscending, type);
-        mergesort(input, aux, mid + 1, hi, isAscending, type);
+        mergesort(input, aux, lo, mid, isAscending);
+        mergesort(input, aux, mid + 1, hi, isAscending);
 
-        merge(input, aux, lo, mid, hi, isAscending, type);
+        merge(input, aux, lo, mid, hi, isAscending);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, boolean isAscending,
-                              Type type) {
+    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, boolean isAscending) {
         if (hi + 1 - lo >= 0) {
             System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
         }
@@ -136,9 +145,7 @@ public class Sort {
                 index = j++;
             } else if (j > hi) {
                 index = i++;
-            } else if (isAscending && sortFunc(aux[j][0], aux[i][0], type, true) < 0) {
-                index = j++;
-            } else if (!isAscending && sortFunc(aux[i][0], aux[j][0], type, false) < 0) {
+            } else if (compareValues(aux[j][0], aux[i][0], isAscending) < 0) {
                 index = j++;
             } else {
                 index = i++;
@@ -146,106 +153,4 @@ public class Sort {
             input[k] = aux[index];
         }
     }
-
-    private static int sortFunc(Object value1, Object value2, Type type, boolean isAscending) {
-        // () should come last irrespective of the sort direction.
-        if (value1 == null) {
-            if (value2 == null) {
-                return 0;
-            }
-            if (isAscending) {
-                return 1;
-            }
-            return -1;
-        }
-        if (value2 == null) {
-            if (isAscending) {
-                return -1;
-            }
-            return 1;
-        }
-        if (TypeTags.isIntegerTypeTag(type.getTag())) {
-            return Long.compare((long) value1, (long) value2);
-        } else if (type.getTag() == TypeTags.FLOAT_TAG) {
-            // NaN should be placed last or one before the last when () is present irrespective of the sort direction.
-            if (Double.isNaN((double) value1)) {
-                if (Double.isNaN((double) value2)) {
-                    return 0;
-                }
-                if (isAscending) {
-                    return 1;
-                }
-                return -1;
-            }
-            if (Double.isNaN((double) value2)) {
-                if (isAscending) {
-                    return -1;
-                }
-                return 1;
-            }
-            // -0.0 = +0.0
-            if ((double) value1 == 0 && (double) value2 == 0) {
-                return 0;
-            }
-            return Double.compare((double) value1, (double) value2);
-        } else if (type.getTag() == TypeTags.DECIMAL_TAG) {
-            return new BigDecimal(value1.toString()).compareTo(new BigDecimal(value2.toString()));
-        } else if (type.getTag() == TypeTags.BOOLEAN_TAG) {
-            return Boolean.compare((boolean) value1, (boolean) value2);
-        } else if (TypeTags.isStringTypeTag(type.getTag())) {
-            return codePointCompare(value1.toString(), value2.toString());
-        } else if (type.getTag() == TypeTags.BYTE_TAG) {
-            return Integer.compare((int) value1, (int) value2);
-        } else if (type.getTag() == TypeTags.ARRAY_TAG) {
-            int lengthVal1 = ((BArray) value1).size();
-            int lengthVal2 = ((BArray) value2).size();
-            if (lengthVal1 == 0) {
-                if (lengthVal2 == 0) {
-                    return 0;
-                }
-                return -1;
-            }
-            if (lengthVal2 == 0) {
-                return 1;
-            }
-            int len = Math.min(lengthVal1, lengthVal2);
-            int c = 0;
-            for (int i = 0; i < len; i++) {
-                c = sortFunc(((BArray) value1).get(i), ((BArray) value2).get(i),
-                        ((ArrayType) type).getElementType(), isAscending);
-                if (c != 0) {
-                    break;
-                } else {
-                    if (i == len - 1 && lengthVal1 < lengthVal2) {
-                        return -1;
-                    }
-                }
-            }
-            return c;
-        }
-        throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                                       StringUtils.fromString("expected an ordered type, but found '" +
-                                                                       type.toString() + "'"));
-    }
-
-    private static int codePointCompare(String str1, String str2) {
-        PrimitiveIterator.OfInt iterator1 = str1.codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
-                return 1;
-            }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
-
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
-            }
-        }
-        if (iterator2.hasNext()) {
-            return -1;
-        }
-        return 0;
-    }
 }
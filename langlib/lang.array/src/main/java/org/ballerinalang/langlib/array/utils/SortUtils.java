@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.langlib.array.utils;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.values.ArrayValueImpl;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static io.ballerina.runtime.ValueComparisonUtils.compareCodePoints;
+
+/**
+ * Specialized implementations of lang.array:sort() for arrays of ints, floats, strings, bytes and booleans, and for
+ * key functions which return ints, floats or strings. The order is the same as that of the generic sort in
+ * {@link org.ballerinalang.langlib.array.Sort}, which is defined by
+ * {@link io.ballerina.runtime.ValueComparisonUtils#compareValues}: nil members come last and NaN members come before
+ * them, irrespective of the direction, and members which compare equal keep their relative order.
+ *
+ * @since 2.0.0
+ */
+public class SortUtils {
+
+    // Arrays with fewer members are sorted on the current thread.
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private static final byte RANK_VALUE = 0;
+    private static final byte RANK_NAN = 1;
+    private static final byte RANK_NIL = 2;
+
+    private static final Comparator<BString> ASCENDING_STRINGS =
+            (value1, value2) -> compareCodePoints(value1.getValue(), value2.getValue());
+    private static final Comparator<BString> DESCENDING_STRINGS = ASCENDING_STRINGS.reversed();
+
+    /**
+     * Sorts the members of an array in place, if the members are stored as ints, floats, strings, bytes or booleans.
+     *
+     * @param arr         the array to sort
+     * @param isAscending whether to sort in ascending order
+     * @return false if the array is not sorted, since its members are not of one of these types or, for floats,
+     * since both -0.0 and 0.0 are members of the array, which compare equal but are ordered by {@link Arrays#sort}
+     */
+    public static boolean sortInPlace(BArray arr, boolean isAscending) {
+        if (!(arr instanceof ArrayValueImpl)) {
+            return false;
+        }
+        ArrayValueImpl array = (ArrayValueImpl) arr;
+        int size = array.size();
+        int tag = array.getElementType().getTag();
+        if (TypeTags.isIntegerTypeTag(tag)) {
+            sortInts(array.getIntValuesForUpdate(), size, isAscending);
+        } else if (tag == TypeTags.FLOAT_TAG) {
+            return sortFloats(array, size, isAscending);
+        } else if (TypeTags.isStringTypeTag(tag)) {
+            BString[] values = array.getBStringValuesForUpdate();
+            Comparator<BString> comparator = isAscending ? ASCENDING_STRINGS : DESCENDING_STRINGS;
+            if (size >= PARALLEL_SORT_THRESHOLD) {
+                Arrays.parallelSort(values, 0, size, comparator);
+            } else {
+                Arrays.sort(values, 0, size, comparator);
+            }
+        } else if (tag == TypeTags.BYTE_TAG) {
+            sortBytes(array, size, isAscending);
+        } else if (tag == TypeTags.BOOLEAN_TAG) {
+            sortBooleans(array, size, isAscending);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the members of an array by the keys a key function returned for them, if the keys are ints, floats or
+     * strings. Each key is only converted once, and the members are moved once they are sorted.
+     *
+     * @param arr         the array to sort
+     * @param keys        the key of each member of the array, which may be nil
+     * @param keyType     the type of the keys, without nil
+     * @param isAscending whether to sort in ascending order
+     * @return false if the array is not sorted, since the keys are not of one of these types
+     */
+    public static boolean sortByKeys(BArray arr, Object[] keys, Type keyType, boolean isAscending) {
+        int size = keys.length;
+        byte[] ranks = new byte[size];
+        IndexComparator comparator;
+        int tag = keyType.getTag();
+        if (TypeTags.isIntegerTypeTag(tag)) {
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                if (keys[i] instanceof Long) {
+                    values[i] = (long) keys[i];
+                } else if (!rankNil(keys[i], ranks, i)) {
+                    return false;
+                }
+            }
+            comparator = (i, j) -> Long.compare(values[i], values[j]);
+        } else if (tag == TypeTags.FLOAT_TAG) {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                if (keys[i] instanceof Double) {
+                    values[i] = (double) keys[i];
+                    if (Double.isNaN(values[i])) {
+                        ranks[i] = RANK_NAN;
+                    }
+                } else if (!rankNil(keys[i], ranks, i)) {
+                    return false;
+                }
+            }
+            // -0.0 and 0.0 compare equal, unlike with Double.compare().
+            comparator = (i, j) -> values[i] < values[j] ? -1 : (values[i] > values[j] ? 1 : 0);
+        } else if (TypeTags.isStringTypeTag(tag)) {
+            String[] values = new String[size];
+            for (int i = 0; i < size; i++) {
+                if (keys[i] instanceof BString) {
+                    values[i] = ((BString) keys[i]).getValue();
+                } else if (!rankNil(keys[i], ranks, i)) {
+                    return false;
+                }
+            }
+            comparator = (i, j) -> compareCodePoints(values[i], values[j]);
+        } else {
+            return false;
+        }
+
+        IndexComparator valueComparator = comparator;
+        IndexComparator orderComparator = (i, j) -> {
+            if (ranks[i] != ranks[j]) {
+                return ranks[i] - ranks[j];
+            }
+            if (ranks[i] != RANK_VALUE) {
+                return 0;
+            }
+            return isAscending ? valueComparator.compare(i, j) : valueComparator.compare(j, i);
+        };
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        int[] aux = order.clone();
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new ParallelMergeSort(aux, order, 0, size, orderComparator));
+        } else {
+            mergeSort(aux, order, 0, size, orderComparator);
+        }
+
+        Object[] members = new Object[size];
+        for (int i = 0; i < size; i++) {
+            members[i] = arr.get(i);
+        }
+        for (int i = 0; i < size; i++) {
+            arr.add(i, members[order[i]]);
+        }
+        return true;
+    }
+
+    private static boolean rankNil(Object key, byte[] ranks, int index) {
+        if (key != null) {
+            return false;
+        }
+        ranks[index] = RANK_NIL;
+        return true;
+    }
+
+    private static void sortInts(long[] values, int size, boolean isAscending) {
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+        // Equal ints can not be told apart, so reversing the ascending order does not make the sort unstable.
+        if (!isAscending) {
+            reverse(values, size);
+        }
+    }
+
+    private static boolean sortFloats(ArrayValueImpl array, int size, boolean isAscending) {
+        boolean hasNegativeZero = false;
+        boolean hasPositiveZero = false;
+        int nanCount = 0;
+        for (int i = 0; i < size; i++) {
+            double value = array.getFloat(i);
+            if (value == 0) {
+                if (Double.doubleToRawLongBits(value) == 0) {
+                    hasPositiveZero = true;
+                } else {
+                    hasNegativeZero = true;
+                }
+            } else if (Double.isNaN(value)) {
+                nanCount++;
+            }
+        }
+        if (hasNegativeZero && hasPositiveZero) {
+            return false;
+        }
+        double[] values = array.getFloatValuesForUpdate();
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+        // NaN members are sorted last, where they stay in descending order too.
+        if (!isAscending) {
+            reverse(values, size - nanCount);
+        }
+        return true;
+    }
+
+    private static void sortBytes(BArray array, int size, boolean isAscending) {
+        int[] counts = new int[256];
+        for (int i = 0; i < size; i++) {
+            counts[array.getByte(i) & 0xFF]++;
+        }
+        int index = 0;
+        for (int j = 0; j < counts.length; j++) {
+            int value = isAscending ? j : counts.length - 1 - j;
+            for (int count = counts[value]; count > 0; count--) {
+                array.add(index++, (byte) value);
+            }
+        }
+    }
+
+    private static void sortBooleans(BArray array, int size, boolean isAscending) {
+        int trueCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (array.getBoolean(i)) {
+                trueCount++;
+            }
+        }
+        int firstCount = isAscending ? size - trueCount : trueCount;
+        for (int i = 0; i < size; i++) {
+            array.add(i, (i < firstCount) != isAscending);
+        }
+    }
+
+    private static void reverse(long[] values, int size) {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            long value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private static void reverse(double[] values, int size) {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            double value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    /**
+     * Stable merge sort of the range [lo, hi) of the indices in dest, where src holds the same indices.
+     */
+    private static void mergeSort(int[] src, int[] dest, int lo, int hi, IndexComparator comparator) {
+        if (hi - lo < INSERTION_SORT_THRESHOLD) {
+            insertionSort(dest, lo, hi, comparator);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        mergeSort(dest, src, lo, mid, comparator);
+        mergeSort(dest, src, mid, hi, comparator);
+        merge(src, dest, lo, mid, hi, comparator);
+    }
+
+    private static void insertionSort(int[] indices, int lo, int hi, IndexComparator comparator) {
+        for (int i = lo + 1; i < hi; i++) {
+            int index = indices[i];
+            int j = i - 1;
+            while (j >= lo && comparator.compare(indices[j], index) > 0) {
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            indices[j + 1] = index;
+        }
+    }
+
+    private static void merge(int[] src, int[] dest, int lo, int mid, int hi, IndexComparator comparator) {
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, lo, dest, lo, hi - lo);
+            return;
+        }
+        for (int i = lo, j = mid, k = lo; k < hi; k++) {
+            if (j >= hi || (i < mid && comparator.compare(src[i], src[j]) <= 0)) {
+                dest[k] = src[i++];
+            } else {
+                dest[k] = src[j++];
+            }
+        }
+    }
+
+    /**
+     * Compares the keys of two members of an array, given their indices.
+     */
+    @FunctionalInterface
+    private interface IndexComparator {
+
+        int compare(int index1, int index2);
+    }
+
+    /**
+     * Merge sort which sorts the two halves of a range on different threads, until the range is small enough.
+     */
+    private static class ParallelMergeSort extends RecursiveAction {
+
+        private final int[] src;
+        private final int[] dest;
+        private final int lo;
+        private final int hi;
+        private final IndexComparator comparator;
+
+        ParallelMergeSort(int[] src, int[] dest, int lo, int hi, IndexComparator comparator) {
+            this.src = src;
+            this.dest = dest;
+            this.lo = lo;
+            this.hi = hi;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_SORT_THRESHOLD) {
+                mergeSort(src, dest, lo, hi, comparator);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ParallelMergeSort(dest, src, lo, mid, comparator),
+                      new ParallelMergeSort(dest, src, mid, hi, comparator));
+            merge(src, dest, lo, mid, hi, comparator);
+        }
+    }
+}
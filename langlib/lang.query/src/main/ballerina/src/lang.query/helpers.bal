@@ -19,9 +19,9 @@ import ballerina/java;
 
 function createPipeline(
         (Type)[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, error?>|_Iterable collection,
-        typedesc<Type> resType)
+        typedesc<Type> resType, boolean isNative, boolean isParallel)
             returns _StreamPipeline {
-    return new _StreamPipeline(collection, resType);
+    return new _StreamPipeline(collection, resType, isNative, isParallel);
 }
 
 function createInputFunction(function(_Frame _frame) returns _Frame|error? inputFunc)
@@ -60,7 +60,12 @@ function createFilterFunction(function(_Frame _frame) returns boolean filterFunc
 
 function createOrderByFunction(function(_Frame _frame) orderFunc)
         returns _StreamFunction {
-    return new _OrderByFunction(orderFunc);
+    return new _OrderByFunction(orderFunc, ());
+}
+
+function createTopKOrderByFunction(function(_Frame _frame) orderFunc, _StreamFunction limitFunction)
+        returns _StreamFunction {
+    return new _OrderByFunction(orderFunc, <_LimitFunction>limitFunction);
 }
 
 function createSelectFunction(function(_Frame _frame) returns _Frame|error? selectFunc)
@@ -85,6 +90,13 @@ function getStreamFromPipeline(_StreamPipeline pipeline) returns stream<Type, er
 }
 
 function toArray(stream<Type, error?> strm, Type[] arr) returns Type[]|error {
+    if (isNativeStream(strm)) {
+        error? err = toArrayNative(strm, arr);
+        if (err is error) {
+            return err;
+        }
+        return arr;
+    }
     record {| Type value; |}|error? v = strm.next();
     while (v is record {| Type value; |}) {
         arr.push(v.value);
@@ -124,6 +136,13 @@ function toString(stream<Type, error?> strm) returns string {
 }
 
 function addToTable(stream<Type, error?> strm, table<map<Type>> tbl, error? err) returns table<map<Type>>|error {
+    if (isNativeStream(strm)) {
+        error? e = addToTableNative(strm, tbl, err);
+        if (e is error) {
+            return e;
+        }
+        return tbl;
+    }
     record {| Type value; |}|error? v = strm.next();
     while (v is record {| Type value; |}) {
         error? e = trap tbl.add(<map<Type>> v.value);
@@ -141,7 +160,22 @@ function addToTable(stream<Type, error?> strm, table<map<Type>> tbl, error? err)
     return tbl;
 }
 
+function lookupTableByField(table<map<Type>> tbl, string fieldName, anydata value)
+        returns (Type)[]|table<map<Type>> = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndexLookup",
+    name: "lookupByField"
+} external;
+
+function lookupTableByFieldRange(table<map<Type>> tbl, string fieldName, anydata lower, boolean lowerInclusive,
+        anydata upper, boolean upperInclusive) returns (Type)[]|table<map<Type>> = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndexLookup",
+    name: "lookupByFieldRange"
+} external;
+
 function consumeStream(stream<Type, error?> strm) returns error? {
+    if (isNativeStream(strm)) {
+        return consumeStreamNative(strm);
+    }
     any|error? v = strm.next();
     while (!(v is () || v is error)) {
         v = strm.next();
@@ -151,6 +185,71 @@ function consumeStream(stream<Type, error?> strm) returns error? {
     }
 }
 
+function createNativePipeline(_StreamPipeline pipeline, typedesc<_Frame> frameType) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryPipeline",
+    name: "createPipeline"
+} external;
+
+function nextFrame(handle pipeline) returns _Frame|error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryPipeline",
+    name: "nextFrame"
+} external;
+
+function isNativeStream(stream<Type, error?> strm) returns boolean = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryPipeline",
+    name: "isNativeStream"
+} external;
+
+function toArrayNative(stream<Type, error?> strm, Type[] arr) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryPipeline",
+    name: "toArray"
+} external;
+
+function addToTableNative(stream<Type, error?> strm, table<map<Type>> tbl, error? err) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryPipeline",
+    name: "addToTable"
+} external;
+
+function consumeStreamNative(stream<Type, error?> strm) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryPipeline",
+    name: "consumeStream"
+} external;
+
+function createFrameMultiMap() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "createFrameMultiMap"
+} external;
+
+function getFrames(handle frameMultiMap, any key) returns _Frame[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "getFrames"
+} external;
+
+function putFrames(handle frameMultiMap, any key, _Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "putFrames"
+} external;
+
+function createFrameSorter() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "createFrameSorter"
+} external;
+
+function setFrameSorterLimit(handle sorter, int 'limit) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "setFrameSorterLimit"
+} external;
+
+function addToFrameSorter(handle sorter, _Frame frame) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "addToFrameSorter"
+} external;
+
+function getSortedFrames(handle sorter, _Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "getSortedFrames"
+} external;
+
 // TODO: This for debugging purposes, remove once completed.
 function print(any|error? data) = @java:Method {
     'class: "org.ballerinalang.langlib.query.Print",
@@ -58,12 +58,16 @@ type _Frame record {|
 class _StreamPipeline {
     _StreamFunction streamFunction;
     typedesc<Type> resType;
+    boolean isNative;
+    boolean isParallel;
 
     function init(
             (Type)[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, error?>|_Iterable collection,
-            typedesc<Type> resType) {
+            typedesc<Type> resType, boolean isNative, boolean isParallel) {
         self.streamFunction = new _InitFunction(collection);
         self.resType = resType;
+        self.isNative = isNative;
+        self.isParallel = isParallel;
     }
 
     public function next() returns _Frame|error? {
@@ -83,6 +87,12 @@ class _StreamPipeline {
     }
 
     public function getStream() returns stream <Type, error?> {
+        if (self.isNative) {
+            // The stream functions are executed natively, see `createNativePipeline`.
+            typedesc<_Frame> frameType = _Frame;
+            _NativeIterHelper nativeItrObj = new (createNativePipeline(self, frameType), self.resType);
+            return internal:construct(self.resType, nativeItrObj);
+        }
         IterHelper itrObj = new (self, self.resType);
         var strm = internal:construct(self.resType, itrObj);
         return strm;
@@ -301,24 +311,24 @@ class _InnerJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
-    _FrameMultiMap rhsFramesMap = new;
+    _StreamPipeline pipelineToJoin;
+    _FrameMultiMap? rhsFramesMap;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex;
     _Frame|error? lhsFrame;
 
     function init(
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
             function (_Frame _frame) returns any rhsKeyFunction) {
+        self.pipelineToJoin = pipelineToJoin;
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
+        self.rhsFramesMap = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         self.prevFunc = ();
         self.lhsFrame = ();
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
-            f = pipelineToJoin.next();
-        }
     }
 
     # Desugared function to do;
@@ -328,57 +338,76 @@ class _InnerJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
-        _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
-
-        if (lhsFrame is ()) {
-            lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
-        }
-
-        if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
+        _FrameMultiMap rhsFramesMap = self.getRhsFramesMap();
+
+        while (true) {
+            _Frame|error? lhsFrame = self.lhsFrame;
+            if (lhsFrame is ()) {
+                lhsFrame = pf.process();
+                if (lhsFrame is _Frame) {
+                    self.lhsFrame = lhsFrame;
+                    self.rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
+                    self.rhsCandidateIndex = 0;
+                } else {
+                    return lhsFrame;
+                }
             }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
+
+            _Frame[]? rhsCandidates = self.rhsCandidates;
+            if (lhsFrame is _Frame && rhsCandidates is _Frame[] && self.rhsCandidateIndex < rhsCandidates.length()) {
+                _Frame rhsFrame = rhsCandidates[self.rhsCandidateIndex];
+                self.rhsCandidateIndex += 1;
                 _Frame joinedFrame = {...lhsFrame};
                 foreach var [k, val] in rhsFrame.entries() {
                     joinedFrame[k] = val;
                 }
                 return joinedFrame;
-            } else {
-                // Move to next lhs frame
-                self.lhsFrame = ();
-                self.rhsCandidates = ();
-                return self.process();
             }
+            // Move to next lhs frame
+            self.lhsFrame = ();
+            self.rhsCandidates = ();
         }
-        return lhsFrame;
     }
 
     public function reset() {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
         }
     }
+
+    # Consumes the joined pipeline into a `_FrameMultiMap` when the first frame is requested.
+    # + return - frames of the joined pipeline by their keys.
+    function getRhsFramesMap() returns _FrameMultiMap {
+        _FrameMultiMap? rhsFramesMap = self.rhsFramesMap;
+        if (rhsFramesMap is _FrameMultiMap) {
+            return rhsFramesMap;
+        }
+        function (_Frame _frame) returns any rhsKF = self.rhsKeyFunction;
+        _StreamPipeline pipelineToJoin = self.pipelineToJoin;
+        _FrameMultiMap framesMap = new;
+        _Frame|error? f = pipelineToJoin.next();
+        while (f is _Frame) {
+            framesMap.put(rhsKF(f), f);
+            f = pipelineToJoin.next();
+        }
+        self.rhsFramesMap = framesMap;
+        return framesMap;
+    }
 }
 
 class _OuterJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
-    _FrameMultiMap rhsFramesMap = new;
+    _StreamPipeline pipelineToJoin;
+    _FrameMultiMap? rhsFramesMap;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
 
@@ -386,17 +415,15 @@ class _OuterJoinFunction {
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
             function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame) {
+        self.pipelineToJoin = pipelineToJoin;
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
+        self.rhsFramesMap = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         self.prevFunc = ();
         self.lhsFrame = ();
         self.nilFrame = nilFrame;
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
-            f = pipelineToJoin.next();
-        }
     }
 
     # Desugared function to do;
@@ -406,60 +433,76 @@ class _OuterJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
-        _Frame|error? lhsFrame = self.lhsFrame;
+        _FrameMultiMap rhsFramesMap = self.getRhsFramesMap();
         _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
-
-        if (lhsFrame is ()) {
-            lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
-        }
-
-        if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
-            }
 
-            if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
+        while (true) {
+            _Frame|error? lhsFrame = self.lhsFrame;
+            if (lhsFrame is ()) {
+                lhsFrame = pf.process();
+                if (lhsFrame is _Frame) {
+                    _Frame[]? candidates = rhsFramesMap.get(lhsKF(lhsFrame));
+                    if (candidates is ()) {
+                        // rhsCandidates is nil, move to next lhs frame in next iteration.
+                        _Frame joinedFrame = {...lhsFrame};
+                        foreach var [k, val] in nilFrame.entries() {
+                            joinedFrame[k] = val;
+                        }
+                        return joinedFrame;
+                    }
+                    self.lhsFrame = lhsFrame;
+                    self.rhsCandidates = candidates;
+                    self.rhsCandidateIndex = 0;
                 } else {
-                    // Move to next lhs frame in next iteration.
-                    self.rhsCandidates = ();
-                    self.lhsFrame = ();
+                    return lhsFrame;
                 }
+            }
+
+            _Frame[]? rhsCandidates = self.rhsCandidates;
+            if (lhsFrame is _Frame && rhsCandidates is _Frame[] && self.rhsCandidateIndex < rhsCandidates.length()) {
+                _Frame rhsFrame = rhsCandidates[self.rhsCandidateIndex];
+                self.rhsCandidateIndex += 1;
                 _Frame joinedFrame = {...lhsFrame};
                 foreach var [k, val] in rhsFrame.entries() {
                     joinedFrame[k] = val;
                 }
                 return joinedFrame;
-            } else {
-                // rhsCandidates is nil, move to next lhs frame in next iteration.
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in nilFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                self.lhsFrame = ();
-                return joinedFrame;
             }
+            // Move to next lhs frame
+            self.lhsFrame = ();
+            self.rhsCandidates = ();
         }
-        return lhsFrame;
     }
 
     public function reset() {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
         }
     }
+
+    # Consumes the joined pipeline into a `_FrameMultiMap` when the first frame is requested.
+    # + return - frames of the joined pipeline by their keys.
+    function getRhsFramesMap() returns _FrameMultiMap {
+        _FrameMultiMap? rhsFramesMap = self.rhsFramesMap;
+        if (rhsFramesMap is _FrameMultiMap) {
+            return rhsFramesMap;
+        }
+        function (_Frame _frame) returns any rhsKF = self.rhsKeyFunction;
+        _StreamPipeline pipelineToJoin = self.pipelineToJoin;
+        _FrameMultiMap framesMap = new;
+        _Frame|error? f = pipelineToJoin.next();
+        while (f is _Frame) {
+            framesMap.put(rhsKF(f), f);
+            f = pipelineToJoin.next();
+        }
+        self.rhsFramesMap = framesMap;
+        return framesMap;
+    }
 }
 
 class _FilterFunction {
@@ -499,43 +542,56 @@ class _OrderByFunction {
     # Desugared function to do;
     # order by person.fname true, person.age false
     function(_Frame _frame) orderKeyFunc;
-    stream<_Frame>? orderedStream;
+    _LimitFunction? limitFunction;
+    _Frame[]? orderedFrames;
+    int index;
 
-    function init(function(_Frame _frame) orderKeyFunc) {
+    function init(function(_Frame _frame) orderKeyFunc, _LimitFunction? limitFunction) {
         self.orderKeyFunc = orderKeyFunc;
-        self.orderedStream = ();
+        self.limitFunction = limitFunction;
+        self.orderedFrames = ();
+        self.index = 0;
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
-        if (self.orderedStream is ()) {
+        if (self.orderedFrames is ()) {
             _StreamFunction pf = <_StreamFunction> self.prevFunc;
             function(_Frame _frame) orderKeyFunc = self.orderKeyFunc;
+            handle sorter = createFrameSorter();
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
+            _LimitFunction? lf = self.limitFunction;
+            if (f is _Frame && lf is _LimitFunction) {
+                // Only the frames within the limit of the following limit clause need to be kept.
+                function (_Frame _frame) returns int limitFunc = lf.limitFunc;
+                setFrameSorterLimit(sorter, limitFunc(f));
+            }
             // consume all events for ordering.
             while (f is _Frame) {
                 orderKeyFunc(f);
-                oTree.add(f, <any[]>f["$orderDirection$"], <any[]>f["$orderKey$"]);
+                addToFrameSorter(sorter, f);
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
+            _Frame[] frames = [];
+            getSortedFrames(sorter, frames);
+            self.orderedFrames = frames;
         }
 
-        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+        _Frame[] orderedFrames = <_Frame[]>self.orderedFrames;
+        if (self.index < orderedFrames.length()) {
+            _Frame f = orderedFrames[self.index];
+            self.index += 1;
+            return f;
         }
-        return f;
+        return ();
     }
 
     public function reset() {
-        self.orderedStream = ();
+        self.orderedFrames = ();
+        self.index = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -654,33 +710,29 @@ class _LimitFunction {
 
 // ---- helper types ----
 
+# Frames of the joined pipeline of a join clause by their keys. Keys match if they are equal as per `==`.
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle frames;
 
     function init() {
-        self.m = {};
+        self.frames = createFrameMultiMap();
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
+    function put(any k, _Frame v) {
+        _Frame[]? vals = getFrames(self.frames, k);
         if (vals is _Frame[]) {
             vals.push(v);
         } else {
-            self.m[k] = [v];
+            putFrames(self.frames, k, [v]);
         }
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            foreach _Frame v in vals {
-                frames.push(v);
-            }
-            return frames;
-        }
+    # Returns the frames with the given key. The frames are not copied, hence must not be modified.
+    # + k - the key of the frames
+    # + return - the frames with the given key, or nil if there are none.
+    function get(any k) returns _Frame[]? {
+        return getFrames(self.frames, k);
     }
-
 }
 
 class IterHelper {
@@ -704,104 +756,22 @@ class IterHelper {
     }
 }
 
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            if (self.frames is _Frame[]) {
-                _Frame[] frames = <_Frame[]>self.frames;
-                frames.push(f);
-                self.frames = frames;
-            } else {
-                self.frames = [f];
-            }
+class _NativeIterHelper {
+    public handle pipeline;
+    public typedesc<Type> outputType;
 
-        } else {
-            if(!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
+    function init(handle pipeline, typedesc<Type> outputType) {
+      self.pipeline = pipeline;
+      self.outputType = outputType;
     }
 
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return -  ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            foreach _Frame f in frames {
-                orderedFrames.push(f);
-            }
+    public function next() returns record {|Type value;|}|error? {
+        _Frame|error? f = nextFrame(self.pipeline);
+        if (f is _Frame) {
+            Type v = <Type>f["$value$"];
+            return internal:setNarrowType(self.outputType, {value: v});
         } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], therefore have to resolve runtime type and sort it.
-    # + return -  ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        if (arr.length() > 0) {
-            int i = 0;
-            while (i < arr.length()) {
-                if (arr[i] is ()) {
-                    i += 1;
-                    continue;
-                } else if (arr[i] is boolean) {
-                    boolean?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is int) {
-                    int?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is float) {
-                    float?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is decimal) {
-                    decimal?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is string) {
-                    string?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                }
-            }
-        }
-        return arr;
-    }
-
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
+            return f;
         }
     }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.ErrorCreator;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.api.values.BXML;
+
+/**
+ * Iterates the members of a collection used as the input of a natively executed query, the same way the
+ * `iterator()` function of the lang library of the collection does.
+ *
+ * @since 2.0.0
+ */
+abstract class CollectionIterator {
+
+    private static final String INT_RANGE_MODULE = "lang.__internal";
+    private static final String INT_RANGE_TYPE = "IntRange";
+    private static final BString INT_RANGE_START = StringUtils.fromString("iStart");
+    private static final BString INT_RANGE_END = StringUtils.fromString("iEnd");
+
+    abstract boolean hasNext();
+
+    abstract Object next();
+
+    /**
+     * Returns the number of members of the collection, or -1 if it is not known without iterating the collection.
+     *
+     * @return the number of members of the collection
+     */
+    long size() {
+        return -1;
+    }
+
+    static CollectionIterator of(Object collection) {
+        if (collection instanceof BArray) {
+            return new ArrayIterator((BArray) collection);
+        } else if (collection instanceof BMap) {
+            return new EntryIterator(((BMap<?, ?>) collection).getIterator(), ((BMap<?, ?>) collection).size());
+        } else if (collection instanceof BTable) {
+            return new EntryIterator(((BTable<?, ?>) collection).getIterator(), ((BTable<?, ?>) collection).size());
+        } else if (collection instanceof BString) {
+            return new StringIterator(((BString) collection).getValue());
+        } else if (collection instanceof BXML) {
+            return new MemberIterator(((BXML) collection).getIterator());
+        } else if (isIntRange(collection)) {
+            BObject range = (BObject) collection;
+            return new IntRangeIterator((long) range.get(INT_RANGE_START), (long) range.get(INT_RANGE_END));
+        }
+        throw ErrorCreator.createError(StringUtils.fromString("Unsupported collection"),
+                                       StringUtils.fromString("unsupported collection type."));
+    }
+
+    private static boolean isIntRange(Object collection) {
+        if (!(collection instanceof BObject)) {
+            return false;
+        }
+        BObject object = (BObject) collection;
+        return INT_RANGE_TYPE.equals(object.getType().getName()) &&
+                INT_RANGE_MODULE.equals(object.getType().getPackage().getName());
+    }
+
+    private static class ArrayIterator extends CollectionIterator {
+
+        private final BArray array;
+        private int index;
+
+        ArrayIterator(BArray array) {
+            this.array = array;
+        }
+
+        @Override
+        boolean hasNext() {
+            return index < array.size();
+        }
+
+        @Override
+        Object next() {
+            return array.get(index++);
+        }
+
+        @Override
+        long size() {
+            return array.size();
+        }
+    }
+
+    private static class MemberIterator extends CollectionIterator {
+
+        private final BIterator<?> iterator;
+
+        MemberIterator(BIterator<?> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        Object next() {
+            return iterator.next();
+        }
+    }
+
+    /**
+     * Maps and tables are iterated as key-value pairs, of which only the values are members of the collection.
+     */
+    private static class EntryIterator extends MemberIterator {
+
+        private final int size;
+
+        EntryIterator(BIterator<?> iterator, int size) {
+            super(iterator);
+            this.size = size;
+        }
+
+        @Override
+        Object next() {
+            return ((BArray) super.next()).get(1);
+        }
+
+        @Override
+        long size() {
+            return size;
+        }
+    }
+
+    private static class StringIterator extends CollectionIterator {
+
+        private final String value;
+        private int index;
+
+        StringIterator(String value) {
+            this.value = value;
+        }
+
+        @Override
+        boolean hasNext() {
+            return index < value.length();
+        }
+
+        @Override
+        Object next() {
+            return StringUtils.fromString(String.valueOf(value.charAt(index++)));
+        }
+    }
+
+    private static class IntRangeIterator extends CollectionIterator {
+
+        private final long start;
+        private final long end;
+        private long current;
+        private boolean exhausted;
+
+        IntRangeIterator(long start, long end) {
+            this.start = start;
+            this.current = start;
+            this.end = end;
+            this.exhausted = start > end;
+        }
+
+        @Override
+        boolean hasNext() {
+            return !exhausted;
+        }
+
+        @Override
+        Object next() {
+            long value = current;
+            // Stop at the end of the range instead of stepping past it, which would overflow at Long.MAX_VALUE.
+            if (value == end) {
+                exhausted = true;
+            } else {
+                current++;
+            }
+            return value;
+        }
+
+        @Override
+        long size() {
+            if (start > end) {
+                return 0;
+            }
+            long size = end - start + 1;
+            // The size of a range wider than the range of long overflows.
+            return size > 0 ? size : -1;
+        }
+    }
+}
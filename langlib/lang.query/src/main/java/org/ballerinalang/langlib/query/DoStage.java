@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.scheduling.Strand;
+
+/**
+ * Runs the body of the do clause of a query action for each frame.
+ *
+ * @since 2.0.0
+ */
+final class DoStage extends FrameStage {
+
+    private final BFunctionPointer<Object, Object> doFunction;
+
+    DoStage(FrameStage prev, BFunctionPointer<Object, Object> doFunction) {
+        super(prev);
+        this.doFunction = doFunction;
+    }
+
+    @Override
+    Object process(Strand strand) {
+        Object frame = prev.process(strand);
+        if (frame instanceof BMap) {
+            call(doFunction, strand, frame);
+        }
+        return frame;
+    }
+}
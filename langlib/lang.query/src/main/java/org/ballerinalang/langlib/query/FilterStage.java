@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.scheduling.Strand;
+
+/**
+ * Emits the frames which satisfy the condition of a where clause.
+ *
+ * @since 2.0.0
+ */
+final class FilterStage extends FrameStage {
+
+    private final BFunctionPointer<Object, Object> filterFunction;
+
+    FilterStage(FrameStage prev, BFunctionPointer<Object, Object> filterFunction) {
+        super(prev);
+        this.filterFunction = filterFunction;
+    }
+
+    @Override
+    Object process(Strand strand) {
+        Object frame = prev.process(strand);
+        while (frame instanceof BMap && !test(strand, frame)) {
+            frame = prev.process(strand);
+        }
+        return frame;
+    }
+
+    boolean test(Strand strand, Object frame) {
+        return (boolean) call(filterFunction, strand, frame);
+    }
+}
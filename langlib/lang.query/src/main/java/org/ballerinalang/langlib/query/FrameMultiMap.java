@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BHandle;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The hash table of the frames of the joined pipeline of a `_InnerJoinFunction` or `_OuterJoinFunction`, keyed by
+ * {@link JoinKey}s so that keys match as per `==`.
+ *
+ * @since 2.0.0
+ */
+public class FrameMultiMap {
+
+    private final Map<JoinKey, BArray> frames = new HashMap<>();
+
+    public static BHandle createFrameMultiMap() {
+        return ValueCreator.createHandleValue(new FrameMultiMap());
+    }
+
+    public static Object getFrames(BHandle frameMultiMap, Object key) {
+        return ((FrameMultiMap) frameMultiMap.getValue()).frames.get(new JoinKey(key));
+    }
+
+    public static void putFrames(BHandle frameMultiMap, Object key, BArray frames) {
+        ((FrameMultiMap) frameMultiMap.getValue()).frames.put(new JoinKey(key), frames);
+    }
+}
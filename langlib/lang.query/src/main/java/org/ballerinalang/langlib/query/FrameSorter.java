@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static io.ballerina.runtime.ValueComparisonUtils.compareCodePoints;
+import static io.ballerina.runtime.ValueComparisonUtils.compareValues;
+
+/**
+ * Sorts the frames of an order by clause on the `$orderKey$` and `$orderDirection$` the order key function of the
+ * clause adds to each frame. Keys are ordered the same way `lang.array:sort()` orders them, see
+ * {@link io.ballerina.runtime.ValueComparisonUtils#compareValues}, so that `()` and `NaN` are ordered last irrespective
+ * of the direction. Frames with equal keys keep their order.
+ * <p>
+ * Int, float, string and decimal keys are unwrapped into primitive and typed keys once per frame, which are compared
+ * directly. Other keys, and keys of different types, are compared using {@code compareValues}.
+ * <p>
+ * If the order by clause is followed by a limit clause, only the first `n` frames are kept, in a bounded heap, instead
+ * of sorting all the frames.
+ *
+ * @since 2.0.0
+ */
+public class FrameSorter {
+
+    private static final int MAX_INITIAL_HEAP_CAPACITY = 1024;
+
+    // Kinds of keys, which tell how a key is stored in a sorted frame.
+    private static final byte NIL_KEY = 0;
+    private static final byte INT_KEY = 1;
+    private static final byte FLOAT_KEY = 2;
+    private static final byte STRING_KEY = 3;
+    private static final byte DECIMAL_KEY = 4;
+    private static final byte OTHER_KEY = 5;
+
+    private final List<SortedFrame> frames = new ArrayList<>();
+    private PriorityQueue<SortedFrame> topFrames;
+    private long limit = -1;
+    private boolean[] ascending;
+    private long count;
+
+    public static BHandle createFrameSorter() {
+        return ValueCreator.createHandleValue(new FrameSorter());
+    }
+
+    public static void setFrameSorterLimit(BHandle sorter, long limit) {
+        ((FrameSorter) sorter.getValue()).setLimit(limit);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void addToFrameSorter(BHandle sorter, BMap<?, ?> frame) {
+        ((FrameSorter) sorter.getValue()).add((BMap<BString, Object>) frame);
+    }
+
+    public static void getSortedFrames(BHandle sorter, BArray frames) {
+        for (BMap<BString, Object> frame : ((FrameSorter) sorter.getValue()).sort()) {
+            frames.append(frame);
+        }
+    }
+
+    void setLimit(long limit) {
+        // A limit less than one is an error the limit clause reports, hence all the frames are sorted for it.
+        if (limit >= 1) {
+            this.limit = limit;
+        }
+    }
+
+    void add(BMap<BString, Object> frame) {
+        if (ascending == null) {
+            ascending = getDirections((BArray) frame.get(FrameStage.ORDER_DIRECTION));
+        }
+        SortedFrame sortedFrame = new SortedFrame(frame, (BArray) frame.get(FrameStage.ORDER_KEY), count++);
+        if (limit < 0) {
+            frames.add(sortedFrame);
+            return;
+        }
+        if (topFrames == null) {
+            // The head of the heap is the last of the frames kept so far.
+            topFrames = new PriorityQueue<>((int) Math.min(limit, MAX_INITIAL_HEAP_CAPACITY),
+                                            (f1, f2) -> compare(f2, f1));
+        }
+        if (topFrames.size() < limit) {
+            topFrames.add(sortedFrame);
+        } else if (compare(sortedFrame, topFrames.peek()) < 0) {
+            topFrames.poll();
+            topFrames.add(sortedFrame);
+        }
+    }
+
+    List<BMap<BString, Object>> sort() {
+        List<SortedFrame> sortedFrames = topFrames != null ? new ArrayList<>(topFrames) : frames;
+        sortedFrames.sort(this::compare);
+        List<BMap<BString, Object>> result = new ArrayList<>(sortedFrames.size());
+        for (SortedFrame sortedFrame : sortedFrames) {
+            result.add(sortedFrame.frame);
+        }
+        return result;
+    }
+
+    private int compare(SortedFrame f1, SortedFrame f2) {
+        for (int i = 0; i < ascending.length; i++) {
+            int c = compareKeys(f1, f2, i);
+            if (c != 0) {
+                return c;
+            }
+        }
+        // Frames with equal keys are kept in the order they were added.
+        return Long.compare(f1.sequence, f2.sequence);
+    }
+
+    private int compareKeys(SortedFrame f1, SortedFrame f2, int i) {
+        byte kind = f1.kinds[i];
+        if (kind != f2.kinds[i]) {
+            // () should come last irrespective of the sort direction.
+            if (kind == NIL_KEY || f2.kinds[i] == NIL_KEY) {
+                return kind == NIL_KEY ? 1 : -1;
+            }
+            // Keys of different types are not ordered, which is reported by compareValues().
+            return compareValues(f1.getKey(i), f2.getKey(i), ascending[i]);
+        }
+        int c;
+        switch (kind) {
+            case NIL_KEY:
+                return 0;
+            case INT_KEY:
+                c = Long.compare(f1.numericKeys[i], f2.numericKeys[i]);
+                break;
+            case FLOAT_KEY:
+                double double1 = Double.longBitsToDouble(f1.numericKeys[i]);
+                double double2 = Double.longBitsToDouble(f2.numericKeys[i]);
+                // NaN should be placed last or one before the last when () is present irrespective of the direction.
+                if (Double.isNaN(double1) || Double.isNaN(double2)) {
+                    if (Double.isNaN(double1) && Double.isNaN(double2)) {
+                        return 0;
+                    }
+                    return Double.isNaN(double1) ? 1 : -1;
+                }
+                // -0.0 is stored as 0.0, so that they are equal.
+                c = Double.compare(double1, double2);
+                break;
+            case STRING_KEY:
+                c = compareCodePoints((String) f1.keys[i], (String) f2.keys[i]);
+                break;
+            case DECIMAL_KEY:
+                c = ((BigDecimal) f1.keys[i]).compareTo((BigDecimal) f2.keys[i]);
+                break;
+            default:
+                return compareValues(f1.keys[i], f2.keys[i], ascending[i]);
+        }
+        return ascending[i] ? c : -c;
+    }
+
+    private static boolean[] getDirections(BArray directions) {
+        boolean[] ascending = new boolean[directions.size()];
+        for (int i = 0; i < ascending.length; i++) {
+            ascending[i] = (boolean) directions.get(i);
+        }
+        return ascending;
+    }
+
+    /**
+     * A frame along with its keys. Int and float keys are kept in {@code numericKeys}, the latter as the bits of the
+     * double, string and decimal keys are kept in {@code keys} as a {@link String} and a {@link BigDecimal}, and other
+     * keys are kept in {@code keys} as they are.
+     */
+    private static class SortedFrame {
+
+        final BMap<BString, Object> frame;
+        final byte[] kinds;
+        final long[] numericKeys;
+        final Object[] keys;
+        final long sequence;
+
+        SortedFrame(BMap<BString, Object> frame, BArray keyValues, long sequence) {
+            this.frame = frame;
+            this.sequence = sequence;
+            int size = keyValues.size();
+            this.kinds = new byte[size];
+            this.numericKeys = new long[size];
+            this.keys = new Object[size];
+            for (int i = 0; i < size; i++) {
+                Object key = keyValues.get(i);
+                if (key == null) {
+                    kinds[i] = NIL_KEY;
+                } else if (key instanceof Long || key instanceof Integer) {
+                    // Bytes are stored as Java ints.
+                    kinds[i] = INT_KEY;
+                    numericKeys[i] = ((Number) key).longValue();
+                } else if (key instanceof Double) {
+                    double value = (Double) key;
+                    kinds[i] = FLOAT_KEY;
+                    numericKeys[i] = Double.doubleToLongBits(value == 0.0 ? 0.0 : value);
+                } else if (key instanceof BString) {
+                    kinds[i] = STRING_KEY;
+                    keys[i] = ((BString) key).getValue();
+                } else if (key instanceof BDecimal) {
+                    kinds[i] = DECIMAL_KEY;
+                    keys[i] = ((BDecimal) key).value();
+                } else {
+                    kinds[i] = OTHER_KEY;
+                    keys[i] = key;
+                }
+            }
+        }
+
+        Object getKey(int i) {
+            return ((BArray) frame.get(FrameStage.ORDER_KEY)).get(i);
+        }
+    }
+}
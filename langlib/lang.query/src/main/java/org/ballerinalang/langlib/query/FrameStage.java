@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.scheduling.Strand;
+
+import java.util.Map;
+
+/**
+ * A stage of a natively executed query pipeline. This is the Java counterpart of a `_StreamFunction` of the
+ * pipeline: {@link #process(Strand)} pulls frames from the previous stage and returns the next frame, an error, or
+ * {@code null} once the stage is exhausted.
+ * <p>
+ * Frames are the same `_Frame` mappings the desugared clause lambdas of the query read and write, and the lambdas
+ * are called synchronously on the strand that iterates the query.
+ *
+ * @since 2.0.0
+ */
+abstract class FrameStage {
+
+    static final BString VALUE = StringUtils.fromString("value");
+    static final BString SELECTED_VALUE = StringUtils.fromString("$value$");
+    static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+
+    final FrameStage prev;
+
+    FrameStage(FrameStage prev) {
+        this.prev = prev;
+    }
+
+    abstract Object process(Strand strand);
+
+    /**
+     * Returns the maximum number of frames the stage produces, or -1 if that is not known before running the stage.
+     *
+     * @return the maximum number of frames of the stage
+     */
+    long estimateSize() {
+        return prev != null ? prev.estimateSize() : -1;
+    }
+
+    static Object call(BFunctionPointer<Object, Object> function, Strand strand, Object arg) {
+        return function.call(new Object[]{strand, arg, true});
+    }
+
+    static BMap<BString, Object> newFrame(Type frameType, Object value) {
+        BMap<BString, Object> frame = ValueCreator.createMapValue(frameType);
+        frame.put(VALUE, value);
+        return frame;
+    }
+
+    static BMap<BString, Object> copyFrame(Type frameType, BMap<BString, Object> source) {
+        BMap<BString, Object> frame = ValueCreator.createMapValue(frameType);
+        putAll(frame, source);
+        return frame;
+    }
+
+    static BMap<BString, Object> mergeFrames(Type frameType, BMap<BString, Object> lhs, BMap<BString, Object> rhs) {
+        BMap<BString, Object> frame = copyFrame(frameType, lhs);
+        putAll(frame, rhs);
+        return frame;
+    }
+
+    private static void putAll(BMap<BString, Object> target, BMap<BString, Object> source) {
+        for (Map.Entry<BString, Object> entry : source.entrySet()) {
+            target.put(entry.getKey(), entry.getValue());
+        }
+    }
+}
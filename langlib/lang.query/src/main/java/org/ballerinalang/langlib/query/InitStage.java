@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.scheduling.Strand;
+
+/**
+ * Emits a frame for each member of the input collection of the query, with the member as the `value` of the frame.
+ *
+ * @since 2.0.0
+ */
+final class InitStage extends FrameStage {
+
+    final Object collection;
+    final Type frameType;
+    private final CollectionIterator iterator;
+
+    InitStage(Object collection, Type frameType) {
+        super(null);
+        this.collection = collection;
+        this.iterator = CollectionIterator.of(collection);
+        this.frameType = frameType;
+    }
+
+    @Override
+    Object process(Strand strand) {
+        if (iterator.hasNext()) {
+            return newFrame(frameType, iterator.next());
+        }
+        return null;
+    }
+
+    @Override
+    long estimateSize() {
+        return iterator.size();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.TypeChecker;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.api.values.BXML;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * The key of a frame of a join clause. Keys are equal if the key values are equal as per `==`, so that a hash table
+ * of keys matches the frames the `equals` condition of the join clause matches, without converting the key values
+ * to strings.
+ *
+ * @since 2.0.0
+ */
+final class JoinKey {
+
+    // Members of structured keys deeper than this do not contribute to the hash. This keeps the hash of a cyclic
+    // value finite, and equal values still have equal hashes since they have the same members at every depth.
+    private static final int MAX_HASH_DEPTH = 8;
+
+    private final Object value;
+    private final int hash;
+
+    JoinKey(Object value) {
+        this.value = value;
+        this.hash = hash(value, 0);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof JoinKey)) {
+            return false;
+        }
+        JoinKey other = (JoinKey) obj;
+        return hash == other.hash && TypeChecker.isEqual(value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static int hash(Object value, int depth) {
+        if (value == null || depth > MAX_HASH_DEPTH) {
+            return 0;
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            return Long.hashCode(((Number) value).longValue());
+        }
+        if (value instanceof Double) {
+            return hash((double) value);
+        }
+        if (value instanceof BDecimal) {
+            return hash(((BDecimal) value).decimalValue());
+        }
+        if (value instanceof BString) {
+            return ((BString) value).getValue().hashCode();
+        }
+        if (value instanceof Boolean) {
+            return value.hashCode();
+        }
+        if (value instanceof BArray) {
+            BArray list = (BArray) value;
+            int result = 1;
+            for (int i = 0; i < list.size(); i++) {
+                result = 31 * result + hash(list.get(i), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BMap) {
+            // Equal mappings need not have the same order of fields.
+            int result = 0;
+            for (Map.Entry<?, ?> entry : ((BMap<?, ?>) value).entrySet()) {
+                result += hash(entry.getKey(), depth + 1) ^ hash(entry.getValue(), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BError) {
+            return ((BError) value).getErrorMessage().getValue().hashCode();
+        }
+        if (value instanceof BTable || value instanceof BXML) {
+            // Tables and xml values are compared by their members. They are hardly used as join keys, hence hashed
+            // to the same bucket instead of hashing the members.
+            return 1;
+        }
+        // Other values, such as objects, are only equal to themselves.
+        return System.identityHashCode(value);
+    }
+
+    // An int is equal to a float with the same integral value, hence integral floats and decimals are hashed as ints.
+    private static int hash(double value) {
+        if (value == Math.rint(value) && value >= Long.MIN_VALUE && value <= Long.MAX_VALUE) {
+            return Long.hashCode((long) value);
+        }
+        return Double.hashCode(value);
+    }
+
+    private static int hash(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        if (stripped.scale() <= 0) {
+            try {
+                return Long.hashCode(stripped.longValueExact());
+            } catch (ArithmeticException e) {
+                // Fall back to the hash of the decimal for integral values out of the range of int.
+            }
+        }
+        return stripped.hashCode();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.scheduling.Strand;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Joins the frames of the previous stage with the frames of the pipeline of a join clause on equal keys, using a
+ * hash table of {@link JoinKey}s. An outer join emits the frame of the previous stage merged with the nil frame of the
+ * clause if there is no matching frame.
+ * <p>
+ * The hash table is built on the frames of the joined pipeline when the first frame is requested, and probed with
+ * each frame of the previous stage. If both inputs are known to be bounded and the previous stage is the smaller one,
+ * the table is built on the frames of the previous stage instead, and the matches of each of those frames are
+ * collected while consuming the joined pipeline. Either way the joined frames are emitted in the order of the frames
+ * of the previous stage, and the matches of a frame in the order of the joined pipeline.
+ *
+ * @since 2.0.0
+ */
+final class JoinStage extends FrameStage {
+
+    private final FrameStage joinedStage;
+    private final BFunctionPointer<Object, Object> lhsKeyFunction;
+    private final BFunctionPointer<Object, Object> rhsKeyFunction;
+    private final BMap<BString, Object> nilFrame;
+    private final Type frameType;
+    private boolean initialized;
+    private Map<JoinKey, List<BMap<BString, Object>>> rhsFrames;
+    private List<BMap<BString, Object>> lhsFrames;
+    private List<List<BMap<BString, Object>>> lhsMatches;
+    private Object lhsEnd;
+    private int lhsIndex;
+    private BMap<BString, Object> lhsFrame;
+    private List<BMap<BString, Object>> rhsCandidates;
+    private int candidateIndex;
+
+    JoinStage(FrameStage prev, FrameStage joinedStage, BFunctionPointer<Object, Object> lhsKeyFunction,
+              BFunctionPointer<Object, Object> rhsKeyFunction, BMap<BString, Object> nilFrame, Type frameType) {
+        super(prev);
+        this.joinedStage = joinedStage;
+        this.lhsKeyFunction = lhsKeyFunction;
+        this.rhsKeyFunction = rhsKeyFunction;
+        this.nilFrame = nilFrame;
+        this.frameType = frameType;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Object process(Strand strand) {
+        if (!initialized) {
+            initialized = true;
+            long lhsSize = prev.estimateSize();
+            long rhsSize = joinedStage.estimateSize();
+            if (lhsSize >= 0 && rhsSize >= 0 && lhsSize < rhsSize) {
+                matchLhsFrames(strand);
+            } else {
+                rhsFrames = consumeJoinedStage(strand);
+            }
+        }
+        while (true) {
+            if (lhsFrame == null) {
+                Object frame = lhsFrames != null ? nextMatchedLhsFrame() : prev.process(strand);
+                if (!(frame instanceof BMap)) {
+                    return frame;
+                }
+                lhsFrame = (BMap<BString, Object>) frame;
+                rhsCandidates = lhsFrames != null ? lhsMatches.get(lhsIndex - 1) :
+                        rhsFrames.get(getKey(lhsKeyFunction, strand, lhsFrame));
+                candidateIndex = 0;
+                if (rhsCandidates == null && nilFrame != null) {
+                    BMap<BString, Object> joinedFrame = mergeFrames(frameType, lhsFrame, nilFrame);
+                    lhsFrame = null;
+                    return joinedFrame;
+                }
+            }
+            if (rhsCandidates != null && candidateIndex < rhsCandidates.size()) {
+                return mergeFrames(frameType, lhsFrame, rhsCandidates.get(candidateIndex++));
+            }
+            // Move to the next frame of the previous stage.
+            lhsFrame = null;
+            rhsCandidates = null;
+        }
+    }
+
+    @Override
+    long estimateSize() {
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<JoinKey, List<BMap<BString, Object>>> consumeJoinedStage(Strand strand) {
+        Map<JoinKey, List<BMap<BString, Object>>> frames = new HashMap<>();
+        Object frame = joinedStage.process(strand);
+        while (frame instanceof BMap) {
+            BMap<BString, Object> rhsFrame = (BMap<BString, Object>) frame;
+            frames.computeIfAbsent(getKey(rhsKeyFunction, strand, rhsFrame), k -> new ArrayList<>()).add(rhsFrame);
+            frame = joinedStage.process(strand);
+        }
+        return frames;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void matchLhsFrames(Strand strand) {
+        List<BMap<BString, Object>> frames = new ArrayList<>();
+        Map<JoinKey, List<Integer>> frameIndexes = new HashMap<>();
+        Object frame = prev.process(strand);
+        while (frame instanceof BMap) {
+            BMap<BString, Object> lhs = (BMap<BString, Object>) frame;
+            frameIndexes.computeIfAbsent(getKey(lhsKeyFunction, strand, lhs), k -> new ArrayList<>())
+                    .add(frames.size());
+            frames.add(lhs);
+            frame = prev.process(strand);
+        }
+        // The end of the previous stage, which is either nil or an error, is returned once the frames before it are
+        // emitted.
+        lhsEnd = frame;
+        List<List<BMap<BString, Object>>> matches = new ArrayList<>(Collections.nCopies(frames.size(), null));
+        frame = joinedStage.process(strand);
+        while (frame instanceof BMap) {
+            BMap<BString, Object> rhs = (BMap<BString, Object>) frame;
+            List<Integer> indexes = frameIndexes.get(getKey(rhsKeyFunction, strand, rhs));
+            if (indexes != null) {
+                for (int index : indexes) {
+                    List<BMap<BString, Object>> frameMatches = matches.get(index);
+                    if (frameMatches == null) {
+                        frameMatches = new ArrayList<>();
+                        matches.set(index, frameMatches);
+                    }
+                    frameMatches.add(rhs);
+                }
+            }
+            frame = joinedStage.process(strand);
+        }
+        lhsFrames = frames;
+        lhsMatches = matches;
+    }
+
+    private Object nextMatchedLhsFrame() {
+        if (lhsIndex < lhsFrames.size()) {
+            return lhsFrames.get(lhsIndex++);
+        }
+        return lhsEnd;
+    }
+
+    private static JoinKey getKey(BFunctionPointer<Object, Object> keyFunction, Strand strand,
+                                  BMap<BString, Object> frame) {
+        return new JoinKey(call(keyFunction, strand, frame));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.ErrorCreator;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.scheduling.Strand;
+
+/**
+ * Emits frames until the number of frames given by the limit clause is reached.
+ *
+ * @since 2.0.0
+ */
+final class LimitStage extends FrameStage {
+
+    private final BFunctionPointer<Object, Object> limitFunction;
+    private long count = 0;
+
+    LimitStage(FrameStage prev, BFunctionPointer<Object, Object> limitFunction) {
+        super(prev);
+        this.limitFunction = limitFunction;
+    }
+
+    @Override
+    Object process(Strand strand) {
+        Object frame = prev.process(strand);
+        if (frame instanceof BMap) {
+            long limit = (long) call(limitFunction, strand, frame);
+            if (limit < 1) {
+                throw ErrorCreator.createError(StringUtils.fromString("Invalid limit"),
+                                               StringUtils.fromString("limit cannot be < 1."));
+            }
+            if (count < limit) {
+                count++;
+                return frame;
+            }
+            return null;
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.scheduling.Strand;
+
+/**
+ * Emits a copy of each frame of the previous stage for each member of the collection of a nested from clause, with
+ * the member as the `value` of the frame.
+ *
+ * @since 2.0.0
+ */
+final class NestedFromStage extends FrameStage {
+
+    private final BFunctionPointer<Object, Object> collectionFunction;
+    private final Type frameType;
+    private BMap<BString, Object> currentFrame;
+    private CollectionIterator iterator;
+
+    NestedFromStage(FrameStage prev, BFunctionPointer<Object, Object> collectionFunction, Type frameType) {
+        super(prev);
+        this.collectionFunction = collectionFunction;
+        this.frameType = frameType;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Object process(Strand strand) {
+        while (true) {
+            if (currentFrame == null) {
+                Object frame = prev.process(strand);
+                if (!(frame instanceof BMap)) {
+                    return frame;
+                }
+                Object collection = call(collectionFunction, strand, frame);
+                if (collection instanceof BError) {
+                    return collection;
+                }
+                currentFrame = (BMap<BString, Object>) frame;
+                iterator = CollectionIterator.of(collection);
+            }
+            if (iterator.hasNext()) {
+                BMap<BString, Object> frame = copyFrame(frameType, currentFrame);
+                frame.put(VALUE, iterator.next());
+                return frame;
+            }
+            // Move to the next frame of the previous stage.
+            currentFrame = null;
+            iterator = null;
+        }
+    }
+
+    @Override
+    long estimateSize() {
+        return -1;
+    }
+}
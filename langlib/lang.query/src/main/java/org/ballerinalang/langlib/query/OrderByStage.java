@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.scheduling.Strand;
+
+import java.util.List;
+
+/**
+ * Consumes all the frames of the previous stage and emits them in the order of the keys of an order by clause, as
+ * sorted by a {@link FrameSorter}. If the clause is followed by a limit clause, the limit is evaluated on the first
+ * frame and only that many frames are kept.
+ *
+ * @since 2.0.0
+ */
+final class OrderByStage extends FrameStage {
+
+    private final BFunctionPointer<Object, Object> orderKeyFunction;
+    private final BFunctionPointer<Object, Object> limitFunction;
+    private List<BMap<BString, Object>> orderedFrames;
+    private int index;
+
+    OrderByStage(FrameStage prev, BFunctionPointer<Object, Object> orderKeyFunction,
+                 BFunctionPointer<Object, Object> limitFunction) {
+        super(prev);
+        this.orderKeyFunction = orderKeyFunction;
+        this.limitFunction = limitFunction;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Object process(Strand strand) {
+        if (orderedFrames == null) {
+            FrameSorter sorter = new FrameSorter();
+            Object frame = prev.process(strand);
+            if (frame instanceof BMap && limitFunction != null) {
+                sorter.setLimit((long) call(limitFunction, strand, frame));
+            }
+            // Consume all the frames for ordering.
+            while (frame instanceof BMap) {
+                call(orderKeyFunction, strand, frame);
+                sorter.add((BMap<BString, Object>) frame);
+                frame = prev.process(strand);
+            }
+            if (frame != null) {
+                return frame;
+            }
+            orderedFrames = sorter.sort();
+        }
+        if (index < orderedFrames.size()) {
+            return orderedFrames.set(index++, null);
+        }
+        return null;
+    }
+}
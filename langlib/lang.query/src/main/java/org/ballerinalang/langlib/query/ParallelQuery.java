@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.scheduling.Scheduler;
+import io.ballerina.runtime.scheduling.Strand;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs a natively executed query over the members of its input collection in parallel. Only queries of which each
+ * frame is processed independently of the others, i.e. a single from clause followed by where, let and select
+ * clauses, are run this way, and the compiler only marks a query as parallel if those clauses are isolated.
+ * <p>
+ * The members are split into contiguous chunks, which are processed by the common fork-join pool. The selected
+ * values are handed over to the sink in the order of the members, and the query ends with the first error or
+ * panic in that order, so the result is the same as that of running the query sequentially.
+ *
+ * @since 2.0.0
+ */
+final class ParallelQuery {
+
+    // Smaller inputs are not worth the cost of handing the members over to other threads.
+    static final int MIN_PARALLEL_SIZE = 1 << 14;
+    private static final int MIN_CHUNK_SIZE = 1 << 12;
+    private static final int CHUNKS_PER_THREAD = 4;
+    // Marks the end of the query by a stage which returns nil, as opposed to a frame filtered out by a where clause.
+    private static final Object END = new Object();
+
+    private final InitStage initStage;
+    private final List<FrameStage> stages;
+    private final int parallelism;
+
+    private ParallelQuery(InitStage initStage, List<FrameStage> stages, int parallelism) {
+        this.initStage = initStage;
+        this.stages = stages;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns a parallel query for the stages ending with the given stage, or {@code null} if the query cannot be run
+     * in parallel, because of its clauses or because its input is too small.
+     *
+     * @param stage the last stage of the query
+     * @return the parallel query, or {@code null}
+     */
+    static ParallelQuery of(FrameStage stage) {
+        return of(stage, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Returns a parallel query for the stages ending with the given stage, which splits its input for the given
+     * number of threads, or {@code null} if the query cannot be run in parallel.
+     *
+     * @param stage       the last stage of the query
+     * @param parallelism the number of threads to split the input for
+     * @return the parallel query, or {@code null}
+     */
+    static ParallelQuery of(FrameStage stage, int parallelism) {
+        if (parallelism < 2) {
+            return null;
+        }
+        List<FrameStage> stages = new ArrayList<>();
+        while (stage instanceof TransformStage || stage instanceof FilterStage) {
+            stages.add(stage);
+            stage = stage.prev;
+        }
+        if (!(stage instanceof InitStage)) {
+            return null;
+        }
+        long size = stage.estimateSize();
+        if (size < MIN_PARALLEL_SIZE || size > Integer.MAX_VALUE) {
+            return null;
+        }
+        Collections.reverse(stages);
+        return new ParallelQuery((InitStage) stage, stages, parallelism);
+    }
+
+    /**
+     * Runs the query, handing each selected value over to the given sink, which returns an error to end the query
+     * with, or {@code null} to continue.
+     *
+     * @param strand the strand that runs the query
+     * @param sink   the sink of the selected values
+     * @return the error the query ended with, or {@code null}
+     */
+    Object run(Strand strand, Function<Object, Object> sink) {
+        Object[] members = getMembers();
+        int chunkCount = Math.max(1, Math.min(parallelism * CHUNKS_PER_THREAD, members.length / MIN_CHUNK_SIZE));
+        AtomicInteger firstEndedChunk = new AtomicInteger(Integer.MAX_VALUE);
+        Chunk[] chunks = new Chunk[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i] = new Chunk(i, (int) ((long) members.length * i / chunkCount),
+                                  (int) ((long) members.length * (i + 1) / chunkCount), members, firstEndedChunk);
+        }
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunkCount - 1);
+        for (int i = 1; i < chunkCount; i++) {
+            Chunk chunk = chunks[i];
+            tasks.add(pool.submit(() -> runOnWorker(chunk, strand)));
+        }
+        chunks[0].run(strand);
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+
+        for (Chunk chunk : chunks) {
+            for (Object value : chunk.values) {
+                Object error = sink.apply(value);
+                if (error != null) {
+                    return error;
+                }
+            }
+            if (chunk.panic != null) {
+                rethrow(chunk.panic);
+            }
+            if (chunk.ended) {
+                return chunk.result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Throws the given throwable as is, so that a panic in a worker thread reaches the strand of the query the same
+     * way as when the query runs sequentially.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> void rethrow(Throwable throwable) throws T {
+        throw (T) throwable;
+    }
+
+    private Object[] getMembers() {
+        CollectionIterator iterator = CollectionIterator.of(initStage.collection);
+        Object[] members = new Object[(int) iterator.size()];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = iterator.next();
+        }
+        return members;
+    }
+
+    private void runOnWorker(Chunk chunk, Strand parent) {
+        Strand strand = new Strand(null, null, parent.scheduler, parent, null);
+        Strand prev = Scheduler.setStrand(strand);
+        try {
+            chunk.run(strand);
+        } finally {
+            Scheduler.setStrand(prev);
+        }
+    }
+
+    /**
+     * A contiguous range of the members of the input, with the values selected from them.
+     */
+    private class Chunk {
+
+        private final int index;
+        private final int from;
+        private final int to;
+        private final Object[] members;
+        private final AtomicInteger firstEndedChunk;
+        private final List<Object> values;
+        // Whether the query ended at a member of this chunk, with the result or panic of the member.
+        private boolean ended;
+        private Object result;
+        private Throwable panic;
+
+        Chunk(int index, int from, int to, Object[] members, AtomicInteger firstEndedChunk) {
+            this.index = index;
+            this.from = from;
+            this.to = to;
+            this.members = members;
+            this.firstEndedChunk = firstEndedChunk;
+            this.values = new ArrayList<>(to - from);
+        }
+
+        void run(Strand strand) {
+            try {
+                for (int i = from; i < to; i++) {
+                    // Members after the end of the query in an earlier chunk are never reached sequentially.
+                    if (firstEndedChunk.get() < index) {
+                        return;
+                    }
+                    Object frame = process(strand, FrameStage.newFrame(initStage.frameType, members[i]));
+                    if (frame == null) {
+                        continue;
+                    }
+                    if (!(frame instanceof BMap)) {
+                        end(frame);
+                        return;
+                    }
+                    values.add(((BMap<?, ?>) frame).get(FrameStage.SELECTED_VALUE));
+                }
+            } catch (Throwable e) {
+                // Errors such as a stack overflow are kept too, so that a later chunk cannot end the query first.
+                panic = e;
+                end(null);
+            }
+        }
+
+        /**
+         * Returns the frame the stages produce from the given frame, {@code null} if a where clause filters it out,
+         * or the error or nil the query ends with.
+         */
+        private Object process(Strand strand, Object frame) {
+            for (FrameStage stage : stages) {
+                if (stage instanceof FilterStage) {
+                    if (!((FilterStage) stage).test(strand, frame)) {
+                        return null;
+                    }
+                } else {
+                    frame = ((TransformStage) stage).apply(strand, frame);
+                    if (!(frame instanceof BMap)) {
+                        return frame != null ? frame : END;
+                    }
+                }
+            }
+            return frame;
+        }
+
+        private void end(Object result) {
+            this.ended = true;
+            this.result = result == END ? null : result;
+            firstEndedChunk.accumulateAndGet(index, Math::min);
+        }
+    }
+}
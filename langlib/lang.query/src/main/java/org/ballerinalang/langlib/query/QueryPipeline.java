@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.ErrorCreator;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.scheduling.Scheduler;
+import io.ballerina.runtime.scheduling.Strand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Native execution of a query pipeline. The `_StreamFunction`s a `_StreamPipeline` is built from are translated to
+ * {@link FrameStage}s once, when the stream of the pipeline is created, and the frames of the query are then pulled
+ * through the stages without going back to Ballerina code other than the clause lambdas.
+ * <p>
+ * The compiler only marks a pipeline as native if none of the clauses of the query can yield, since the lambdas are
+ * called synchronously. Queries the compiler marks as parallel are run by a {@link ParallelQuery} instead, when
+ * their result is collected to a list or a table and their input is large enough.
+ *
+ * @since 2.0.0
+ */
+public class QueryPipeline {
+
+    private static final String NATIVE_ITERATOR = "_NativeIterHelper";
+    private static final BString PIPELINE = StringUtils.fromString("pipeline");
+    private static final BString IS_PARALLEL = StringUtils.fromString("isParallel");
+    private static final BString STREAM_FUNCTION = StringUtils.fromString("streamFunction");
+    private static final BString PREV_FUNCTION = StringUtils.fromString("prevFunc");
+    private static final BString COLLECTION = StringUtils.fromString("collection");
+    private static final BString INPUT_FUNCTION = StringUtils.fromString("inputFunc");
+    private static final BString COLLECTION_FUNCTION = StringUtils.fromString("collectionFunc");
+    private static final BString LET_FUNCTION = StringUtils.fromString("letFunc");
+    private static final BString PIPELINE_TO_JOIN = StringUtils.fromString("pipelineToJoin");
+    private static final BString LHS_KEY_FUNCTION = StringUtils.fromString("lhsKeyFunction");
+    private static final BString RHS_KEY_FUNCTION = StringUtils.fromString("rhsKeyFunction");
+    private static final BString NIL_FRAME = StringUtils.fromString("nilFrame");
+    private static final BString FILTER_FUNCTION = StringUtils.fromString("filterFunc");
+    private static final BString ORDER_KEY_FUNCTION = StringUtils.fromString("orderKeyFunc");
+    private static final BString SELECT_FUNCTION = StringUtils.fromString("selectFunc");
+    private static final BString DO_FUNCTION = StringUtils.fromString("doFunc");
+    private static final BString LIMIT_FUNCTION = StringUtils.fromString("limitFunc");
+    private static final BString LIMIT_FUNCTION_OBJECT = StringUtils.fromString("limitFunction");
+
+    private final FrameStage stage;
+    // Cleared once a frame is pulled from the stages, after which the query can only continue sequentially.
+    private ParallelQuery parallelQuery;
+
+    private QueryPipeline(FrameStage stage, ParallelQuery parallelQuery) {
+        this.stage = stage;
+        this.parallelQuery = parallelQuery;
+    }
+
+    public static BHandle createPipeline(BObject pipeline, BTypedesc frameType) {
+        FrameStage stage = createStages(pipeline, frameType.getDescribingType());
+        ParallelQuery parallelQuery = (boolean) pipeline.get(IS_PARALLEL) ? ParallelQuery.of(stage) : null;
+        return ValueCreator.createHandleValue(new QueryPipeline(stage, parallelQuery));
+    }
+
+    public static Object nextFrame(BHandle pipeline) {
+        QueryPipeline queryPipeline = (QueryPipeline) pipeline.getValue();
+        queryPipeline.parallelQuery = null;
+        return queryPipeline.stage.process(Scheduler.getStrand());
+    }
+
+    public static boolean isNativeStream(BStream strm) {
+        Object iterator = strm.getIteratorObj();
+        return iterator instanceof BObject && NATIVE_ITERATOR.equals(((BObject) iterator).getType().getName());
+    }
+
+    public static Object toArray(BStream strm, BArray arr) {
+        QueryPipeline queryPipeline = getPipeline(strm);
+        Strand strand = Scheduler.getStrand();
+        if (queryPipeline.parallelQuery != null) {
+            return queryPipeline.parallelQuery.run(strand, value -> {
+                arr.append(value);
+                return null;
+            });
+        }
+        FrameStage stage = queryPipeline.stage;
+        Object frame = stage.process(strand);
+        while (frame instanceof BMap) {
+            arr.append(((BMap<?, ?>) frame).get(FrameStage.SELECTED_VALUE));
+            frame = stage.process(strand);
+        }
+        return frame;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object addToTable(BStream strm, BTable tbl, Object err) {
+        QueryPipeline queryPipeline = getPipeline(strm);
+        Strand strand = Scheduler.getStrand();
+        if (queryPipeline.parallelQuery != null) {
+            return queryPipeline.parallelQuery.run(strand, value -> {
+                try {
+                    tbl.add(value);
+                    return null;
+                } catch (BError e) {
+                    return err != null ? err : e;
+                }
+            });
+        }
+        FrameStage stage = queryPipeline.stage;
+        Object frame = stage.process(strand);
+        while (frame instanceof BMap) {
+            try {
+                tbl.add(((BMap<?, ?>) frame).get(FrameStage.SELECTED_VALUE));
+            } catch (BError e) {
+                return err != null ? err : e;
+            }
+            frame = stage.process(strand);
+        }
+        return frame;
+    }
+
+    public static Object consumeStream(BStream strm) {
+        FrameStage stage = getPipeline(strm).stage;
+        Strand strand = Scheduler.getStrand();
+        Object frame = stage.process(strand);
+        while (frame instanceof BMap) {
+            frame = stage.process(strand);
+        }
+        return frame;
+    }
+
+    private static QueryPipeline getPipeline(BStream strm) {
+        BHandle pipeline = (BHandle) ((BObject) strm.getIteratorObj()).get(PIPELINE);
+        return (QueryPipeline) pipeline.getValue();
+    }
+
+    private static FrameStage createStages(BObject pipeline, Type frameType) {
+        // Stream functions are linked from the last one to the first one.
+        List<BObject> functions = new ArrayList<>();
+        BObject function = (BObject) pipeline.get(STREAM_FUNCTION);
+        while (function != null) {
+            functions.add(function);
+            function = (BObject) function.get(PREV_FUNCTION);
+        }
+        FrameStage stage = null;
+        for (int i = functions.size() - 1; i >= 0; i--) {
+            stage = createStage(functions.get(i), stage, frameType);
+        }
+        return stage;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FrameStage createStage(BObject function, FrameStage prev, Type frameType) {
+        String name = function.getType().getName();
+        switch (name) {
+            case "_InitFunction":
+                return new InitStage(function.get(COLLECTION), frameType);
+            case "_InputFunction":
+                return new TransformStage(prev, getFunction(function, INPUT_FUNCTION));
+            case "_NestedFromFunction":
+                return new NestedFromStage(prev, getFunction(function, COLLECTION_FUNCTION), frameType);
+            case "_LetFunction":
+                return new TransformStage(prev, getFunction(function, LET_FUNCTION));
+            case "_InnerJoinFunction":
+            case "_OuterJoinFunction":
+                FrameStage joinedStage = createStages((BObject) function.get(PIPELINE_TO_JOIN), frameType);
+                BMap<BString, Object> nilFrame = "_OuterJoinFunction".equals(name) ?
+                        (BMap<BString, Object>) function.get(NIL_FRAME) : null;
+                return new JoinStage(prev, joinedStage, getFunction(function, LHS_KEY_FUNCTION),
+                                     getFunction(function, RHS_KEY_FUNCTION), nilFrame, frameType);
+            case "_FilterFunction":
+                return new FilterStage(prev, getFunction(function, FILTER_FUNCTION));
+            case "_OrderByFunction":
+                BObject limitFunction = (BObject) function.get(LIMIT_FUNCTION_OBJECT);
+                return new OrderByStage(prev, getFunction(function, ORDER_KEY_FUNCTION),
+                                        limitFunction != null ? getFunction(limitFunction, LIMIT_FUNCTION) : null);
+            case "_SelectFunction":
+                return new TransformStage(prev, getFunction(function, SELECT_FUNCTION));
+            case "_DoFunction":
+                return new DoStage(prev, getFunction(function, DO_FUNCTION));
+            case "_LimitFunction":
+                return new LimitStage(prev, getFunction(function, LIMIT_FUNCTION));
+            default:
+                throw ErrorCreator.createError(StringUtils.fromString("Unsupported query function"),
+                                               StringUtils.fromString("unsupported query function '" + name + "'."));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BFunctionPointer<Object, Object> getFunction(BObject function, BString field) {
+        return (BFunctionPointer<Object, Object>) function.get(field);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.TypeCreator;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.values.TableValueImpl;
+
+/**
+ * Narrows the input table of a query using the field indexes of the table. The matching rows are returned as an
+ * array in table order, or the table itself is returned if the field can not be looked up using an index.
+ *
+ * @since 2.0.0
+ */
+public class TableIndexLookup {
+
+    public static Object lookupByField(BTable tbl, BString fieldName, Object value) {
+        if (!(tbl instanceof TableValueImpl)) {
+            return tbl;
+        }
+        return toCollection(tbl, ((TableValueImpl<?, ?>) tbl).lookupByField(fieldName, value));
+    }
+
+    public static Object lookupByFieldRange(BTable tbl, BString fieldName, Object lower, boolean lowerInclusive,
+                                            Object upper, boolean upperInclusive) {
+        if (!(tbl instanceof TableValueImpl)) {
+            return tbl;
+        }
+        return toCollection(tbl, ((TableValueImpl<?, ?>) tbl).lookupByFieldRange(fieldName, lower, lowerInclusive,
+                upper, upperInclusive));
+    }
+
+    private static Object toCollection(BTable tbl, Object[] rows) {
+        if (rows == null) {
+            return tbl;
+        }
+        return ValueCreator.createArrayValue(rows,
+                TypeCreator.createArrayType(((TableType) tbl.getType()).getConstrainedType()));
+    }
+}
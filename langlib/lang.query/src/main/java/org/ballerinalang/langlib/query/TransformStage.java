@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.scheduling.Strand;
+
+/**
+ * Applies the lambda of an input, let or select clause to each frame. The lambda returns the updated frame or an
+ * error.
+ *
+ * @since 2.0.0
+ */
+final class TransformStage extends FrameStage {
+
+    private final BFunctionPointer<Object, Object> function;
+
+    TransformStage(FrameStage prev, BFunctionPointer<Object, Object> function) {
+        super(prev);
+        this.function = function;
+    }
+
+    @Override
+    Object process(Strand strand) {
+        Object frame = prev.process(strand);
+        if (frame instanceof BMap) {
+            return apply(strand, frame);
+        }
+        return frame;
+    }
+
+    Object apply(Strand strand, Object frame) {
+        return call(function, strand, frame);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.TypeCreator;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for {@link FrameSorter}.
+ */
+public class FrameSorterTest {
+
+    @Test
+    public void testSort() {
+        FrameSorter sorter = new FrameSorter();
+        Object[][] keys = {{2L, 1.5}, {null, 0.0}, {1L, Double.NaN}, {2L, -0.0}, {1L, 2.0}, {2L, 0.0}, {1L, null}};
+        for (int i = 0; i < keys.length; i++) {
+            sorter.add(frame(i, keys[i], false, true));
+        }
+        // () and NaN come last in either direction, and -0.0 is equal to 0.0
+        Assert.assertEquals(getIds(sorter.sort()), List.of(3L, 5L, 0L, 4L, 2L, 6L, 1L));
+    }
+
+    @Test
+    public void testSortWithLimit() {
+        FrameSorter sorter = new FrameSorter();
+        sorter.setLimit(3);
+        long[] keys = {5, 1, 4, 1, 3, 1, 2};
+        for (int i = 0; i < keys.length; i++) {
+            sorter.add(frame(i, new Object[]{keys[i]}, true));
+        }
+        Assert.assertEquals(getIds(sorter.sort()), List.of(1L, 3L, 5L));
+    }
+
+    @Test
+    public void testListKeys() {
+        FrameSorter sorter = new FrameSorter();
+        Object[][] keys = {{list(1L, 2L)}, {list(1L)}, {list(1L, null)}, {list()}};
+        for (int i = 0; i < keys.length; i++) {
+            sorter.add(frame(i, keys[i], true));
+        }
+        Assert.assertEquals(getIds(sorter.sort()), List.of(3L, 1L, 0L, 2L));
+    }
+
+    @Test
+    public void testStringAndDecimalKeys() {
+        FrameSorter sorter = new FrameSorter();
+        Object[][] keys = {{string("b"), decimal("1.5")}, {string("\uD83D\uDE00"), decimal("1")},
+                {string("\uFFFD"), decimal("2")}, {string("b"), decimal("2.50")}, {string("a"), null},
+                {string("b"), decimal("2.5")}};
+        for (int i = 0; i < keys.length; i++) {
+            sorter.add(frame(i, keys[i], true, false));
+        }
+        // Strings are ordered by code points, and decimals of different scales may be equal
+        Assert.assertEquals(getIds(sorter.sort()), List.of(4L, 3L, 5L, 0L, 2L, 1L));
+    }
+
+    @Test
+    public void testMismatchedKeys() {
+        FrameSorter sorter = new FrameSorter();
+        sorter.add(frame(0, new Object[]{1L}, true));
+        sorter.add(frame(1, new Object[]{1.5}, true));
+        try {
+            sorter.sort();
+            Assert.fail("expected an error");
+        } catch (BError e) {
+            // the types are reported in the order the keys are compared in
+            String message = e.getDetails().toString();
+            Assert.assertTrue(message.contains("expected an ordered type, but found 'int|float'") ||
+                                      message.contains("expected an ordered type, but found 'float|int'"), message);
+        }
+    }
+
+    private static BMap<BString, Object> frame(long id, Object[] keys, boolean... ascending) {
+        BMap<BString, Object> frame = ValueCreator.createMapValue();
+        frame.put(FrameStage.SELECTED_VALUE, id);
+        frame.put(FrameStage.ORDER_KEY, list(keys));
+        frame.put(FrameStage.ORDER_DIRECTION, ValueCreator.createArrayValue(ascending));
+        return frame;
+    }
+
+    private static BString string(String value) {
+        return StringUtils.fromString(value);
+    }
+
+    private static Object decimal(String value) {
+        return ValueCreator.createDecimalValue(new BigDecimal(value));
+    }
+
+    private static Object list(Object... members) {
+        return ValueCreator.createArrayValue(members, TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+    }
+
+    private static List<Object> getIds(List<BMap<BString, Object>> frames) {
+        List<Object> ids = new ArrayList<>();
+        for (BMap<BString, Object> frame : frames) {
+            ids.add(frame.get(FrameStage.SELECTED_VALUE));
+        }
+        return ids;
+    }
+}
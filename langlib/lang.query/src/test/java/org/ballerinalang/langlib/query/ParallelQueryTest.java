@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.ErrorCreator;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.scheduling.Scheduler;
+import io.ballerina.runtime.scheduling.Strand;
+import io.ballerina.runtime.values.FPValue;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link ParallelQuery}. The queries are built from stages directly, and are run both sequentially
+ * and in parallel to check that the results are the same.
+ */
+public class ParallelQueryTest {
+
+    private static final int SIZE = 100000;
+    private static final int PARALLELISM = 4;
+    private static final BString X = StringUtils.fromString("x");
+    private static final BString VALUE = StringUtils.fromString("value");
+
+    private Strand strand;
+    private Strand prevStrand;
+
+    @BeforeClass
+    public void setup() {
+        strand = new Strand(null, null, null, null, null);
+        prevStrand = Scheduler.setStrand(strand);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        Scheduler.setStrand(prevStrand);
+    }
+
+    @Test
+    public void testOf() {
+        Assert.assertNotNull(ParallelQuery.of(query(SIZE, member -> member), PARALLELISM));
+        Assert.assertNull(ParallelQuery.of(query(SIZE, member -> member), 1));
+        Assert.assertNull(ParallelQuery.of(query(ParallelQuery.MIN_PARALLEL_SIZE - 1, member -> member), PARALLELISM));
+
+        FrameStage stage = new InitStage(members(SIZE), PredefinedTypes.TYPE_MAP);
+        stage = new LimitStage(stage, function(frame -> 10L));
+        stage = new TransformStage(stage, function(frame -> select(frame, frame.get(VALUE))));
+        Assert.assertNull(ParallelQuery.of(stage, PARALLELISM));
+    }
+
+    @Test
+    public void testSelectedValues() {
+        Function<Long, Object> transform = member -> member % 3 == 0 ? null : member * 2;
+        List<Object> values = new ArrayList<>();
+        Assert.assertNull(runParallel(query(SIZE, transform), values));
+        Assert.assertEquals(values, runSequential(query(SIZE, transform)));
+        Assert.assertEquals(values.size(), SIZE - (SIZE + 2) / 3);
+    }
+
+    @Test
+    public void testEndsWithFirstError() {
+        BError first = ErrorCreator.createError(StringUtils.fromString("first"));
+        BError second = ErrorCreator.createError(StringUtils.fromString("second"));
+        Function<Long, Object> transform = member -> member == 30000 ? first : member == 90000 ? second : member;
+        List<Object> values = new ArrayList<>();
+        Assert.assertSame(runParallel(query(SIZE, transform), values), first);
+        Assert.assertEquals(values.size(), 30000);
+        Assert.assertEquals(values.get(values.size() - 1), 29999L);
+    }
+
+    @Test
+    public void testEndsWithNil() {
+        Function<Long, Object> transform = member -> member == 70000 ? ParallelQueryTest.class : member;
+        List<Object> values = new ArrayList<>();
+        Assert.assertNull(runParallel(query(SIZE, transform), values));
+        Assert.assertEquals(values, runSequential(query(SIZE, transform)));
+        Assert.assertEquals(values.size(), 70000);
+    }
+
+    @Test
+    public void testEndsWithFirstPanic() {
+        BError error = ErrorCreator.createError(StringUtils.fromString("error"));
+        BError panic = ErrorCreator.createError(StringUtils.fromString("panic"));
+        Function<Long, Object> transform = member -> {
+            if (member == 10000) {
+                throw panic;
+            }
+            return member == 90000 ? error : member;
+        };
+        try {
+            runParallel(query(SIZE, transform), new ArrayList<>());
+            Assert.fail("expected the query to panic");
+        } catch (BError e) {
+            Assert.assertSame(e, panic);
+        }
+    }
+
+    @Test
+    public void testPanicAfterErrorIsNotReached() {
+        BError error = ErrorCreator.createError(StringUtils.fromString("error"));
+        Function<Long, Object> transform = member -> {
+            if (member == 90000) {
+                throw new StackOverflowError();
+            }
+            return member == 10000 ? error : member;
+        };
+        Assert.assertSame(runParallel(query(SIZE, transform), new ArrayList<>()), error);
+    }
+
+    @Test
+    public void testErrorIsRethrownInOrder() {
+        StackOverflowError overflow = new StackOverflowError();
+        BError panic = ErrorCreator.createError(StringUtils.fromString("panic"));
+        Function<Long, Object> transform = member -> {
+            if (member == 20000) {
+                throw overflow;
+            }
+            if (member == 90000) {
+                throw panic;
+            }
+            return member;
+        };
+        List<Object> values = new ArrayList<>();
+        try {
+            runParallel(query(SIZE, transform), values);
+            Assert.fail("expected the query to fail");
+        } catch (StackOverflowError e) {
+            Assert.assertSame(e, overflow);
+        }
+        Assert.assertEquals(values.size(), 20000);
+    }
+
+    @Test
+    public void testSinkError() {
+        BError error = ErrorCreator.createError(StringUtils.fromString("sink"));
+        List<Object> values = new ArrayList<>();
+        ParallelQuery query = ParallelQuery.of(query(SIZE, member -> member), PARALLELISM);
+        Assert.assertNotNull(query);
+        Object result = query.run(strand, value -> {
+            if ((long) value == 50000) {
+                return error;
+            }
+            values.add(value);
+            return null;
+        });
+        Assert.assertSame(result, error);
+        Assert.assertEquals(values.size(), 50000);
+    }
+
+    /**
+     * Builds {@code from var x in members let ... select ...}, where the let clause applies the given function to
+     * each member. The function returns the value to select, {@code null} to filter the member out, an error to end
+     * the query with, or {@code ParallelQueryTest.class} to end the query with nil.
+     */
+    private static FrameStage query(int size, Function<Long, Object> transform) {
+        FrameStage stage = new InitStage(members(size), PredefinedTypes.TYPE_MAP);
+        stage = new TransformStage(stage, function(frame -> {
+            frame.put(X, transform.apply((Long) frame.get(VALUE)));
+            return frame;
+        }));
+        stage = new FilterStage(stage, function(frame -> frame.get(X) != null));
+        stage = new TransformStage(stage, function(frame -> {
+            Object value = frame.get(X);
+            if (value == ParallelQueryTest.class) {
+                return null;
+            }
+            return value instanceof BError ? value : select(frame, value);
+        }));
+        return stage;
+    }
+
+    private static Object select(BMap<BString, Object> frame, Object value) {
+        frame.put(FrameStage.SELECTED_VALUE, value);
+        return frame;
+    }
+
+    private static Object members(int size) {
+        long[] members = new long[size];
+        for (int i = 0; i < size; i++) {
+            members[i] = i;
+        }
+        return ValueCreator.createArrayValue(members);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BFunctionPointer<Object, Object> function(Function<BMap<BString, Object>, Object> function) {
+        // The arguments of a clause lambda are the strand, the frame and whether the frame is given.
+        return new FPValue<Object, Object>(args -> function.apply((BMap<BString, Object>) ((Object[]) args)[1]),
+                                           null, null, false);
+    }
+
+    private Object runParallel(FrameStage stage, List<Object> values) {
+        ParallelQuery query = ParallelQuery.of(stage, PARALLELISM);
+        Assert.assertNotNull(query);
+        return query.run(strand, value -> {
+            values.add(value);
+            return null;
+        });
+    }
+
+    private List<Object> runSequential(FrameStage stage) {
+        List<Object> values = new ArrayList<>();
+        Object frame = stage.process(strand);
+        while (frame instanceof BMap) {
+            values.add(((BMap<?, ?>) frame).get(FrameStage.SELECTED_VALUE));
+            frame = stage.process(strand);
+        }
+        return values;
+    }
+}
@@ -18,10 +18,9 @@
 
 package org.ballerinalang.langlib.string;
 
+import io.ballerina.runtime.ValueComparisonUtils;
 import io.ballerina.runtime.api.values.BString;
 
-import java.util.PrimitiveIterator;
-
 /**
  * Extern function lang.string:codePointCompare(string, string).
  *
@@ -36,27 +35,6 @@ import java.util.PrimitiveIterator;
 public class CodePointCompare {
 
     public static long codePointCompare(BString str1, BString str2) {
-        // Compare each code point of str1 with str2's codepoint at corresponding position.
-        // If all all previous codepoints being equal and str1 is exhausted and str2 has more
-        // codepoints remain in it then str2 is consider lager.
-
-        PrimitiveIterator.OfInt iterator1 = str1.getValue().codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.getValue().codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
-                return 1;
-            }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
-
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
-            }
-        }
-        if (iterator2.hasNext()) {
-            return -1;
-        }
-        return 0;
+        return Integer.signum(ValueComparisonUtils.compareCodePoints(str1.getValue(), str2.getValue()));
     }
 }
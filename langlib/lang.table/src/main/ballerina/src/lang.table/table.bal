@@ -96,6 +96,19 @@ public isolated function add(table<Type> t, Type val) = @java:Method {
     name: "add"
 } external;
 
+# Declares an index on a field of the members of table `t`.
+# Query expressions use the index for `where` clauses that compare the field
+# with a value, instead of iterating over all the members of `t`.
+# Fields that cannot be updated once a member is added are indexed without being declared.
+# It panics if the members of `t` are not records that have the field.
+#
+# + t - the table
+# + fieldName - the name of the field
+public isolated function addIndex(table<map<any|error>> t, string fieldName) = @java:Method {
+    'class: "org.ballerinalang.langlib.table.AddIndex",
+    name: "addIndex"
+} external;
+
 // Functional iteration
 
 # Applies a function each member of a table and returns a table of the result.
@@ -551,4 +551,9 @@ public class LangLibArrayTest {
     public void testSort10() {
         BRunUtil.invoke(compileResult, "testSort10");
     }
+
+    @Test
+    public void testSort11() {
+        BRunUtil.invoke(compileResult, "testSort11");
+    }
 }
@@ -1061,6 +1061,39 @@ function testSort10() {
     assertValueEquality(sortedArr6, arr3);
 }
 
+function testSort11() {
+    float[] arr = [1.5, float:NaN, -0.0, 3.0, 0.0, -2.0];
+    float[] sortedArr = arr.sort(array:DESCENDING);
+    assertValueEquality(sortedArr.toString(), "[3.0,1.5,-0.0,0.0,-2.0,NaN]");
+    assertValueEquality(sortedArr, arr);
+
+    string[] arr2 = ["\u{1F600}", "b", "\u{E000}", "a", ""];
+    string[] sortedArr2 = arr2.sort();
+    assertValueEquality(sortedArr2, ["", "a", "b", "\u{E000}", "\u{1F600}"]);
+
+    byte[] arr3 = [200, 3, 255, 0, 3];
+    byte[] sortedArr3 = arr3.sort(array:DESCENDING);
+    assertValueEquality(sortedArr3, [255, 200, 3, 3, 0]);
+
+    boolean[] arr4 = [true, false, true, false];
+    boolean[] sortedArr4 = arr4.sort();
+    assertValueEquality(sortedArr4, [false, false, true, true]);
+
+    // Large enough to be sorted in parallel.
+    int[] arr5 = [];
+    foreach int i in 0 ..< 100000 {
+        arr5.push((i * 7919) % 100003);
+    }
+    int[] sortedArr5 = arr5.sort(array:DESCENDING);
+    int[] sortedArr6 = arr5.clone().sort(array:ASCENDING, (i) => -i);
+    boolean sorted = true;
+    foreach int i in 1 ..< sortedArr5.length() {
+        sorted = sorted && sortedArr5[i - 1] > sortedArr5[i];
+    }
+    assertTrue(sorted);
+    assertValueEquality(sortedArr5, sortedArr6);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(any|error actual) {
@@ -22,7 +22,9 @@ import com.sun.jdi.ObjectReference;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +37,9 @@ public class VariableUtils {
     public static final String FIELD_TYPENAME = "typeName";
     public static final String FIELD_VALUE = "value";
     public static final String FIELD_CONSTRAINT = "constraint";
+    public static final String FIELD_FLAT = "flat";
+    public static final String FIELD_LEFT = "left";
+    public static final String FIELD_RIGHT = "right";
     public static final String METHOD_STRINGVALUE = "stringValue";
     public static final String UNKNOWN_VALUE = "unknown";
     // Used to trim redundant beginning and ending double quotes from a string, if presents.
@@ -71,6 +76,9 @@ public class VariableUtils {
                 return UNKNOWN_VALUE;
             }
             ObjectReference stringRef = (ObjectReference) stringValue;
+            if (stringRef.referenceType().name().equals(JVMValueType.CONCATSTRING.getString())) {
+                return getStringFromConcatString(stringRef);
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMPSTRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NONBMPSTRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
@@ -86,6 +94,39 @@ public class VariableUtils {
         }
     }
 
+    /**
+     * Returns the string value of a concatenated ballerina string, by joining its flattened value or its operands.
+     *
+     * @param concatRef JDI value of the concatenated string instance
+     * @return actual string.
+     */
+    private static String getStringFromConcatString(ObjectReference concatRef) throws DebugVariableException {
+        StringBuilder result = new StringBuilder();
+        Deque<Value> pending = new ArrayDeque<>();
+        pending.push(concatRef);
+        while (!pending.isEmpty()) {
+            Value value = pending.pop();
+            if (!(value instanceof ObjectReference)
+                    || !value.type().name().equals(JVMValueType.CONCATSTRING.getString())) {
+                result.append(getStringFrom(value));
+                continue;
+            }
+            Optional<Value> flat = getFieldValue(value, FIELD_FLAT);
+            if (flat.isPresent()) {
+                pending.push(flat.get());
+                continue;
+            }
+            Optional<Value> left = getFieldValue(value, FIELD_LEFT);
+            Optional<Value> right = getFieldValue(value, FIELD_RIGHT);
+            if (left.isEmpty() || right.isEmpty()) {
+                return UNKNOWN_VALUE;
+            }
+            pending.push(right.get());
+            pending.push(left.get());
+        }
+        return result.toString();
+    }
+
     /**
      * Invokes "stringValue()" method of the given ballerina jvm variable instance and returns the result as a string.
      *
@@ -23,11 +23,13 @@ import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.Snapshot;
 import io.ballerina.runtime.observability.metrics.StatisticConfig;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
- * An implementation of {@link Gauge}.
+ * An implementation of {@link Gauge}. The value is kept as the bits of a double in an {@link AtomicLong}, so that
+ * updates are lock free and each update records the value it produced.
  *
  * @since 0.980.0
  */
@@ -38,7 +40,7 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     private final LongAdder count = new LongAdder();
     private final DoubleAdder sum = new DoubleAdder();
-    private final DoubleAdder value = new DoubleAdder();
+    private final AtomicLong value = new AtomicLong(Double.doubleToRawLongBits(0D));
     private final RollingHistogram[] rollingHistograms;
 
     private DefaultGauge(MetricId id, Clock clock, StatisticConfig... statisticConfigs) {
@@ -57,7 +59,6 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
         this(id, Clock.DEFAULT, statisticConfigs);
     }
 
-
     private void updateHistogram(double value) {
         count.increment();
         sum.add(value);
@@ -66,36 +67,35 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
         }
     }
 
+    private double add(double amount) {
+        long current;
+        double newValue;
+        do {
+            current = value.get();
+            newValue = Double.longBitsToDouble(current) + amount;
+        } while (!value.compareAndSet(current, Double.doubleToRawLongBits(newValue)));
+        return newValue;
+    }
+
     @Override
     public void increment(double amount) {
-        synchronized (this) {
-            value.add(amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(add(amount));
     }
 
     @Override
     public void decrement(double amount) {
-        synchronized (this) {
-            value.add(-amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(add(-amount));
     }
 
     @Override
     public void setValue(double value) {
-        synchronized (this) {
-            this.value.reset();
-            this.value.add(value);
-            updateHistogram(value);
-        }
+        this.value.set(Double.doubleToRawLongBits(value));
+        updateHistogram(value);
     }
 
     @Override
     public double getValue() {
-        synchronized (this) {
-            return value.sum();
-        }
+        return Double.longBitsToDouble(value.get());
     }
 
     @Override
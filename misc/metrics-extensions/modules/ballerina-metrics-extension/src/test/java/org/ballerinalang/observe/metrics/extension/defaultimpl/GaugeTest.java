@@ -26,6 +26,9 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 /**
@@ -72,4 +75,23 @@ public class GaugeTest {
         Assert.assertEquals(4.0, gauge.getSum());
     }
 
+    @Test
+    public void testGaugeConcurrentUpdates() throws InterruptedException {
+        Gauge gauge = Gauge.builder("test_gauge_concurrent").description("Test Gauge")
+                .register(metricRegistry);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    gauge.increment();
+                    gauge.decrement(0.5D);
+                }
+            });
+        }
+        executorService.shutdown();
+        Assert.assertTrue(executorService.awaitTermination(1, TimeUnit.MINUTES));
+        Assert.assertEquals(gauge.getValue(), 20000D);
+        Assert.assertEquals(gauge.getCount(), 80000);
+    }
+
 }
@@ -18,23 +18,49 @@ import ballerina/java;
 import ballerina/task;
 import ballerina/time;
 
+# Evicts the least recently used entries.
+public const LRU = "LRU";
+
+# Evicts the entries based on the W-TinyLFU algorithm, which admits a new entry only if it is estimated to be accessed
+# more frequently than the least recently used entry.
+public const W_TINY_LFU = "W_TINY_LFU";
+
+# The natively implemented eviction policies of the `cache:Cache` object.
+public type EvictionPolicy LRU|W_TINY_LFU;
+
 # Represents configurations for the `cache:Cache` object.
 #
 # + capacity - Maximum number of entries allowed in the cache
-# + evictionPolicy - The policy, which defines the cache eviction algorithm
-# + evictionFactor - The factor by which the entries will be evicted once the cache is full
+# + evictionPolicy - The policy, which defines the cache eviction algorithm. A custom `cache:AbstractEvictionPolicy`
+#                    object maintains a `cache:LinkedList` of the entries, which is slower than a natively implemented
+#                    `cache:EvictionPolicy`
+# + evictionFactor - The factor by which the entries will be evicted once the cache is full. This is not used by the
+#                    `W_TINY_LFU` policy, which evicts the entries one by one
 # + defaultMaxAgeInSeconds - The default value in seconds which all the cache entries are valid.
 #                            '-1' means, the entries are valid forever. This will be overwritten by the the
 #                            `maxAgeInSeconds` property set when inserting item to the cache
 # + cleanupIntervalInSeconds - Interval of the timer task, which will clean up the cache
 public type CacheConfig record {|
     int capacity = 100;
-    AbstractEvictionPolicy evictionPolicy = new LruEvictionPolicy();
+    AbstractEvictionPolicy|EvictionPolicy evictionPolicy = LRU;
     float evictionFactor = 0.25;
     int defaultMaxAgeInSeconds = -1;
     int cleanupIntervalInSeconds?;
 |};
 
+# Represents the statistics of a `cache:Cache` object.
+#
+# + hitCount - Number of times a cached value was returned by the `get` API
+# + missCount - Number of times the `get` API was called with a key, which is not available or expired
+# + hitRatio - Ratio of the `hitCount` to the number of calls to the `get` API, or 1.0 if there were none
+# + evictionCount - Number of entries removed since the cache was full or they were expired
+public type CacheStats record {|
+    int hitCount;
+    int missCount;
+    float hitRatio;
+    int evictionCount;
+|};
+
 type CacheEntry record {|
     string key;
     any data;
@@ -44,7 +70,7 @@ type CacheEntry record {|
 // Cleanup service which cleans the cache entries periodically.
 boolean cleanupInProgress = false;
 
-// Cleanup service which cleans the cache entries periodically.
+// Cleanup service which cleans the cache entries periodically, when a custom eviction policy is used.
 service cleanupService = service {
     resource function onTrigger(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
         // This check will skip the processes triggered while the clean up in progress.
@@ -63,7 +89,8 @@ public class Cache {
     *AbstractCache;
 
     private int capacity_;
-    private AbstractEvictionPolicy evictionPolicy;
+    // The custom eviction policy, which maintains the linked list, or `()` if the eviction is done natively.
+    private AbstractEvictionPolicy? evictionPolicy = ();
     private float evictionFactor;
     private int defaultMaxAgeInSeconds;
     private LinkedList list;
@@ -73,7 +100,6 @@ public class Cache {
     # + cacheConfig - Configurations for the `cache:Cache` object
     public function init(CacheConfig cacheConfig = {}) {
         self.capacity_ = cacheConfig.capacity;
-        self.evictionPolicy = cacheConfig.evictionPolicy;
         self.evictionFactor = cacheConfig.evictionFactor;
         self.defaultMaxAgeInSeconds = cacheConfig.defaultMaxAgeInSeconds;
 
@@ -96,22 +122,26 @@ public class Cache {
             tail: ()
         };
 
-        externInit(self, self.capacity_);
-
+        AbstractEvictionPolicy|EvictionPolicy evictionPolicy = cacheConfig.evictionPolicy;
         int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
-        if (cleanupIntervalInSeconds is int) {
-            task:TimerConfiguration timerConfiguration = {
-                intervalInMillis: cleanupIntervalInSeconds,
-                initialDelayInMillis: cleanupIntervalInSeconds
-            };
-            task:Scheduler cleanupScheduler = new(timerConfiguration);
-            task:SchedulerError? result = cleanupScheduler.attach(cleanupService, self, self.list, self.evictionPolicy);
-            if (result is task:SchedulerError) {
-                panic prepareError("Failed to create the cache cleanup task.", result);
-            }
-            result = cleanupScheduler.start();
-            if (result is task:SchedulerError) {
-                panic prepareError("Failed to start the cache cleanup task.", result);
+        boolean nativeEviction = externInit(self, self.capacity_, self.evictionFactor, self.defaultMaxAgeInSeconds,
+                                            cleanupIntervalInSeconds ?: -1, evictionPolicy);
+        if (!nativeEviction && evictionPolicy is AbstractEvictionPolicy) {
+            self.evictionPolicy = evictionPolicy;
+            if (cleanupIntervalInSeconds is int) {
+                task:TimerConfiguration timerConfiguration = {
+                    intervalInMillis: cleanupIntervalInSeconds,
+                    initialDelayInMillis: cleanupIntervalInSeconds
+                };
+                task:Scheduler cleanupScheduler = new(timerConfiguration);
+                task:SchedulerError? result = cleanupScheduler.attach(cleanupService, self, self.list, evictionPolicy);
+                if (result is task:SchedulerError) {
+                    panic prepareError("Failed to create the cache cleanup task.", result);
+                }
+                result = cleanupScheduler.start();
+                if (result is task:SchedulerError) {
+                    panic prepareError("Failed to start the cache cleanup task.", result);
+                }
             }
         }
     }
@@ -129,9 +159,15 @@ public class Cache {
             return prepareError("Unsupported cache value '()' for the key: " + key + ".",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is ()) {
+            externPut(self, key, value, maxAgeInSeconds);
+            return;
+        }
+
         // If the current cache is full (i.e. size = capacity), evict cache.
         if (self.size() == self.capacity_) {
-            evict(self, self.list, self.evictionPolicy, self.capacity_, self.evictionFactor);
+            evict(self, self.list, evictionPolicy, self.capacity_, self.evictionFactor);
         }
 
         // Calculate the `expTime` of the cache entry based on the `maxAgeInSeconds` property and
@@ -152,13 +188,13 @@ public class Cache {
         };
         Node newNode = { value: entry };
 
-        if (self.hasKey(key)) {
-            Node oldNode = externGet(self, key);
-            self.evictionPolicy.replace(self.list, newNode, oldNode);
+        any oldNode = externPeek(self, key);
+        if (oldNode is Node) {
+            evictionPolicy.replace(self.list, newNode, oldNode);
         } else {
-            self.evictionPolicy.put(self.list, newNode);
+            evictionPolicy.put(self.list, newNode);
         }
-        externPut(self, key, newNode);
+        externPut(self, key, newNode, -1);
     }
 
     # Returns the cached value associated with the provided key.
@@ -167,24 +203,30 @@ public class Cache {
     # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
     #            exisiting in the cache or any error occurred while retrieving the value from the cache.
     public function get(string key) returns any|Error {
-        if (!self.hasKey(key)) {
+        any|error value = externGet(self, key);
+        if (value is error) {
             return prepareError("Cache entry from the given key: " + key + ", is not available.",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is ()) {
+            // The native engine returns `()` for an expired entry.
+            return value;
+        }
 
-        Node node = externGet(self, key);
+        Node node = <Node>value;
         CacheEntry entry = <CacheEntry>node.value;
 
         // Check whether the cache entry is already expired. Even though the cache cleaning task is configured
         // and runs in predefined intervals, sometimes the cache entry might not have been removed at this point
         // even though it is expired. So this check guarantees that the expired cache entries will not be returned.
         if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-            self.evictionPolicy.remove(self.list, node);
-            externRemove(self, key);
+            evictionPolicy.remove(self.list, node);
+            externEvict(self, key, true);
             return ();
         }
 
-        self.evictionPolicy.get(self.list, node);
+        evictionPolicy.get(self.list, node);
         return entry.data;
     }
 
@@ -199,8 +241,13 @@ public class Cache {
                                 logLevel = LOG_LEVEL_DEBUG);
         }
 
-        Node node = externGet(self, key);
-        self.evictionPolicy.remove(self.list, node);
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is AbstractEvictionPolicy) {
+            any node = externPeek(self, key);
+            if (node is Node) {
+                evictionPolicy.remove(self.list, node);
+            }
+        }
         externRemove(self, key);
     }
 
@@ -209,7 +256,10 @@ public class Cache {
     # + return - `()` if successfully discarded all the values from the cache or an `Error` if any error occurred while
     # discarding all the values from the cache.
     public function invalidateAll() returns Error? {
-        self.evictionPolicy.clear(self.list);
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is AbstractEvictionPolicy) {
+            evictionPolicy.clear(self.list);
+        }
         externRemoveAll(self);
     }
 
@@ -242,6 +292,21 @@ public class Cache {
     public function capacity() returns int {
         return self.capacity_;
     }
+
+    # Returns the hit and eviction statistics of the cache, which are collected since the cache was created.
+    #
+    # + return - The statistics of the cache
+    public function stats() returns CacheStats {
+        int hitCount = externHitCount(self);
+        int missCount = externMissCount(self);
+        int requestCount = hitCount + missCount;
+        return {
+            hitCount: hitCount,
+            missCount: missCount,
+            hitRatio: requestCount == 0 ? 1.0 : <float>hitCount / <float>requestCount,
+            evictionCount: externEvictionCount(self)
+        };
+    }
 }
 
 function evict(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy, int capacity, float evictionFactor) {
@@ -250,7 +315,7 @@ function evict(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPoli
         Node? node = evictionPolicy.evict(list);
         if (node is Node) {
             CacheEntry entry = <CacheEntry>node.value;
-            externRemove(cache, entry.key);
+            externEvict(cache, entry.key, false);
             // The return result (error which occurred due to unavailability of the key or nil) is ignored
             // since no purpose of handling it.
         } else {
@@ -264,11 +329,15 @@ function cleanup(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPo
         return;
     }
     foreach string key in externKeys(cache) {
-        Node node = externGet(cache, key);
-        CacheEntry entry = <CacheEntry>node.value;
+        any node = externPeek(cache, key);
+        if (node is ()) {
+            continue;
+        }
+        Node cachedNode = <Node>node;
+        CacheEntry entry = <CacheEntry>cachedNode.value;
         if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-            evictionPolicy.remove(list, node);
-            externRemove(cache, entry.key);
+            evictionPolicy.remove(list, cachedNode);
+            externEvict(cache, entry.key, false);
             // The return result (error which occurred due to unavailability of the key or nil) is ignored
             // since no purpose of handling it.
             return;
@@ -276,15 +345,21 @@ function cleanup(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPo
     }
 }
 
-function externInit(Cache cache, int capacity) = @java:Method {
+function externInit(Cache cache, int capacity, float evictionFactor, int defaultMaxAgeInSeconds,
+                    int cleanupIntervalInSeconds, AbstractEvictionPolicy|EvictionPolicy evictionPolicy)
+                    returns boolean = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externPut(Cache cache, string key, any value, int maxAgeInSeconds) = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externPut(Cache cache, string key, Node value) = @java:Method {
+function externGet(Cache cache, string key) returns any|error = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externGet(Cache cache, string key) returns Node = @java:Method {
+function externPeek(Cache cache, string key) returns any = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
@@ -292,6 +367,10 @@ function externRemove(Cache cache, string key) = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
+function externEvict(Cache cache, string key, boolean expired) = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
 function externRemoveAll(Cache cache) = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
@@ -307,3 +386,15 @@ function externKeys(Cache cache) returns string[] = @java:Method {
 function externSize(Cache cache) returns int = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
+
+function externHitCount(Cache cache) returns int = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externMissCount(Cache cache) returns int = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externEvictionCount(Cache cache) returns int = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
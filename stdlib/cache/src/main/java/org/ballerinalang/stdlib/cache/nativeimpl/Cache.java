@@ -18,67 +18,139 @@
 
 package org.ballerinalang.stdlib.cache.nativeimpl;
 
+import io.ballerina.runtime.api.ErrorCreator;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.StringUtils;
 import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
-import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
- * Ballerina function to cache with java.util.concurrent.ConcurrentHashMap.
+ * Ballerina functions of the cache, backed by a {@link CacheEngine}.
  *
  * @since 2.0.0
  */
 public class Cache {
 
-    public static final String CACHE_MAP = "CACHE_MAP";
+    public static final String CACHE_ENGINE = "CACHE_ENGINE";
+
+    private static final String LRU = "LRU";
+    private static final String W_TINY_LFU = "W_TINY_LFU";
+    private static final String LRU_EVICTION_POLICY = "LruEvictionPolicy";
+    private static final BString NOT_AVAILABLE = StringUtils.fromString("Cache entry is not available.");
 
-    public static void externInit(BObject cache, int capacity) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map = new ConcurrentHashMap<>(capacity);
-        cache.addNativeData(CACHE_MAP, map);
+    /**
+     * Creates the engine of the cache.
+     *
+     * @param cache                     cache object
+     * @param capacity                  maximum number of entries
+     * @param evictionFactor            fraction of the capacity evicted at once by the LRU policy
+     * @param defaultMaxAgeInSeconds    default time in seconds the entries are valid or -1 if they are valid forever
+     * @param cleanupIntervalInSeconds  interval in seconds to remove the expired entries or -1 to remove them only
+     *                                  while operating on the cache
+     * @param evictionPolicy            name of a natively implemented policy or an `AbstractEvictionPolicy` object
+     * @return true if the engine evicts the entries, false if the given `AbstractEvictionPolicy` object does
+     */
+    public static boolean externInit(BObject cache, long capacity, double evictionFactor, long defaultMaxAgeInSeconds,
+                                     long cleanupIntervalInSeconds, Object evictionPolicy) {
+        EvictionPolicy policy = createPolicy((int) capacity, evictionFactor, evictionPolicy);
+        if (policy == EvictionPolicy.EXTERNAL) {
+            // Expiry of the entries is tracked by the Ballerina code along with the eviction.
+            cache.addNativeData(CACHE_ENGINE, new CacheEngine((int) capacity, policy, -1));
+            return false;
+        }
+        CacheEngine engine = new CacheEngine((int) capacity, policy, defaultMaxAgeInSeconds);
+        if (cleanupIntervalInSeconds > 0) {
+            engine.scheduleCleanup(cleanupIntervalInSeconds);
+        }
+        cache.addNativeData(CACHE_ENGINE, engine);
+        return true;
     }
 
-    public static void externPut(BObject cache, BString key, BMap<BString, Object> value) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.put(key, value);
+    public static void externPut(BObject cache, BString key, Object value, long maxAgeInSeconds) {
+        getEngine(cache).put(key, value, maxAgeInSeconds);
     }
 
-    public static BMap<BString, Object> externGet(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.get(key);
+    /**
+     * Gets the cached value of a key.
+     *
+     * @param cache cache object
+     * @param key   key of the entry
+     * @return cached value, null if the entry is expired or an error if the key is absent
+     */
+    public static Object externGet(BObject cache, BString key) {
+        CacheNode node = getEngine(cache).get(key);
+        if (node == null) {
+            return ErrorCreator.createError(NOT_AVAILABLE);
+        }
+        return node.value;
+    }
+
+    public static Object externPeek(BObject cache, BString key) {
+        CacheNode node = getEngine(cache).peek(key);
+        return node == null ? null : node.value;
     }
 
     public static void externRemove(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.remove(key);
+        getEngine(cache).remove(key);
+    }
+
+    public static void externEvict(BObject cache, BString key, boolean expired) {
+        getEngine(cache).evict(key, expired);
     }
 
     public static void externRemoveAll(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.clear();
+        getEngine(cache).removeAll();
     }
 
     public static boolean externHasKey(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.containsKey(key);
+        return getEngine(cache).containsKey(key);
     }
 
     public static BArray externKeys(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return ValueCreator.createArrayValue(map.keySet().toArray(new BString[0]));
+        return ValueCreator.createArrayValue(getEngine(cache).keys());
     }
 
     public static int externSize(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.size();
+        return getEngine(cache).size();
+    }
+
+    public static long externHitCount(BObject cache) {
+        return getEngine(cache).getHitCount();
+    }
+
+    public static long externMissCount(BObject cache) {
+        return getEngine(cache).getMissCount();
+    }
+
+    public static long externEvictionCount(BObject cache) {
+        return getEngine(cache).getEvictionCount();
+    }
+
+    private static CacheEngine getEngine(BObject cache) {
+        return (CacheEngine) cache.getNativeData(CACHE_ENGINE);
+    }
+
+    private static EvictionPolicy createPolicy(int capacity, double evictionFactor, Object evictionPolicy) {
+        if (evictionPolicy instanceof BString) {
+            String name = ((BString) evictionPolicy).getValue();
+            if (W_TINY_LFU.equals(name)) {
+                return new WindowTinyLfuPolicy(capacity);
+            } else if (LRU.equals(name)) {
+                return new LruPolicy(capacity, evictionFactor);
+            }
+        } else if (isLruEvictionPolicy(((BObject) evictionPolicy).getType())) {
+            // The built in LRU policy object is replaced with the native one.
+            return new LruPolicy(capacity, evictionFactor);
+        }
+        return EvictionPolicy.EXTERNAL;
+    }
+
+    private static boolean isLruEvictionPolicy(Type type) {
+        Module module = type.getPackage();
+        return LRU_EVICTION_POLICY.equals(type.getName()) && module != null && "ballerina".equals(module.getOrg())
+                && "cache".equals(module.getName());
     }
 }
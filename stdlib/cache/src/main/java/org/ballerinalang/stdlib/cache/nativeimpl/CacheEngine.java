@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent cache engine backing the `cache:Cache` object.
+ * <p>
+ * Entries are kept in a {@link ConcurrentHashMap}, so reads and writes never block each other. The eviction policy
+ * and the timer wheel of expiring entries are not thread safe. Instead of updating them on each operation, reads are
+ * recorded in a lossy {@link ReadBuffer} and writes are queued as tasks, and both are replayed in batches by the
+ * thread which acquires the eviction lock, while other threads move on. Entries exceeding the capacity are evicted
+ * during these maintenance runs, so the size of the cache may overshoot its capacity while a run is pending.
+ *
+ * @since 2.0.0
+ */
+final class CacheEngine {
+
+    private static final long NO_MAX_AGE = -1;
+
+    private final ConcurrentHashMap<BString, CacheNode> data;
+    private final EvictionPolicy policy;
+    private final TimerWheel timerWheel;
+    private final long defaultMaxAgeNanos;
+    private final ReadBuffer readBuffer = new ReadBuffer();
+    private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    CacheEngine(int capacity, EvictionPolicy policy, long defaultMaxAgeInSeconds) {
+        this.data = new ConcurrentHashMap<>(capacity);
+        this.policy = policy;
+        this.timerWheel = new TimerWheel(System.nanoTime());
+        this.defaultMaxAgeNanos = defaultMaxAgeInSeconds > 0 ? TimeUnit.SECONDS.toNanos(defaultMaxAgeInSeconds)
+                : NO_MAX_AGE;
+    }
+
+    /**
+     * Removes the expired entries periodically, instead of waiting for the next maintenance run triggered by an
+     * operation. The task stops once the engine is garbage collected.
+     *
+     * @param intervalInSeconds interval of the clean up
+     */
+    void scheduleCleanup(long intervalInSeconds) {
+        CleanupTask task = new CleanupTask(this);
+        task.future = Cleaner.EXECUTOR.scheduleWithFixedDelay(task, intervalInSeconds, intervalInSeconds,
+                                                              TimeUnit.SECONDS);
+    }
+
+    void put(BString key, Object value, long maxAgeInSeconds) {
+        long maxAgeNanos = maxAgeInSeconds > 0 ? TimeUnit.SECONDS.toNanos(maxAgeInSeconds) : defaultMaxAgeNanos;
+        long expiresAt = maxAgeNanos == NO_MAX_AGE ? CacheNode.NO_EXPIRY : System.nanoTime() + maxAgeNanos;
+        CacheNode node = new CacheNode(key, value, expiresAt);
+        CacheNode prior = data.put(key, node);
+        if (prior != null) {
+            prior.retire();
+        }
+        afterWrite(() -> {
+            if (prior != null) {
+                unlink(prior);
+            }
+            // The node may be replaced or removed before this task runs.
+            if (node.isAlive()) {
+                link(node);
+            }
+        });
+    }
+
+    /**
+     * Gets the node of a key, recording a hit or a miss. An expired node is removed and reported as
+     * {@link CacheNode#EXPIRED}, so that callers can tell it from an absent one.
+     *
+     * @param key key of the entry
+     * @return node of the key, {@link CacheNode#EXPIRED} or null if the key is absent
+     */
+    CacheNode get(BString key) {
+        CacheNode node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        if (node.isExpired(System.nanoTime())) {
+            missCount.increment();
+            if (data.remove(key, node)) {
+                node.retire();
+                evictionCount.increment();
+                afterWrite(() -> unlink(node));
+            }
+            return CacheNode.EXPIRED;
+        }
+        hitCount.increment();
+        if (readBuffer.record(node)) {
+            tryMaintenance();
+        }
+        return node;
+    }
+
+    /**
+     * Gets the node of a key, without recording the read.
+     *
+     * @param key key of the entry
+     * @return node of the key or null if the key is absent
+     */
+    CacheNode peek(BString key) {
+        return data.get(key);
+    }
+
+    boolean remove(BString key) {
+        CacheNode node = data.remove(key);
+        if (node == null) {
+            return false;
+        }
+        node.retire();
+        afterWrite(() -> unlink(node));
+        return true;
+    }
+
+    /**
+     * Removes an entry evicted by an external eviction policy.
+     *
+     * @param key     key of the entry
+     * @param expired true if the entry was read and found to be expired, false otherwise
+     */
+    void evict(BString key, boolean expired) {
+        if (remove(key)) {
+            evictionCount.increment();
+        }
+        if (expired) {
+            // The read was recorded as a hit before the entry was known to be expired.
+            hitCount.decrement();
+            missCount.increment();
+        }
+    }
+
+    void removeAll() {
+        evictionLock.lock();
+        try {
+            maintenance();
+            for (CacheNode node : data.values()) {
+                if (data.remove(node.key, node)) {
+                    node.retire();
+                    unlink(node);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    boolean containsKey(BString key) {
+        return data.containsKey(key);
+    }
+
+    BString[] keys() {
+        return data.keySet().toArray(new BString[0]);
+    }
+
+    int size() {
+        return data.size();
+    }
+
+    long getHitCount() {
+        return hitCount.sum();
+    }
+
+    long getMissCount() {
+        return missCount.sum();
+    }
+
+    long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterWrite(Runnable task) {
+        writeBuffer.add(task);
+        // A thread holding the lock may have drained the buffer before the task was added, so try again until
+        // the buffer is seen empty after releasing the lock.
+        do {
+            if (!tryMaintenance()) {
+                return;
+            }
+        } while (!writeBuffer.isEmpty());
+    }
+
+    private boolean tryMaintenance() {
+        if (!evictionLock.tryLock()) {
+            return false;
+        }
+        try {
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+        return true;
+    }
+
+    private void maintenance() {
+        readBuffer.drainTo(this::onAccess);
+        Runnable task;
+        while ((task = writeBuffer.poll()) != null) {
+            task.run();
+        }
+        timerWheel.advance(System.nanoTime(), this::expire);
+        evictEntries();
+    }
+
+    private void onAccess(CacheNode node) {
+        if (node.isAlive()) {
+            policy.onAccess(node);
+        }
+    }
+
+    private void link(CacheNode node) {
+        policy.onAdd(node);
+        if (node.expiresAt != CacheNode.NO_EXPIRY) {
+            timerWheel.schedule(node);
+        }
+    }
+
+    private void unlink(CacheNode node) {
+        policy.onRemove(node);
+        timerWheel.deschedule(node);
+    }
+
+    private void expire(CacheNode node) {
+        policy.onRemove(node);
+        if (data.remove(node.key, node)) {
+            node.retire();
+            evictionCount.increment();
+        }
+    }
+
+    private void evictEntries() {
+        CacheNode victim;
+        while ((victim = policy.selectVictim()) != null) {
+            unlink(victim);
+            if (data.remove(victim.key, victim)) {
+                victim.retire();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private static class Cleaner {
+
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ballerina-cache-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static class CleanupTask implements Runnable {
+
+        private final WeakReference<CacheEngine> engine;
+        private volatile ScheduledFuture<?> future;
+
+        CleanupTask(CacheEngine engine) {
+            this.engine = new WeakReference<>(engine);
+        }
+
+        @Override
+        public void run() {
+            CacheEngine cacheEngine = engine.get();
+            if (cacheEngine != null) {
+                cacheEngine.cleanUp();
+            } else if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * An entry of the {@link CacheEngine}. Besides the key and the value, which never change, a node holds the links of
+ * the eviction policy queue and the timer wheel bucket it is in. Links are only accessed while holding the eviction
+ * lock of the engine.
+ *
+ * @since 2.0.0
+ */
+final class CacheNode {
+
+    static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    static final int NOT_QUEUED = 0;
+    static final int WINDOW = 1;
+    static final int PROBATION = 2;
+    static final int PROTECTED = 3;
+
+    /**
+     * Returned by {@link CacheEngine#get(BString)} for an entry found to be expired.
+     */
+    static final CacheNode EXPIRED = new CacheNode(null, null, NO_EXPIRY);
+
+    final BString key;
+    final Object value;
+    final long expiresAt;
+
+    // Cleared once the node is removed from the map of the engine.
+    private volatile boolean alive = true;
+
+    int queue = NOT_QUEUED;
+    CacheNode prev;
+    CacheNode next;
+
+    CacheNode prevInTimer;
+    CacheNode nextInTimer;
+
+    CacheNode(BString key, Object value, long expiresAt) {
+        this.key = key;
+        this.value = value;
+        this.expiresAt = expiresAt;
+    }
+
+    boolean isAlive() {
+        return alive;
+    }
+
+    void retire() {
+        alive = false;
+    }
+
+    boolean isExpired(long now) {
+        return expiresAt != NO_EXPIRY && expiresAt - now <= 0;
+    }
+}
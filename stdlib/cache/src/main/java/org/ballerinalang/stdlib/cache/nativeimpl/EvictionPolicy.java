@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+/**
+ * Eviction policy of the {@link CacheEngine}. All methods are called while holding the eviction lock of the engine.
+ *
+ * @since 2.0.0
+ */
+interface EvictionPolicy {
+
+    /**
+     * Policy of a cache whose eviction is governed by a Ballerina `AbstractEvictionPolicy` object, which removes the
+     * entries itself.
+     */
+    EvictionPolicy EXTERNAL = new EvictionPolicy() {
+        @Override
+        public void onAdd(CacheNode node) {
+        }
+
+        @Override
+        public void onAccess(CacheNode node) {
+        }
+
+        @Override
+        public void onRemove(CacheNode node) {
+        }
+
+        @Override
+        public CacheNode selectVictim() {
+            return null;
+        }
+    };
+
+    /**
+     * Records a node added to the cache.
+     *
+     * @param node added node
+     */
+    void onAdd(CacheNode node);
+
+    /**
+     * Records a read of a node. The node may have been removed from the policy since it was read.
+     *
+     * @param node node which was read
+     */
+    void onAccess(CacheNode node);
+
+    /**
+     * Removes a node from the policy, if it is not removed already.
+     *
+     * @param node removed node
+     */
+    void onRemove(CacheNode node);
+
+    /**
+     * Selects the next node to be evicted. The engine removes the node, calling {@link #onRemove(CacheNode)}, before
+     * selecting the next one.
+     *
+     * @return node to be evicted or null if the cache is within its capacity
+     */
+    CacheNode selectVictim();
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+/**
+ * Least recently used eviction policy. Once the cache exceeds its capacity, a batch of entries, given by the eviction
+ * factor of the cache, is evicted.
+ *
+ * @since 2.0.0
+ */
+final class LruPolicy implements EvictionPolicy {
+
+    private final NodeDeque deque = new NodeDeque();
+    private final int capacity;
+    private final int batchSize;
+    private int pendingVictims;
+
+    LruPolicy(int capacity, double evictionFactor) {
+        this.capacity = capacity;
+        this.batchSize = Math.max(1, (int) (capacity * evictionFactor));
+    }
+
+    @Override
+    public void onAdd(CacheNode node) {
+        node.queue = CacheNode.WINDOW;
+        deque.addLast(node);
+    }
+
+    @Override
+    public void onAccess(CacheNode node) {
+        if (node.queue != CacheNode.NOT_QUEUED) {
+            deque.moveToBack(node);
+        }
+    }
+
+    @Override
+    public void onRemove(CacheNode node) {
+        if (node.queue != CacheNode.NOT_QUEUED) {
+            node.queue = CacheNode.NOT_QUEUED;
+            deque.remove(node);
+        }
+    }
+
+    @Override
+    public CacheNode selectVictim() {
+        if (pendingVictims == 0) {
+            if (deque.size() <= capacity) {
+                return null;
+            }
+            pendingVictims = batchSize;
+        }
+        CacheNode victim = deque.peekFirst();
+        pendingVictims = victim == null ? 0 : pendingVictims - 1;
+        return victim;
+    }
+}
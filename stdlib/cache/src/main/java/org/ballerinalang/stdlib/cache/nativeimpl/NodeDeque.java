@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+/**
+ * Doubly linked queue of {@link CacheNode}s, linked through the nodes themselves, so that a node is moved or removed
+ * in constant time. The head is the least recently used node.
+ *
+ * @since 2.0.0
+ */
+final class NodeDeque {
+
+    private CacheNode head;
+    private CacheNode tail;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    CacheNode peekFirst() {
+        return head;
+    }
+
+    CacheNode peekLast() {
+        return tail;
+    }
+
+    void addLast(CacheNode node) {
+        node.prev = tail;
+        node.next = null;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        size++;
+    }
+
+    void remove(CacheNode node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    void moveToBack(CacheNode node) {
+        if (node != tail) {
+            remove(node);
+            addLast(node);
+        }
+    }
+
+    CacheNode pollFirst() {
+        CacheNode node = head;
+        if (node != null) {
+            remove(node);
+        }
+        return node;
+    }
+}
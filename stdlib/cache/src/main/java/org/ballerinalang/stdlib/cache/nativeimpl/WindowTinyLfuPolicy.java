@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+/**
+ * W-TinyLFU eviction policy. New entries enter a small LRU admission window. Entries leaving the window become
+ * candidates of the main space, which is split into a probation and a protected LRU segment. When the cache exceeds
+ * its capacity, the latest candidate is compared with the least recently used entry of the probation segment, and
+ * the one with the lower estimated access frequency is evicted. Entries read while in probation are promoted to the
+ * protected segment.
+ *
+ * @since 2.0.0
+ */
+final class WindowTinyLfuPolicy implements EvictionPolicy {
+
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final NodeDeque window = new NodeDeque();
+    private final NodeDeque probation = new NodeDeque();
+    private final NodeDeque protectedSegment = new NodeDeque();
+    private final FrequencySketch sketch;
+    private final int capacity;
+    private final int maxWindow;
+    private final int maxProtected;
+
+    WindowTinyLfuPolicy(int capacity) {
+        this.capacity = capacity;
+        this.maxWindow = Math.max(1, (int) (capacity * WINDOW_RATIO));
+        this.maxProtected = (int) ((capacity - maxWindow) * PROTECTED_RATIO);
+        this.sketch = new FrequencySketch(capacity);
+    }
+
+    @Override
+    public void onAdd(CacheNode node) {
+        sketch.increment(node.key);
+        node.queue = CacheNode.WINDOW;
+        window.addLast(node);
+    }
+
+    @Override
+    public void onAccess(CacheNode node) {
+        switch (node.queue) {
+            case CacheNode.WINDOW:
+                sketch.increment(node.key);
+                window.moveToBack(node);
+                break;
+            case CacheNode.PROBATION:
+                sketch.increment(node.key);
+                probation.remove(node);
+                node.queue = CacheNode.PROTECTED;
+                protectedSegment.addLast(node);
+                demoteProtected();
+                break;
+            case CacheNode.PROTECTED:
+                sketch.increment(node.key);
+                protectedSegment.moveToBack(node);
+                break;
+            default:
+                // The node was removed after it was read.
+                break;
+        }
+    }
+
+    @Override
+    public void onRemove(CacheNode node) {
+        switch (node.queue) {
+            case CacheNode.WINDOW:
+                window.remove(node);
+                break;
+            case CacheNode.PROBATION:
+                probation.remove(node);
+                break;
+            case CacheNode.PROTECTED:
+                protectedSegment.remove(node);
+                break;
+            default:
+                return;
+        }
+        node.queue = CacheNode.NOT_QUEUED;
+    }
+
+    @Override
+    public CacheNode selectVictim() {
+        while (window.size() > maxWindow) {
+            CacheNode node = window.pollFirst();
+            node.queue = CacheNode.PROBATION;
+            probation.addLast(node);
+        }
+        if (window.size() + probation.size() + protectedSegment.size() <= capacity) {
+            return null;
+        }
+        CacheNode victim = probation.peekFirst();
+        if (victim == null) {
+            victim = protectedSegment.peekFirst();
+            return victim != null ? victim : window.peekFirst();
+        }
+        CacheNode candidate = probation.peekLast();
+        if (candidate == victim) {
+            return victim;
+        }
+        return sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+    }
+
+    private void demoteProtected() {
+        while (protectedSegment.size() > maxProtected) {
+            CacheNode node = protectedSegment.pollFirst();
+            node.queue = CacheNode.PROBATION;
+            probation.addLast(node);
+        }
+    }
+}
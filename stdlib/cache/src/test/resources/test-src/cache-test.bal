@@ -236,6 +236,101 @@ function testCacheEvictionWithTimer2() returns [string[], int] {
     return [cache.keys(), cache.size()];
 }
 
+function testCacheEvictionWithTinyLfu() returns [string[], int] {
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: cache:W_TINY_LFU
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    checkpanic cache.put("D", "4");
+    checkpanic cache.put("E", "5");
+    checkpanic cache.put("F", "6");
+    checkpanic cache.put("G", "7");
+    checkpanic cache.put("H", "8");
+    checkpanic cache.put("I", "9");
+    checkpanic cache.put("J", "10");
+    foreach int i in 1...2 {
+        any|cache:Error x = cache.get("A");
+        x = cache.get("B");
+        x = cache.get("C");
+    }
+    checkpanic cache.put("K", "11");
+    checkpanic cache.put("L", "12");
+    checkpanic cache.put("M", "13");
+    checkpanic cache.put("N", "14");
+    checkpanic cache.put("O", "15");
+    return [cache.keys(), cache.size()];
+}
+
+class FifoEvictionPolicy {
+
+    *cache:AbstractEvictionPolicy;
+
+    public function get(cache:LinkedList list, cache:Node node) {
+    }
+
+    public function put(cache:LinkedList list, cache:Node node) {
+        cache:addFirst(list, node);
+    }
+
+    public function remove(cache:LinkedList list, cache:Node node) {
+        cache:remove(list, node);
+    }
+
+    public function replace(cache:LinkedList list, cache:Node newNode, cache:Node oldNode) {
+        cache:remove(list, oldNode);
+        cache:addFirst(list, newNode);
+    }
+
+    public function clear(cache:LinkedList list) {
+        cache:clear(list);
+    }
+
+    public function evict(cache:LinkedList list) returns cache:Node? {
+        return cache:removeLast(list);
+    }
+}
+
+function testCacheEvictionWithCustomPolicy() returns [string[], int] {
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: new FifoEvictionPolicy(),
+        evictionFactor: 0.2
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    checkpanic cache.put("D", "4");
+    checkpanic cache.put("E", "5");
+    checkpanic cache.put("F", "6");
+    checkpanic cache.put("G", "7");
+    checkpanic cache.put("H", "8");
+    checkpanic cache.put("I", "9");
+    checkpanic cache.put("J", "10");
+    any|cache:Error x = cache.get("A");
+    checkpanic cache.put("K", "11");
+    return [cache.keys(), cache.size()];
+}
+
+function testCacheStats() returns [int, int, float, int] {
+    cache:CacheConfig config = {
+        capacity: 2,
+        evictionFactor: 0.5
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    any|cache:Error x = cache.get("A");
+    x = cache.get("C");
+    checkpanic cache.put("C", "3");
+    cache:CacheStats stats = cache.stats();
+    return [stats.hitCount, stats.missCount, stats.hitRatio, stats.evictionCount];
+}
+
 function testCreateCacheWithZeroCapacity() {
     cache:CacheConfig config = {
         capacity: 0,
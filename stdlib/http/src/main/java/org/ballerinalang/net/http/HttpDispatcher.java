@@ -17,6 +17,8 @@
 */
 package org.ballerinalang.net.http;
 
+import io.ballerina.runtime.JSONParser;
+import io.ballerina.runtime.UTF8JSONParser;
 import io.ballerina.runtime.api.BStringUtils;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.types.ArrayType;
@@ -28,16 +30,19 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXML;
 import io.ballerina.runtime.util.exceptions.BallerinaConnectorException;
+import io.ballerina.runtime.util.exceptions.BallerinaException;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import org.ballerinalang.langlib.value.CloneWithType;
 import org.ballerinalang.mime.util.EntityBodyHandler;
 import org.ballerinalang.net.uri.URIUtil;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -256,8 +261,22 @@ public class HttpDispatcher {
         return null;
     }
 
-    private static Object getRecordEntity(BObject inRequestEntity, Type entityBodyType) {
-        Object result = getRecord(entityBodyType, getBJsonValue(inRequestEntity));
+    private static Object getRecordEntity(BObject inRequestEntity, Type entityBodyType) throws IOException {
+        Object bjson;
+        if (UTF8JSONParser.isBindable(entityBodyType) && EntityBodyHandler.isUTF8Encoded(inRequestEntity)) {
+            try {
+                // bind the payload straight to the record, instead of converting a json value to it
+                return EntityBodyHandler.constructTypedJsonDataSource(inRequestEntity, entityBodyType);
+            } catch (BallerinaException | BError ex) {
+                // convert the payload kept as a blob, so that the error is the same as when converting
+                BArray blobDataSource = (BArray) EntityBodyHandler.getMessageDataSource(inRequestEntity);
+                bjson = JSONParser.parse(new ByteArrayInputStream(blobDataSource.getBytes()),
+                                         StandardCharsets.UTF_8.name());
+            }
+        } else {
+            bjson = getBJsonValue(inRequestEntity);
+        }
+        Object result = getRecord(entityBodyType, bjson);
         if (result instanceof BError) {
             throw (BError) result;
         }
@@ -26,6 +26,7 @@ import io.netty.handler.codec.http.HttpHeaderNames;
 import org.ballerinalang.core.model.util.JsonParser;
 import org.ballerinalang.core.model.values.BMap;
 import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.core.model.values.BValueArray;
 import org.ballerinalang.stdlib.utils.HTTPTestRequest;
 import org.ballerinalang.stdlib.utils.MessageUtils;
 import org.ballerinalang.stdlib.utils.Services;
@@ -143,6 +144,21 @@ public class DataBindingTest {
                 , "Age variable not set properly.");
     }
 
+    @Test(description = "Test data binding skips fields which are not in a closed record")
+    public void testDataBindingWithUnknownFields() {
+        HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessage("/echo/body6", "POST",
+                "{'team':{'name':'ballerina', 'members':[1, 2]}, 'name':'wso2', 'age':12, 'id':3}");
+        requestMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON);
+        HttpCarbonMessage responseMsg = Services.invoke(TEST_EP_PORT, requestMsg);
+
+        Assert.assertNotNull(responseMsg, "responseMsg message not found");
+        BValue bJson = JsonParser.parse(new HttpMessageDataStreamer(responseMsg).getInputStream());
+        Assert.assertEquals(((BMap<String, BValue>) bJson).get("Key").stringValue(), "wso2"
+                , "Key variable not set properly.");
+        Assert.assertEquals(((BMap<String, BValue>) bJson).get("Age").stringValue(), "12"
+                , "Age variable not set properly.");
+    }
+
     @Test(description = "Test data binding with an array of records")
     public void testDataBindingWithRecordArray() {
         HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessage("/echo/body8", "POST",
@@ -267,4 +283,110 @@ public class DataBindingTest {
         requestMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON);
         Services.invoke(TEST_EP_PORT, requestMsg);
     }
+
+    @Test(description = "Test data binding with nested records and arrays of records")
+    public void testDataBindingWithNestedRecords() {
+        HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessage("/echo/body9", "POST",
+                "{'name':'ballerina', 'members':[{'name':'wso2', 'address':{'city':'Colombo', 'zip':'00300'}}, " +
+                        "{'name':'john', 'age':30, 'address':null, 'tags':['a', 'b']}]}");
+        requestMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON);
+        HttpCarbonMessage responseMsg = Services.invoke(TEST_EP_PORT, requestMsg);
+
+        Assert.assertNotNull(responseMsg, "responseMsg message not found");
+        BMap<String, BValue> team = (BMap<String, BValue>) JsonParser.parse(
+                new HttpMessageDataStreamer(responseMsg).getInputStream());
+        Assert.assertEquals(team.get("name").stringValue(), "ballerina");
+        BValueArray members = (BValueArray) team.get("members");
+        Assert.assertEquals(members.size(), 2);
+        BMap<String, BValue> first = (BMap<String, BValue>) members.getRefValue(0);
+        Assert.assertEquals(first.get("name").stringValue(), "wso2");
+        Assert.assertEquals(((BMap<String, BValue>) first.get("address")).get("city").stringValue(), "Colombo");
+        Assert.assertEquals(((BMap<String, BValue>) first.get("address")).get("zip").stringValue(), "00300");
+        BMap<String, BValue> second = (BMap<String, BValue>) members.getRefValue(1);
+        Assert.assertEquals(second.get("age").stringValue(), "30");
+        Assert.assertNull(second.get("address"));
+        Assert.assertEquals(second.get("tags").stringValue(), "[\"a\", \"b\"]");
+    }
+
+    @Test(description = "Test data binding sets defaulted fields and leaves out absent optional fields")
+    public void testDataBindingWithOptionalAndDefaultedFields() {
+        HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessage("/echo/body9", "POST",
+                "{'name':'ballerina', 'members':[{'name':'wso2', 'address':{'city':'Colombo'}}]}");
+        requestMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON);
+        HttpCarbonMessage responseMsg = Services.invoke(TEST_EP_PORT, requestMsg);
+
+        Assert.assertNotNull(responseMsg, "responseMsg message not found");
+        BMap<String, BValue> team = (BMap<String, BValue>) JsonParser.parse(
+                new HttpMessageDataStreamer(responseMsg).getInputStream());
+        BMap<String, BValue> member = (BMap<String, BValue>) ((BValueArray) team.get("members")).getRefValue(0);
+        Assert.assertEquals(member.get("age").stringValue(), "18", "Default value of age not set.");
+        Assert.assertFalse(member.hasKey("tags"), "Absent optional field is set.");
+        Assert.assertFalse(((BMap<String, BValue>) member.get("address")).hasKey("zip"),
+                           "Absent optional field is set.");
+    }
+
+    @Test(description = "Test data binding keeps fields which are not in an open record")
+    public void testDataBindingOpenRecordWithUnknownFields() {
+        HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessage("/echo/body9", "POST",
+                "{'name':'ballerina', 'members':[], 'founded':2016, 'meta':{'labels':['x', 1.5]}}");
+        requestMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON);
+        HttpCarbonMessage responseMsg = Services.invoke(TEST_EP_PORT, requestMsg);
+
+        Assert.assertNotNull(responseMsg, "responseMsg message not found");
+        BMap<String, BValue> team = (BMap<String, BValue>) JsonParser.parse(
+                new HttpMessageDataStreamer(responseMsg).getInputStream());
+        Assert.assertEquals(team.get("founded").stringValue(), "2016");
+        Assert.assertEquals(team.get("meta").stringValue(), "{\"labels\":[\"x\", 1.5]}");
+    }
+
+    @Test(description = "Test data binding converts numbers to the int, float and decimal fields")
+    public void testDataBindingWithNumericConversion() {
+        HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessage("/echo/body10", "POST",
+                "{'count':3.0, 'price':1, 'total':0.1}");
+        requestMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON);
+        HttpCarbonMessage responseMsg = Services.invoke(TEST_EP_PORT, requestMsg);
+
+        Assert.assertNotNull(responseMsg, "responseMsg message not found");
+        BMap<String, BValue> bJson = (BMap<String, BValue>) JsonParser.parse(
+                new HttpMessageDataStreamer(responseMsg).getInputStream());
+        Assert.assertEquals(bJson.get("Count").stringValue(), "3", "Count variable not set properly.");
+        Assert.assertEquals(bJson.get("Price").stringValue(), "2.0", "Price variable not set properly.");
+        Assert.assertEquals(bJson.get("Total").stringValue(), "0.2", "Total variable not set properly.");
+    }
+
+    @Test(description = "Test data binding to a record which is converted from json with cloneWithType")
+    public void testDataBindingWithNonBindableRecord() {
+        HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessage("/echo/body11", "POST",
+                "{'name':'ballerina', 'id':'B12'}");
+        requestMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON);
+        HttpCarbonMessage responseMsg = Services.invoke(TEST_EP_PORT, requestMsg);
+
+        Assert.assertNotNull(responseMsg, "responseMsg message not found");
+        BMap<String, BValue> bJson = (BMap<String, BValue>) JsonParser.parse(
+                new HttpMessageDataStreamer(responseMsg).getInputStream());
+        Assert.assertEquals(bJson.get("Name").stringValue(), "ballerina", "Name variable not set properly.");
+        Assert.assertEquals(bJson.get("Id").stringValue(), "B12", "Id variable not set properly.");
+        Assert.assertEquals(bJson.get("IsInt").stringValue(), "false", "IsInt variable not set properly.");
+    }
+
+    @Test(expectedExceptions = BallerinaConnectorException.class,
+          expectedExceptionsMessageRegExp = "data binding failed: error\\(\"\\{ballerina/lang.typedesc\\}" +
+                  "ConversionError\",message=\"'map<json>' value cannot be converted to 'Team'.*")
+    public void testDataBindingWithMissingRequiredField() {
+        // the member has no name, hence the payload is converted with cloneWithType to report the error
+        HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessage("/echo/body9", "POST",
+                "{'name':'ballerina', 'members':[{'age':30, 'address':null}]}");
+        requestMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON);
+        Services.invoke(TEST_EP_PORT, requestMsg);
+    }
+
+    @Test(expectedExceptions = BallerinaConnectorException.class,
+          expectedExceptionsMessageRegExp = "data binding failed: error\\(\"\\{ballerina/lang.typedesc\\}" +
+                  "ConversionError\",message=\"'map<json>' value cannot be converted to 'Item'.*")
+    public void testDataBindingWithNonBindableRecordNegative() {
+        HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessage("/echo/body11", "POST",
+                "{'name':'ballerina', 'id':true}");
+        requestMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON);
+        Services.invoke(TEST_EP_PORT, requestMsg);
+    }
 }
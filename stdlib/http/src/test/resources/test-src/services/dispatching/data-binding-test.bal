@@ -14,6 +14,34 @@ type Stock record {|
     float price;
 |};
 
+type Address record {|
+    string city;
+    string zip?;
+|};
+
+type Member record {|
+    string name;
+    int age = 18;
+    Address? address;
+    string[] tags?;
+|};
+
+type Team record {
+    string name;
+    Member[] members;
+};
+
+type Amount record {|
+    int count;
+    float price;
+    decimal total;
+|};
+
+type Item record {|
+    string name;
+    int|string id;
+|};
+
 service echo on testEP {
 
     @http:ResourceConfig {
@@ -103,4 +131,36 @@ service echo on testEP {
             checkpanic caller->respond(<@untainted string> jsonPayload.message());
         }
     }
+
+    @http:ResourceConfig {
+        methods: ["POST"],
+        body: "team"
+    }
+    resource function body9(http:Caller caller, http:Request req, Team team) {
+        var jsonPayload = team.cloneWithType(json);
+        if (jsonPayload is json) {
+            checkpanic caller->respond(<@untainted json> jsonPayload);
+        } else {
+            checkpanic caller->respond(<@untainted string> jsonPayload.message());
+        }
+    }
+
+    @http:ResourceConfig {
+        methods: ["POST"],
+        body: "amount"
+    }
+    resource function body10(http:Caller caller, http:Request req, Amount amount) {
+        float price = amount.price * 2;
+        decimal total = amount.total * 2;
+        checkpanic caller->respond(<@untainted> { Count: amount.count, Price: price, Total: total });
+    }
+
+    @http:ResourceConfig {
+        methods: ["POST"],
+        body: "item"
+    }
+    resource function body11(http:Caller caller, http:Request req, Item item) {
+        int|string id = item.id;
+        checkpanic caller->respond(<@untainted> { Name: item.name, Id: id, IsInt: id is int });
+    }
 }
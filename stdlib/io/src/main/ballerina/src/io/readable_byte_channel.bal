@@ -35,6 +35,18 @@ public class ReadableByteChannel {
         return byteReadExtern(self, nBytes);
     }
 
+# Transfers the remaining content of the `ReadableByteChannel` to a given `WritableByteChannel`. When both channels
+# are backed by files, the content is copied by the operating system without reading it into memory.
+# ```ballerina
+# int|io:Error result = readableByteChannel.transferTo(writableByteChannel);
+# ```
+#
+# + destination - The `WritableByteChannel`, which the content should be written to
+# + return - Number of bytes transferred or else an `io:Error`
+    public function transferTo(WritableByteChannel destination) returns int|Error {
+        return transferToExtern(self, destination);
+    }
+
 # Encodes a given `ReadableByteChannel` using the Base64 encoding scheme.
 # ```ballerina
 # ReadableByteChannel|Error encodedChannel = readableByteChannel.base64Encode();
@@ -71,6 +83,12 @@ function byteReadExtern(ReadableByteChannel byteChannel, @untainted int nBytes)
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function transferToExtern(ReadableByteChannel byteChannel, WritableByteChannel destination) returns int|Error =
+@java:Method {
+    name: "transferTo",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function base64EncodeExtern(ReadableByteChannel byteChannel) returns ReadableByteChannel|Error = @java:Method {
     name: "base64Encode",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
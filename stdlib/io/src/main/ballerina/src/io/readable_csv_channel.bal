@@ -109,6 +109,38 @@ public class ReadableCSVChannel {
     returns @tainted table<record {}>|Error {
         return getTableExtern(self, structType, fieldNames);
     }
+
+# Returns a stream of records, which corresponds to the CSV records. The records are read from the channel and
+# converted one at a time, while the stream is iterated. The channel should be closed once the stream is consumed.
+# ```ballerina
+# stream<record {}, io:Error> employees = readableCSVChannel.toStream(Employee);
+# ```
+#
+# + recordType - The record type in which the CSV records should be deserialized
+# + return - Stream of records, which terminates once the channel reaches its end or an `io:Error` occurs
+    public function toStream(typedesc<record {}> recordType) returns @tainted stream<record {}, Error> {
+        CSVRecordIterator iterator = new (self, recordType);
+        return new stream<record {}, Error>(iterator);
+    }
+}
+
+# Reads the records of a `ReadableCSVChannel`, which backs the stream returned by `ReadableCSVChannel.toStream()`.
+class CSVRecordIterator {
+    private ReadableCSVChannel csvChannel;
+    private typedesc<record {}> recordType;
+
+    function init(ReadableCSVChannel csvChannel, typedesc<record {}> recordType) {
+        self.csvChannel = csvChannel;
+        self.recordType = recordType;
+    }
+
+    public function next() returns @tainted record {| record {} value; |}|Error? {
+        record {}|Error? result = getNextRecordExtern(self.csvChannel, self.recordType);
+        if (result is record {}) {
+            return {value: result};
+        }
+        return result;
+    }
 }
 
 function getTableExtern(ReadableCSVChannel csvChannel, typedesc<record {}> structType, string[] fieldNames)
@@ -116,3 +148,9 @@ function getTableExtern(ReadableCSVChannel csvChannel, typedesc<record {}> struc
     name: "getTable",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.GetTable"
 } external;
+
+function getNextRecordExtern(ReadableCSVChannel csvChannel, typedesc<record {}> recordType)
+            returns @tainted record {}|Error? = @java:Method {
+    name: "getNextRecord",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.GetTable"
+} external;
@@ -55,6 +55,50 @@ public class FileIOChannel extends Channel {
         }
     }
 
+    /**
+     * Transfers the remaining content of the file to the destination. If the destination exposes its underlying
+     * channel, the content is copied by the OS without passing through the JVM.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long transferTo(Channel dstChannel) throws IOException {
+        WritableByteChannel target = dstChannel.getTransferTarget();
+        if (target == null) {
+            return super.transferTo(dstChannel);
+        }
+        return transferFrom(channel, channel.position(), target);
+    }
+
+    /**
+     * Transfers the content of a file channel from the given position to its end, then moves the position of the
+     * file channel to its end.
+     *
+     * @param fileChannel file channel to read from.
+     * @param position    position to start transferring from.
+     * @param target      channel to transfer to.
+     * @return the number of bytes transferred.
+     * @throws IOException during I/O error.
+     */
+    static long transferFrom(FileChannel fileChannel, long position, WritableByteChannel target) throws IOException {
+        long size = fileChannel.size();
+        long current = position;
+        while (current < size) {
+            long transferred = fileChannel.transferTo(current, size - current, target);
+            if (transferred <= 0) {
+                break;
+            }
+            current += transferred;
+        }
+        fileChannel.position(current);
+        return current - position;
+    }
+
+    @Override
+    public WritableByteChannel getTransferTarget() {
+        return channel;
+    }
+
     @Override
     public Channel getChannel() {
         throw new UnsupportedOperationException();
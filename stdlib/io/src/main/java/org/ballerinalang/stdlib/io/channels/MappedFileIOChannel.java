@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Represents a read only channel over a file, which is read through memory mapped regions of the file.
+ * </p>
+ * <p>
+ * Reading a mapped region copies the content from the OS page cache, without a read system call for each buffer.
+ * The file is mapped in regions of {@link IOConstants#MAPPED_REGION_SIZE}, one region at a time.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class MappedFileIOChannel extends Channel {
+
+    private final MappedByteChannel channel;
+
+    public MappedFileIOChannel(FileChannel fileChannel) throws IOException {
+        this(new MappedByteChannel(fileChannel));
+    }
+
+    private MappedFileIOChannel(MappedByteChannel channel) {
+        super(channel);
+        this.channel = channel;
+    }
+
+    /**
+     * Transfer file content to the specified destination.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public void transfer(int position, int count, WritableByteChannel dstChannel) {
+        try {
+            channel.fileChannel.transferTo(position, count, dstChannel);
+        } catch (IOException e) {
+            throw IOUtils.createError("error occurred while transferring file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Transfers the remaining content of the file to the destination. If the destination exposes its underlying
+     * channel, the content is copied by the OS without passing through the JVM.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long transferTo(Channel dstChannel) throws IOException {
+        WritableByteChannel target = dstChannel.getTransferTarget();
+        if (target == null) {
+            return super.transferTo(dstChannel);
+        }
+        long transferred = FileIOChannel.transferFrom(channel.fileChannel, channel.position, target);
+        channel.seek(channel.position + transferred);
+        return transferred;
+    }
+
+    @Override
+    public Channel getChannel() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remaining() {
+        return false;
+    }
+
+    /**
+     * Reads a file through mapped regions, keeping track of the position read up to.
+     */
+    private static class MappedByteChannel implements ByteChannel {
+
+        private final FileChannel fileChannel;
+        private final long size;
+        private long position;
+        private MappedByteBuffer region;
+        private long regionStart;
+
+        MappedByteChannel(FileChannel fileChannel) throws IOException {
+            this.fileChannel = fileChannel;
+            this.size = fileChannel.size();
+            this.position = fileChannel.position();
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (position >= size) {
+                return -1;
+            }
+            int read = 0;
+            while (dst.hasRemaining() && position < size) {
+                if (region == null || position >= regionStart + region.limit()) {
+                    map();
+                }
+                region.position((int) (position - regionStart));
+                int count = Math.min(dst.remaining(), region.remaining());
+                ByteBuffer slice = region.slice();
+                slice.limit(count);
+                dst.put(slice);
+                position += count;
+                read += count;
+            }
+            return read;
+        }
+
+        private void map() throws IOException {
+            regionStart = position;
+            long regionSize = Math.min(IOConstants.MAPPED_REGION_SIZE, size - position);
+            region = fileChannel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionSize);
+        }
+
+        void seek(long newPosition) {
+            position = newPosition;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            throw new NonWritableChannelException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return fileChannel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            region = null;
+            fileChannel.close();
+        }
+    }
+}
@@ -93,6 +93,9 @@ public class Buffer {
      * If the size < minimumSizeOfBuffer the size of the new buffer = minimumSizeOfBuffer.
      * If the size > minimumSizeOfBuffer the size of the new buffer = size.
      * </p>
+     * <p>
+     * The buffer is taken from the {@link DirectBufferPool}, hence its capacity could be larger than the size.
+     * </p>
      *
      * @param size the size of the buffer.
      * @return the newly allocated buffer for the specified size.
@@ -101,7 +104,7 @@ public class Buffer {
         if (size < minimumSizeOfBuffer) {
             size = minimumSizeOfBuffer;
         }
-        return ByteBuffer.allocate(size);
+        return DirectBufferPool.acquire(size);
     }
 
     /**
@@ -161,23 +164,6 @@ public class Buffer {
         }
     }
 
-    /**
-     * <p>
-     * Deep copies a byte buffer with it's underlying array.
-     * </p>
-     *
-     * @param srcBuffer the source buffer which should be copied.
-     * @return the buffer which is duplicated.
-     */
-    private ByteBuffer deepCopy(ByteBuffer srcBuffer) {
-        ByteBuffer dstBuffer = ByteBuffer.allocate(srcBuffer.capacity());
-        srcBuffer.rewind();
-        dstBuffer.put(srcBuffer);
-        srcBuffer.rewind();
-        dstBuffer.flip();
-        return dstBuffer;
-    }
-
     /**
      * <p>
      * Retrieves the required content from the existing buffer.
@@ -190,15 +176,12 @@ public class Buffer {
      * @param content                buffer which holds the content.
      * @return buffer which contains the required amount of bytes.
      */
-    private ByteBuffer copyRemainingContent(int numberOfBytesRequested, ByteBuffer content) {
+    private ByteBuffer sliceRemainingContent(int numberOfBytesRequested, ByteBuffer content) {
         //If there is excess bytes we need only a sub-set of them
-        int capacity;
         content.limit(numberOfBytesRequested);
         ByteBuffer slicedBuffer = content.slice();
-        capacity = slicedBuffer.capacity();
-        int offset = slicedBuffer.arrayOffset();
-        byteBuffer.position(offset + capacity);
-        return deepCopy(slicedBuffer);
+        byteBuffer.position(byteBuffer.position() + slicedBuffer.capacity());
+        return slicedBuffer;
     }
 
     /**
@@ -219,6 +202,10 @@ public class Buffer {
      * numberOfBytesRequested. If numberOfBytesRequested &lt; minimumSizeOfBuffer the size of the buffer will be
      * minimumSizeOfBuffer
      * </p>
+     * <p>
+     * The buffer returned is a view of the content of this buffer, hence it should be consumed before the next
+     * operation on this buffer.
+     * </p>
      *
      * @param numberOfBytesRequested number of bytes requested from the buffer.
      * @param channel                byte channel which will perform I/O ops necessary for reading.
@@ -228,24 +215,30 @@ public class Buffer {
     public ByteBuffer get(int numberOfBytesRequested, Channel channel) throws IOException {
         ByteBuffer remainingContent = remainingContent(numberOfBytesRequested);
         if (null != remainingContent && remainingContent.capacity() >= numberOfBytesRequested) {
-            return copyRemainingContent(numberOfBytesRequested, remainingContent);
+            return sliceRemainingContent(numberOfBytesRequested, remainingContent);
         } else {
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                remainingContent = deepCopy(remainingContent);
-            }
             if (byteBuffer != null && byteBuffer.capacity() >= numberOfBytesRequested) {
-                //If the required amount of bytes > than the current buffer size we enlarge the buffer
-                byteBuffer.clear();
+                //The remaining bytes are moved to the beginning of the buffer, followed by the bytes read
+                byteBuffer.compact();
             } else {
                 //In this case we re-allocate
-                byteBuffer = allocate(numberOfBytesRequested);
-            }
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                byteBuffer.put(remainingContent);
+                ByteBuffer allocatedBuffer = allocate(numberOfBytesRequested);
+                if (null != remainingContent && remainingContent.hasRemaining()) {
+                    allocatedBuffer.put(remainingContent);
+                }
+                DirectBufferPool.release(byteBuffer);
+                byteBuffer = allocatedBuffer;
             }
             channel.read(byteBuffer);
             return resize(byteBuffer, numberOfBytesRequested);
         }
     }
 
+    /**
+     * Releases the memory held by the buffer, once the channel it reads from is closed.
+     */
+    public void release() {
+        DirectBufferPool.release(byteBuffer);
+        byteBuffer = null;
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.ballerinalang.stdlib.io.channels.base;
 
+import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,6 +82,47 @@ public abstract class Channel implements IOChannel {
      */
     public abstract void transfer(int position, int count, WritableByteChannel dstChannel) throws IOException;
 
+    /**
+     * <p>
+     * Transfers the remaining content of this channel to the given channel.
+     * </p>
+     * <p>
+     * The content is copied through a pooled direct buffer. Channels backed by a file override this to let the
+     * OS copy the content, when the destination exposes a {@link #getTransferTarget()}.
+     * </p>
+     *
+     * @param dstChannel destination channel to transfer.
+     * @return the number of bytes transferred.
+     * @throws IOException during I/O error.
+     */
+    public long transferTo(Channel dstChannel) throws IOException {
+        ByteBuffer buffer = DirectBufferPool.acquire(IOConstants.CHANNEL_BUFFER_SIZE);
+        long transferred = 0;
+        try {
+            while (!hasReachedEnd()) {
+                read(buffer);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += dstChannel.write(buffer);
+                }
+                buffer.clear();
+            }
+        } finally {
+            DirectBufferPool.release(buffer);
+        }
+        return transferred;
+    }
+
+    /**
+     * Specifies the channel the content written to this channel could be transferred to directly, bypassing
+     * {@link #write(ByteBuffer)}.
+     *
+     * @return the underlying channel, or null if content should be written through {@link #write(ByteBuffer)}.
+     */
+    public WritableByteChannel getTransferTarget() {
+        return null;
+    }
+
     /**
      * Returns the hashcode of the channel as the id.
      *
@@ -396,6 +396,7 @@ public class CharacterChannel implements IOChannel {
     @Override
     public void close() throws IOException {
         channel.close();
+        contentBuffer.release();
     }
 
     @Override
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels.base;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Pool of direct byte buffers used for I/O.
+ * </p>
+ * <p>
+ * Reading a channel into a heap buffer makes the JDK copy the content through a temporary direct buffer, and
+ * allocating a buffer for each read churns the heap. Pooled direct buffers are read into directly and reused.
+ * Buffers are pooled by their capacity, rounded up to a power of two. Larger buffers than
+ * {@link #MAX_POOLED_CAPACITY} are allocated on the heap and not pooled.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class DirectBufferPool {
+
+    private static final int MIN_POOLED_CAPACITY_SHIFT = 12;
+    private static final int MAX_POOLED_CAPACITY_SHIFT = 22;
+    private static final int MAX_POOLED_CAPACITY = 1 << MAX_POOLED_CAPACITY_SHIFT;
+    private static final int MAX_BUFFERS_PER_CAPACITY = 16;
+
+    private static final Pool[] POOLS = new Pool[MAX_POOLED_CAPACITY_SHIFT - MIN_POOLED_CAPACITY_SHIFT + 1];
+
+    static {
+        for (int i = 0; i < POOLS.length; i++) {
+            POOLS[i] = new Pool(1 << (MIN_POOLED_CAPACITY_SHIFT + i));
+        }
+    }
+
+    private DirectBufferPool() {
+    }
+
+    /**
+     * Gets a cleared buffer, whose limit is set to the requested capacity. The capacity of the buffer may be larger.
+     *
+     * @param capacity the number of bytes required.
+     * @return buffer which should be released once it is no longer used.
+     */
+    public static ByteBuffer acquire(int capacity) {
+        if (capacity > MAX_POOLED_CAPACITY) {
+            return ByteBuffer.allocate(capacity);
+        }
+        ByteBuffer buffer = POOLS[indexOf(capacity)].acquire();
+        buffer.clear();
+        buffer.limit(capacity);
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool. The buffer or any view of it must not be used after it is released.
+     *
+     * @param buffer buffer acquired from the pool.
+     */
+    public static void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || buffer instanceof MappedByteBuffer) {
+            return;
+        }
+        int capacity = buffer.capacity();
+        if (Integer.bitCount(capacity) == 1 && capacity >= 1 << MIN_POOLED_CAPACITY_SHIFT
+                && capacity <= MAX_POOLED_CAPACITY) {
+            POOLS[indexOf(capacity)].release(buffer);
+        }
+    }
+
+    private static int indexOf(int capacity) {
+        int shift = 32 - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+        return Math.max(shift, MIN_POOLED_CAPACITY_SHIFT) - MIN_POOLED_CAPACITY_SHIFT;
+    }
+
+    /**
+     * Buffers of the same capacity.
+     */
+    private static class Pool {
+
+        private final int capacity;
+        private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        Pool(int capacity) {
+            this.capacity = capacity;
+        }
+
+        ByteBuffer acquire() {
+            ByteBuffer buffer = buffers.poll();
+            if (buffer == null) {
+                return ByteBuffer.allocateDirect(capacity);
+            }
+            size.decrementAndGet();
+            return buffer;
+        }
+
+        void release(ByteBuffer buffer) {
+            if (size.incrementAndGet() <= MAX_BUFFERS_PER_CAPACITY) {
+                buffers.offer(buffer);
+            } else {
+                size.decrementAndGet();
+            }
+        }
+    }
+}
@@ -28,7 +28,9 @@ import org.ballerinalang.stdlib.io.channels.AbstractNativeChannel;
 import org.ballerinalang.stdlib.io.channels.BlobChannel;
 import org.ballerinalang.stdlib.io.channels.BlobIOChannel;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.channels.base.DirectBufferPool;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
@@ -45,7 +47,6 @@ import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
 
 import static org.ballerinalang.stdlib.io.utils.IOConstants.BYTE_CHANNEL_NAME;
 
@@ -67,10 +68,10 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     public static Object read(BObject channel, long nBytes) {
         int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
         Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
-        ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
         if (byteChannel.hasReachedEnd()) {
             return IOUtils.createEoFError();
         } else {
+            ByteBuffer content = DirectBufferPool.acquire(arraySize);
             try {
                 byteChannel.read(content);
                 return ValueCreator.createArrayValue(getContentData(content));
@@ -78,19 +79,21 @@ public class ByteChannelUtils extends AbstractNativeChannel {
                 String msg = "error occurred while reading bytes from the channel. " + e.getMessage();
                 log.error(msg, e);
                 return IOUtils.createError(msg);
+            } finally {
+                DirectBufferPool.release(content);
             }
         }
     }
 
     private static byte[] getContentData(final ByteBuffer contentBuffer) {
-        int bufferSize = contentBuffer.limit();
         int readPosition = contentBuffer.position();
-        byte[] content = contentBuffer.array();
-        final int startPosition = 0;
-        if (readPosition == bufferSize) {
-            return content;
+        if (contentBuffer.hasArray() && readPosition == contentBuffer.capacity()) {
+            return contentBuffer.array();
         }
-        return Arrays.copyOfRange(content, startPosition, readPosition);
+        byte[] content = new byte[readPosition];
+        contentBuffer.flip();
+        contentBuffer.get(content);
+        return content;
     }
 
     public static Object base64Encode(BObject channel) {
@@ -125,6 +128,19 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
+    public static Object transferTo(BObject channel, BObject dstChannel) {
+        Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        Channel dstByteChannel = (Channel) dstChannel.getNativeData(BYTE_CHANNEL_NAME);
+        try {
+            return byteChannel.transferTo(dstByteChannel);
+        } catch (IOException e) {
+            log.error("Error occurred while transferring the content of the channel.", e);
+            return IOUtils.createError(e);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
     public static Object openReadableFile(BString pathUrl) {
         Object channel;
         try {
@@ -159,7 +175,16 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     private static Channel inFlow(String pathUrl) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
-        Channel channel = new FileIOChannel(fileChannel);
+        Channel channel;
+        try {
+            if (fileChannel.size() >= IOConstants.MAPPED_FILE_MIN_SIZE) {
+                channel = new MappedFileIOChannel(fileChannel);
+            } else {
+                channel = new FileIOChannel(fileChannel);
+            }
+        } catch (IOException e) {
+            throw new BallerinaIOException("unable to read the file: " + pathUrl, e);
+        }
         channel.setReadable(true);
         return channel;
     }
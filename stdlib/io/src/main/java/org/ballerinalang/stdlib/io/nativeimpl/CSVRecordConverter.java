@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Converts the fields of a delimited record to a record of a given type. The conversion of each column is resolved
+ * from the record type once and cached, so records are converted without inspecting the type again.
+ *
+ * @since 2.0.0
+ */
+class CSVRecordConverter {
+
+    private static final Map<Type, CSVRecordConverter> CONVERTERS = new ConcurrentHashMap<>();
+
+    private final Type recordType;
+    private final BString[] fieldNames;
+    private final Function<String, Object>[] columnConverters;
+
+    @SuppressWarnings("unchecked")
+    private CSVRecordConverter(Type recordType) {
+        this.recordType = recordType;
+        Map<String, Field> fields = ((StructureType) recordType).getFields();
+        this.fieldNames = new BString[fields.size()];
+        this.columnConverters = new Function[fields.size()];
+        int i = 0;
+        for (Field field : fields.values()) {
+            fieldNames[i] = StringUtils.fromString(field.getFieldName());
+            columnConverters[i] = getColumnConverter(field.getFieldType());
+            i++;
+        }
+    }
+
+    /**
+     * Gets the converter of the given record type.
+     *
+     * @param recordType type of the records to convert to.
+     * @return the converter.
+     */
+    static CSVRecordConverter getConverter(Type recordType) {
+        return CONVERTERS.computeIfAbsent(recordType, CSVRecordConverter::new);
+    }
+
+    /**
+     * Converts the fields of a delimited record, in the order of the fields of the record type. Fields missing in
+     * the delimited record are set to nil.
+     *
+     * @param fields fields of the delimited record.
+     * @return the record, or null if the delimited record has no fields.
+     */
+    BMap<BString, Object> convert(String[] fields) {
+        if (fields.length == 0) {
+            return null;
+        }
+        BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName());
+        for (int i = 0; i < fieldNames.length; i++) {
+            record.put(fieldNames[i], fields.length > i ? columnConverters[i].apply(fields[i]) : null);
+        }
+        return record;
+    }
+
+    private static Function<String, Object> getColumnConverter(Type fieldType) {
+        int type = fieldType.getTag();
+        switch (type) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return getValueConverter(type);
+            case TypeTags.UNION_TAG:
+                List<Type> members = ((UnionType) fieldType).getMemberTypes();
+                if (members.get(0).getTag() == TypeTags.NULL_TAG) {
+                    return getValueConverter(members.get(1).getTag());
+                } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
+                    return getValueConverter(members.get(0).getTag());
+                }
+                return value -> {
+                    throw IOUtils.createError("unsupported nillable field for value: " + value);
+                };
+            default:
+                return value -> {
+                    throw IOUtils.createError("type casting support only for int, float, boolean and string. "
+                            + "Invalid value for the struct field: " + value);
+                };
+        }
+    }
+
+    private static Function<String, Object> getValueConverter(int type) {
+        switch (type) {
+            case TypeTags.INT_TAG:
+                return value -> (value == null || value.isEmpty()) ? null : Long.parseLong(value);
+            case TypeTags.FLOAT_TAG:
+                return value -> (value == null || value.isEmpty()) ? null : Double.parseDouble(value);
+            case TypeTags.STRING_TAG:
+                return value -> value == null ? null : StringUtils.fromString(value);
+            case TypeTags.BOOLEAN_TAG:
+                return value -> (value == null || value.isEmpty()) ? null : Boolean.parseBoolean(value);
+            default:
+                return value -> {
+                    throw IOUtils.createError("type casting support only for int, float, boolean and string. "
+                            + "Invalid value for the struct field: " + value);
+                };
+        }
+    }
+}
@@ -53,6 +53,16 @@ public class IOConstants {
      */
     public static final int CHANNEL_BUFFER_SIZE = 16384;
 
+    /**
+     * Files opened for reading, which are at least this large (4 MB), are read through memory mapped regions.
+     */
+    public static final long MAPPED_FILE_MIN_SIZE = 1 << 22;
+
+    /**
+     * The size of a region of a file mapped at a time, when reading through memory mapped regions (64 MB).
+     */
+    public static final long MAPPED_REGION_SIZE = 1 << 26;
+
     public static final String IO_PACKAGE_VERSION =  "0.5.0";
 
     public static final Module IO_PACKAGE_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX, "io", IO_PACKAGE_VERSION);
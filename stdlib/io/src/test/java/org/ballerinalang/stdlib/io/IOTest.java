@@ -228,6 +228,26 @@ public class IOTest {
         BRunUtil.invoke(bytesInputOutputProgramFile, "closeWritableChannel");
     }
 
+    @Test(description = "Test 'transferTo' function in ballerina/io package")
+    public void testTransferTo() throws URISyntaxException, IOException {
+        String resourceToRead = "datafiles/io/images/ballerina.png";
+        String sourceToWrite = currentDirectoryPath + "/transferredFile.png";
+        Path sourcePath = Paths.get(getAbsoluteFilePath(resourceToRead));
+
+        BValue[] args = { new BString(sourcePath.toString()) };
+        BRunUtil.invoke(bytesInputOutputProgramFile, "initReadableChannel", args);
+        args = new BValue[] { new BString(sourceToWrite) };
+        BRunUtil.invoke(bytesInputOutputProgramFile, "initWritableChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "transferTo");
+        BRunUtil.invoke(bytesInputOutputProgramFile, "closeReadableChannel");
+        BRunUtil.invoke(bytesInputOutputProgramFile, "closeWritableChannel");
+
+        byte[] expectedBytes = Files.readAllBytes(sourcePath);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), expectedBytes.length);
+        Assert.assertEquals(Files.readAllBytes(Paths.get(sourceToWrite)), expectedBytes);
+    }
+
     @Test(description = "Test 'writeCharacters' function in ballerina/io package")
     public void testWriteCharacters() {
         String content = "The quick brown fox jumps over the lazy dog";
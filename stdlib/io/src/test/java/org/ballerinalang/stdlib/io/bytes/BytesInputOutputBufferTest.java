@@ -18,6 +18,8 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Buffer;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
@@ -33,6 +35,7 @@ import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
 import java.util.stream.Collectors;
 
 /**
@@ -201,6 +204,43 @@ public class BytesInputOutputBufferTest {
         Assert.assertEquals(totalNumberOfBytesRead, totalNumberOfBytesWritten);
     }
 
+    @Test(description = "Read a file through memory mapped regions")
+    public void readMappedFileTest() throws IOException, URISyntaxException {
+        final int numberOfBytesInFile = 45613;
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/images/ballerina.png");
+        Channel channel = new MappedFileIOChannel(fileChannel);
+        byte[] content = new byte[numberOfBytesInFile];
+        ByteBuffer buffer = ByteBuffer.wrap(content, 0, 10000);
+        int totalNumberOfBytesRead = 0;
+        while (!channel.hasReachedEnd()) {
+            totalNumberOfBytesRead = totalNumberOfBytesRead + channel.read(buffer);
+            buffer.limit(Math.min(buffer.position() + 10000, numberOfBytesInFile));
+        }
+        channel.close();
+
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/images/ballerina.png");
+        byte[] expected = new byte[numberOfBytesInFile];
+        readFull(expected, new MockByteChannel(byteChannel));
+        byteChannel.close();
+        Assert.assertEquals(totalNumberOfBytesRead, numberOfBytesInFile);
+        Assert.assertEquals(content, expected);
+    }
+
+    @Test(description = "Transfer a file to another file channel")
+    public void fileTransferTest() throws IOException, URISyntaxException {
+        final int numberOfBytesInFile = 45613;
+        FileChannel readFileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/images/ballerina.png");
+        FileChannel writeFileChannel = (FileChannel) TestUtil.openForReadingAndWriting(currentDirectoryPath +
+                "ballerinaTransfer.png");
+        Channel readChannel = new MappedFileIOChannel(readFileChannel);
+        Channel writeChannel = new FileIOChannel(writeFileChannel);
+        long numberOfBytesTransferred = readChannel.transferTo(writeChannel);
+        Assert.assertEquals(numberOfBytesTransferred, numberOfBytesInFile);
+        Assert.assertEquals(writeFileChannel.size(), numberOfBytesInFile);
+        readChannel.close();
+        writeChannel.close();
+    }
+
     @Test(description = "Read bytes from fix buffer into multiple reads")
     public void multiReadFromFixedBuffer() throws IOException, URISyntaxException {
 
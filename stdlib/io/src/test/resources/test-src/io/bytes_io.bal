@@ -58,6 +58,17 @@ function writeBytes(byte[] content, int startOffset) returns int|io:Error {
     }
 }
 
+function transferTo() returns int|io:Error {
+    io:ReadableByteChannel? rChannel = rch;
+    io:WritableByteChannel? wChannel = wch;
+    if (rChannel is io:ReadableByteChannel && wChannel is io:WritableByteChannel) {
+        return rChannel.transferTo(wChannel);
+    } else {
+        io:GenericError e = io:GenericError("Channels not initialized");
+        return e;
+    }
+}
+
 function closeReadableChannel() {
     io:ReadableByteChannel? rChannel = rch;
     if rChannel is io:ReadableByteChannel {
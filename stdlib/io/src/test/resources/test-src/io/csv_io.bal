@@ -179,3 +179,42 @@ function getTableWithHeader(string filePath) returns @tainted string[] | error {
     }
     return keys;
 }
+
+function getStream(string filePath, string encoding, io:Separator fieldSeparator) returns @tainted float | error {
+    var byteChannel = io:openReadableFile(filePath);
+    if (byteChannel is io:ReadableByteChannel) {
+        io:ReadableCharacterChannel charChannel = new io:ReadableCharacterChannel(byteChannel, encoding);
+        io:ReadableCSVChannel csv = new io:ReadableCSVChannel(charChannel, fieldSeparator);
+        float total = 0.0;
+        stream<record {}, io:Error> employees = csv.toStream(Employee);
+        error? result = employees.forEach(function (record {} employee) {
+            total = total + (<Employee> employee).salary;
+        });
+        error? closeResult = byteChannel.close();
+        if (result is error) {
+            return result;
+        }
+        return total;
+    } else {
+        return byteChannel;
+    }
+}
+
+function getStreamWithNill(string filePath) returns @tainted [string, string] | error {
+    string name = "";
+    string dep = "";
+    var rCsvChannel = io:openReadableCsvFile(filePath, skipHeaders = 1);
+    if (rCsvChannel is io:ReadableCSVChannel) {
+        stream<record {}, io:Error> perDiems = rCsvChannel.toStream(PerDiem);
+        error? result = perDiems.forEach(function (record {} rec) {
+            PerDiem perDiem = <PerDiem> rec;
+            name = name + perDiem.name;
+            dep = dep + (perDiem.department ?: "-1");
+        });
+        error? closeResult = rCsvChannel.close();
+        if (result is error) {
+            return result;
+        }
+    }
+    return [name, dep];
+}
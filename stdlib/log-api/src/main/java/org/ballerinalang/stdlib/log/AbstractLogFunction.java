@@ -26,6 +26,8 @@ import org.ballerinalang.logging.util.BLogLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.logging.LogManager;
@@ -41,6 +43,12 @@ public abstract class AbstractLogFunction {
 
     private static final Logger ballerinaRootLogger = LoggerFactory.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
 
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final String LOG_API_PACKAGE_PREFIX = AbstractLogFunction.class.getPackageName() + ".";
+    // Classes generated for the ballerina/log module, which call the functions of this package
+    private static final String LOG_MODULE_PREFIX = "ballerina.log.";
+    private static final Map<String, String> PACKAGE_PATHS = new ConcurrentHashMap<>();
+
     protected static Logger getLogger(String pkg) {
         if (".".equals(pkg) || pkg == null) {
             return ballerinaRootLogger;
@@ -82,8 +90,44 @@ public abstract class AbstractLogFunction {
         ObserveUtils.logMessageToActiveSpan(logLevel.name(), logMessage, logLevel == BLogLevel.ERROR);
     }
 
+    /**
+     * Gets the path of the module calling the log function, if the given log level is enabled for that module. The
+     * calling module is only looked up if the log level is enabled for at least one module.
+     *
+     * @param logLevel log level of the message
+     * @return path of the calling module, or null if the log level is not enabled for it
+     */
+    static String getPackagePathIfEnabled(BLogLevel logLevel) {
+        if (!LOG_MANAGER.isModuleLogLevelEnabled()) {
+            return isEnabled(LOG_MANAGER.getPackageLogLevel("."), logLevel) ? getPackagePath() : null;
+        }
+        if (!LOG_MANAGER.isLogLevelEnabledForAnyModule(logLevel)) {
+            return null;
+        }
+        String pkg = getPackagePath();
+        return isEnabled(LOG_MANAGER.getPackageLogLevel(pkg), logLevel) ? pkg : null;
+    }
+
+    private static boolean isEnabled(BLogLevel configuredLevel, BLogLevel logLevel) {
+        return configuredLevel.value() <= logLevel.value();
+    }
+
+    /**
+     * Gets the path of the module calling the log function. Only the frames up to the first frame outside the log
+     * module are walked, and the path is cached per class of the caller.
+     *
+     * @return path of the calling module
+     */
     static String getPackagePath() {
-        String className = Thread.currentThread().getStackTrace()[4].getClassName();
+        String className = STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getClassName)
+                .filter(name -> !name.startsWith(LOG_API_PACKAGE_PREFIX) && !name.startsWith(LOG_MODULE_PREFIX))
+                .findFirst()
+                .orElse(""));
+        return PACKAGE_PATHS.computeIfAbsent(className, AbstractLogFunction::toPackagePath);
+    }
+
+    private static String toPackagePath(String className) {
         String[] pkgData = className.split("\\.");
         if (pkgData.length > 1) {
             return pkgData[0] + "/" + pkgData[1];
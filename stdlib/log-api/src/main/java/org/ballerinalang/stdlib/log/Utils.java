@@ -30,14 +30,9 @@ import org.ballerinalang.logging.util.BLogLevel;
 public class Utils extends AbstractLogFunction {
 
     public static void printDebug(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.DEBUG.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.DEBUG.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.DEBUG, getPackagePath(),
+        String pckg = getPackagePathIfEnabled(BLogLevel.DEBUG);
+        if (pckg != null) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.DEBUG, pckg,
                     (pkg, message) -> {
                         getLogger(pkg).debug(message);
                     });
@@ -45,14 +40,9 @@ public class Utils extends AbstractLogFunction {
     }
 
     public static void printError(Object msg, Object err) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.ERROR.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.ERROR.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.ERROR, getPackagePath(),
+        String pckg = getPackagePathIfEnabled(BLogLevel.ERROR);
+        if (pckg != null) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.ERROR, pckg,
                     (pkg, message) -> {
                         String errorMsg = (err == null) ? "" : " : " + err.toString();
                         getLogger(pkg).error(message + errorMsg);
@@ -61,14 +51,9 @@ public class Utils extends AbstractLogFunction {
     }
 
     public static void printInfo(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.INFO.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.INFO.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.INFO, getPackagePath(),
+        String pckg = getPackagePathIfEnabled(BLogLevel.INFO);
+        if (pckg != null) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.INFO, pckg,
                     (pkg, message) -> {
                         getLogger(pkg).info(message);
                     });
@@ -76,14 +61,9 @@ public class Utils extends AbstractLogFunction {
     }
 
     public static void printTrace(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.TRACE.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.TRACE.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.TRACE, getPackagePath(),
+        String pckg = getPackagePathIfEnabled(BLogLevel.TRACE);
+        if (pckg != null) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.TRACE, pckg,
                     (pkg, message) -> {
                         getLogger(pkg).trace(message);
                     });
@@ -91,14 +71,9 @@ public class Utils extends AbstractLogFunction {
     }
 
     public static void printWarn(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.WARN.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.WARN.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.WARN, getPackagePath(),
+        String pckg = getPackagePathIfEnabled(BLogLevel.WARN);
+        if (pckg != null) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.WARN, pckg,
                     (pkg, message) -> {
                         getLogger(pkg).warn(message);
                     });
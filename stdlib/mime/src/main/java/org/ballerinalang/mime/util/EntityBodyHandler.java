@@ -19,6 +19,7 @@
 package org.ballerinalang.mime.util;
 
 import io.ballerina.runtime.JSONParser;
+import io.ballerina.runtime.UTF8JSONParser;
 import io.ballerina.runtime.XMLFactory;
 import io.ballerina.runtime.api.ErrorCreator;
 import io.ballerina.runtime.api.StringUtils;
@@ -43,7 +44,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -225,6 +228,50 @@ public class EntityBodyHandler {
         return jsonData;
     }
 
+    /**
+     * Bind the JSON content of the entity to a value of the given type, without constructing a JSON data source
+     * first. The content is kept in memory as the blob data source of the entity, so that it can still be read as
+     * JSON.
+     *
+     * @param entityObj  Represent an entity object
+     * @param targetType Type of the value, which should be bindable as per {@link UTF8JSONParser#isBindable}
+     * @return Value of the given type
+     * @throws IOException In case an error occurred while reading the entity body
+     */
+    public static Object constructTypedJsonDataSource(BObject entityObj, Type targetType) throws IOException {
+        byte[] byteData = new byte[0];
+        Channel byteChannel = getByteChannel(entityObj);
+        if (byteChannel != null) {
+            try {
+                byteData = MimeUtil.getByteArray(byteChannel.getInputStream());
+            } finally {
+                closeByteChannel(byteChannel);
+            }
+        }
+        addMessageDataSource(entityObj, ValueCreator.createArrayValue(byteData));
+        return UTF8JSONParser.parse(ByteBuffer.wrap(byteData), targetType);
+    }
+
+    /**
+     * Check whether the content of the entity is UTF-8 encoded, as per the charset of its content type.
+     *
+     * @param entityObj Represent an entity object
+     * @return true if the content is UTF-8 encoded
+     */
+    public static boolean isUTF8Encoded(BObject entityObj) {
+        String contentTypeValue = EntityHeaderHandler.getHeaderValue(entityObj, CONTENT_TYPE);
+        String charsetValue = isNotNullAndEmpty(contentTypeValue) ?
+                MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET) : null;
+        if (!isNotNullAndEmpty(charsetValue)) {
+            return Charset.defaultCharset().equals(StandardCharsets.UTF_8);
+        }
+        try {
+            return Charset.forName(charsetValue).equals(StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     /**
      * Construct XML data source from the underneath byte channel which is associated with the entity object.
      *
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.core.model.values.BBoolean;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test query expressions whose input table is narrowed using a field index.
+ *
+ * @since 2.0.0
+ */
+public class TableIndexLookupTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/table-index-lookup.bal");
+    }
+
+    @Test(dataProvider = "lookupFunctions")
+    public void testTableIndexLookup(String function) {
+        BValue[] returnValues = BRunUtil.invoke(result, function);
+        Assert.assertEquals(returnValues.length, 1);
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
+    @DataProvider(name = "lookupFunctions")
+    public Object[][] lookupFunctions() {
+        return new Object[][]{
+                {"testLookupByKeyField"},
+                {"testLookupBySecondaryField"},
+                {"testLookupWithRemainingConditions"},
+                {"testLookupByRange"},
+                {"testLookupAfterUpdates"},
+                {"testLookupOnMutableField"},
+                {"testLookupInTableQuery"},
+                {"testLookupOnDeclaredIndex"}
+        };
+    }
+}
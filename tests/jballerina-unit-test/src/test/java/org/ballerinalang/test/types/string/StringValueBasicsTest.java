@@ -43,6 +43,11 @@ public class StringValueBasicsTest extends BStringTestCommons {
         Assert.assertEquals(returns[0].stringValue(), "red apple");
     }
 
+    @Test
+    public void testConcatLongChain() {
+        testAndAssert("concatLongChain", 2500);
+    }
+
     @Test
     public void testNonBMPStringLength() {
         testAndAssert("nonBMPLength", 5);
@@ -0,0 +1,281 @@
+import ballerina/java;
+import ballerina/lang.'int as ints;
+
+type Person record {|
+    int id;
+    string name;
+    int age;
+    float? score;
+|};
+
+type Department record {|
+    int personId;
+    string name;
+|};
+
+function getPersons() returns Person[] {
+    return [
+        {id: 1, name: "Anne", age: 28, score: 3.5},
+        {id: 2, name: "Bob", age: 35, score: ()},
+        {id: 3, name: "Carl", age: 41, score: 1.5},
+        {id: 4, name: "Dana", age: 23, score: 0.0 / 0.0},
+        {id: 5, name: "Eve", age: 35, score: 4.0}
+    ];
+}
+
+function getDepartments() returns Department[] {
+    return [{personId: 2, name: "IT"}, {personId: 3, name: "HR"}, {personId: 2, name: "QA"}];
+}
+
+// Calls to functions other than lang library functions keep a query on the Ballerina query pipeline, so the results
+// of the native query pipeline are compared with the results of the same query with such a call.
+function same(int value) returns int {
+    return value;
+}
+
+function isNativeStream(stream<any|error, error?> strm) returns boolean = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryPipeline",
+    name: "isNativeStream"
+} external;
+
+client class AgeClient {
+    remote function get(int age) returns int {
+        return age;
+    }
+}
+
+function toIntArray(stream<int, error?> strm) returns int[] {
+    int[] result = [];
+    record {| int value; |}|error? next = strm.next();
+    while (next is record {| int value; |}) {
+        result.push(next.value);
+        next = strm.next();
+    }
+    return result;
+}
+
+function testWhereLetSelect() returns boolean {
+    Person[] persons = getPersons();
+    string[] native = from var p in persons
+                      let int years = p.age + 1
+                      where years > 30
+                      select p.name.toUpperAscii() + ":" + years.toString();
+    string[] interpreted = from var p in persons
+                           let int years = same(p.age) + 1
+                           where years > 30
+                           select p.name.toUpperAscii() + ":" + years.toString();
+    return native == ["BOB:36", "CARL:42", "EVE:36"] && native == interpreted;
+}
+
+function testOrderBy() returns boolean {
+    Person[] persons = getPersons();
+    string[] native = from var p in persons
+                      order by p.age descending, p.name
+                      select p.name;
+    string[] byScore = from var p in persons
+                       order by p.score descending
+                       select p.name;
+    string[] interpreted = from var p in persons
+                           order by same(p.age) descending, p.name
+                           select p.name;
+    return native == ["Carl", "Bob", "Eve", "Anne", "Dana"] && native == interpreted &&
+        byScore == ["Eve", "Anne", "Carl", "Dana", "Bob"];
+}
+
+function testJoins() returns boolean {
+    Person[] persons = getPersons();
+    Department[] departments = getDepartments();
+    string[] inner = from var p in persons
+                     join var d in departments on p.id equals d.personId
+                     select p.name + ":" + d.name;
+    string?[] outer = from var p in persons
+                      outer join var d in departments on p.id equals d.personId
+                      select d.name;
+    string[] interpreted = from var p in persons
+                           join var d in departments on same(p.id) equals d.personId
+                           select p.name + ":" + d.name;
+    return inner == ["Bob:IT", "Bob:QA", "Carl:HR"] && inner == interpreted &&
+        outer == [(), "IT", "QA", "HR", (), ()];
+}
+
+function testNestedFrom() returns boolean {
+    map<int> counts = {a: 1, b: 2};
+    string[] native = from var c in "xy"
+                      from var n in counts
+                      from int i in 1 ... n
+                      select c + i.toString();
+    return native == ["x1", "x1", "x2", "y1", "y1", "y2"];
+}
+
+function testLimit() returns boolean {
+    int[] native = from int i in 1 ... 100
+                   where i % 7 == 0
+                   limit 3
+                   select i;
+    return native == [7, 14, 21];
+}
+
+function testQueryAction() returns boolean {
+    int total = 0;
+    error? result = from var p in getPersons()
+                    where p.age > 30
+                    do {
+                        total += p.age;
+                    };
+    return result is () && total == 111;
+}
+
+function testClauseError() returns boolean {
+    int[]|error native = from var s in ["1", "x", "3"]
+                         select check ints:fromString(s);
+    int[]|error valid = from var s in ["1", "2"]
+                        select check ints:fromString(s);
+    return native is error && valid is int[] && valid == [1, 2];
+}
+
+function testTable() returns boolean {
+    table<Person> key(id)|error personTable = table key(id) from var p in getPersons()
+                                                                select p;
+    error onConflict = error("Duplicate");
+    table<Person> key(id)|error duplicates = table key(id) from var p in getPersons()
+                                                               from int i in 1 ... 2
+                                                               select p
+                                                               on conflict onConflict;
+    return personTable is table<Person> key(id) && personTable.length() == 5 && duplicates is error &&
+        duplicates.message() == "Duplicate";
+}
+
+function testStream() returns boolean {
+    stream<int, error?> ages = stream from var p in getPersons()
+                               where p.age > 30
+                               select p.age;
+    int[] result = [];
+    record {| int value; |}|error? next = ages.next();
+    while (next is record {| int value; |}) {
+        result.push(next.value);
+        next = ages.next();
+    }
+    return result == [35, 41, 35];
+}
+
+function testJoinOnEqualKeys() returns boolean {
+    decimal[] amounts = [1.0, 2.5];
+    decimal[] payments = [1.00, 2.50, 3];
+    decimal[] native = from var a in amounts
+                       join var p in payments on a equals p
+                       select p;
+    [int, string][] pairs = [[1, "a"], [2, "b"]];
+    [int, string][] others = [[2, "b"], [1, "b"], [2, "b"]];
+    int[] byTuple = from var p in pairs
+                    join var o in others on p equals o
+                    select p[0];
+    int[] interpreted = from var p in pairs
+                        join var o in others on [same(p[0]), p[1]] equals o
+                        select p[0];
+    return native == [1.0d, 2.5d] && byTuple == [2, 2] && byTuple == interpreted;
+}
+
+function testOrderByLimit() returns boolean {
+    Person[] persons = getPersons();
+    string[] native = from var p in persons
+                      order by p.age descending
+                      limit 2
+                      select p.name;
+    string[] interpreted = from var p in persons
+                           order by same(p.age) descending
+                           limit 2
+                           select p.name;
+    string[] all = from var p in persons
+                   order by p.age
+                   limit 10
+                   select p.name;
+    return native == ["Carl", "Bob"] && native == interpreted && all == ["Dana", "Anne", "Bob", "Eve", "Carl"];
+}
+
+function testParallelWhereLetSelect() returns boolean {
+    // Large enough to be split across threads, if the query is run in parallel.
+    int[] values = from int i in 0 ..< 50000
+                   select i;
+    int[] parallel = from int v in values
+                     where v % 3 != 0
+                     let int square = v * v
+                     select square + 1;
+    int[] interpreted = from int v in values
+                        where same(v) % 3 != 0
+                        let int square = v * v
+                        select square + 1;
+    int[]|error failing = from int v in values
+                          select check ints:fromString(v < 40000 ? v.toString() : "x");
+    return values.length() == 50000 && values[49999] == 49999 && parallel == interpreted && failing is error;
+}
+
+function testNativeStreams() returns boolean {
+    Person[] persons = getPersons();
+    Department[] departments = getDepartments();
+    stream<int, error?> whereLetSelect = stream from var p in persons
+                                         let int years = p.age + 1
+                                         where p.name.toUpperAscii() != "BOB"
+                                         select years;
+    stream<int, error?> orderByLimit = stream from var p in persons
+                                       order by p.age descending
+                                       limit 2
+                                       select p.id;
+    stream<int, error?> joined = stream from var p in persons
+                                 join var d in departments on p.id equals d.personId
+                                 select p.age;
+    stream<int, error?> nested = stream from var c in "xy"
+                                 from int i in 1 ... 2
+                                 select c.length() + i;
+    return isNativeStream(whereLetSelect) && isNativeStream(orderByLimit) && isNativeStream(joined) &&
+        isNativeStream(nested) && toIntArray(whereLetSelect) == [29, 42, 24, 36] && toIntArray(orderByLimit) == [3, 2] &&
+        toIntArray(joined) == [35, 35, 41] && toIntArray(nested) == [2, 3, 2, 3];
+}
+
+function testYieldingClauses() returns boolean {
+    Person[] persons = getPersons();
+    function (int) returns int identity = same;
+    future<int>[] futures = [start same(1), start same(2)];
+    stream<int, error?> byCall = stream from var p in persons
+                                 select same(p.age);
+    stream<int, error?> byFunctionPointer = stream from var p in persons
+                                            select identity(p.age);
+    stream<int, error?> byWait = stream from var f in futures
+                                 select wait f;
+    stream<int, error?> byLambda = stream from var p in persons
+                                   where persons.filter(function (Person q) returns boolean {
+                                           return q.age > p.age;
+                                       }).length() > 1
+                                   select p.age;
+    return !isNativeStream(byCall) && !isNativeStream(byFunctionPointer) && !isNativeStream(byWait) &&
+        !isNativeStream(byLambda) && toIntArray(byCall) == [28, 35, 41, 23, 35] &&
+        toIntArray(byFunctionPointer) == [28, 35, 41, 23, 35] && toIntArray(byWait) == [1, 2] &&
+        toIntArray(byLambda) == [28, 23];
+}
+
+function testActionInDoClause() returns boolean {
+    // Actions are only allowed in do clauses, of which the stream is not exposed. The Ballerina query pipeline calls
+    // the do clause through more Ballerina functions than the native one, hence the depth of the call stack within
+    // the clause tells which one ran the query.
+    Person[] persons = getPersons();
+    AgeClient ages = new;
+    int nativeDepth = 0;
+    int callDepth = 0;
+    int actionDepth = 0;
+    int total = 0;
+    error? native = from var p in persons
+                    do {
+                        nativeDepth = error("depth").stackTrace().callStack.length();
+                    };
+    error? byCall = from var p in persons
+                    do {
+                        total += same(p.age);
+                        callDepth = error("depth").stackTrace().callStack.length();
+                    };
+    error? byAction = from var p in persons
+                      do {
+                          total += ages->get(p.age);
+                          actionDepth = error("depth").stackTrace().callStack.length();
+                      };
+    return native is () && byCall is () && byAction is () && total == 324 && nativeDepth > 0 &&
+        nativeDepth < callDepth && actionDepth == callDepth;
+}
@@ -0,0 +1,88 @@
+type Employee record {|
+    readonly int id;
+    readonly string dept;
+    readonly float salary;
+    string name;
+    int age;
+|};
+
+type EmployeeTable table<Employee> key(id);
+
+function getEmployees() returns EmployeeTable {
+    EmployeeTable employees = table [
+        {id: 1, dept: "HR", salary: 1200.0, name: "Anne", age: 28},
+        {id: 2, dept: "IT", salary: 2500.0, name: "Bob", age: 35},
+        {id: 3, dept: "IT", salary: 1800.0, name: "Carl", age: 41},
+        {id: 4, dept: "Sales", salary: 1500.0, name: "Dana", age: 23},
+        {id: 5, dept: "IT", salary: 3100.0, name: "Eve", age: 30}
+    ];
+    return employees;
+}
+
+function testLookupByKeyField() returns boolean {
+    EmployeeTable employees = getEmployees();
+    int id = 3;
+    Employee[] byVar = from var e in employees where e.id == id select e;
+    Employee[] byLiteral = from var e in employees where 4 == e.id select e;
+    Employee[] missing = from var e in employees where e.id == 10 select e;
+    return byVar.length() == 1 && byVar[0].name == "Carl" && byLiteral.length() == 1 &&
+        byLiteral[0].name == "Dana" && missing.length() == 0;
+}
+
+function testLookupBySecondaryField() returns boolean {
+    EmployeeTable employees = getEmployees();
+    string[] names = from var e in employees where e.dept == "IT" select e.name;
+    return names == ["Bob", "Carl", "Eve"];
+}
+
+function testLookupWithRemainingConditions() returns boolean {
+    EmployeeTable employees = getEmployees();
+    string dept = "IT";
+    string[] names = from var e in employees where e.age > 32 && e.dept == dept select e.name;
+    return names == ["Bob", "Carl"];
+}
+
+function testLookupByRange() returns boolean {
+    EmployeeTable employees = getEmployees();
+    float limit = 1800.0;
+    string[] atLeast = from var e in employees where e.salary >= limit select e.name;
+    string[] below = from var e in employees where limit > e.salary select e.name;
+    int[] ids = from var e in employees where e.id > 2 && e.id <= 4 select e.id;
+    return atLeast == ["Bob", "Carl", "Eve"] && below == ["Anne", "Dana"] && ids == [3, 4];
+}
+
+function testLookupAfterUpdates() returns boolean {
+    EmployeeTable employees = getEmployees();
+    string[] before = from var e in employees where e.dept == "IT" select e.name;
+    _ = employees.remove(2);
+    employees.add({id: 6, dept: "IT", salary: 900.0, name: "Finn", age: 19});
+    employees.put({id: 3, dept: "HR", salary: 1800.0, name: "Carl", age: 41});
+    string[] after = from var e in employees where e.dept == "IT" select e.name;
+    string[] hr = from var e in employees where e.dept == "HR" select e.name;
+    return before == ["Bob", "Carl", "Eve"] && after == ["Eve", "Finn"] && hr == ["Anne", "Carl"];
+}
+
+function testLookupOnMutableField() returns boolean {
+    EmployeeTable employees = getEmployees();
+    Employee bob = employees.get(2);
+    bob.age = 50;
+    string[] names = from var e in employees where e.age == 50 select e.name;
+    return names == ["Bob"];
+}
+
+function testLookupInTableQuery() returns boolean {
+    EmployeeTable employees = getEmployees();
+    EmployeeTable itEmployees = table key(id) from var e in employees where e.dept == "IT" select e;
+    return itEmployees.length() == 3 && itEmployees.hasKey(5) && !itEmployees.hasKey(1);
+}
+
+function testLookupOnDeclaredIndex() returns boolean {
+    EmployeeTable employees = getEmployees();
+    employees.addIndex("age");
+    string[] before = from var e in employees where e.age >= 35 select e.name;
+    Employee carl = employees.get(3);
+    carl.age = 29;
+    string[] after = from var e in employees where e.age >= 35 select e.name;
+    string[] young = from var e in employees where e.age == 29 select e.name;
+    return before == ["Bob", "Carl"] && after == ["Bob"] && young == ["Carl"];
+}
@@ -70,3 +70,23 @@ function anydataToStringCast() returns int {
     string k = <string> a;
     return k.length();
 }
+
+function concatLongChain() returns int {
+    string s = "";
+    string t = "";
+    int i = 0;
+    while (i < 500) {
+        s = s + "h😀llo";
+        t = t + "h😀" + "llo";
+        i = i + 1;
+    }
+    if (s != t || s.indexOf("😀llo", 2) != 6 || s.substring(5, 10) != "h😀llo") {
+        return -1;
+    }
+    map<int> m = {};
+    m[s] = 1;
+    if (m[t] != 1 || s[2496] != "😀" || s.toUpperAscii().length() != s.length()) {
+        return -1;
+    }
+    return s.length();
+}